@@ -2,8 +2,10 @@ package tech.onova.flagd_admin_server;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
 public class FlagdAdminServerApplication {
 
     public static void main(String[] args) {
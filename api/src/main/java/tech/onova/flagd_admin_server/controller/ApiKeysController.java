@@ -0,0 +1,74 @@
+package tech.onova.flagd_admin_server.controller;
+
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import tech.onova.flagd_admin_server.controller.dto.request.ApiKeyPostRequestDTO;
+import tech.onova.flagd_admin_server.controller.dto.response.ApiKeyCreatedResponseDTO;
+import tech.onova.flagd_admin_server.controller.dto.response.ApiKeyResponseDTO;
+import tech.onova.flagd_admin_server.domain.entity.ApiKey;
+import tech.onova.flagd_admin_server.infrastructure.annotation.Log;
+import tech.onova.flagd_admin_server.security.AuthenticationUtil;
+import tech.onova.flagd_admin_server.security.apikey.ApiKeyScope;
+import tech.onova.flagd_admin_server.security.apikey.ApiKeyService;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1")
+public class ApiKeysController {
+    private final ApiKeyService apiKeyService;
+
+    @Autowired
+    public ApiKeysController(ApiKeyService apiKeyService) {
+        this.apiKeyService = apiKeyService;
+    }
+
+    @GetMapping("/api-keys")
+    @Log
+    public List<ApiKeyResponseDTO> getApiKeys() {
+        return apiKeyService.findAll().stream()
+                .map(this::toResponseDTO)
+                .toList();
+    }
+
+    @PostMapping("/api-keys")
+    @Log
+    public ResponseEntity<ApiKeyCreatedResponseDTO> addApiKey(@Valid @RequestBody ApiKeyPostRequestDTO request) {
+        var created = apiKeyService.create(
+                request.name(),
+                request.scopes().stream().map(ApiKeyScope::fromValue).toList(),
+                request.expiresAt(),
+                AuthenticationUtil.getCurrentUsername()
+        );
+
+        return new ResponseEntity<>(
+                new ApiKeyCreatedResponseDTO(toResponseDTO(created.apiKey()), created.key()),
+                HttpStatus.CREATED
+        );
+    }
+
+    @DeleteMapping("/api-keys/{apiKeyId}")
+    @Log
+    public ResponseEntity<Void> deleteApiKey(@PathVariable String apiKeyId) {
+        if (!apiKeyService.revoke(apiKeyId))
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+
+    private ApiKeyResponseDTO toResponseDTO(ApiKey apiKey) {
+        return new ApiKeyResponseDTO(
+                apiKey.getId(),
+                apiKey.getName(),
+                apiKey.getScopes(),
+                apiKey.getCreatedBy(),
+                apiKey.getCreatedAt(),
+                apiKey.getExpiresAt(),
+                apiKey.getLastUsedAt(),
+                apiKey.getUsageCount()
+        );
+    }
+}
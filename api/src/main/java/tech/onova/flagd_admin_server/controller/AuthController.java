@@ -1,100 +1,69 @@
 package tech.onova.flagd_admin_server.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 import tech.onova.flagd_admin_server.controller.dto.auth.LoginRequestDTO;
 import tech.onova.flagd_admin_server.controller.dto.response.LoginResponseDTO;
 import tech.onova.flagd_admin_server.controller.dto.request.RefreshTokenRequestDTO;
-import tech.onova.flagd_admin_server.security.jwt.JwtUtil;
+import tech.onova.flagd_admin_server.infrastructure.annotation.Timed;
+import tech.onova.flagd_admin_server.security.AuthenticationUtil;
+import tech.onova.flagd_admin_server.security.jwt.AccessTokenRevocations;
 import tech.onova.flagd_admin_server.security.jwt.RefreshTokenService;
+import tech.onova.flagd_admin_server.security.jwt.TokenIssuanceService;
+import tech.onova.flagd_admin_server.security.login.LoginService;
+
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/v1/auth")
 public class AuthController {
 
     @Autowired
-    private AuthenticationManager authenticationManager;
+    private LoginService loginService;
 
     @Autowired
-    private JwtUtil jwtUtil;
+    private TokenIssuanceService tokenIssuanceService;
 
     @Autowired
     private RefreshTokenService refreshTokenService;
 
-    @PostMapping("/login")
-    public ResponseEntity<LoginResponseDTO> login(@Valid @RequestBody LoginRequestDTO request) {
-        authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(request.username(), request.password())
-        );
-
-        UserDetails userDetails = org.springframework.security.core.userdetails.User.builder()
-                .username(request.username())
-                .password(request.password())
-                .build();
-
-        String accessToken = jwtUtil.generateAccessToken(userDetails);
-        String refreshToken = jwtUtil.generateRefreshToken(userDetails);
-
-        tech.onova.flagd_admin_server.domain.entity.RefreshToken refreshTokenEntity =
-                refreshTokenService.createRefreshToken(userDetails);
-
-        LoginResponseDTO response = new LoginResponseDTO(
-                accessToken,
-                refreshTokenEntity.getId(),
-                "Bearer"
-        );
+    @Autowired
+    private AccessTokenRevocations accessTokenRevocations;
 
-        return new ResponseEntity<>(response, HttpStatus.OK);
+    @PostMapping("/login")
+    @Timed
+    public CompletableFuture<ResponseEntity<LoginResponseDTO>> login(@Valid @RequestBody LoginRequestDTO request,
+                                                                     HttpServletRequest httpRequest) {
+        return loginService.login(request.username(), request.password(), httpRequest.getRemoteAddr(),
+                authentication -> new ResponseEntity<>(
+                        toLoginResponse(tokenIssuanceService.issue(authentication.getName(), authentication.getAuthorities())),
+                        HttpStatus.OK));
     }
 
     @PostMapping("/refresh")
+    @Timed
     public ResponseEntity<LoginResponseDTO> refreshToken(@Valid @RequestBody RefreshTokenRequestDTO request) {
-        String refreshTokenId = request.refreshToken();
-
-        tech.onova.flagd_admin_server.domain.entity.RefreshToken refreshTokenEntity =
-                refreshTokenService.findByToken(refreshTokenId);
-
-        if (refreshTokenEntity == null) {
-            return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
-        }
-
-        tech.onova.flagd_admin_server.domain.entity.RefreshToken verifiedRefreshToken =
-                refreshTokenService.verifyExpiration(refreshTokenEntity);
-
-        String username = verifiedRefreshToken.getUserId();
-
-        UserDetails userDetails = org.springframework.security.core.userdetails.User.builder()
-                .username(username)
-                .password("")
-                .build();
-
-        String newAccessToken = jwtUtil.generateAccessToken(userDetails);
-        String newRefreshToken = jwtUtil.generateRefreshToken(userDetails);
-
-        refreshTokenService.deleteRefreshToken(refreshTokenEntity);
-
-        tech.onova.flagd_admin_server.domain.entity.RefreshToken newRefreshTokenEntity =
-                refreshTokenService.createRefreshToken(userDetails);
-
-        LoginResponseDTO response = new LoginResponseDTO(
-                newAccessToken,
-                newRefreshTokenEntity.getId(),
-                "Bearer"
-        );
-
-        return new ResponseEntity<>(response, HttpStatus.OK);
+        return tokenIssuanceService.refresh(request.refreshToken())
+                .map(tokens -> new ResponseEntity<>(toLoginResponse(tokens), HttpStatus.OK))
+                .orElseGet(() -> new ResponseEntity<>(HttpStatus.UNAUTHORIZED));
     }
 
     @PostMapping("/logout")
-    public ResponseEntity<Void> logout(@Valid @RequestBody RefreshTokenRequestDTO request) {
+    @Timed
+    public ResponseEntity<Void> logout(@Valid @RequestBody RefreshTokenRequestDTO request,
+                                       @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
         String refreshTokenId = request.refreshToken();
 
+        // The access token of the session stops working now rather than at its expiry
+        if (authorization != null && authorization.startsWith("Bearer ")) {
+            accessTokenRevocations.revoke(authorization.substring(7));
+        }
+
         tech.onova.flagd_admin_server.domain.entity.RefreshToken refreshTokenEntity =
                 refreshTokenService.findByToken(refreshTokenId);
 
@@ -104,4 +73,19 @@ public class AuthController {
 
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
+
+    @PostMapping("/logout-all")
+    @Timed
+    public ResponseEntity<Void> logoutAll() {
+        refreshTokenService.deleteByUserId(AuthenticationUtil.getCurrentUsername());
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+
+    private LoginResponseDTO toLoginResponse(TokenIssuanceService.IssuedTokens tokens) {
+        return new LoginResponseDTO(
+                tokens.accessToken(),
+                tokens.refreshToken(),
+                "Bearer"
+        );
+    }
 }
\ No newline at end of file
@@ -12,8 +12,8 @@ import tech.onova.flagd_admin_server.domain.entity.SourceId;
 import tech.onova.flagd_admin_server.domain.service.FlagService;
 import tech.onova.flagd_admin_server.infrastructure.annotation.Log;
 
-import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/v1")
@@ -27,35 +27,36 @@ public class FlagsController {
 
     @GetMapping("/sources/{sourceId}/flags")
     @Log
-    public ResponseEntity<FlagsResponseDTO> getFlags(@PathVariable UUID sourceId) {
-        List<FlagDTO> flags = flagService.getFlags(new SourceId(sourceId));
-        return new ResponseEntity<>(new FlagsResponseDTO(flags), HttpStatus.OK);
+    public CompletableFuture<ResponseEntity<FlagsResponseDTO>> getFlags(@PathVariable UUID sourceId) {
+        return flagService.getFlags(new SourceId(sourceId))
+                .thenApply(flags -> new ResponseEntity<>(new FlagsResponseDTO(flags), HttpStatus.OK));
     }
 
     @GetMapping("/sources/{sourceId}/flags/{flagId}")
     @Log
-    public ResponseEntity<FlagDTO> getFlag(@PathVariable UUID sourceId, @PathVariable String flagId) {
-        FlagDTO flag = flagService.getFlag(new SourceId(sourceId), flagId);
-        if (flag == null) {
-            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
-        }
-        return new ResponseEntity<>(flag, HttpStatus.OK);
+    public CompletableFuture<ResponseEntity<FlagDTO>> getFlag(@PathVariable UUID sourceId, @PathVariable String flagId) {
+        return flagService.getFlag(new SourceId(sourceId), flagId).thenApply(flag -> {
+            if (flag == null) {
+                return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+            }
+            return new ResponseEntity<>(flag, HttpStatus.OK);
+        });
     }
 
     @PostMapping("/sources/{sourceId}/flags/{flagId}")
     @Log
-    public ResponseEntity<FlagDTO> addOrUpdateFlag(@PathVariable UUID sourceId,
-                                                 @PathVariable String flagId,
-                                                 @Valid @RequestBody FlagConfigRequestDTO request) {
-        flagService.addOrUpdateFlag(new SourceId(sourceId), flagId, request);
-        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    public CompletableFuture<ResponseEntity<FlagDTO>> addOrUpdateFlag(@PathVariable UUID sourceId,
+                                                                    @PathVariable String flagId,
+                                                                    @Valid @RequestBody FlagConfigRequestDTO request) {
+        return flagService.addOrUpdateFlag(new SourceId(sourceId), flagId, request)
+                .thenApply(updated -> new ResponseEntity<>(HttpStatus.NO_CONTENT));
     }
 
     @DeleteMapping("/sources/{sourceId}/flags/{flagId}")
     @Log
-    public ResponseEntity<Void> deleteFlag(@PathVariable UUID sourceId,
-                                       @PathVariable String flagId) {
-        flagService.deleteFlag(new SourceId(sourceId), flagId);
-        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    public CompletableFuture<ResponseEntity<Void>> deleteFlag(@PathVariable UUID sourceId,
+                                                          @PathVariable String flagId) {
+        return flagService.deleteFlag(new SourceId(sourceId), flagId)
+                .thenApply(deleted -> new ResponseEntity<>(HttpStatus.NO_CONTENT));
     }
 }
\ No newline at end of file
@@ -0,0 +1,37 @@
+package tech.onova.flagd_admin_server.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import tech.onova.flagd_admin_server.security.jwt.JwtKeyManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Publishes the public keys access tokens are signed with, so proxies and other services can verify tokens
+ * themselves. Empty while tokens are signed with the shared HMAC secret.
+ */
+@RestController
+public class JwksController {
+
+    // Shorter than the default signing key activation delay, so verifiers see a new key before it is used
+    private static final Duration MAX_AGE = Duration.ofMinutes(1);
+
+    private final JwtKeyManager keyManager;
+
+    @Autowired
+    public JwksController(JwtKeyManager keyManager) {
+        this.keyManager = keyManager;
+    }
+
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, List<Map<String, Object>>>> getJwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(MAX_AGE).cachePublic())
+                .body(Map.of("keys", keyManager.publicJwks()));
+    }
+}
@@ -2,6 +2,7 @@ package tech.onova.flagd_admin_server.controller;
 
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -12,29 +13,35 @@ import tech.onova.flagd_admin_server.controller.dto.response.SourceResponseDTO;
 import tech.onova.flagd_admin_server.controller.mapper.SourceMapper;
 import tech.onova.flagd_admin_server.domain.entity.Source;
 import tech.onova.flagd_admin_server.domain.entity.SourceId;
+import tech.onova.flagd_admin_server.domain.entity.SourceShard;
 import tech.onova.flagd_admin_server.domain.entity.SourceUri;
 import tech.onova.flagd_admin_server.domain.repository.SourceRepository;
-import tech.onova.flagd_admin_server.domain.service.SourceContentService;
+import tech.onova.flagd_admin_server.domain.service.AsyncSourceContentService;
+import tech.onova.flagd_admin_server.domain.service.SourcePublisher;
 import tech.onova.flagd_admin_server.infrastructure.annotation.Log;
 import tech.onova.flagd_admin_server.security.AuthenticationUtil;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/v1")
 public class SourcesController {
     private final SourceRepository sourceRepository;
-    private final SourceContentService sourceContentService;
+    private final AsyncSourceContentService sourceContentService;
     private final SourceMapper sourceMapper;
+    private final SourcePublisher sourcePublisher;
 
     @Autowired
     public SourcesController(SourceRepository sourceRepository, 
-                         SourceContentService sourceContentService,
-                         SourceMapper sourceMapper) {
+                         AsyncSourceContentService sourceContentService,
+                         SourceMapper sourceMapper,
+                         SourcePublisher sourcePublisher) {
         this.sourceRepository = sourceRepository;
         this.sourceContentService = sourceContentService;
         this.sourceMapper = sourceMapper;
+        this.sourcePublisher = sourcePublisher;
     }
 
     @GetMapping("/sources")
@@ -81,50 +88,109 @@ public class SourcesController {
 
     @PostMapping("/sources")
     @Log
-    public ResponseEntity<SourceResponseDTO> addSource(@Valid @RequestBody SourcePostRequestDTO request) {
+    public CompletableFuture<ResponseEntity<SourceResponseDTO>> addSource(@Valid @RequestBody SourcePostRequestDTO request) {
+        List<SourceShard> shards = request.shards() == null ? List.of() : request.shards().stream()
+                .map(shard -> new SourceShard(shard.keyPrefix(), shard.uri()))
+                .toList();
+        List<SourceUri> publishTargets = request.publishTargets() == null ? List.of() : request.publishTargets().stream()
+                .map(this::toPublishTargetUri)
+                .toList();
         var source = new Source(
                 request.name(),
                 request.description(),
                 new SourceUri(request.uri()),
                 AuthenticationUtil.getCurrentUsername(),
-                true
+                true,
+                shards,
+                publishTargets
         );
-        sourceContentService.initializeContentWithConfig(source.getUri());
-        sourceRepository.save(source);
 
-        return new ResponseEntity<>(
-                sourceMapper.toResponseDTO(source),
-                HttpStatus.CREATED);
+        return CompletableFuture.allOf(source.getContentUris().stream()
+                        .map(sourceContentService::initializeContentWithConfig)
+                        .toArray(CompletableFuture[]::new))
+                .thenApply(initialized -> {
+                    // Seed the targets so flagd instances reading them can start before the first flag change
+                    if (source.hasPublishTargets()) {
+                        sourcePublisher.publish(source.getUri(), source.getPublishTargets());
+                    }
+                    sourceRepository.save(source);
+                    return new ResponseEntity<>(
+                            sourceMapper.toResponseDTO(source),
+                            HttpStatus.CREATED);
+                });
     }
 
     @DeleteMapping("/sources/{sourceId}")
     @Log
-    public ResponseEntity<Void> deleteSource(@PathVariable UUID sourceId) {
+    public CompletableFuture<ResponseEntity<Void>> deleteSource(@PathVariable UUID sourceId) {
         var sourceOption = sourceRepository.findById(new SourceId(sourceId));
 
         if (sourceOption.isEmpty())
-            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+            return CompletableFuture.completedFuture(new ResponseEntity<>(HttpStatus.NOT_FOUND));
 
         var source = sourceOption.get();
-        sourceRepository.delete(source);
 
-        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+        // Drop stored flags first so a failure leaves the source in place to retry the delete
+        return CompletableFuture.allOf(source.getContentUris().stream()
+                        .map(sourceContentService::deleteStoredFlags)
+                        .toArray(CompletableFuture[]::new))
+                .thenApply(deleted -> {
+                    sourceRepository.delete(source);
+                    // The content stays where it is, so stop retrying publishes that would push it out again
+                    source.getContentUris().forEach(sourcePublisher::forget);
+                    return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+                });
     }
 
     @GetMapping("/sources/{sourceId}/contents")
     @Log
-    public ResponseEntity<SourceContentResponseDTO> getSourceContents(@PathVariable UUID sourceId) {
+    public CompletableFuture<ResponseEntity<SourceContentResponseDTO>> getSourceContents(
+            @PathVariable UUID sourceId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         var sourceOption = sourceRepository.findById(new SourceId(sourceId));
 
         if (sourceOption.isEmpty())
-            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+            return CompletableFuture.completedFuture(new ResponseEntity<>(HttpStatus.NOT_FOUND));
 
+        // Only the document at the source uri is returned; for sharded sources the flag listing is the merged view
         var source = sourceOption.get();
 
-        String content = sourceContentService.loadContent(source.getUri());
-        return new ResponseEntity<>(
-                new SourceContentResponseDTO(content),
-                HttpStatus.OK
-        );
+        // Answer revalidations from metadata alone so unchanged content is never read
+        return sourceContentService.stat(source.getUri()).thenCompose(stat -> {
+            String eTag = stat.versionToken() != null ? "\"" + stat.versionToken() + "\"" : null;
+            if (eTag != null && matchesETag(ifNoneMatch, eTag)) {
+                ResponseEntity<SourceContentResponseDTO> notModified =
+                        ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+                return CompletableFuture.completedFuture(notModified);
+            }
+
+            return sourceContentService.loadContent(source.getUri()).thenApply(content -> {
+                var response = ResponseEntity.ok();
+                if (eTag != null) {
+                    response.eTag(eTag);
+                }
+                return response.body(new SourceContentResponseDTO(content));
+            });
+        });
+    }
+
+    private SourceUri toPublishTargetUri(String publishTarget) {
+        return new SourceUri(publishTarget.startsWith("/") ? "file://" + publishTarget : publishTarget);
+    }
+
+    private boolean matchesETag(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
     }
 }
\ No newline at end of file
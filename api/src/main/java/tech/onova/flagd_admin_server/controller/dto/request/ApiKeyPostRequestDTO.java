@@ -0,0 +1,19 @@
+package tech.onova.flagd_admin_server.controller.dto.request;
+
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Pattern;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+public record ApiKeyPostRequestDTO(@NotBlank(message="API key name is required")
+                                   String name,
+                                   @NotEmpty(message="At least one scope is required")
+                                   List<@Pattern(regexp = "^(flags:read|flags:write|sources:read|sources:write)$",
+                                           message="Scope must be one of flags:read, flags:write, sources:read, sources:write")
+                                   String> scopes,
+                                   @Future(message="Expiry must be in the future")
+                                   ZonedDateTime expiresAt) {
+}
@@ -1,13 +1,20 @@
 package tech.onova.flagd_admin_server.controller.dto.request;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
 
+import java.util.List;
+
 public record SourcePostRequestDTO(@NotBlank(message="Source name is required")
                                String name,
                                    @NotBlank(message="Source description is required")
                                String description,
-                                   @Pattern(regexp = "^(file://).*$",
-                                 message="Source uri must start with file://")
-                               String uri) {
+                                   @Pattern(regexp = "^(file://|http://|https://|s3://|git://|sqlite://).*$",
+                                 message="Source uri must start with file://, http://, https://, s3://, git://, sqlite://")
+                               String uri,
+                                   List<@Valid SourceShardRequestDTO> shards,
+                                   List<@Pattern(regexp = "^(/|file://|s3://|git://).*$",
+                                           message="Publish target must be an absolute path or start with file://, s3://, git://")
+                                   String> publishTargets) {
 }
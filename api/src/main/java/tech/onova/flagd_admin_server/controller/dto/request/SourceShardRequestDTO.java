@@ -0,0 +1,11 @@
+package tech.onova.flagd_admin_server.controller.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+
+public record SourceShardRequestDTO(@NotBlank(message="Shard key prefix is required")
+                                    String keyPrefix,
+                                    @Pattern(regexp = "^(file://|http://|https://|s3://|git://|sqlite://).*$",
+                                            message="Shard uri must start with file://, http://, https://, s3://, git://, sqlite://")
+                                    String uri) {
+}
@@ -0,0 +1,8 @@
+package tech.onova.flagd_admin_server.controller.dto.response;
+
+/**
+ * Returned once, when a key is created; the plain {@code key} cannot be retrieved afterwards.
+ */
+public record ApiKeyCreatedResponseDTO(ApiKeyResponseDTO apiKey,
+                                       String key) {
+}
@@ -0,0 +1,14 @@
+package tech.onova.flagd_admin_server.controller.dto.response;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+public record ApiKeyResponseDTO(String id,
+                                String name,
+                                List<String> scopes,
+                                String createdBy,
+                                ZonedDateTime createdAt,
+                                ZonedDateTime expiresAt,
+                                ZonedDateTime lastUsedAt,
+                                long usageCount) {
+}
@@ -1,6 +1,7 @@
 package tech.onova.flagd_admin_server.controller.dto.response;
 
 import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.UUID;
 
 public record SourceResponseDTO(UUID id,
@@ -10,5 +11,7 @@ public record SourceResponseDTO(UUID id,
                                boolean enabled,
                                ZonedDateTime creationDateTime,
                                ZonedDateTime lastUpdateDateTime,
-                               String lastUpdateUserName) {
+                               String lastUpdateUserName,
+                               List<SourceShardResponseDTO> shards,
+                               List<String> publishTargets) {
 }
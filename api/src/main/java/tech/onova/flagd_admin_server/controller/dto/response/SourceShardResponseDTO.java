@@ -0,0 +1,5 @@
+package tech.onova.flagd_admin_server.controller.dto.response;
+
+public record SourceShardResponseDTO(String keyPrefix,
+                                     String uri) {
+}
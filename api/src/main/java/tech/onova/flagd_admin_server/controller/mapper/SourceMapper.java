@@ -2,7 +2,9 @@ package tech.onova.flagd_admin_server.controller.mapper;
 
 import org.springframework.stereotype.Component;
 import tech.onova.flagd_admin_server.controller.dto.response.SourceResponseDTO;
+import tech.onova.flagd_admin_server.controller.dto.response.SourceShardResponseDTO;
 import tech.onova.flagd_admin_server.domain.entity.Source;
+import tech.onova.flagd_admin_server.domain.entity.SourceUri;
 
 /**
  * Mapper service for converting between Source entities and DTOs
@@ -22,7 +24,13 @@ public class SourceMapper {
                 source.isEnabled(),
                 source.getCreationDateTime(),
                 source.getLastUpdateDateTime(),
-                source.getLastUpdateUserName()
+                source.getLastUpdateUserName(),
+                source.getShards().stream()
+                        .map(shard -> new SourceShardResponseDTO(shard.keyPrefix(), shard.uri()))
+                        .toList(),
+                source.getPublishTargets().stream()
+                        .map(SourceUri::uri)
+                        .toList()
         );
     }
 }
\ No newline at end of file
@@ -0,0 +1,114 @@
+package tech.onova.flagd_admin_server.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A long-lived credential for automation clients. Only the HMAC-SHA256 digest of the key is stored; the key
+ * itself is shown once, when it is created.
+ */
+@Entity
+@Table(name = "api_key")
+public class ApiKey {
+    @Id
+    private String id;
+    @Column(nullable = false)
+    private String name;
+    @Column(name = "key_digest", nullable = false, unique = true)
+    private String keyDigest;
+    @Column(nullable = false)
+    private String scopes;
+    @Column(name = "created_by", nullable = false)
+    private String createdBy;
+    @Column(nullable = false)
+    private ZonedDateTime createdAt;
+    private ZonedDateTime expiresAt;
+    private ZonedDateTime lastUsedAt;
+    @Column(nullable = false)
+    private long usageCount;
+
+    protected ApiKey() {}
+
+    public ApiKey(String id, String name, String keyDigest, List<String> scopes, String createdBy, ZonedDateTime expiresAt) {
+        if (scopes == null || scopes.isEmpty()) {
+            throw new IllegalArgumentException("An API key needs at least one scope");
+        }
+        this.id = id;
+        this.name = name;
+        this.keyDigest = keyDigest;
+        this.scopes = String.join(",", scopes);
+        this.createdBy = createdBy;
+        this.createdAt = ZonedDateTime.now();
+        this.expiresAt = expiresAt;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getKeyDigest() {
+        return keyDigest;
+    }
+
+    public List<String> getScopes() {
+        return Arrays.asList(scopes.split(","));
+    }
+
+    public String getCreatedBy() {
+        return createdBy;
+    }
+
+    public ZonedDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public ZonedDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public ZonedDateTime getLastUsedAt() {
+        return lastUsedAt;
+    }
+
+    public long getUsageCount() {
+        return usageCount;
+    }
+
+    public boolean isExpired(ZonedDateTime now) {
+        return expiresAt != null && expiresAt.isBefore(now);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ApiKey that = (ApiKey) o;
+        return id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return id.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "ApiKey{" +
+                "id='" + id + '\'' +
+                ", name='" + name + '\'' +
+                ", scopes='" + scopes + '\'' +
+                ", createdBy='" + createdBy + '\'' +
+                ", expiresAt=" + expiresAt +
+                '}';
+    }
+}
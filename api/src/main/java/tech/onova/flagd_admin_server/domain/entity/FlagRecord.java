@@ -0,0 +1,89 @@
+package tech.onova.flagd_admin_server.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import org.springframework.util.Assert;
+
+import java.time.Instant;
+
+/**
+ * One flag of a row-per-flag source, stored as the JSON of its flagd definition.
+ */
+@Entity
+@Table(name = "flag_record", indexes = {
+        @Index(name = "idx_flag_record_source_state", columnList = "source_key, state"),
+        @Index(name = "idx_flag_record_source_updated", columnList = "source_key, updated_at")
+})
+public class FlagRecord {
+    @EmbeddedId
+    private FlagRecordId id;
+    @Column(nullable = false)
+    private String state;
+    @Column(nullable = false, length = 1_048_576)
+    private String definition;
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    protected FlagRecord() {}
+
+    public FlagRecord(FlagRecordId id, String state, String definition) {
+        Assert.notNull(id, "flag record id must not be null");
+        Assert.hasText(definition, "flag definition must not be empty");
+
+        this.id = id;
+        this.state = state != null ? state : "";
+        this.definition = definition;
+        this.updatedAt = Instant.now();
+    }
+
+    public FlagRecord update(String state, String definition) {
+        Assert.hasText(definition, "flag definition must not be empty");
+
+        this.state = state != null ? state : "";
+        this.definition = definition;
+        this.updatedAt = Instant.now();
+
+        return this;
+    }
+
+    public FlagRecordId getId() {
+        return id;
+    }
+
+    public String getState() {
+        return state;
+    }
+
+    public String getDefinition() {
+        return definition;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        FlagRecord that = (FlagRecord) o;
+        return id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return id.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "FlagRecord{" +
+                "id=" + id +
+                ", state='" + state + '\'' +
+                ", updatedAt=" + updatedAt +
+                '}';
+    }
+}
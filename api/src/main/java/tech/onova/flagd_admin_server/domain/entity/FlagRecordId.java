@@ -0,0 +1,12 @@
+package tech.onova.flagd_admin_server.domain.entity;
+
+import jakarta.persistence.Column;
+import org.springframework.util.Assert;
+
+public record FlagRecordId(@Column(name = "source_key", nullable = false) String sourceKey,
+                           @Column(name = "flag_key", nullable = false) String flagKey) {
+    public FlagRecordId {
+        Assert.hasText(sourceKey, "source key must not be empty");
+        Assert.hasText(flagKey, "flag key must not be empty");
+    }
+}
@@ -3,11 +3,21 @@ package tech.onova.flagd_admin_server.domain.entity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import org.springframework.data.domain.Persistable;
 
 import java.time.ZonedDateTime;
 
 @Entity
-public class RefreshToken {
+@Table(name = "refresh_token", indexes = {
+        @Index(name = "idx_refresh_token_user_id", columnList = "user_id"),
+        @Index(name = "idx_refresh_token_expires_at", columnList = "expires_at")
+})
+public class RefreshToken implements Persistable<String> {
     @Id
     private String id;
     @Column(name = "user_id", nullable = false)
@@ -16,6 +26,9 @@ public class RefreshToken {
     private ZonedDateTime expiresAt;
     @Column(nullable = false)
     private ZonedDateTime createdAt;
+    // Token ids are assigned up front; without this, every save of a new token would select it first
+    @Transient
+    private boolean isNew = true;
 
     protected RefreshToken() {}
 
@@ -26,10 +39,22 @@ public class RefreshToken {
         this.createdAt = ZonedDateTime.now();
     }
 
+    @Override
     public String getId() {
         return id;
     }
 
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
     public String getUserId() {
         return userId;
     }
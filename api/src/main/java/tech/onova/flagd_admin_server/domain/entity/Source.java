@@ -1,13 +1,27 @@
 package tech.onova.flagd_admin_server.domain.entity;
 
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.EmbeddedId;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.OrderColumn;
+import jakarta.persistence.Table;
 import org.springframework.util.Assert;
 
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 @Entity
+@Table(name = "source", indexes = @Index(name = "idx_source_enabled", columnList = "enabled"))
 public class Source {
     @EmbeddedId
     private SourceId id;
@@ -19,14 +33,46 @@ public class Source {
     private ZonedDateTime creationDateTime;
     private ZonedDateTime lastUpdateDateTime;
     private String lastUpdateUserName;
+    // Flags whose key matches no shard prefix live in the source uri itself
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "source_shard", joinColumns = @JoinColumn(name = "source_id"))
+    @OrderColumn(name = "shard_index")
+    private List<SourceShard> shards = new ArrayList<>();
+    // Extra copies of the source content kept in sync on every change, e.g. the local files of flagd pods
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "source_publish_target", joinColumns = @JoinColumn(name = "source_id"))
+    @OrderColumn(name = "target_index")
+    @Column(name = "uri", nullable = false)
+    private List<String> publishTargets = new ArrayList<>();
 
     protected Source(){}
 
     public Source(String name, String description, SourceUri uri, String userName, boolean enabled){
+        this(name, description, uri, userName, enabled, List.of());
+    }
+
+    public Source(String name, String description, SourceUri uri, String userName, boolean enabled, List<SourceShard> shards){
+        this(name, description, uri, userName, enabled, shards, List.of());
+    }
+
+    public Source(String name, String description, SourceUri uri, String userName, boolean enabled,
+                  List<SourceShard> shards, List<SourceUri> publishTargets){
         Assert.hasText(name, "source name must not be empty");
         Assert.hasText(description, "source description must not be empty");
         Assert.notNull(uri, "source uri must not be null");
         Assert.hasText(userName, "last update user must not be empty");
+        Assert.notNull(shards, "source shards must not be null");
+        Set<String> keyPrefixes = new HashSet<>();
+        Set<String> uris = new HashSet<>(Set.of(uri.uri()));
+        for (SourceShard shard : shards) {
+            Assert.isTrue(keyPrefixes.add(shard.keyPrefix()), "shard key prefixes must be unique: " + shard.keyPrefix());
+            Assert.isTrue(uris.add(shard.uri()), "shard uris must be unique: " + shard.uri());
+        }
+        Assert.notNull(publishTargets, "source publish targets must not be null");
+        Assert.isTrue(shards.isEmpty() || publishTargets.isEmpty(), "a sharded source cannot have publish targets");
+        for (SourceUri publishTarget : publishTargets) {
+            Assert.isTrue(uris.add(publishTarget.uri()), "publish targets must be unique: " + publishTarget.uri());
+        }
 
         this.id = new SourceId();
         this.name = name;
@@ -36,22 +82,40 @@ public class Source {
         this.enabled = enabled;
         this.lastUpdateDateTime = ZonedDateTime.now();
         this.lastUpdateUserName = userName;
+        this.shards = new ArrayList<>(shards);
+        this.publishTargets = new ArrayList<>(publishTargets.stream().map(SourceUri::uri).toList());
     }
 
-    
+    private Source(Source source) {
+        this.id = source.id;
+        this.name = source.name;
+        this.description = source.description;
+        this.uri = source.uri;
+        this.creationDateTime = source.creationDateTime;
+        this.enabled = source.enabled;
+        this.lastUpdateDateTime = source.lastUpdateDateTime;
+        this.lastUpdateUserName = source.lastUpdateUserName;
+        this.shards = new ArrayList<>(source.shards);
+        this.publishTargets = new ArrayList<>(source.publishTargets);
+    }
 
+    /**
+     * Returns an updated copy and leaves this instance untouched, since repository lookups hand out the
+     * cached instance to every caller.
+     */
     public Source updateWithoutUri(String name, String description, boolean enabled, String userName) {
         Assert.hasText(name, "source name must not be empty");
         Assert.hasText(description, "source description must not be empty");
         Assert.hasText(userName, "last update user must not be empty");
 
-        this.name = name;
-        this.description = description;
-        this.enabled = enabled;
-        this.lastUpdateDateTime = ZonedDateTime.now();
-        this.lastUpdateUserName = userName;
+        Source updated = new Source(this);
+        updated.name = name;
+        updated.description = description;
+        updated.enabled = enabled;
+        updated.lastUpdateDateTime = ZonedDateTime.now();
+        updated.lastUpdateUserName = userName;
 
-        return this;
+        return updated;
     }
 
     public SourceId getId() {
@@ -86,6 +150,45 @@ public class Source {
         return lastUpdateUserName;
     }
 
+    public List<SourceShard> getShards() {
+        return Collections.unmodifiableList(shards);
+    }
+
+    public boolean isSharded() {
+        return !shards.isEmpty();
+    }
+
+    public List<SourceUri> getPublishTargets() {
+        return publishTargets.stream().map(SourceUri::new).toList();
+    }
+
+    public boolean hasPublishTargets() {
+        return !publishTargets.isEmpty();
+    }
+
+    /**
+     * Every uri holding part of this source's flags, the source uri first.
+     */
+    public List<SourceUri> getContentUris() {
+        List<SourceUri> contentUris = new ArrayList<>(shards.size() + 1);
+        contentUris.add(uri);
+        shards.forEach(shard -> contentUris.add(shard.sourceUri()));
+        return contentUris;
+    }
+
+    /**
+     * The uri owning a flag: the shard with the longest matching key prefix, or the source uri.
+     */
+    public SourceUri contentUriFor(String flagKey) {
+        SourceShard owner = null;
+        for (SourceShard shard : shards) {
+            if (shard.owns(flagKey) && (owner == null || shard.keyPrefix().length() > owner.keyPrefix().length())) {
+                owner = shard;
+            }
+        }
+        return owner != null ? owner.sourceUri() : uri;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -110,6 +213,8 @@ public class Source {
                 ", creationDateTime=" + creationDateTime +
                 ", lastUpdateDateTime=" + lastUpdateDateTime +
                 ", lastUpdateUserName='" + lastUpdateUserName + '\'' +
+                ", shards=" + shards +
+                ", publishTargets=" + publishTargets +
                 '}';
     }
 }
@@ -0,0 +1,30 @@
+package tech.onova.flagd_admin_server.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import org.springframework.util.Assert;
+
+/**
+ * One file of a sharded source: it owns every flag whose key starts with {@code keyPrefix}.
+ */
+@Embeddable
+public record SourceShard(@Column(name = "key_prefix", nullable = false) String keyPrefix,
+                          @Column(name = "uri", nullable = false) String uri) {
+    public SourceShard {
+        Assert.hasText(keyPrefix, "shard key prefix must not be empty");
+        Assert.notNull(uri, "shard uri must not be null");
+        uri = new SourceUri(uri).uri();
+    }
+
+    public SourceShard(String keyPrefix, SourceUri uri) {
+        this(keyPrefix, uri.uri());
+    }
+
+    public SourceUri sourceUri() {
+        return new SourceUri(uri);
+    }
+
+    public boolean owns(String flagKey) {
+        return flagKey.startsWith(keyPrefix);
+    }
+}
@@ -2,10 +2,16 @@ package tech.onova.flagd_admin_server.domain.entity;
 
 import org.springframework.util.Assert;
 
+import java.util.List;
+
 public record SourceUri(String uri) {
+    private static final List<String> SUPPORTED_PREFIXES = List.of("file://", "http://", "https://", "s3://", "git://", "sqlite://");
+
     public SourceUri {
         Assert.notNull(uri, "Source uri must not be null");
         String trimmedUri = uri.trim();
-        Assert.isTrue(trimmedUri.startsWith("file://") && trimmedUri.length() > 7, "Source uri must start with file://");
+        Assert.isTrue(SUPPORTED_PREFIXES.stream()
+                        .anyMatch(prefix -> trimmedUri.startsWith(prefix) && trimmedUri.length() > prefix.length()),
+                "Source uri must start with " + String.join(", ", SUPPORTED_PREFIXES));
     }
-}
\ No newline at end of file
+}
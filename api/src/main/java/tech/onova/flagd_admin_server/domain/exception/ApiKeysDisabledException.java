@@ -0,0 +1,11 @@
+package tech.onova.flagd_admin_server.domain.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class ApiKeysDisabledException extends DomainException {
+    public static final String ERROR_CODE = "API_KEYS_DISABLED";
+
+    public ApiKeysDisabledException(String message) {
+        super(ERROR_CODE, message, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+}
@@ -0,0 +1,15 @@
+package tech.onova.flagd_admin_server.domain.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class SourceContentConflictException extends DomainException {
+    public static final String ERROR_CODE = "SOURCE_CONTENT_CONFLICT";
+
+    public SourceContentConflictException(String message) {
+        super(ERROR_CODE, message, HttpStatus.CONFLICT);
+    }
+
+    public SourceContentConflictException(String message, Throwable cause) {
+        super(ERROR_CODE, message, HttpStatus.CONFLICT, cause);
+    }
+}
@@ -0,0 +1,15 @@
+package tech.onova.flagd_admin_server.domain.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class SourcePublishException extends DomainException {
+    public static final String ERROR_CODE = "SOURCE_PUBLISH_FAILED";
+
+    public SourcePublishException(String message) {
+        super(ERROR_CODE, message, HttpStatus.BAD_GATEWAY);
+    }
+
+    public SourcePublishException(String message, Throwable cause) {
+        super(ERROR_CODE, message, HttpStatus.BAD_GATEWAY, cause);
+    }
+}
@@ -0,0 +1,15 @@
+package tech.onova.flagd_admin_server.domain.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class TooManyRequestsException extends DomainException {
+    public static final String ERROR_CODE = "TOO_MANY_REQUESTS";
+
+    public TooManyRequestsException(String message) {
+        super(ERROR_CODE, message, HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    public TooManyRequestsException(String message, Throwable cause) {
+        super(ERROR_CODE, message, HttpStatus.TOO_MANY_REQUESTS, cause);
+    }
+}
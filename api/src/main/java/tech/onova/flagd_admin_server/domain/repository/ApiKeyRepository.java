@@ -0,0 +1,19 @@
+package tech.onova.flagd_admin_server.domain.repository;
+
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.ListCrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import tech.onova.flagd_admin_server.domain.entity.ApiKey;
+
+import java.time.ZonedDateTime;
+
+@Transactional(readOnly = true)
+public interface ApiKeyRepository extends ListCrudRepository<ApiKey, String> {
+
+    @Modifying
+    @Transactional
+    @Query("update ApiKey k set k.usageCount = k.usageCount + :uses, k.lastUsedAt = :lastUsedAt where k.id = :id")
+    int addUsage(@Param("id") String id, @Param("uses") long uses, @Param("lastUsedAt") ZonedDateTime lastUsedAt);
+}
@@ -0,0 +1,16 @@
+package tech.onova.flagd_admin_server.domain.repository;
+
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.transaction.annotation.Transactional;
+import tech.onova.flagd_admin_server.domain.entity.FlagRecord;
+import tech.onova.flagd_admin_server.domain.entity.FlagRecordId;
+
+import java.util.List;
+
+@Transactional(readOnly = true)
+public interface FlagRecordRepository extends CrudRepository<FlagRecord, FlagRecordId> {
+    List<FlagRecord> findByIdSourceKeyOrderByIdFlagKey(String sourceKey);
+
+    @Transactional
+    void deleteByIdSourceKey(String sourceKey);
+}
@@ -1,10 +1,47 @@
 package tech.onova.flagd_admin_server.domain.repository;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import tech.onova.flagd_admin_server.domain.entity.RefreshToken;
 
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+@Transactional(readOnly = true)
 public interface RefreshTokenRepository extends CrudRepository<RefreshToken, String> {
     Optional<RefreshToken> findById(String id);
-}
\ No newline at end of file
+
+    @Query("select t.id from RefreshToken t where t.expiresAt < :now order by t.expiresAt")
+    List<String> findExpiredIds(@Param("now") ZonedDateTime now, Limit limit);
+
+    @Modifying
+    @Transactional
+    @Query("delete from RefreshToken t where t.userId = :userId")
+    int deleteByUserId(@Param("userId") String userId);
+
+    @Modifying
+    @Transactional
+    @Query("delete from RefreshToken t where t.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<String> ids);
+
+    /**
+     * Replaces {@code currentId} with {@code replacement} in one transaction, so a refresh token can only be
+     * exchanged once.
+     *
+     * @return {@code false}, with nothing changed, if {@code currentId} no longer exists
+     */
+    @Transactional
+    default boolean rotate(String currentId, RefreshToken replacement) {
+        if (deleteByIdIn(List.of(currentId)) == 0) {
+            return false;
+        }
+        save(replacement);
+        return true;
+    }
+}
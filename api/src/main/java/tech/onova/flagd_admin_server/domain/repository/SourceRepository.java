@@ -1,11 +1,47 @@
 package tech.onova.flagd_admin_server.domain.repository;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.transaction.annotation.Transactional;
 import tech.onova.flagd_admin_server.domain.entity.Source;
 import tech.onova.flagd_admin_server.domain.entity.SourceId;
 
 import java.util.List;
+import java.util.Optional;
 
+/**
+ * Sources are read on every flag request but change rarely, so lookups are served from in-process caches
+ * that are evicted whenever a source is saved or deleted through this repository. Every caller gets the same
+ * cached instance, so changes are made on a copy (see {@link Source#updateWithoutUri}) and only become visible
+ * once saved.
+ */
+@Transactional(readOnly = true)
 public interface SourceRepository extends CrudRepository<Source, SourceId> {
+    String SOURCES_CACHE = "sources";
+    String SOURCES_BY_ENABLED_CACHE = "sourcesByEnabled";
+
+    @Override
+    @Cacheable(cacheNames = SOURCES_CACHE, key = "#p0")
+    Optional<Source> findById(SourceId id);
+
+    @Cacheable(cacheNames = SOURCES_BY_ENABLED_CACHE, key = "#p0")
     List<Source> findByEnabled(boolean enabled);
+
+    @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = SOURCES_CACHE, key = "#p0.id"),
+            @CacheEvict(cacheNames = SOURCES_BY_ENABLED_CACHE, allEntries = true)
+    })
+    <S extends Source> S save(S source);
+
+    @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = SOURCES_CACHE, key = "#p0.id"),
+            @CacheEvict(cacheNames = SOURCES_BY_ENABLED_CACHE, allEntries = true)
+    })
+    void delete(Source source);
 }
@@ -0,0 +1,27 @@
+package tech.onova.flagd_admin_server.domain.service;
+
+import tech.onova.flagd_admin_server.domain.entity.SourceUri;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link SourceContentService}. Loader and validator work runs on a dedicated
+ * I/O executor, so callers such as request threads are released while slow backends respond. Futures
+ * complete exceptionally with the same domain exceptions the synchronous service throws.
+ */
+public interface AsyncSourceContentService {
+
+    CompletableFuture<String> loadContent(SourceUri sourceUri);
+
+    CompletableFuture<Void> initializeContent(SourceUri sourceUri, String content);
+
+    CompletableFuture<Void> writeContent(SourceUri sourceUri, ContentWriter contentWriter);
+
+    CompletableFuture<Boolean> contentExists(SourceUri sourceUri);
+
+    CompletableFuture<SourceContentStat> stat(SourceUri sourceUri);
+
+    CompletableFuture<Void> initializeContentWithConfig(SourceUri sourceUri);
+
+    CompletableFuture<Void> deleteStoredFlags(SourceUri sourceUri);
+}
@@ -2,6 +2,22 @@ package tech.onova.flagd_admin_server.domain.service;
 
 import tech.onova.flagd_admin_server.domain.exception.ContentValidationException;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 public interface ContentValidator {
     void validateContent(String content) throws ContentValidationException;
-}
\ No newline at end of file
+
+    /**
+     * Validates content that has already been written to a file, without reading it back into memory
+     * when the implementation can work on the file directly.
+     */
+    default void validateContentFile(Path contentFile) throws ContentValidationException {
+        try {
+            validateContent(Files.readString(contentFile));
+        } catch (IOException e) {
+            throw new ContentValidationException("Failed to read content for validation", e);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package tech.onova.flagd_admin_server.domain.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Produces source content by writing its UTF-8 bytes to the given stream.
+ */
+@FunctionalInterface
+public interface ContentWriter {
+    void writeTo(OutputStream out) throws IOException;
+}
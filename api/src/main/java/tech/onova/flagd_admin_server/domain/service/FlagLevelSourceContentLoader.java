@@ -0,0 +1,33 @@
+package tech.onova.flagd_admin_server.domain.service;
+
+import tech.onova.flagd_admin_server.domain.entity.SourceUri;
+
+import java.util.Optional;
+import java.util.SortedMap;
+
+/**
+ * A {@link SourceContentLoader} that stores flags individually and can read or change a single flag
+ * without rewriting the whole document. Flag definitions are exchanged as the JSON of one flagd flag.
+ */
+public interface FlagLevelSourceContentLoader extends SourceContentLoader {
+
+    /**
+     * Loads every flag definition of the source, keyed and ordered by flag key.
+     */
+    SortedMap<String, String> loadFlags(SourceUri sourceUri);
+
+    Optional<String> loadFlag(SourceUri sourceUri, String flagKey);
+
+    void writeFlag(SourceUri sourceUri, String flagKey, String flagDefinition);
+
+    /**
+     * Removes a flag, returning whether it existed.
+     */
+    boolean deleteFlag(SourceUri sourceUri, String flagKey);
+
+    /**
+     * Removes every flag stored for the source and releases any state held for it, once the source itself
+     * is deleted.
+     */
+    void deleteFlags(SourceUri sourceUri);
+}
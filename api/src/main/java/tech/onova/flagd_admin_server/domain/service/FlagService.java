@@ -5,19 +5,27 @@ import tech.onova.flagd_admin_server.controller.dto.response.FlagDTO;
 import tech.onova.flagd_admin_server.domain.entity.SourceId;
 import tech.onova.flagd_admin_server.infrastructure.annotation.Log;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
+/**
+ * Reads and edits the flags of a source. Source content is read and written on an I/O executor, so request
+ * threads are released while slow backends respond. Futures complete exceptionally with the domain exceptions
+ * of the underlying source services.
+ */
 public interface FlagService {
     
     @Log
-    List<FlagDTO> getFlags(SourceId sourceId);
+    CompletableFuture<List<FlagDTO>> getFlags(SourceId sourceId);
     
+    /**
+     * The flag, or a future of null if the source has no flag with that key.
+     */
     @Log
-    FlagDTO getFlag(SourceId sourceId, String flagId);
+    CompletableFuture<FlagDTO> getFlag(SourceId sourceId, String flagId);
     
     @Log
-    void addOrUpdateFlag(SourceId sourceId, String flagId, FlagConfigRequestDTO request);
+    CompletableFuture<Void> addOrUpdateFlag(SourceId sourceId, String flagId, FlagConfigRequestDTO request);
     
     @Log
-    void deleteFlag(SourceId sourceId, String flagId);
+    CompletableFuture<Void> deleteFlag(SourceId sourceId, String flagId);
 }
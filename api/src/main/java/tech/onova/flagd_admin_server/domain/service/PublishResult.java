@@ -0,0 +1,14 @@
+package tech.onova.flagd_admin_server.domain.service;
+
+import tech.onova.flagd_admin_server.domain.entity.SourceUri;
+
+import java.util.List;
+
+/**
+ * Outcome of a successful publish.
+ *
+ * @param revisionId SHA-256 of the published bytes, identical on every target
+ * @param targets    targets now holding that revision
+ */
+public record PublishResult(String revisionId, List<SourceUri> targets) {
+}
@@ -0,0 +1,12 @@
+package tech.onova.flagd_admin_server.domain.service;
+
+/**
+ * Optional abilities of a {@link SourceContentLoader} backend, derived from the loader's type when it is bound.
+ * They let callers pick the cheapest way to serve a request for a source without probing the loader.
+ */
+public enum SourceContentCapability {
+    /** Single flags can be read and written, see {@link FlagLevelSourceContentLoader}. */
+    FLAG_LEVEL,
+    /** Earlier revisions are kept, see {@link VersionedSourceContentLoader}. */
+    HISTORY
+}
@@ -1,9 +1,98 @@
 package tech.onova.flagd_admin_server.domain.service;
 
 import tech.onova.flagd_admin_server.domain.entity.SourceUri;
+import tech.onova.flagd_admin_server.domain.exception.SourceContentAccessException;
+import tech.onova.flagd_admin_server.domain.exception.SourceContentConflictException;
+import tech.onova.flagd_admin_server.domain.exception.SourceContentNotFoundException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 
 public interface SourceContentLoader {
     boolean supports(String uriScheme);
     String loadContent(SourceUri sourceUri);
     void initializeContent(SourceUri sourceUri, String content);
-}
\ No newline at end of file
+
+    /**
+     * Opens the raw UTF-8 bytes of the content. Loaders that can hand out a byte-level view
+     * without decoding into a {@link String} first should override this.
+     */
+    default InputStream openContent(SourceUri sourceUri) {
+        return new ByteArrayInputStream(loadContent(sourceUri).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Replaces the content with the UTF-8 bytes read from the stream. Loaders that can copy the stream
+     * to their backend without decoding it into a {@link String} first should override this.
+     */
+    default void writeContent(SourceUri sourceUri, InputStream content) {
+        try {
+            initializeContent(sourceUri, new String(content.readAllBytes(), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new SourceContentAccessException("Error reading content to write: " + sourceUri.uri(), e);
+        }
+    }
+
+    /**
+     * Reads the content straight from the backend together with the version token that
+     * {@link #writeContent(SourceUri, InputStream, String)} compares against. The default derives the token
+     * from a SHA-256 digest of the bytes.
+     */
+    default VersionedContent loadVersionedContent(SourceUri sourceUri) {
+        try (InputStream in = openContent(sourceUri)) {
+            byte[] content = in.readAllBytes();
+            return new VersionedContent(content, sha256(content));
+        } catch (IOException e) {
+            throw new SourceContentAccessException("Error reading content: " + sourceUri.uri(), e);
+        }
+    }
+
+    /**
+     * Replaces the content only if it is still at {@code expectedVersion}, a token returned by
+     * {@link #loadVersionedContent}, and throws {@link SourceContentConflictException} otherwise. A null
+     * version writes unconditionally. The default compares and then writes, so callers have to serialize
+     * writes themselves; loaders whose backend can write conditionally should override it.
+     */
+    default void writeContent(SourceUri sourceUri, InputStream content, String expectedVersion) {
+        if (expectedVersion != null) {
+            String currentVersion;
+            try {
+                currentVersion = loadVersionedContent(sourceUri).versionToken();
+            } catch (SourceContentNotFoundException e) {
+                currentVersion = null;
+            }
+            if (!expectedVersion.equals(currentVersion)) {
+                throw new SourceContentConflictException("Content was modified concurrently: " + sourceUri.uri());
+            }
+        }
+        writeContent(sourceUri, content);
+    }
+
+    /**
+     * Describes the content without transferring it where the backend allows. The default falls back to
+     * loading the content and deriving the version token from a SHA-256 digest of its bytes.
+     */
+    default SourceContentStat stat(SourceUri sourceUri) {
+        byte[] content;
+        try {
+            content = loadContent(sourceUri).getBytes(StandardCharsets.UTF_8);
+        } catch (SourceContentNotFoundException e) {
+            return SourceContentStat.missing();
+        }
+
+        return new SourceContentStat(true, content.length, null, sha256(content));
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -3,15 +3,65 @@ package tech.onova.flagd_admin_server.domain.service;
 import tech.onova.flagd_admin_server.domain.entity.SourceUri;
 import tech.onova.flagd_admin_server.domain.exception.ContentValidationException;
 import tech.onova.flagd_admin_server.domain.exception.SourceContentAccessException;
+import tech.onova.flagd_admin_server.domain.exception.SourceContentConflictException;
 import tech.onova.flagd_admin_server.domain.exception.SourceContentNotFoundException;
 
+import java.io.InputStream;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+
 public interface SourceContentService {
     
     String loadContent(SourceUri sourceUri) throws SourceContentNotFoundException, SourceContentAccessException;
     
+    InputStream openContent(SourceUri sourceUri) throws SourceContentNotFoundException, SourceContentAccessException;
+    
     void initializeContent(SourceUri sourceUri, String content) throws SourceContentAccessException, ContentValidationException;
     
+    void writeContent(SourceUri sourceUri, ContentWriter contentWriter) throws SourceContentAccessException, ContentValidationException;
+    
+    /**
+     * Reads the content for a read-modify-write, bypassing any read cache, together with the version token to
+     * pass to {@link #writeContent(SourceUri, ContentWriter, String)}.
+     */
+    VersionedContent loadVersionedContent(SourceUri sourceUri) throws SourceContentNotFoundException, SourceContentAccessException;
+    
+    /**
+     * Writes the content only if the source is still at {@code expectedVersion}, see
+     * {@link SourceContentLoader#writeContent(SourceUri, InputStream, String)}.
+     */
+    void writeContent(SourceUri sourceUri, ContentWriter contentWriter, String expectedVersion)
+            throws SourceContentAccessException, SourceContentConflictException, ContentValidationException;
+    
     boolean contentExists(SourceUri sourceUri) throws SourceContentAccessException;
     
+    SourceContentStat stat(SourceUri sourceUri) throws SourceContentAccessException;
+    
     void initializeContentWithConfig(SourceUri sourceUri) throws SourceContentAccessException, ContentValidationException;
+    
+    /**
+     * What the backend of the source can do, resolved once per source uri.
+     */
+    Set<SourceContentCapability> capabilities(SourceUri sourceUri);
+    
+    /**
+     * Whether the source stores flags individually, so the flag-level operations below can be used
+     * instead of rewriting the whole document.
+     */
+    boolean supportsFlagLevelAccess(SourceUri sourceUri);
+    
+    SortedMap<String, String> loadFlags(SourceUri sourceUri) throws SourceContentAccessException;
+    
+    Optional<String> loadFlag(SourceUri sourceUri, String flagKey) throws SourceContentAccessException;
+    
+    void writeFlag(SourceUri sourceUri, String flagKey, String flagDefinition) throws SourceContentAccessException, ContentValidationException;
+    
+    boolean deleteFlag(SourceUri sourceUri, String flagKey) throws SourceContentAccessException;
+    
+    /**
+     * Removes what a flag-level source stores for the uri when the source is deleted. Documents kept by
+     * other backends are left in place.
+     */
+    void deleteStoredFlags(SourceUri sourceUri) throws SourceContentAccessException;
 }
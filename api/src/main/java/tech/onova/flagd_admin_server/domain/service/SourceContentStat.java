@@ -0,0 +1,18 @@
+package tech.onova.flagd_admin_server.domain.service;
+
+import java.time.Instant;
+
+/**
+ * Metadata about source content that can be obtained without reading its body.
+ *
+ * @param exists       whether the content exists
+ * @param size         content size in bytes, or -1 if unknown
+ * @param lastModified last modification time, or null if unknown
+ * @param versionToken opaque token that changes whenever the content changes, or null if the loader cannot tell
+ */
+public record SourceContentStat(boolean exists, long size, Instant lastModified, String versionToken) {
+
+    public static SourceContentStat missing() {
+        return new SourceContentStat(false, -1, null, null);
+    }
+}
@@ -0,0 +1,29 @@
+package tech.onova.flagd_admin_server.domain.service;
+
+import tech.onova.flagd_admin_server.domain.entity.SourceUri;
+import tech.onova.flagd_admin_server.domain.exception.SourceContentAccessException;
+import tech.onova.flagd_admin_server.domain.exception.SourcePublishException;
+
+import java.util.List;
+
+/**
+ * Copies source content to its publish targets. The content was validated when it was written to the source,
+ * so the same bytes go to every target.
+ */
+public interface SourcePublisher {
+
+    /**
+     * Reads the current content of the source once and publishes it.
+     */
+    PublishResult publish(SourceUri sourceUri, List<SourceUri> targets) throws SourceContentAccessException, SourcePublishException;
+
+    /**
+     * Publishes bytes that were just written to the source. Callers must publish in the order they wrote.
+     */
+    PublishResult publish(SourceUri sourceUri, byte[] content, List<SourceUri> targets) throws SourcePublishException;
+
+    /**
+     * Drops any pending work for a source that was deleted, so its old content is not published again.
+     */
+    void forget(SourceUri sourceUri);
+}
@@ -0,0 +1,14 @@
+package tech.onova.flagd_admin_server.domain.service;
+
+import java.time.Instant;
+
+/**
+ * One historical revision of source content.
+ *
+ * @param id        backend revision id, e.g. a commit id
+ * @param timestamp when the revision was recorded
+ * @param author    who recorded it
+ * @param message   short description of the change
+ */
+public record SourceRevision(String id, Instant timestamp, String author, String message) {
+}
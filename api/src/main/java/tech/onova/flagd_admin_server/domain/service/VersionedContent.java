@@ -0,0 +1,10 @@
+package tech.onova.flagd_admin_server.domain.service;
+
+/**
+ * Content read for a read-modify-write, together with the version it was read at.
+ *
+ * @param content      the raw UTF-8 bytes
+ * @param versionToken token to pass back with the write, so it only succeeds if nothing changed in between
+ */
+public record VersionedContent(byte[] content, String versionToken) {
+}
@@ -0,0 +1,26 @@
+package tech.onova.flagd_admin_server.domain.service;
+
+import tech.onova.flagd_admin_server.domain.entity.SourceUri;
+
+import java.util.List;
+
+/**
+ * A {@link SourceContentLoader} whose backend keeps every revision of the content.
+ */
+public interface VersionedSourceContentLoader extends SourceContentLoader {
+
+    /**
+     * Lists the revisions that changed the content, newest first.
+     */
+    List<SourceRevision> listRevisions(SourceUri sourceUri, int limit);
+
+    /**
+     * Loads the content as it was at the given revision.
+     */
+    String loadContent(SourceUri sourceUri, String revision);
+
+    /**
+     * Renders a unified diff of the content between two revisions.
+     */
+    String diff(SourceUri sourceUri, String fromRevision, String toRevision);
+}
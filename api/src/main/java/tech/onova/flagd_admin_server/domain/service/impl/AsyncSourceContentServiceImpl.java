@@ -0,0 +1,76 @@
+package tech.onova.flagd_admin_server.domain.service.impl;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import tech.onova.flagd_admin_server.domain.entity.SourceUri;
+import tech.onova.flagd_admin_server.domain.service.AsyncSourceContentService;
+import tech.onova.flagd_admin_server.domain.service.ContentWriter;
+import tech.onova.flagd_admin_server.domain.service.SourceContentService;
+import tech.onova.flagd_admin_server.domain.service.SourceContentStat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Service
+public class AsyncSourceContentServiceImpl implements AsyncSourceContentService {
+
+    private final SourceContentService sourceContentService;
+    private final Executor ioExecutor;
+
+    @Autowired
+    public AsyncSourceContentServiceImpl(SourceContentService sourceContentService) {
+        // Virtual threads park cheaply on blocking file and network I/O, so no pool sizing is needed
+        this(sourceContentService, Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("source-content-io-", 0).factory()));
+    }
+
+    AsyncSourceContentServiceImpl(SourceContentService sourceContentService, Executor ioExecutor) {
+        this.sourceContentService = sourceContentService;
+        this.ioExecutor = ioExecutor;
+    }
+
+    @Override
+    public CompletableFuture<String> loadContent(SourceUri sourceUri) {
+        return CompletableFuture.supplyAsync(() -> sourceContentService.loadContent(sourceUri), ioExecutor);
+    }
+
+    @Override
+    public CompletableFuture<Void> initializeContent(SourceUri sourceUri, String content) {
+        return CompletableFuture.runAsync(() -> sourceContentService.initializeContent(sourceUri, content), ioExecutor);
+    }
+
+    @Override
+    public CompletableFuture<Void> writeContent(SourceUri sourceUri, ContentWriter contentWriter) {
+        return CompletableFuture.runAsync(() -> sourceContentService.writeContent(sourceUri, contentWriter), ioExecutor);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> contentExists(SourceUri sourceUri) {
+        return CompletableFuture.supplyAsync(() -> sourceContentService.contentExists(sourceUri), ioExecutor);
+    }
+
+    @Override
+    public CompletableFuture<SourceContentStat> stat(SourceUri sourceUri) {
+        return CompletableFuture.supplyAsync(() -> sourceContentService.stat(sourceUri), ioExecutor);
+    }
+
+    @Override
+    public CompletableFuture<Void> initializeContentWithConfig(SourceUri sourceUri) {
+        return CompletableFuture.runAsync(() -> sourceContentService.initializeContentWithConfig(sourceUri), ioExecutor);
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteStoredFlags(SourceUri sourceUri) {
+        return CompletableFuture.runAsync(() -> sourceContentService.deleteStoredFlags(sourceUri), ioExecutor);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (ioExecutor instanceof ExecutorService executorService) {
+            executorService.close();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package tech.onova.flagd_admin_server.domain.service.impl;
+
+import tech.onova.flagd_admin_server.domain.entity.SourceUri;
+import tech.onova.flagd_admin_server.domain.exception.SourceContentAccessException;
+import tech.onova.flagd_admin_server.domain.exception.SourceContentNotFoundException;
+import tech.onova.flagd_admin_server.domain.service.SourceContentLoader;
+import tech.onova.flagd_admin_server.domain.service.SourceContentStat;
+import tech.onova.flagd_admin_server.domain.service.VersionedContent;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Serves reads of a remote loader from the shared {@link SourceContentCache}, so reads do not wait on the backend
+ * while cached content is fresh or stale-but-revalidating. Reads for a read-modify-write and all writes go straight
+ * to the backend, so conditional writes compare against the backend's own version; writes drop the entry.
+ */
+final class CachingSourceContentLoader implements SourceContentLoader {
+
+    private final SourceContentLoader delegate;
+    private final SourceContentCache cache;
+
+    CachingSourceContentLoader(SourceContentLoader delegate, SourceContentCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    SourceContentLoader delegate() {
+        return delegate;
+    }
+
+    @Override
+    public boolean supports(String uriScheme) {
+        return delegate.supports(uriScheme);
+    }
+
+    @Override
+    public String loadContent(SourceUri sourceUri) {
+        return new String(cache.get(sourceUri, this::fetch).content(), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public InputStream openContent(SourceUri sourceUri) {
+        return new ByteArrayInputStream(cache.get(sourceUri, this::fetch).content());
+    }
+
+    @Override
+    public SourceContentStat stat(SourceUri sourceUri) {
+        SourceContentCache.CachedContent cached;
+        try {
+            cached = cache.get(sourceUri, this::fetch);
+        } catch (SourceContentNotFoundException e) {
+            return SourceContentStat.missing();
+        }
+        return new SourceContentStat(true, cached.content().length, null, cached.versionToken());
+    }
+
+    @Override
+    public VersionedContent loadVersionedContent(SourceUri sourceUri) {
+        return delegate.loadVersionedContent(sourceUri);
+    }
+
+    @Override
+    public void initializeContent(SourceUri sourceUri, String content) {
+        try {
+            delegate.initializeContent(sourceUri, content);
+        } finally {
+            cache.invalidate(sourceUri);
+        }
+    }
+
+    @Override
+    public void writeContent(SourceUri sourceUri, InputStream content) {
+        try {
+            delegate.writeContent(sourceUri, content);
+        } finally {
+            cache.invalidate(sourceUri);
+        }
+    }
+
+    @Override
+    public void writeContent(SourceUri sourceUri, InputStream content, String expectedVersion) {
+        try {
+            delegate.writeContent(sourceUri, content, expectedVersion);
+        } finally {
+            cache.invalidate(sourceUri);
+        }
+    }
+
+    private byte[] fetch(SourceUri sourceUri) {
+        try (InputStream in = delegate.openContent(sourceUri)) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new SourceContentAccessException("Error reading content: " + sourceUri.uri(), e);
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package tech.onova.flagd_admin_server.domain.service.impl;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import tech.onova.flagd_admin_server.domain.entity.SourceUri;
+import tech.onova.flagd_admin_server.domain.exception.SourceContentAccessException;
+import tech.onova.flagd_admin_server.domain.exception.SourceContentNotFoundException;
+import tech.onova.flagd_admin_server.domain.exception.SourcePublishException;
+import tech.onova.flagd_admin_server.domain.service.PublishResult;
+import tech.onova.flagd_admin_server.domain.service.SourceContentLoader;
+import tech.onova.flagd_admin_server.domain.service.SourcePublisher;
+import tech.onova.flagd_admin_server.infrastructure.config.SourcePublishProperties;
+
+import java.io.ByteArrayInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.IntStream;
+
+/**
+ * Writes one revision to all targets of a source concurrently. Publishes of the same source are serialized, so
+ * a target never receives an older revision after a newer one. Targets that still fail after the last attempt
+ * are remembered and brought up to date with the source's current content in the background.
+ */
+@Service
+public class FanOutSourcePublisher implements SourcePublisher {
+
+    static final String PUBLISH_TIMER = "flagd.source.publish";
+
+    private static final Logger logger = LoggerFactory.getLogger(FanOutSourcePublisher.class);
+    private static final int LOCK_STRIPES = 64;
+
+    private final SourceContentLoaderRegistry loaderRegistry;
+    private final SourcePublishProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService publishExecutor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("source-publish-", 0).factory());
+    private final ReentrantLock[] sourceLocks = IntStream.range(0, LOCK_STRIPES)
+            .mapToObj(i -> new ReentrantLock())
+            .toArray(ReentrantLock[]::new);
+    private final Map<SourceUri, Set<SourceUri>> missedTargets = new ConcurrentHashMap<>();
+
+    @Autowired
+    public FanOutSourcePublisher(SourceContentLoaderRegistry loaderRegistry,
+                                 SourcePublishProperties properties,
+                                 MeterRegistry meterRegistry) {
+        this.loaderRegistry = loaderRegistry;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public PublishResult publish(SourceUri sourceUri, List<SourceUri> targets) {
+        ReentrantLock lock = lockFor(sourceUri);
+        lock.lock();
+        try {
+            return publishLocked(sourceUri, readContent(sourceUri), targets);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public PublishResult publish(SourceUri sourceUri, byte[] content, List<SourceUri> targets) {
+        ReentrantLock lock = lockFor(sourceUri);
+        lock.lock();
+        try {
+            return publishLocked(sourceUri, content, targets);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void forget(SourceUri sourceUri) {
+        ReentrantLock lock = lockFor(sourceUri);
+        lock.lock();
+        try {
+            missedTargets.remove(sourceUri);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Re-publishes the current content of every source to the targets its last publish missed.
+     */
+    @Scheduled(initialDelayString = "${application.sources.publish.missed-target-retry-interval:PT30S}",
+            fixedDelayString = "${application.sources.publish.missed-target-retry-interval:PT30S}")
+    public void retryMissedTargets() {
+        for (Map.Entry<SourceUri, Set<SourceUri>> entry : missedTargets.entrySet()) {
+            SourceUri sourceUri = entry.getKey();
+            try {
+                publish(sourceUri, List.copyOf(entry.getValue()));
+            } catch (SourceContentNotFoundException e) {
+                missedTargets.remove(sourceUri);
+            } catch (RuntimeException e) {
+                logger.warn("Retrying missed publish targets of {} failed: {}", sourceUri.uri(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Targets of the source that are waiting for {@link #retryMissedTargets()}.
+     */
+    public Set<SourceUri> missedTargets(SourceUri sourceUri) {
+        return missedTargets.getOrDefault(sourceUri, Set.of());
+    }
+
+    private PublishResult publishLocked(SourceUri sourceUri, byte[] content, List<SourceUri> targets) {
+        String revisionId = revisionId(content);
+        if (targets.isEmpty()) {
+            return new PublishResult(revisionId, List.of());
+        }
+
+        List<CompletableFuture<Void>> writes = targets.stream()
+                .map(target -> CompletableFuture.runAsync(() -> publishWithRetry(target, content), publishExecutor))
+                .toList();
+
+        List<SourceUri> failedTargets = new ArrayList<>();
+        Throwable firstFailure = null;
+        for (int i = 0; i < writes.size(); i++) {
+            try {
+                writes.get(i).join();
+            } catch (CompletionException e) {
+                failedTargets.add(targets.get(i));
+                if (firstFailure == null) {
+                    firstFailure = e.getCause();
+                }
+            }
+        }
+
+        recordMissedTargets(sourceUri, targets, failedTargets);
+        if (!failedTargets.isEmpty()) {
+            throw new SourcePublishException("Revision " + revisionId + " of " + sourceUri.uri()
+                    + " was not published to: " + String.join(", ", failedTargets.stream().map(SourceUri::uri).toList()),
+                    firstFailure);
+        }
+        return new PublishResult(revisionId, targets);
+    }
+
+    private void recordMissedTargets(SourceUri sourceUri, List<SourceUri> targets, List<SourceUri> failedTargets) {
+        missedTargets.compute(sourceUri, (key, missed) -> {
+            Set<SourceUri> stillMissed = missed != null ? new HashSet<>(missed) : new HashSet<>();
+            targets.forEach(stillMissed::remove);
+            stillMissed.addAll(failedTargets);
+            return stillMissed.isEmpty() ? null : Set.copyOf(stillMissed);
+        });
+    }
+
+    private ReentrantLock lockFor(SourceUri sourceUri) {
+        return sourceLocks[Math.floorMod(sourceUri.hashCode(), LOCK_STRIPES)];
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        publishExecutor.close();
+    }
+
+    private byte[] readContent(SourceUri sourceUri) {
+        // Past any read cache, so a refresh racing the last write cannot hand out an older revision
+        return loaderRegistry.resolve(sourceUri).loader().loadVersionedContent(sourceUri).content();
+    }
+
+    private void publishWithRetry(SourceUri target, byte[] content) {
+        SourceContentLoader loader = loaderRegistry.resolve(target).loader();
+
+        for (int attempt = 1; ; attempt++) {
+            long start = System.nanoTime();
+            try {
+                loader.writeContent(target, new ByteArrayInputStream(content));
+                recordAttempt(target, "success", start);
+                return;
+            } catch (RuntimeException e) {
+                recordAttempt(target, "failure", start);
+                if (attempt >= properties.maxAttempts()) {
+                    throw e;
+                }
+                backOff(properties.retryBackoff().multipliedBy(attempt), target);
+            }
+        }
+    }
+
+    private void recordAttempt(SourceUri target, String outcome, long startNanos) {
+        Timer.builder(PUBLISH_TIMER)
+                .description("Time taken to write a revision to one publish target")
+                .tag("scheme", scheme(target))
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(Duration.ofNanos(System.nanoTime() - startNanos));
+    }
+
+    private String scheme(SourceUri target) {
+        int colonIndex = target.uri().indexOf(':');
+        return colonIndex > 0 ? target.uri().substring(0, colonIndex).toLowerCase(Locale.ROOT) : "file";
+    }
+
+    private void backOff(Duration delay, SourceUri target) {
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SourceContentAccessException("Interrupted while retrying publish to: " + target.uri(), e);
+        }
+    }
+
+    private String revisionId(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
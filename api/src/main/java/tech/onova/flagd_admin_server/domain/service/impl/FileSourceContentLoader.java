@@ -3,19 +3,41 @@ package tech.onova.flagd_admin_server.domain.service.impl;
 import org.springframework.stereotype.Component;
 import tech.onova.flagd_admin_server.domain.entity.SourceUri;
 import tech.onova.flagd_admin_server.domain.exception.SourceContentAccessException;
+import tech.onova.flagd_admin_server.domain.exception.SourceContentConflictException;
 import tech.onova.flagd_admin_server.domain.exception.SourceContentNotFoundException;
 import tech.onova.flagd_admin_server.domain.service.SourceContentLoader;
+import tech.onova.flagd_admin_server.domain.service.SourceContentStat;
+import tech.onova.flagd_admin_server.domain.service.VersionedContent;
+import tech.onova.flagd_admin_server.infrastructure.io.ByteBufferInputStream;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 record ValidatedFileUri(String filePath, Path path) {
 }
 
+@FunctionalInterface
+interface TempFileWriter {
+    void write(Path tempFile) throws IOException;
+}
+
 @Component
 public class FileSourceContentLoader implements SourceContentLoader {
+
+    // Below this size a plain read is cheaper than setting up a mapping
+    public static final long MAPPING_THRESHOLD_BYTES = 256 * 1024;
     
     @Override
     public boolean supports(String uriScheme) {
@@ -24,18 +46,53 @@ public class FileSourceContentLoader implements SourceContentLoader {
     
     @Override
     public String loadContent(SourceUri sourceUri) {
-        ValidatedFileUri validated = validateFileUri(sourceUri);
+        ValidatedFileUri validated = validateReadableFile(sourceUri);
         
-        if (!Files.exists(validated.path())) {
-            throw new SourceContentNotFoundException("File not found: " + validated.filePath());
+        try {
+            return Files.readString(validated.path());
+        } catch (IOException e) {
+            throw new SourceContentAccessException("Error reading file: " + validated.filePath(), e);
         }
-        
-        if (!Files.isReadable(validated.path())) {
-            throw new SourceContentAccessException("File not readable: " + validated.filePath());
+    }
+
+    @Override
+    public SourceContentStat stat(SourceUri sourceUri) {
+        ValidatedFileUri validated = validateFileUri(sourceUri);
+
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(validated.path(), BasicFileAttributes.class);
+            long modifiedNanos = attributes.lastModifiedTime().to(TimeUnit.NANOSECONDS);
+            // The file key changes on every atomic replace, which catches rewrites within the same timestamp tick
+            Object fileKey = attributes.fileKey();
+            String versionToken = Long.toHexString(attributes.size()) + "-" + Long.toHexString(modifiedNanos)
+                    + (fileKey != null ? "-" + Integer.toHexString(fileKey.hashCode()) : "");
+
+            return new SourceContentStat(true, attributes.size(), attributes.lastModifiedTime().toInstant(), versionToken);
+        } catch (NoSuchFileException e) {
+            return SourceContentStat.missing();
+        } catch (IOException e) {
+            throw new SourceContentAccessException("Error reading file attributes: " + validated.filePath(), e);
         }
-        
+    }
+
+    @Override
+    public InputStream openContent(SourceUri sourceUri) {
+        ValidatedFileUri validated = validateReadableFile(sourceUri);
+
         try {
-            return Files.readString(validated.path());
+            long size = Files.size(validated.path());
+            if (size < MAPPING_THRESHOLD_BYTES) {
+                return new ByteArrayInputStream(Files.readAllBytes(validated.path()));
+            }
+            if (size > Integer.MAX_VALUE) {
+                return Files.newInputStream(validated.path());
+            }
+
+            // The mapping stays valid after the channel is closed and is released once the buffer is unreachable
+            try (FileChannel channel = FileChannel.open(validated.path(), StandardOpenOption.READ)) {
+                MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                return new ByteBufferInputStream(mapped);
+            }
         } catch (IOException e) {
             throw new SourceContentAccessException("Error reading file: " + validated.filePath(), e);
         }
@@ -43,25 +100,86 @@ public class FileSourceContentLoader implements SourceContentLoader {
     
     @Override
     public void initializeContent(SourceUri sourceUri, String content) {
-        ValidatedFileUri validated = validateFileUri(sourceUri);
+        String fileContent = content != null
+                ? content
+                : "{\"$schema\": \"https://flagd.dev/schema/v0/flags.json\",\"flags\": {}}";
+
+        replaceFile(validateFileUri(sourceUri), tempFile ->
+                Files.writeString(tempFile, fileContent, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE));
+    }
+
+    @Override
+    public void writeContent(SourceUri sourceUri, InputStream content) {
+        replaceFile(validateFileUri(sourceUri), tempFile -> Files.copy(content, tempFile));
+    }
+
+    /**
+     * Versions the content by its {@link #stat} token instead of a digest of the bytes. The token is taken
+     * before reading, so a replace racing the read makes the following write conflict rather than go through.
+     */
+    @Override
+    public VersionedContent loadVersionedContent(SourceUri sourceUri) {
+        String versionToken = stat(sourceUri).versionToken();
+        try (InputStream in = openContent(sourceUri)) {
+            return new VersionedContent(in.readAllBytes(), versionToken);
+        } catch (IOException e) {
+            throw new SourceContentAccessException("Error reading file: " + sourceUri.uri(), e);
+        }
+    }
+
+    /**
+     * Compares the {@link #stat} token right before the new revision is moved into place, so the check reads
+     * file metadata only. Writers in this process are serialized by their callers.
+     */
+    @Override
+    public void writeContent(SourceUri sourceUri, InputStream content, String expectedVersion) {
+        if (expectedVersion == null) {
+            writeContent(sourceUri, content);
+            return;
+        }
+        replaceFile(validateFileUri(sourceUri), tempFile -> {
+            Files.copy(content, tempFile);
+            if (!expectedVersion.equals(stat(sourceUri).versionToken())) {
+                throw new SourceContentConflictException("Content was modified concurrently: " + sourceUri.uri());
+            }
+        });
+    }
+
+    private void replaceFile(ValidatedFileUri validated, TempFileWriter tempFileWriter) {
+        Path tempFile = null;
         
         try {
             // Create parent directories if they don't exist
-            Path parentDir = validated.path().getParent();
+            Path parentDir = validated.path().toAbsolutePath().getParent();
             if (parentDir != null && !Files.exists(parentDir)) {
                 Files.createDirectories(parentDir);
             }
-
-            if (content == null) {
-                content = "{\"$schema\": \"https://flagd.dev/schema/v0/flags.json\",\"flags\": {}}";
-            }
             
-            // Write the content to the file
-            Files.writeString(validated.path(), content);
+            // Write to a sibling file and swap it in, so readers still mapping the previous revision keep a valid file
+            tempFile = validated.path().resolveSibling("." + validated.path().getFileName() + "." + UUID.randomUUID() + ".tmp");
+            tempFileWriter.write(tempFile);
+            Files.move(tempFile, validated.path(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            tempFile = null;
         } catch (IOException e) {
             throw new SourceContentAccessException("Error writing to file: " + validated.filePath(), e);
+        } finally {
+            deleteQuietly(tempFile);
         }
     }
+
+    private ValidatedFileUri validateReadableFile(SourceUri sourceUri) {
+        ValidatedFileUri validated = validateFileUri(sourceUri);
+
+        if (!Files.exists(validated.path())) {
+            throw new SourceContentNotFoundException("File not found: " + validated.filePath());
+        }
+
+        if (!Files.isReadable(validated.path())) {
+            throw new SourceContentAccessException("File not readable: " + validated.filePath());
+        }
+
+        return validated;
+    }
     
     private ValidatedFileUri validateFileUri(SourceUri sourceUri) {
         String uri = sourceUri.uri();
@@ -74,4 +192,13 @@ public class FileSourceContentLoader implements SourceContentLoader {
         
         return new ValidatedFileUri(filePath, path);
     }
-}
\ No newline at end of file
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) { }
+    }
+}
@@ -0,0 +1,104 @@
+package tech.onova.flagd_admin_server.domain.service.impl;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * In-memory image of one row-per-flag source. Every flag is kept as its rendered document entry, so a change
+ * re-renders a single entry and producing the flagd document is a concatenation. The document is only handed
+ * out for publishing after something changed. Not thread-safe; callers synchronize on the instance.
+ */
+final class FlagDocumentMaterializer {
+
+    private static final byte[] HEADER =
+            "{\"$schema\": \"https://flagd.dev/schema/v0/flags.json\", \"flags\": {".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SEPARATOR = ", ".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] FOOTER = "}}".getBytes(StandardCharsets.UTF_8);
+
+    private final SortedMap<String, String> definitions = new TreeMap<>();
+    private final Map<String, byte[]> entries = new HashMap<>();
+    private boolean loaded;
+    private boolean dirty;
+
+    boolean isLoaded() {
+        return loaded;
+    }
+
+    boolean isDirty() {
+        return dirty;
+    }
+
+    void load(Map<String, String> flags) {
+        definitions.clear();
+        entries.clear();
+        flags.forEach(this::putEntry);
+        loaded = true;
+        dirty = false;
+    }
+
+    void put(String flagKey, String definition) {
+        if (!definition.equals(definitions.get(flagKey))) {
+            putEntry(flagKey, definition);
+            dirty = true;
+        }
+    }
+
+    void remove(String flagKey) {
+        if (definitions.remove(flagKey) != null) {
+            entries.remove(flagKey);
+            dirty = true;
+        }
+    }
+
+    void markDirty() {
+        dirty = true;
+    }
+
+    SortedMap<String, String> flags() {
+        return Collections.unmodifiableSortedMap(new TreeMap<>(definitions));
+    }
+
+    Optional<String> flag(String flagKey) {
+        return Optional.ofNullable(definitions.get(flagKey));
+    }
+
+    byte[] render() {
+        ByteArrayOutputStream document = new ByteArrayOutputStream();
+        document.writeBytes(HEADER);
+        boolean first = true;
+        for (String flagKey : definitions.keySet()) {
+            if (!first) {
+                document.writeBytes(SEPARATOR);
+            }
+            document.writeBytes(entries.get(flagKey));
+            first = false;
+        }
+        document.writeBytes(FOOTER);
+        return document.toByteArray();
+    }
+
+    /**
+     * Returns the document if it changed since it was last taken, clearing the dirty mark.
+     */
+    Optional<byte[]> takeChangedDocument() {
+        if (!dirty) {
+            return Optional.empty();
+        }
+        dirty = false;
+        return Optional.of(render());
+    }
+
+    private void putEntry(String flagKey, String definition) {
+        definitions.put(flagKey, definition);
+        String entry = "\"" + new String(JsonStringEncoder.getInstance().quoteAsString(flagKey)) + "\": " + definition;
+        entries.put(flagKey, entry.getBytes(StandardCharsets.UTF_8));
+    }
+}
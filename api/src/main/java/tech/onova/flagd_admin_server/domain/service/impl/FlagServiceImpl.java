@@ -3,6 +3,9 @@ package tech.onova.flagd_admin_server.domain.service.impl;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import tech.onova.flagd_admin_server.controller.dto.request.FlagConfigRequestDTO;
@@ -14,104 +17,172 @@ import tech.onova.flagd_admin_server.domain.exception.SourceContentNotFoundExcep
 import tech.onova.flagd_admin_server.domain.repository.SourceRepository;
 import tech.onova.flagd_admin_server.domain.service.FlagService;
 import tech.onova.flagd_admin_server.domain.service.SourceContentService;
+import tech.onova.flagd_admin_server.domain.service.SourcePublisher;
+import tech.onova.flagd_admin_server.domain.service.VersionedContent;
 import tech.onova.flagd_admin_server.infrastructure.annotation.Log;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.IntStream;
 
 @Service
 public class FlagServiceImpl implements FlagService {
     
+    private static final Logger logger = LoggerFactory.getLogger(FlagServiceImpl.class);
+    private static final int LOCK_STRIPES = 64;
+    
     private final SourceRepository sourceRepository;
     private final SourceContentService sourceContentService;
+    private final SourcePublisher sourcePublisher;
+    private final Executor ioExecutor;
     private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ReentrantLock[] sourceLocks = IntStream.range(0, LOCK_STRIPES)
+            .mapToObj(i -> new ReentrantLock())
+            .toArray(ReentrantLock[]::new);
     
     @Autowired
-    public FlagServiceImpl(SourceRepository sourceRepository, SourceContentService sourceContentService) {
+    public FlagServiceImpl(SourceRepository sourceRepository, SourceContentService sourceContentService,
+                           SourcePublisher sourcePublisher) {
+        // Edits block on the source lock and on loader I/O; virtual threads park cheaply on both
+        this(sourceRepository, sourceContentService, sourcePublisher, Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("flag-io-", 0).factory()));
+    }
+    
+    FlagServiceImpl(SourceRepository sourceRepository, SourceContentService sourceContentService,
+                    SourcePublisher sourcePublisher, Executor ioExecutor) {
         this.sourceRepository = sourceRepository;
         this.sourceContentService = sourceContentService;
+        this.sourcePublisher = sourcePublisher;
+        this.ioExecutor = ioExecutor;
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        if (ioExecutor instanceof ExecutorService executorService) {
+            executorService.close();
+        }
+    }
+    
+    @Override
+    @Log
+    public CompletableFuture<List<FlagDTO>> getFlags(SourceId sourceId) {
+        return CompletableFuture.supplyAsync(() -> listFlags(sourceId), ioExecutor);
+    }
+    
+    @Override
+    @Log
+    public CompletableFuture<FlagDTO> getFlag(SourceId sourceId, String flagId) {
+        return CompletableFuture.supplyAsync(() -> findFlag(sourceId, flagId), ioExecutor);
+    }
+    
+    @Override
+    @Log
+    public CompletableFuture<Void> addOrUpdateFlag(SourceId sourceId, String flagId, FlagConfigRequestDTO request) {
+        return CompletableFuture.runAsync(() -> saveFlag(sourceId, flagId, request), ioExecutor);
     }
     
     @Override
     @Log
-    public List<FlagDTO> getFlags(SourceId sourceId) {
+    public CompletableFuture<Void> deleteFlag(SourceId sourceId, String flagId) {
+        return CompletableFuture.runAsync(() -> dropFlag(sourceId, flagId), ioExecutor);
+    }
+    
+    private List<FlagDTO> listFlags(SourceId sourceId) {
         Optional<Source> sourceOpt = sourceRepository.findById(sourceId);
         if (sourceOpt.isEmpty()) {
             throw new SourceContentNotFoundException("Source not found");
         }
         
         Source source = sourceOpt.get();
-        String content = sourceContentService.loadContent(source.getUri());
         
-        try {
-            JsonNode rootNode = objectMapper.readTree(content);
-            List<FlagDTO> flags = new ArrayList<>();
-            
-            JsonNode flagsNode = rootNode.get("flags");
-            if (flagsNode != null && flagsNode.isObject()) {
-                Iterator<Map.Entry<String, JsonNode>> fields = flagsNode.fields();
-                while (fields.hasNext()) {
-                    JsonNode flagNode = fields.next().getValue();
-                    FlagDTO flag = parseFlagNode(flagNode);
-                    if (flag != null) {
-                        flags.add(flag);
-                    }
+        // Sharded sources are listed as one merged view. A flag stored in a shard that does not own its key is
+        // still served by flagd, so it is listed after the owned flags unless its owning shard defines it too
+        Map<String, FlagDTO> owned = new LinkedHashMap<>();
+        Map<String, FlagDTO> misplaced = new LinkedHashMap<>();
+        for (SourceUri contentUri : source.getContentUris()) {
+            readFlags(contentUri).forEach((key, flag) -> {
+                if (contentUri.equals(source.contentUriFor(key))) {
+                    owned.put(key, flag);
+                } else {
+                    logger.warn("Flag {} is stored in {} but belongs to {}", key, contentUri.uri(), source.contentUriFor(key).uri());
+                    misplaced.putIfAbsent(key, flag);
                 }
-            }
-            
-            return flags;
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to parse flag configuration", e);
+            });
         }
+        misplaced.forEach(owned::putIfAbsent);
+        return new ArrayList<>(owned.values());
     }
     
-    @Override
-    @Log
-    public FlagDTO getFlag(SourceId sourceId, String flagId) {
+    private FlagDTO findFlag(SourceId sourceId, String flagId) {
         Optional<Source> sourceOpt = sourceRepository.findById(sourceId);
         if (sourceOpt.isEmpty()) {
             throw new SourceContentNotFoundException("Source not found");
         }
         
         Source source = sourceOpt.get();
-        String content = sourceContentService.loadContent(source.getUri());
+        SourceUri owner = source.contentUriFor(flagId);
+        FlagDTO flag = readFlag(owner, flagId);
         
-        try {
-            JsonNode rootNode = objectMapper.readTree(content);
-            JsonNode flagsNode = rootNode.get("flags");
-            
-            if (flagsNode != null && flagsNode.isObject() && flagsNode.has(flagId)) {
-                JsonNode flagNode = flagsNode.get(flagId);
-                return parseFlagNode(flagNode);
+        // Fall back to a misplaced copy in another shard, the same one the merged listing shows
+        Iterator<SourceUri> contentUris = source.getContentUris().iterator();
+        while (flag == null && contentUris.hasNext()) {
+            SourceUri contentUri = contentUris.next();
+            if (!contentUri.equals(owner)) {
+                flag = readFlag(contentUri, flagId);
             }
-            
-            return null;
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to parse flag configuration", e);
         }
+        return flag;
     }
     
-    @Override
-    @Log
-    public void addOrUpdateFlag(SourceId sourceId, String flagId, FlagConfigRequestDTO request) {
+    private void saveFlag(SourceId sourceId, String flagId, FlagConfigRequestDTO request) {
+        Optional<Source> sourceOpt = sourceRepository.findById(sourceId);
+        if (sourceOpt.isEmpty()) {
+            throw new SourceContentNotFoundException("Source not found");
+        }
+        
+        Source source = sourceOpt.get();
+        withSourceLock(sourceId, () -> putFlag(source, flagId, request));
+    }
+    
+    private void dropFlag(SourceId sourceId, String flagId) {
         Optional<Source> sourceOpt = sourceRepository.findById(sourceId);
         if (sourceOpt.isEmpty()) {
             throw new SourceContentNotFoundException("Source not found");
         }
         
         Source source = sourceOpt.get();
-        String content = sourceContentService.loadContent(source.getUri());
+        // Misplaced copies in other shards are removed too, otherwise the listing would keep showing the flag
+        withSourceLock(sourceId, () -> source.getContentUris().forEach(contentUri -> removeFlag(source, contentUri, flagId)));
+    }
+    
+    private void putFlag(Source source, String flagId, FlagConfigRequestDTO request) {
+        SourceUri contentUri = source.contentUriFor(flagId);
+        
+        if (sourceContentService.supportsFlagLevelAccess(contentUri)) {
+            sourceContentService.writeFlag(contentUri, flagId, buildFlagNode(flagId, request).toString());
+            publish(source);
+            return;
+        }
         
+        // Read past any cache and write conditionally, so a concurrent edit is rejected instead of overwritten
+        VersionedContent current = sourceContentService.loadVersionedContent(contentUri);
         try {
-            JsonNode rootNode = objectMapper.readTree(content);
+            JsonNode rootNode = objectMapper.readTree(current.content());
             ObjectNode flagsNode;
             JsonNode existingFlagsNode = rootNode.get("flags");
             
@@ -124,55 +195,32 @@ public class FlagServiceImpl implements FlagService {
                 flagsNode = (ObjectNode) existingFlagsNode;
             }
             
-            ObjectNode flagNode = objectMapper.createObjectNode();
-            flagNode.put("key", flagId);
-            flagNode.put("state", request.state());
-            if (request.name() != null && !request.name().isBlank()) {
-                flagNode.put("name", request.name());
-            }
-            if (request.description() != null && !request.description().isBlank()) {
-                flagNode.put("description", request.description());
-            }
-            if (request.defaultVariant() != null && !request.defaultVariant().isBlank()) {
-                flagNode.put("defaultVariant", request.defaultVariant());
-            }
-            if (request.variants() != null && !request.variants().isEmpty()) {
-                flagNode.putPOJO("variants", request.variants());
-            }
-            if (request.targeting() != null) {
-                flagNode.putPOJO("targeting", request.targeting());
-            }
-            
-            flagsNode.set(flagId, flagNode);
+            flagsNode.set(flagId, buildFlagNode(flagId, request));
             
-            String updatedContent = objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(rootNode);
-            sourceContentService.initializeContent(source.getUri(), updatedContent);
+            writeAndPublish(source, contentUri, rootNode, current.versionToken());
             
         } catch (IOException e) {
             throw new RuntimeException("Failed to update flag configuration", e);
         }
     }
     
-    @Override
-    @Log
-    public void deleteFlag(SourceId sourceId, String flagId) {
-        Optional<Source> sourceOpt = sourceRepository.findById(sourceId);
-        if (sourceOpt.isEmpty()) {
-            throw new SourceContentNotFoundException("Source not found");
+    private void removeFlag(Source source, SourceUri contentUri, String flagId) {
+        if (sourceContentService.supportsFlagLevelAccess(contentUri)) {
+            if (sourceContentService.deleteFlag(contentUri, flagId)) {
+                publish(source);
+            }
+            return;
         }
         
-        Source source = sourceOpt.get();
-        String content = sourceContentService.loadContent(source.getUri());
-        
+        VersionedContent current = sourceContentService.loadVersionedContent(contentUri);
         try {
-            JsonNode rootNode = objectMapper.readTree(content);
+            JsonNode rootNode = objectMapper.readTree(current.content());
             JsonNode flagsNode = rootNode.get("flags");
             
             if (flagsNode != null && flagsNode.isObject() && flagsNode.has(flagId)) {
                 ((ObjectNode) flagsNode).remove(flagId);
                 
-                String updatedContent = objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(rootNode);
-                sourceContentService.initializeContent(source.getUri(), updatedContent);
+                writeAndPublish(source, contentUri, rootNode, current.versionToken());
             }
             
         } catch (IOException e) {
@@ -180,6 +228,127 @@ public class FlagServiceImpl implements FlagService {
         }
     }
     
+    /**
+     * The flags stored at one uri, keyed by their key in the document.
+     */
+    private Map<String, FlagDTO> readFlags(SourceUri contentUri) {
+        Map<String, FlagDTO> flags = new LinkedHashMap<>();
+        if (sourceContentService.supportsFlagLevelAccess(contentUri)) {
+            for (Map.Entry<String, String> entry : sourceContentService.loadFlags(contentUri).entrySet()) {
+                FlagDTO flag = parseFlagNode(readFlagDefinition(entry.getValue()));
+                if (flag != null) {
+                    flags.put(entry.getKey(), flag);
+                }
+            }
+            return flags;
+        }
+        
+        try (InputStream content = sourceContentService.openContent(contentUri)) {
+            JsonNode rootNode = objectMapper.readTree(content);
+            
+            JsonNode flagsNode = rootNode.get("flags");
+            if (flagsNode != null && flagsNode.isObject()) {
+                Iterator<Map.Entry<String, JsonNode>> fields = flagsNode.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> field = fields.next();
+                    FlagDTO flag = parseFlagNode(field.getValue());
+                    if (flag != null) {
+                        flags.put(field.getKey(), flag);
+                    }
+                }
+            }
+            return flags;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to parse flag configuration", e);
+        }
+    }
+    
+    private FlagDTO readFlag(SourceUri contentUri, String flagId) {
+        if (sourceContentService.supportsFlagLevelAccess(contentUri)) {
+            return sourceContentService.loadFlag(contentUri, flagId)
+                    .map(definition -> parseFlagNode(readFlagDefinition(definition)))
+                    .orElse(null);
+        }
+        
+        try (InputStream content = sourceContentService.openContent(contentUri)) {
+            JsonNode rootNode = objectMapper.readTree(content);
+            JsonNode flagsNode = rootNode.get("flags");
+            
+            if (flagsNode != null && flagsNode.isObject() && flagsNode.has(flagId)) {
+                JsonNode flagNode = flagsNode.get(flagId);
+                return parseFlagNode(flagNode);
+            }
+            
+            return null;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to parse flag configuration", e);
+        }
+    }
+    
+    private ObjectNode buildFlagNode(String flagId, FlagConfigRequestDTO request) {
+        ObjectNode flagNode = objectMapper.createObjectNode();
+        flagNode.put("key", flagId);
+        flagNode.put("state", request.state());
+        if (request.name() != null && !request.name().isBlank()) {
+            flagNode.put("name", request.name());
+        }
+        if (request.description() != null && !request.description().isBlank()) {
+            flagNode.put("description", request.description());
+        }
+        if (request.defaultVariant() != null && !request.defaultVariant().isBlank()) {
+            flagNode.put("defaultVariant", request.defaultVariant());
+        }
+        if (request.variants() != null && !request.variants().isEmpty()) {
+            flagNode.putPOJO("variants", request.variants());
+        }
+        if (request.targeting() != null) {
+            flagNode.putPOJO("targeting", request.targeting());
+        }
+        return flagNode;
+    }
+    
+    private JsonNode readFlagDefinition(String definition) {
+        try {
+            return objectMapper.readTree(definition);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to parse flag configuration", e);
+        }
+    }
+    
+    /**
+     * Edits of one source run one at a time, so every write is published before the next edit reads the source
+     * and targets receive revisions in the order they were written. Striped to keep the lock count bounded.
+     */
+    private void withSourceLock(SourceId sourceId, Runnable edit) {
+        ReentrantLock lock = sourceLocks[Math.floorMod(sourceId.hashCode(), LOCK_STRIPES)];
+        lock.lock();
+        try {
+            edit.run();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private void publish(Source source) {
+        // Publish targets are only allowed on unsharded sources, so the source uri holds the whole document
+        if (source.hasPublishTargets()) {
+            sourcePublisher.publish(source.getUri(), source.getPublishTargets());
+        }
+    }
+    
+    private void writeAndPublish(Source source, SourceUri contentUri, JsonNode rootNode, String expectedVersion) throws IOException {
+        if (!source.hasPublishTargets()) {
+            sourceContentService.writeContent(contentUri,
+                    out -> objectMapper.writerWithDefaultPrettyPrinter().writeValue(out, rootNode), expectedVersion);
+            return;
+        }
+        
+        // The targets get exactly the bytes written here, without reading the source back
+        byte[] document = objectMapper.writerWithDefaultPrettyPrinter().writeValueAsBytes(rootNode);
+        sourceContentService.writeContent(contentUri, out -> out.write(document), expectedVersion);
+        sourcePublisher.publish(source.getUri(), document, source.getPublishTargets());
+    }
+    
     private FlagDTO parseFlagNode(JsonNode flagNode) {
         try {
             String key = flagNode.has("key") ? flagNode.get("key").asText() : null;
@@ -24,12 +24,30 @@ public class FlagdContentValidator implements ContentValidator {
             // Create temporary file
             tempFile = Files.createTempFile("flagd-validation-", ".json");
             Files.writeString(tempFile, content);
-            
-            // Initialize FlagdProvider with temp file path
+        } catch (IOException e) {
+            deleteTempFile(tempFile);
+            throw new ContentValidationException("Failed to create temporary file for validation", e);
+        } catch (RuntimeException e) {
+            deleteTempFile(tempFile);
+            throw new ContentValidationException("Content validation failed: " + e.getMessage(), e);
+        }
+
+        try {
+            validateContentFile(tempFile);
+        } finally {
+            // Always clean up temp file
+            deleteTempFile(tempFile);
+        }
+    }
+
+    @Override
+    public void validateContentFile(Path contentFile) throws ContentValidationException {
+        try {
+            // Initialize FlagdProvider with the file path
             FlagdProvider flagdProvider = new FlagdProvider(
                 FlagdOptions.builder()
                     .resolverType(Config.Resolver.FILE)
-                    .offlineFlagSourcePath(tempFile.toString())
+                    .offlineFlagSourcePath(contentFile.toString())
                     .build()
             );
             
@@ -37,20 +55,19 @@ public class FlagdContentValidator implements ContentValidator {
             EvaluationContext context = new ImmutableContext();
             flagdProvider.initialize(context);
             
-        } catch (IOException e) {
-            throw new ContentValidationException("Failed to create temporary file for validation", e);
         } catch (Exception | Error e) {
             throw new ContentValidationException("Content validation failed: " + e.getMessage(), e);
-        } finally {
-            // Always clean up temp file
-            if (tempFile != null) {
-                try {
-                    Files.deleteIfExists(tempFile);
-                } catch (IOException e) {
-                    // Log cleanup failure but don't throw
-                    System.err.println("Failed to delete temporary file: " + e.getMessage());
-                }
+        }
+    }
+
+    private void deleteTempFile(Path tempFile) {
+        if (tempFile != null) {
+            try {
+                Files.deleteIfExists(tempFile);
+            } catch (IOException e) {
+                // Log cleanup failure but don't throw
+                System.err.println("Failed to delete temporary file: " + e.getMessage());
             }
         }
     }
-}
\ No newline at end of file
+}
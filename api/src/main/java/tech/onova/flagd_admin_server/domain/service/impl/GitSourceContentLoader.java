@@ -0,0 +1,378 @@
+package tech.onova.flagd_admin_server.domain.service.impl;
+
+import jakarta.annotation.PreDestroy;
+import org.eclipse.jgit.diff.DiffFormatter;
+import org.eclipse.jgit.dircache.DirCache;
+import org.eclipse.jgit.dircache.DirCacheBuilder;
+import org.eclipse.jgit.dircache.DirCacheEditor;
+import org.eclipse.jgit.dircache.DirCacheEntry;
+import org.eclipse.jgit.lib.CommitBuilder;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.FileMode;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectInserter;
+import org.eclipse.jgit.lib.ObjectReader;
+import org.eclipse.jgit.lib.PersonIdent;
+import org.eclipse.jgit.lib.RefUpdate;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.storage.file.FileRepositoryBuilder;
+import org.eclipse.jgit.treewalk.TreeWalk;
+import org.eclipse.jgit.treewalk.filter.AndTreeFilter;
+import org.eclipse.jgit.treewalk.filter.PathFilter;
+import org.eclipse.jgit.treewalk.filter.TreeFilter;
+import org.springframework.stereotype.Component;
+import tech.onova.flagd_admin_server.domain.entity.SourceUri;
+import tech.onova.flagd_admin_server.domain.exception.SourceContentAccessException;
+import tech.onova.flagd_admin_server.domain.exception.SourceContentConflictException;
+import tech.onova.flagd_admin_server.domain.exception.SourceContentNotFoundException;
+import tech.onova.flagd_admin_server.domain.service.SourceContentStat;
+import tech.onova.flagd_admin_server.domain.service.SourceRevision;
+import tech.onova.flagd_admin_server.domain.service.VersionedSourceContentLoader;
+import tech.onova.flagd_admin_server.infrastructure.config.GitSourceProperties;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Loader for files kept in a local git repository, addressed as {@code git:///path/to/repo!/path/in/repo.json}.
+ * The repository is never checked out: every write becomes a commit built in memory on top of HEAD, and reads
+ * are served from a per-file cache of HEAD's blob that is only refreshed when HEAD moves. History and diffs are
+ * read straight from the object store.
+ *
+ * <p>Writes to the same repository are group-committed: whoever holds the commit lock drains every pending
+ * write into a single commit, so concurrent editors wait for one commit rather than one each.
+ */
+@Component
+public class GitSourceContentLoader implements VersionedSourceContentLoader {
+
+    private static final String SCHEME_PREFIX = "git://";
+    private static final String PATH_SEPARATOR = "!/";
+    private static final String DEFAULT_CONTENT = "{\"$schema\": \"https://flagd.dev/schema/v0/flags.json\",\"flags\": {}}";
+
+    record GitLocation(Path repositoryDir, String path) { }
+
+    record CachedBlob(ObjectId commitId, ObjectId blobId, byte[] body, Instant committedAt) { }
+
+    record PendingWrite(String path, byte[] content, CompletableFuture<Void> done) { }
+
+    record RepositoryHandle(Repository repository, Queue<PendingWrite> pending, ReentrantLock commitLock) { }
+
+    private final GitSourceProperties properties;
+    private final Map<Path, RepositoryHandle> repositories = new ConcurrentHashMap<>();
+    private final Map<GitLocation, CachedBlob> headBlobs = new ConcurrentHashMap<>();
+
+    public GitSourceContentLoader(GitSourceProperties properties) {
+        this.properties = properties;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        repositories.values().forEach(handle -> handle.repository().close());
+        repositories.clear();
+    }
+
+    @Override
+    public boolean supports(String uriScheme) {
+        return "git".equalsIgnoreCase(uriScheme);
+    }
+
+    @Override
+    public String loadContent(SourceUri sourceUri) {
+        return new String(headBlob(parseLocation(sourceUri)).body(), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public InputStream openContent(SourceUri sourceUri) {
+        return new ByteArrayInputStream(headBlob(parseLocation(sourceUri)).body());
+    }
+
+    @Override
+    public SourceContentStat stat(SourceUri sourceUri) {
+        CachedBlob blob;
+        try {
+            blob = headBlob(parseLocation(sourceUri));
+        } catch (SourceContentNotFoundException e) {
+            return SourceContentStat.missing();
+        }
+        return new SourceContentStat(true, blob.body().length, blob.committedAt(), blob.blobId().name());
+    }
+
+    @Override
+    public void initializeContent(SourceUri sourceUri, String content) {
+        commit(parseLocation(sourceUri), (content != null ? content : DEFAULT_CONTENT).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void writeContent(SourceUri sourceUri, InputStream content) {
+        try {
+            commit(parseLocation(sourceUri), content.readAllBytes());
+        } catch (IOException e) {
+            throw new SourceContentAccessException("Error reading content for: " + sourceUri.uri(), e);
+        }
+    }
+
+    @Override
+    public List<SourceRevision> listRevisions(SourceUri sourceUri, int limit) {
+        GitLocation location = parseLocation(sourceUri);
+        Repository repository = repository(location.repositoryDir(), false).repository();
+
+        try (RevWalk walk = new RevWalk(repository)) {
+            ObjectId head = repository.resolve(Constants.HEAD);
+            if (head == null) {
+                return List.of();
+            }
+            walk.markStart(walk.parseCommit(head));
+            walk.setTreeFilter(AndTreeFilter.create(PathFilter.create(location.path()), TreeFilter.ANY_DIFF));
+
+            List<SourceRevision> revisions = new ArrayList<>();
+            for (RevCommit commit : walk) {
+                if (revisions.size() >= limit) {
+                    break;
+                }
+                revisions.add(new SourceRevision(
+                        commit.getName(),
+                        Instant.ofEpochSecond(commit.getCommitTime()),
+                        commit.getAuthorIdent().getName(),
+                        commit.getShortMessage()));
+            }
+            return revisions;
+        } catch (IOException e) {
+            throw new SourceContentAccessException("Error reading history of: " + sourceUri.uri(), e);
+        }
+    }
+
+    @Override
+    public String loadContent(SourceUri sourceUri, String revision) {
+        GitLocation location = parseLocation(sourceUri);
+        Repository repository = repository(location.repositoryDir(), false).repository();
+
+        try (RevWalk walk = new RevWalk(repository)) {
+            RevCommit commit = walk.parseCommit(resolveRevision(repository, revision));
+            ObjectId blobId = findBlob(walk.getObjectReader(), location, commit);
+            return new String(walk.getObjectReader().open(blobId, Constants.OBJ_BLOB).getBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new SourceContentAccessException("Error reading " + sourceUri.uri() + " at " + revision, e);
+        }
+    }
+
+    @Override
+    public String diff(SourceUri sourceUri, String fromRevision, String toRevision) {
+        GitLocation location = parseLocation(sourceUri);
+        Repository repository = repository(location.repositoryDir(), false).repository();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (RevWalk walk = new RevWalk(repository); DiffFormatter formatter = new DiffFormatter(out)) {
+            RevCommit from = walk.parseCommit(resolveRevision(repository, fromRevision));
+            RevCommit to = walk.parseCommit(resolveRevision(repository, toRevision));
+            formatter.setRepository(repository);
+            formatter.setPathFilter(PathFilter.create(location.path()));
+            formatter.format(from.getTree(), to.getTree());
+            formatter.flush();
+            return out.toString(StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new SourceContentAccessException("Error diffing " + sourceUri.uri(), e);
+        }
+    }
+
+    private CachedBlob headBlob(GitLocation location) {
+        Repository repository = repository(location.repositoryDir(), false).repository();
+
+        try (RevWalk walk = new RevWalk(repository)) {
+            ObjectId head = repository.resolve(Constants.HEAD);
+            if (head == null) {
+                throw new SourceContentNotFoundException("Nothing committed yet in: " + location.repositoryDir());
+            }
+
+            CachedBlob cached = headBlobs.get(location);
+            if (cached != null && cached.commitId().equals(head)) {
+                return cached;
+            }
+
+            RevCommit commit = walk.parseCommit(head);
+            ObjectId blobId = findBlob(walk.getObjectReader(), location, commit);
+            byte[] body = cached != null && cached.blobId().equals(blobId)
+                    ? cached.body()
+                    : walk.getObjectReader().open(blobId, Constants.OBJ_BLOB).getBytes();
+            CachedBlob loaded = new CachedBlob(head.copy(), blobId, body, Instant.ofEpochSecond(commit.getCommitTime()));
+            headBlobs.put(location, loaded);
+            return loaded;
+        } catch (IOException e) {
+            throw new SourceContentAccessException("Error reading: " + location.path(), e);
+        }
+    }
+
+    private ObjectId findBlob(ObjectReader reader, GitLocation location, RevCommit commit) throws IOException {
+        try (TreeWalk treeWalk = TreeWalk.forPath(reader, location.path(), commit.getTree())) {
+            if (treeWalk == null || treeWalk.getFileMode(0).getObjectType() != Constants.OBJ_BLOB) {
+                throw new SourceContentNotFoundException("File not found: " + location.path() + " at " + commit.getName());
+            }
+            return treeWalk.getObjectId(0);
+        }
+    }
+
+    private ObjectId resolveRevision(Repository repository, String revision) throws IOException {
+        ObjectId commitId = repository.resolve(revision + "^{commit}");
+        if (commitId == null) {
+            throw new SourceContentNotFoundException("Revision not found: " + revision);
+        }
+        return commitId;
+    }
+
+    private void commit(GitLocation location, byte[] content) {
+        RepositoryHandle handle = repository(location.repositoryDir(), true);
+        PendingWrite write = new PendingWrite(location.path(), content, new CompletableFuture<>());
+        handle.pending().add(write);
+
+        handle.commitLock().lock();
+        try {
+            while (!write.done().isDone()) {
+                List<PendingWrite> batch = new ArrayList<>();
+                PendingWrite next;
+                while (batch.size() < properties.maxBatchSize() && (next = handle.pending().poll()) != null) {
+                    batch.add(next);
+                }
+                commitBatch(location.repositoryDir(), handle.repository(), batch);
+            }
+        } finally {
+            handle.commitLock().unlock();
+        }
+
+        try {
+            write.done().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new SourceContentAccessException("Error committing: " + location.path(), e.getCause());
+        }
+    }
+
+    private void commitBatch(Path repositoryDir, Repository repository, List<PendingWrite> batch) {
+        // Later writes to the same path within a batch win
+        Map<String, byte[]> changes = new LinkedHashMap<>();
+        batch.forEach(write -> changes.put(write.path(), write.content()));
+
+        try (ObjectInserter inserter = repository.newObjectInserter();
+             ObjectReader reader = repository.newObjectReader();
+             RevWalk walk = new RevWalk(reader)) {
+            ObjectId head = repository.resolve(Constants.HEAD);
+
+            DirCache index = DirCache.newInCore();
+            if (head != null) {
+                DirCacheBuilder builder = index.builder();
+                builder.addTree(new byte[0], DirCacheEntry.STAGE_0, reader, walk.parseCommit(head).getTree());
+                builder.finish();
+            }
+
+            Map<String, ObjectId> blobIds = new LinkedHashMap<>();
+            DirCacheEditor editor = index.editor();
+            for (Map.Entry<String, byte[]> change : changes.entrySet()) {
+                ObjectId blobId = inserter.insert(Constants.OBJ_BLOB, change.getValue());
+                blobIds.put(change.getKey(), blobId);
+                editor.add(new DirCacheEditor.PathEdit(change.getKey()) {
+                    @Override
+                    public void apply(DirCacheEntry entry) {
+                        entry.setFileMode(FileMode.REGULAR_FILE);
+                        entry.setObjectId(blobId);
+                    }
+                });
+            }
+            editor.finish();
+
+            PersonIdent ident = new PersonIdent(properties.authorName(), properties.authorEmail());
+            CommitBuilder commit = new CommitBuilder();
+            commit.setTreeId(index.writeTree(inserter));
+            if (head != null) {
+                commit.setParentId(head);
+            }
+            commit.setAuthor(ident);
+            commit.setCommitter(ident);
+            commit.setMessage(commitMessage(changes.keySet()));
+            ObjectId commitId = inserter.insert(commit);
+            inserter.flush();
+
+            RefUpdate update = repository.updateRef(Constants.HEAD);
+            update.setNewObjectId(commitId);
+            update.setExpectedOldObjectId(head != null ? head : ObjectId.zeroId());
+            update.setRefLogMessage("commit: " + commitMessage(changes.keySet()), false);
+            RefUpdate.Result result = update.update(walk);
+            if (result != RefUpdate.Result.NEW && result != RefUpdate.Result.FAST_FORWARD) {
+                throw new SourceContentConflictException("HEAD moved while committing to: " + repositoryDir + " (" + result + ")");
+            }
+
+            Instant committedAt = ident.getWhenAsInstant();
+            blobIds.forEach((path, blobId) -> headBlobs.put(
+                    new GitLocation(repositoryDir, path),
+                    new CachedBlob(commitId, blobId, changes.get(path), committedAt)));
+            batch.forEach(write -> write.done().complete(null));
+        } catch (IOException e) {
+            SourceContentAccessException failure = new SourceContentAccessException("Error committing to: " + repositoryDir, e);
+            batch.forEach(write -> write.done().completeExceptionally(failure));
+        } catch (RuntimeException e) {
+            batch.forEach(write -> write.done().completeExceptionally(e));
+        }
+    }
+
+    private String commitMessage(Iterable<String> paths) {
+        return "Update " + String.join(", ", paths);
+    }
+
+    private RepositoryHandle repository(Path repositoryDir, boolean create) {
+        RepositoryHandle handle = repositories.get(repositoryDir);
+        if (handle != null) {
+            return handle;
+        }
+        if (!create && !Files.isDirectory(repositoryDir)) {
+            throw new SourceContentNotFoundException("Repository not found: " + repositoryDir);
+        }
+        return repositories.computeIfAbsent(repositoryDir, dir -> openRepository(dir, create));
+    }
+
+    private RepositoryHandle openRepository(Path repositoryDir, boolean create) {
+        Path gitDir = Files.isDirectory(repositoryDir.resolve(Constants.DOT_GIT))
+                ? repositoryDir.resolve(Constants.DOT_GIT)
+                : repositoryDir;
+        try {
+            Repository repository = new FileRepositoryBuilder().setGitDir(gitDir.toFile()).build();
+            if (!repository.getObjectDatabase().exists()) {
+                if (!create) {
+                    repository.close();
+                    throw new SourceContentNotFoundException("Not a git repository: " + repositoryDir);
+                }
+                repository.create(true);
+            }
+            return new RepositoryHandle(repository, new ConcurrentLinkedQueue<>(), new ReentrantLock());
+        } catch (IOException | IllegalStateException e) {
+            throw new SourceContentAccessException("Error opening repository: " + repositoryDir, e);
+        }
+    }
+
+    private GitLocation parseLocation(SourceUri sourceUri) {
+        String uri = sourceUri.uri().trim();
+        int separator = uri.indexOf(PATH_SEPARATOR);
+        if (separator <= SCHEME_PREFIX.length() || separator + PATH_SEPARATOR.length() >= uri.length()) {
+            throw new SourceContentAccessException("Invalid git source uri, expected git:///path/to/repo!/path/in/repo: " + uri);
+        }
+        Path repositoryDir = Paths.get(uri.substring(SCHEME_PREFIX.length(), separator)).toAbsolutePath().normalize();
+        return new GitLocation(repositoryDir, uri.substring(separator + PATH_SEPARATOR.length()));
+    }
+}
@@ -0,0 +1,186 @@
+package tech.onova.flagd_admin_server.domain.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import tech.onova.flagd_admin_server.domain.entity.SourceUri;
+import tech.onova.flagd_admin_server.domain.exception.SourceContentAccessException;
+import tech.onova.flagd_admin_server.domain.exception.SourceContentNotFoundException;
+import tech.onova.flagd_admin_server.domain.service.SourceContentLoader;
+import tech.onova.flagd_admin_server.domain.service.SourceContentStat;
+import tech.onova.flagd_admin_server.infrastructure.config.HttpSourceProperties;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HexFormat;
+
+/**
+ * Read-only loader for documents published over http(s). A single HTTP/2 client keeps connections
+ * pooled across sources. Responses are kept in memory with their validators; within the refresh interval
+ * they are served as-is, after that they are revalidated with a conditional GET and reused on 304. The kept bodies
+ * are bounded by size; an evicted document is simply fetched in full again.
+ */
+@Component
+public class HttpSourceContentLoader implements SourceContentLoader {
+
+    record CachedResponse(byte[] body, String eTag, String lastModified, Instant fetchedAt) {
+
+        CachedResponse revalidatedAt(Instant instant) {
+            return new CachedResponse(body, eTag, lastModified, instant);
+        }
+    }
+
+    private final HttpClient httpClient;
+    private final HttpSourceProperties properties;
+    private final Clock clock;
+    private final Cache<String, CachedResponse> responses;
+
+    @Autowired
+    public HttpSourceContentLoader(HttpSourceProperties properties) {
+        this(HttpClient.newBuilder()
+                        .version(HttpClient.Version.HTTP_2)
+                        .connectTimeout(properties.connectTimeout())
+                        .followRedirects(HttpClient.Redirect.NORMAL)
+                        .build(),
+                properties,
+                Clock.systemUTC());
+    }
+
+    HttpSourceContentLoader(HttpClient httpClient, HttpSourceProperties properties, Clock clock) {
+        this.httpClient = httpClient;
+        this.properties = properties;
+        this.clock = clock;
+        this.responses = Caffeine.newBuilder()
+                .maximumWeight(properties.maxCachedSize().toBytes())
+                .weigher((String uri, CachedResponse response) -> response.body().length)
+                .build();
+    }
+
+    @Override
+    public boolean supports(String uriScheme) {
+        return "http".equalsIgnoreCase(uriScheme) || "https".equalsIgnoreCase(uriScheme);
+    }
+
+    @Override
+    public String loadContent(SourceUri sourceUri) {
+        return new String(fetch(sourceUri).body(), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public InputStream openContent(SourceUri sourceUri) {
+        return new ByteArrayInputStream(fetch(sourceUri).body());
+    }
+
+    @Override
+    public SourceContentStat stat(SourceUri sourceUri) {
+        CachedResponse response;
+        try {
+            response = fetch(sourceUri);
+        } catch (SourceContentNotFoundException e) {
+            return SourceContentStat.missing();
+        }
+
+        return new SourceContentStat(true, response.body().length, parseHttpDate(response.lastModified()), versionToken(response));
+    }
+
+    @Override
+    public void initializeContent(SourceUri sourceUri, String content) {
+        throw new SourceContentAccessException("HTTP sources are read-only: " + sourceUri.uri());
+    }
+
+    @Override
+    public void writeContent(SourceUri sourceUri, InputStream content) {
+        throw new SourceContentAccessException("HTTP sources are read-only: " + sourceUri.uri());
+    }
+
+    private CachedResponse fetch(SourceUri sourceUri) {
+        String uri = sourceUri.uri().trim();
+        Instant now = clock.instant();
+        CachedResponse cached = responses.getIfPresent(uri);
+
+        if (cached != null && cached.fetchedAt().plus(properties.refreshIntervalFor(uri)).isAfter(now)) {
+            return cached;
+        }
+
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(uri))
+                .timeout(properties.requestTimeout())
+                .GET();
+        if (cached != null && cached.eTag() != null) {
+            request.header("If-None-Match", cached.eTag());
+        } else if (cached != null && cached.lastModified() != null) {
+            request.header("If-Modified-Since", cached.lastModified());
+        }
+
+        HttpResponse<byte[]> response = send(uri, request.build());
+        int status = response.statusCode();
+
+        if (status == 304 && cached != null) {
+            CachedResponse revalidated = cached.revalidatedAt(now);
+            responses.put(uri, revalidated);
+            return revalidated;
+        }
+        if (status == 404 || status == 410) {
+            responses.invalidate(uri);
+            throw new SourceContentNotFoundException("Remote source not found: " + uri);
+        }
+        if (status < 200 || status >= 300) {
+            throw new SourceContentAccessException("Unexpected HTTP status " + status + " from: " + uri);
+        }
+
+        CachedResponse fetched = new CachedResponse(
+                response.body(),
+                response.headers().firstValue("ETag").orElse(null),
+                response.headers().firstValue("Last-Modified").orElse(null),
+                now
+        );
+        responses.put(uri, fetched);
+        return fetched;
+    }
+
+    private HttpResponse<byte[]> send(String uri, HttpRequest request) {
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            throw new SourceContentAccessException("Error fetching: " + uri, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SourceContentAccessException("Interrupted while fetching: " + uri, e);
+        }
+    }
+
+    private String versionToken(CachedResponse response) {
+        if (response.eTag() != null) {
+            return response.eTag().replace("\"", "");
+        }
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(response.body()));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private Instant parseHttpDate(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
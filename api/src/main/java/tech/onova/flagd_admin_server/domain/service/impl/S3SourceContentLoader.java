@@ -0,0 +1,251 @@
+package tech.onova.flagd_admin_server.domain.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import tech.onova.flagd_admin_server.domain.entity.SourceUri;
+import tech.onova.flagd_admin_server.domain.exception.SourceContentAccessException;
+import tech.onova.flagd_admin_server.domain.exception.SourceContentConflictException;
+import tech.onova.flagd_admin_server.domain.exception.SourceContentNotFoundException;
+import tech.onova.flagd_admin_server.domain.service.SourceContentLoader;
+import tech.onova.flagd_admin_server.domain.service.SourceContentStat;
+import tech.onova.flagd_admin_server.domain.service.VersionedContent;
+import tech.onova.flagd_admin_server.infrastructure.config.S3SourceProperties;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+
+/**
+ * Loader for objects in S3-compatible storage, addressed as {@code s3://bucket/key}. The last-known bytes
+ * of every object are kept in memory with their ETag: within the refresh interval reads are served from
+ * memory, after that the object is fetched with {@code If-None-Match} and the copy is reused on 304.
+ * Read-modify-write callers read through {@link #loadVersionedContent}, which always revalidates, and pass the
+ * ETag they read back with the write; it is sent as {@code If-Match}, so concurrent editors cannot silently
+ * overwrite each other. Writes without a version, e.g. to publish targets, replace the object unconditionally.
+ * The kept bodies are bounded by size; an evicted object is simply fetched in full again.
+ */
+@Component
+public class S3SourceContentLoader implements SourceContentLoader {
+
+    private static final String SCHEME_PREFIX = "s3://";
+    private static final String DEFAULT_CONTENT = "{\"$schema\": \"https://flagd.dev/schema/v0/flags.json\",\"flags\": {}}";
+
+    record S3Location(String bucket, String key) { }
+
+    record CachedObject(byte[] body, String eTag, Instant lastModified, Instant fetchedAt) {
+
+        CachedObject revalidatedAt(Instant instant) {
+            return new CachedObject(body, eTag, lastModified, instant);
+        }
+    }
+
+    private final S3Client s3Client;
+    private final S3SourceProperties properties;
+    private final Clock clock;
+    private final Cache<String, CachedObject> objects;
+
+    @Autowired
+    public S3SourceContentLoader(S3SourceProperties properties) {
+        this(buildClient(properties), properties, Clock.systemUTC());
+    }
+
+    S3SourceContentLoader(S3Client s3Client, S3SourceProperties properties, Clock clock) {
+        this.s3Client = s3Client;
+        this.properties = properties;
+        this.clock = clock;
+        this.objects = Caffeine.newBuilder()
+                .maximumWeight(properties.maxCachedSize().toBytes())
+                .weigher((String uri, CachedObject object) -> object.body().length)
+                .build();
+    }
+
+    private static S3Client buildClient(S3SourceProperties properties) {
+        S3ClientBuilder builder = S3Client.builder()
+                .region(Region.of(properties.region()))
+                .forcePathStyle(properties.pathStyleAccess());
+        if (properties.hasEndpoint()) {
+            builder.endpointOverride(URI.create(properties.endpoint()));
+        }
+        if (properties.hasStaticCredentials()) {
+            builder.credentialsProvider(StaticCredentialsProvider.create(
+                    AwsBasicCredentials.create(properties.accessKeyId(), properties.secretAccessKey())));
+        }
+        return builder.build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        s3Client.close();
+    }
+
+    @Override
+    public boolean supports(String uriScheme) {
+        return "s3".equalsIgnoreCase(uriScheme);
+    }
+
+    @Override
+    public String loadContent(SourceUri sourceUri) {
+        return new String(fetch(sourceUri, false).body(), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public InputStream openContent(SourceUri sourceUri) {
+        return new ByteArrayInputStream(fetch(sourceUri, false).body());
+    }
+
+    @Override
+    public VersionedContent loadVersionedContent(SourceUri sourceUri) {
+        CachedObject object = fetch(sourceUri, true);
+        return new VersionedContent(object.body(), versionToken(object));
+    }
+
+    @Override
+    public SourceContentStat stat(SourceUri sourceUri) {
+        CachedObject object;
+        try {
+            object = fetch(sourceUri, false);
+        } catch (SourceContentNotFoundException e) {
+            return SourceContentStat.missing();
+        }
+
+        return new SourceContentStat(true, object.body().length, object.lastModified(), versionToken(object));
+    }
+
+    @Override
+    public void initializeContent(SourceUri sourceUri, String content) {
+        if (content != null) {
+            put(sourceUri, content.getBytes(StandardCharsets.UTF_8), null);
+            return;
+        }
+
+        // The default document only seeds a missing object; if another writer created it first, theirs wins
+        try {
+            put(sourceUri, DEFAULT_CONTENT.getBytes(StandardCharsets.UTF_8), "*");
+        } catch (SourceContentConflictException ignored) { }
+    }
+
+    @Override
+    public void writeContent(SourceUri sourceUri, InputStream content) {
+        writeContent(sourceUri, content, null);
+    }
+
+    @Override
+    public void writeContent(SourceUri sourceUri, InputStream content, String expectedVersion) {
+        byte[] body;
+        try {
+            body = content.readAllBytes();
+        } catch (IOException e) {
+            throw new SourceContentAccessException("Error reading content for: " + sourceUri.uri(), e);
+        }
+        put(sourceUri, body, expectedVersion != null ? "\"" + expectedVersion + "\"" : null);
+    }
+
+    private CachedObject fetch(SourceUri sourceUri, boolean revalidate) {
+        String uri = sourceUri.uri().trim();
+        S3Location location = parseLocation(uri);
+        Instant now = clock.instant();
+        CachedObject cached = objects.getIfPresent(uri);
+
+        if (!revalidate && cached != null && cached.fetchedAt().plus(properties.refreshInterval()).isAfter(now)) {
+            return cached;
+        }
+
+        GetObjectRequest.Builder request = GetObjectRequest.builder()
+                .bucket(location.bucket())
+                .key(location.key());
+        if (cached != null && cached.eTag() != null) {
+            request.ifNoneMatch(cached.eTag());
+        }
+
+        try {
+            ResponseBytes<GetObjectResponse> response = s3Client.getObjectAsBytes(request.build());
+            CachedObject fetched = new CachedObject(
+                    response.asByteArray(),
+                    response.response().eTag(),
+                    response.response().lastModified(),
+                    now
+            );
+            objects.put(uri, fetched);
+            return fetched;
+        } catch (S3Exception e) {
+            if (e.statusCode() == 304 && cached != null) {
+                CachedObject revalidated = cached.revalidatedAt(now);
+                objects.put(uri, revalidated);
+                return revalidated;
+            }
+            if (e.statusCode() == 404) {
+                objects.invalidate(uri);
+                throw new SourceContentNotFoundException("Object not found: " + uri);
+            }
+            throw new SourceContentAccessException("Error reading object: " + uri, e);
+        } catch (SdkException e) {
+            throw new SourceContentAccessException("Error reading object: " + uri, e);
+        }
+    }
+
+    /**
+     * PUTs the object. {@code condition} is the quoted ETag the object must still have, {@code "*"} if it must
+     * not exist yet, or null to replace it unconditionally.
+     */
+    private void put(SourceUri sourceUri, byte[] body, String condition) {
+        String uri = sourceUri.uri().trim();
+        S3Location location = parseLocation(uri);
+
+        PutObjectRequest.Builder request = PutObjectRequest.builder()
+                .bucket(location.bucket())
+                .key(location.key())
+                .contentType("application/json");
+        if ("*".equals(condition)) {
+            request.ifNoneMatch(condition);
+        } else if (condition != null) {
+            request.ifMatch(condition);
+        }
+
+        try {
+            PutObjectResponse response = s3Client.putObject(request.build(), RequestBody.fromBytes(body));
+            Instant now = clock.instant();
+            objects.put(uri, new CachedObject(body, response.eTag(), now, now));
+        } catch (S3Exception e) {
+            if (e.statusCode() == 412 || e.statusCode() == 409) {
+                objects.invalidate(uri);
+                throw new SourceContentConflictException("Object was modified concurrently: " + uri, e);
+            }
+            throw new SourceContentAccessException("Error writing object: " + uri, e);
+        } catch (SdkException e) {
+            throw new SourceContentAccessException("Error writing object: " + uri, e);
+        }
+    }
+
+    private String versionToken(CachedObject object) {
+        return object.eTag() != null ? object.eTag().replace("\"", "") : null;
+    }
+
+    private S3Location parseLocation(String uri) {
+        String location = uri.substring(SCHEME_PREFIX.length());
+        int slash = location.indexOf('/');
+        if (slash <= 0 || slash == location.length() - 1) {
+            throw new SourceContentAccessException("Invalid S3 source uri, expected s3://bucket/key: " + uri);
+        }
+        return new S3Location(location.substring(0, slash), location.substring(slash + 1));
+    }
+}
@@ -0,0 +1,163 @@
+package tech.onova.flagd_admin_server.domain.service.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tech.onova.flagd_admin_server.domain.entity.SourceUri;
+import tech.onova.flagd_admin_server.infrastructure.config.SourceCacheProperties;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Content of remote sources shared by every {@link CachingSourceContentLoader}. Entries are served fresh for
+ * their TTL, then served stale while one background fetch replaces them. Concurrent fetches of the same uri
+ * are coalesced, and the least recently read entries are evicted once the cached bytes exceed the bound. A failed
+ * background refresh is logged and the stale entry keeps being served until the next read tries again.
+ */
+final class SourceContentCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(SourceContentCache.class);
+
+    record CachedContent(byte[] content, Instant fetchedAt, String versionToken) {
+    }
+
+    @FunctionalInterface
+    interface Fetcher {
+        byte[] fetch(SourceUri sourceUri);
+    }
+
+    private final SourceCacheProperties properties;
+    private final Clock clock;
+    private final Executor refreshExecutor;
+    // Access-ordered, so iteration starts at the least recently read entry; guarded by itself
+    private final LinkedHashMap<SourceUri, CachedContent> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final ConcurrentMap<SourceUri, CompletableFuture<CachedContent>> inFlight = new ConcurrentHashMap<>();
+    private long cachedBytes;
+
+    SourceContentCache(SourceCacheProperties properties, Clock clock, Executor refreshExecutor) {
+        this.properties = properties;
+        this.clock = clock;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    CachedContent get(SourceUri sourceUri, Fetcher fetcher) {
+        Duration ttl = properties.ttlFor(sourceUri.uri());
+        if (ttl.isZero() || ttl.isNegative()) {
+            return toCachedContent(fetcher.fetch(sourceUri));
+        }
+
+        CachedContent cached;
+        synchronized (entries) {
+            cached = entries.get(sourceUri);
+        }
+
+        if (cached != null) {
+            Instant expiresAt = cached.fetchedAt().plus(ttl);
+            Instant now = clock.instant();
+            if (now.isBefore(expiresAt)) {
+                return cached;
+            }
+            if (now.isBefore(expiresAt.plus(properties.staleWhileRevalidate()))) {
+                fetch(sourceUri, fetcher, true);
+                return cached;
+            }
+        }
+
+        try {
+            return fetch(sourceUri, fetcher, false).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    void invalidate(SourceUri sourceUri) {
+        synchronized (entries) {
+            // Dropping the in-flight fetch keeps it from storing content read before the change
+            inFlight.remove(sourceUri);
+            CachedContent removed = entries.remove(sourceUri);
+            if (removed != null) {
+                cachedBytes -= removed.content().length;
+            }
+        }
+    }
+
+    long cachedBytes() {
+        synchronized (entries) {
+            return cachedBytes;
+        }
+    }
+
+    void shutdown() {
+        if (refreshExecutor instanceof ExecutorService executorService) {
+            executorService.close();
+        }
+    }
+
+    private CompletableFuture<CachedContent> fetch(SourceUri sourceUri, Fetcher fetcher, boolean inBackground) {
+        CompletableFuture<CachedContent> fetch = new CompletableFuture<>();
+        CompletableFuture<CachedContent> running = inFlight.putIfAbsent(sourceUri, fetch);
+        if (running != null) {
+            return running;
+        }
+
+        Executor executor = inBackground ? refreshExecutor : Runnable::run;
+        executor.execute(() -> {
+            try {
+                CachedContent fetched = toCachedContent(fetcher.fetch(sourceUri));
+                store(sourceUri, fetch, fetched);
+                fetch.complete(fetched);
+            } catch (Throwable e) {
+                inFlight.remove(sourceUri, fetch);
+                if (inBackground) {
+                    // Nobody waits on a background refresh, so this is the only place the failure shows up
+                    logger.warn("Background refresh of {} failed, serving stale content: {}", sourceUri.uri(), e.toString());
+                }
+                fetch.completeExceptionally(e);
+            }
+        });
+        return fetch;
+    }
+
+    private void store(SourceUri sourceUri, CompletableFuture<CachedContent> fetch, CachedContent fetched) {
+        long maxBytes = properties.maxSize().toBytes();
+        synchronized (entries) {
+            if (!inFlight.remove(sourceUri, fetch) || fetched.content().length > maxBytes) {
+                return;
+            }
+
+            CachedContent replaced = entries.put(sourceUri, fetched);
+            cachedBytes += fetched.content().length - (replaced != null ? replaced.content().length : 0);
+
+            Iterator<Map.Entry<SourceUri, CachedContent>> eldest = entries.entrySet().iterator();
+            while (cachedBytes > maxBytes && eldest.hasNext()) {
+                cachedBytes -= eldest.next().getValue().content().length;
+                eldest.remove();
+            }
+        }
+    }
+
+    private CachedContent toCachedContent(byte[] content) {
+        try {
+            String versionToken = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+            return new CachedContent(content, clock.instant(), versionToken);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package tech.onova.flagd_admin_server.domain.service.impl;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import tech.onova.flagd_admin_server.domain.entity.SourceUri;
+import tech.onova.flagd_admin_server.domain.exception.UnsupportedSourceUriException;
+import tech.onova.flagd_admin_server.domain.service.FlagLevelSourceContentLoader;
+import tech.onova.flagd_admin_server.domain.service.SourceContentCapability;
+import tech.onova.flagd_admin_server.domain.service.SourceContentLoader;
+import tech.onova.flagd_admin_server.domain.service.VersionedSourceContentLoader;
+import tech.onova.flagd_admin_server.infrastructure.config.SourceCacheProperties;
+
+import java.time.Clock;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+
+/**
+ * Resolves the loader responsible for a source. Each scheme is matched against the loaders once; afterwards the
+ * binding, including the loader's capabilities, is a hash lookup on the scheme. Loaders of the schemes listed in
+ * {@link SourceCacheProperties#schemes()} are bound behind a read-through cache.
+ */
+@Component
+public class SourceContentLoaderRegistry {
+
+    /**
+     * A source's loader together with what it can do.
+     */
+    public record Binding(SourceContentLoader loader, Set<SourceContentCapability> capabilities) {
+
+        public boolean has(SourceContentCapability capability) {
+            return capabilities.contains(capability);
+        }
+    }
+
+    private final List<SourceContentLoader> contentLoaders;
+    private final SourceCacheProperties cacheProperties;
+    private final SourceContentCache contentCache;
+    private final Map<String, Binding> bindingsByScheme = new ConcurrentHashMap<>();
+
+    @Autowired
+    public SourceContentLoaderRegistry(List<SourceContentLoader> contentLoaders, SourceCacheProperties cacheProperties) {
+        this(contentLoaders, cacheProperties, Clock.systemUTC());
+    }
+
+    SourceContentLoaderRegistry(List<SourceContentLoader> contentLoaders, SourceCacheProperties cacheProperties, Clock clock) {
+        this.contentLoaders = List.copyOf(contentLoaders);
+        this.cacheProperties = cacheProperties;
+        // Background refreshes get their own threads so they never queue behind request I/O
+        this.contentCache = new SourceContentCache(cacheProperties, clock, Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("source-cache-refresh-", 0).factory()));
+    }
+
+    public Binding resolve(SourceUri sourceUri) throws UnsupportedSourceUriException {
+        String scheme = extractScheme(sourceUri.uri());
+        return bindingsByScheme.computeIfAbsent(scheme.toLowerCase(Locale.ROOT), key -> bind(scheme));
+    }
+
+    private Binding bind(String scheme) {
+        SourceContentLoader loader = contentLoaders.stream()
+                .filter(candidate -> candidate.supports(scheme))
+                .findFirst()
+                .orElseThrow(() -> new UnsupportedSourceUriException("Unsupported URI scheme: " + scheme));
+
+        Set<SourceContentCapability> capabilities = EnumSet.noneOf(SourceContentCapability.class);
+        if (loader instanceof FlagLevelSourceContentLoader) {
+            capabilities.add(SourceContentCapability.FLAG_LEVEL);
+        }
+        if (loader instanceof VersionedSourceContentLoader) {
+            capabilities.add(SourceContentCapability.HISTORY);
+        }
+
+        // Loaders with flag-level or history access keep their own type, so only plain loaders are wrapped
+        boolean cacheable = cacheProperties.caches(scheme)
+                && !capabilities.contains(SourceContentCapability.FLAG_LEVEL)
+                && !capabilities.contains(SourceContentCapability.HISTORY);
+        if (cacheable) {
+            loader = new CachingSourceContentLoader(loader, contentCache);
+        }
+        return new Binding(loader, Set.copyOf(capabilities));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        contentCache.shutdown();
+    }
+
+    private String extractScheme(String uri) {
+        int colonIndex = uri.indexOf(':');
+        if (colonIndex <= 0) {
+            throw new IllegalArgumentException("Invalid URI format: " + uri);
+        }
+        return uri.substring(0, colonIndex);
+    }
+}
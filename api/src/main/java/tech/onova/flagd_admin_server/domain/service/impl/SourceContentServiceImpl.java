@@ -1,81 +1,113 @@
 package tech.onova.flagd_admin_server.domain.service.impl;
 
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import tech.onova.flagd_admin_server.domain.entity.SourceUri;
 import tech.onova.flagd_admin_server.domain.exception.ContentValidationException;
 import tech.onova.flagd_admin_server.domain.exception.SourceContentAccessException;
+import tech.onova.flagd_admin_server.domain.exception.SourceContentConflictException;
 import tech.onova.flagd_admin_server.domain.exception.SourceContentNotFoundException;
 import tech.onova.flagd_admin_server.domain.exception.UnsupportedSourceUriException;
 import tech.onova.flagd_admin_server.domain.service.ContentValidator;
+import tech.onova.flagd_admin_server.domain.service.ContentWriter;
+import tech.onova.flagd_admin_server.domain.service.FlagLevelSourceContentLoader;
+import tech.onova.flagd_admin_server.domain.service.SourceContentCapability;
 import tech.onova.flagd_admin_server.domain.service.SourceContentLoader;
 import tech.onova.flagd_admin_server.domain.service.SourceContentService;
+import tech.onova.flagd_admin_server.domain.service.SourceContentStat;
+import tech.onova.flagd_admin_server.domain.service.VersionedContent;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
 
 @Service
 public class SourceContentServiceImpl implements SourceContentService {
     
-    private final List<SourceContentLoader> contentLoaders;
+    private final SourceContentLoaderRegistry loaderRegistry;
     private final ContentValidator contentValidator;
     
     @Autowired
-    public SourceContentServiceImpl(List<SourceContentLoader> contentLoaders, ContentValidator contentValidator) {
-        this.contentLoaders = contentLoaders;
+    public SourceContentServiceImpl(SourceContentLoaderRegistry loaderRegistry, ContentValidator contentValidator) {
+        this.loaderRegistry = loaderRegistry;
         this.contentValidator = contentValidator;
     }
     
     public String loadContent(SourceUri sourceUri) throws SourceContentNotFoundException, SourceContentAccessException {
-        String uri = sourceUri.uri();
-        String scheme = extractScheme(uri);
-
-        return contentLoaders.stream()
-                .filter(loader -> loader.supports(scheme))
-                .findFirst()
-                .orElseThrow(() -> new UnsupportedSourceUriException("Unsupported URI scheme: " + scheme))
-                .loadContent(sourceUri);
+        return loaderRegistry.resolve(sourceUri).loader().loadContent(sourceUri);
+    }
+    
+    public InputStream openContent(SourceUri sourceUri) throws SourceContentNotFoundException, SourceContentAccessException {
+        return loaderRegistry.resolve(sourceUri).loader().openContent(sourceUri);
     }
     
     public void initializeContent(SourceUri sourceUri, String content) throws SourceContentAccessException, ContentValidationException {
         contentValidator.validateContent(content);
         
+        loaderRegistry.resolve(sourceUri).loader().initializeContent(sourceUri, content);
+    }
+    
+    public void writeContent(SourceUri sourceUri, ContentWriter contentWriter) throws SourceContentAccessException, ContentValidationException {
+        writeContent(sourceUri, contentWriter, null);
+    }
+    
+    public VersionedContent loadVersionedContent(SourceUri sourceUri) throws SourceContentNotFoundException, SourceContentAccessException {
+        return loaderRegistry.resolve(sourceUri).loader().loadVersionedContent(sourceUri);
+    }
+    
+    public void writeContent(SourceUri sourceUri, ContentWriter contentWriter, String expectedVersion)
+            throws SourceContentAccessException, SourceContentConflictException, ContentValidationException {
         String uri = sourceUri.uri();
-        String scheme = extractScheme(uri);
+        var contentLoader = loaderRegistry.resolve(sourceUri).loader();
+
+        // Spool once so the validator and the loader both read the same bytes without holding them in memory
+        Path stagedContent = null;
+        try {
+            stagedContent = Files.createTempFile("flagd-admin-staged-", ".json");
+            try (OutputStream out = Files.newOutputStream(stagedContent)) {
+                contentWriter.writeTo(out);
+            }
+
+            contentValidator.validateContentFile(stagedContent);
 
-        contentLoaders.stream()
-                .filter(loader -> loader.supports(scheme))
-                .findFirst()
-                .orElseThrow(() -> new UnsupportedSourceUriException("Unsupported URI scheme: " + scheme))
-                .initializeContent(sourceUri, content);
+            try (InputStream in = Files.newInputStream(stagedContent)) {
+                contentLoader.writeContent(sourceUri, in, expectedVersion);
+            }
+        } catch (IOException e) {
+            throw new SourceContentAccessException("Error staging content for: " + uri, e);
+        } finally {
+            deleteStagedContent(stagedContent);
+        }
     }
     
     public boolean contentExists(SourceUri sourceUri) throws SourceContentAccessException {
-        String uri = sourceUri.uri();
-        String scheme = extractScheme(uri);
+        SourceContentLoader contentLoader;
+        try {
+            contentLoader = loaderRegistry.resolve(sourceUri).loader();
+        } catch (UnsupportedSourceUriException e) {
+            return false;
+        }
 
-        return contentLoaders.stream()
-                .filter(loader -> loader.supports(scheme))
-                .findFirst()
-                .map(loader -> {
-                    try {
-                        loader.loadContent(sourceUri);
-                        return true;
-                    } catch (Exception e) {
-                        return false;
-                    }
-                })
-                .orElse(false);
+        try {
+            return contentLoader.stat(sourceUri).exists();
+        } catch (Exception e) {
+            return false;
+        }
+    }
+    
+    public SourceContentStat stat(SourceUri sourceUri) throws SourceContentAccessException {
+        return loaderRegistry.resolve(sourceUri).loader().stat(sourceUri);
     }
     
     public void initializeContentWithConfig(SourceUri sourceUri) throws SourceContentAccessException, ContentValidationException {
-        String uri = sourceUri.uri();
-        String scheme = extractScheme(uri);
-
         String currentContent = null;
-        var contentLoader = contentLoaders.stream()
-                .filter(loader -> loader.supports(scheme))
-                .findFirst()
-                .orElseThrow(() -> new UnsupportedSourceUriException("Unsupported URI scheme: " + scheme));
+        var contentLoader = loaderRegistry.resolve(sourceUri).loader();
 
         try {
             currentContent = contentLoader.loadContent(sourceUri);
@@ -90,11 +122,55 @@ public class SourceContentServiceImpl implements SourceContentService {
         }
     }
     
-    private String extractScheme(String uri) {
-        int colonIndex = uri.indexOf(':');
-        if (colonIndex <= 0) {
-            throw new IllegalArgumentException("Invalid URI format: " + uri);
+    public Set<SourceContentCapability> capabilities(SourceUri sourceUri) {
+        return loaderRegistry.resolve(sourceUri).capabilities();
+    }
+    
+    public boolean supportsFlagLevelAccess(SourceUri sourceUri) {
+        return loaderRegistry.resolve(sourceUri).has(SourceContentCapability.FLAG_LEVEL);
+    }
+    
+    public SortedMap<String, String> loadFlags(SourceUri sourceUri) throws SourceContentAccessException {
+        return findFlagLevelLoader(sourceUri).loadFlags(sourceUri);
+    }
+    
+    public Optional<String> loadFlag(SourceUri sourceUri, String flagKey) throws SourceContentAccessException {
+        return findFlagLevelLoader(sourceUri).loadFlag(sourceUri, flagKey);
+    }
+    
+    public void writeFlag(SourceUri sourceUri, String flagKey, String flagDefinition) throws SourceContentAccessException, ContentValidationException {
+        var contentLoader = findFlagLevelLoader(sourceUri);
+        
+        // Validate the flag on its own, wrapped in a minimal document
+        String quotedKey = new String(JsonStringEncoder.getInstance().quoteAsString(flagKey));
+        contentValidator.validateContent("{\"flags\": {\"" + quotedKey + "\": " + flagDefinition + "}}");
+        
+        contentLoader.writeFlag(sourceUri, flagKey, flagDefinition);
+    }
+    
+    public boolean deleteFlag(SourceUri sourceUri, String flagKey) throws SourceContentAccessException {
+        return findFlagLevelLoader(sourceUri).deleteFlag(sourceUri, flagKey);
+    }
+    
+    public void deleteStoredFlags(SourceUri sourceUri) throws SourceContentAccessException {
+        if (loaderRegistry.resolve(sourceUri).loader() instanceof FlagLevelSourceContentLoader flagLevelLoader) {
+            flagLevelLoader.deleteFlags(sourceUri);
+        }
+    }
+    
+    private FlagLevelSourceContentLoader findFlagLevelLoader(SourceUri sourceUri) {
+        if (loaderRegistry.resolve(sourceUri).loader() instanceof FlagLevelSourceContentLoader flagLevelLoader) {
+            return flagLevelLoader;
         }
-        return uri.substring(0, colonIndex);
+        throw new UnsupportedSourceUriException("Source does not store flags individually: " + sourceUri.uri());
+    }
+    
+    private void deleteStagedContent(Path stagedContent) {
+        if (stagedContent == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(stagedContent);
+        } catch (IOException ignored) { }
     }
 }
\ No newline at end of file
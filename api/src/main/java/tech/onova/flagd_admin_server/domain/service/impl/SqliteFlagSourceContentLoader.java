@@ -0,0 +1,291 @@
+package tech.onova.flagd_admin_server.domain.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+import tech.onova.flagd_admin_server.domain.entity.FlagRecord;
+import tech.onova.flagd_admin_server.domain.entity.FlagRecordId;
+import tech.onova.flagd_admin_server.domain.entity.SourceUri;
+import tech.onova.flagd_admin_server.domain.exception.ContentValidationException;
+import tech.onova.flagd_admin_server.domain.exception.SourceContentAccessException;
+import tech.onova.flagd_admin_server.domain.exception.SourceContentNotFoundException;
+import tech.onova.flagd_admin_server.domain.repository.FlagRecordRepository;
+import tech.onova.flagd_admin_server.domain.service.FlagLevelSourceContentLoader;
+import tech.onova.flagd_admin_server.domain.service.SourceContentStat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Row-per-flag backend, addressed as {@code sqlite:///path/to/published/flags.json}. Every flag of the source is
+ * a {@link FlagRecord} in the application database, so single-flag reads and edits are indexed row operations.
+ * The flagd document at the given path is the published rendering of those rows: it is rewritten atomically
+ * after a change and never read back.
+ */
+@Component
+public class SqliteFlagSourceContentLoader implements FlagLevelSourceContentLoader {
+
+    private static final String SCHEME_PREFIX = "sqlite://";
+
+    private final FlagRecordRepository flagRecordRepository;
+    private final FileSourceContentLoader publisher;
+    private final TransactionOperations transactions;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, FlagDocumentMaterializer> materializers = new ConcurrentHashMap<>();
+
+    @Autowired
+    public SqliteFlagSourceContentLoader(FlagRecordRepository flagRecordRepository,
+                                         FileSourceContentLoader publisher,
+                                         PlatformTransactionManager transactionManager) {
+        this(flagRecordRepository, publisher, new TransactionTemplate(transactionManager));
+    }
+
+    SqliteFlagSourceContentLoader(FlagRecordRepository flagRecordRepository,
+                                  FileSourceContentLoader publisher,
+                                  TransactionOperations transactions) {
+        this.flagRecordRepository = flagRecordRepository;
+        this.publisher = publisher;
+        this.transactions = transactions;
+    }
+
+    @Override
+    public boolean supports(String uriScheme) {
+        return "sqlite".equalsIgnoreCase(uriScheme);
+    }
+
+    @Override
+    public String loadContent(SourceUri sourceUri) {
+        return new String(document(sourceUri), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public InputStream openContent(SourceUri sourceUri) {
+        return new ByteArrayInputStream(document(sourceUri));
+    }
+
+    @Override
+    public SourceContentStat stat(SourceUri sourceUri) {
+        return publisher.stat(publishUri(sourceUri));
+    }
+
+    @Override
+    public void initializeContent(SourceUri sourceUri, String content) {
+        replaceFlags(sourceUri, content != null ? parseFlags(content) : Map.of());
+    }
+
+    @Override
+    public void writeContent(SourceUri sourceUri, InputStream content) {
+        try {
+            replaceFlags(sourceUri, parseFlags(objectMapper.readTree(content)));
+        } catch (IOException e) {
+            throw new ContentValidationException("Invalid flagd configuration: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public SortedMap<String, String> loadFlags(SourceUri sourceUri) {
+        FlagDocumentMaterializer materializer = materializer(sourceUri);
+        synchronized (materializer) {
+            return materializer.flags();
+        }
+    }
+
+    @Override
+    public Optional<String> loadFlag(SourceUri sourceUri, String flagKey) {
+        FlagDocumentMaterializer materializer = materializer(sourceUri);
+        synchronized (materializer) {
+            return materializer.flag(flagKey);
+        }
+    }
+
+    @Override
+    public void writeFlag(SourceUri sourceUri, String flagKey, String flagDefinition) {
+        JsonNode flagNode = parseFlag(flagDefinition);
+        String definition = flagNode.toString();
+        String state = flagNode.path("state").asText(null);
+        FlagRecordId id = new FlagRecordId(sourceKey(sourceUri), flagKey);
+
+        FlagDocumentMaterializer materializer = materializer(sourceUri);
+        synchronized (materializer) {
+            transactions.executeWithoutResult(status -> flagRecordRepository.save(flagRecordRepository.findById(id)
+                    .map(record -> record.update(state, definition))
+                    .orElseGet(() -> new FlagRecord(id, state, definition))));
+            materializer.put(flagKey, definition);
+            publish(sourceUri, materializer);
+        }
+    }
+
+    @Override
+    public boolean deleteFlag(SourceUri sourceUri, String flagKey) {
+        FlagRecordId id = new FlagRecordId(sourceKey(sourceUri), flagKey);
+
+        FlagDocumentMaterializer materializer = materializer(sourceUri);
+        synchronized (materializer) {
+            Boolean existed = transactions.execute(status -> {
+                if (!flagRecordRepository.existsById(id)) {
+                    return false;
+                }
+                flagRecordRepository.deleteById(id);
+                return true;
+            });
+            materializer.remove(flagKey);
+            publish(sourceUri, materializer);
+            return Boolean.TRUE.equals(existed);
+        }
+    }
+
+    /**
+     * Drops the rows and the materialized document of the source. The published file is left to whoever
+     * consumes it, as with the other backends.
+     */
+    @Override
+    public void deleteFlags(SourceUri sourceUri) {
+        String sourceKey = sourceKey(sourceUri);
+
+        // Wait for in-flight edits on the same materializer, then forget it so a recreated source starts empty
+        FlagDocumentMaterializer materializer = materializers.computeIfAbsent(sourceKey, key -> new FlagDocumentMaterializer());
+        synchronized (materializer) {
+            transactions.executeWithoutResult(status -> flagRecordRepository.deleteByIdSourceKey(sourceKey));
+            materializers.remove(sourceKey, materializer);
+        }
+    }
+
+    private byte[] document(SourceUri sourceUri) {
+        FlagDocumentMaterializer materializer = materializer(sourceUri);
+        synchronized (materializer) {
+            if (materializer.flags().isEmpty() && !publisher.stat(publishUri(sourceUri)).exists()) {
+                throw new SourceContentNotFoundException("No flags stored for: " + sourceUri.uri());
+            }
+            return materializer.render();
+        }
+    }
+
+    private void replaceFlags(SourceUri sourceUri, Map<String, String> flags) {
+        String sourceKey = sourceKey(sourceUri);
+
+        FlagDocumentMaterializer materializer = materializer(sourceUri);
+        synchronized (materializer) {
+            Boolean modified = transactions.execute(status -> {
+                Map<String, FlagRecord> stale = flagRecordRepository.findByIdSourceKeyOrderByIdFlagKey(sourceKey).stream()
+                        .collect(Collectors.toMap(record -> record.getId().flagKey(), Function.identity()));
+                List<FlagRecord> changed = new ArrayList<>();
+
+                flags.forEach((flagKey, definition) -> {
+                    String state = parseFlag(definition).path("state").asText(null);
+                    FlagRecord existing = stale.remove(flagKey);
+                    if (existing == null) {
+                        changed.add(new FlagRecord(new FlagRecordId(sourceKey, flagKey), state, definition));
+                    } else if (!existing.getDefinition().equals(definition)) {
+                        changed.add(existing.update(state, definition));
+                    }
+                });
+
+                flagRecordRepository.saveAll(changed);
+                flagRecordRepository.deleteAll(stale.values());
+                return !changed.isEmpty() || !stale.isEmpty();
+            });
+            materializer.load(flags);
+            // An unchanged replace only publishes if the document was never published
+            if (Boolean.TRUE.equals(modified) || !publisher.stat(publishUri(sourceUri)).exists()) {
+                materializer.markDirty();
+            }
+            publish(sourceUri, materializer);
+        }
+    }
+
+    private void publish(SourceUri sourceUri, FlagDocumentMaterializer materializer) {
+        Optional<byte[]> document = materializer.takeChangedDocument();
+        if (document.isEmpty()) {
+            return;
+        }
+        try {
+            publisher.writeContent(publishUri(sourceUri), new ByteArrayInputStream(document.get()));
+        } catch (RuntimeException e) {
+            materializer.markDirty();
+            throw e;
+        }
+    }
+
+    private FlagDocumentMaterializer materializer(SourceUri sourceUri) {
+        String sourceKey = sourceKey(sourceUri);
+        FlagDocumentMaterializer materializer = materializers.computeIfAbsent(sourceKey, key -> new FlagDocumentMaterializer());
+        synchronized (materializer) {
+            if (!materializer.isLoaded()) {
+                Map<String, String> flags = new LinkedHashMap<>();
+                flagRecordRepository.findByIdSourceKeyOrderByIdFlagKey(sourceKey)
+                        .forEach(record -> flags.put(record.getId().flagKey(), record.getDefinition()));
+                materializer.load(flags);
+            }
+        }
+        return materializer;
+    }
+
+    private Map<String, String> parseFlags(String content) {
+        try {
+            return parseFlags(objectMapper.readTree(content));
+        } catch (JsonProcessingException e) {
+            throw new ContentValidationException("Invalid flagd configuration: " + e.getOriginalMessage(), e);
+        }
+    }
+
+    private Map<String, String> parseFlags(JsonNode rootNode) {
+        if (rootNode == null || !rootNode.isObject()) {
+            throw new ContentValidationException("Invalid flagd configuration: expected a JSON object");
+        }
+
+        Iterator<String> fieldNames = rootNode.fieldNames();
+        while (fieldNames.hasNext()) {
+            String fieldName = fieldNames.next();
+            if (!"flags".equals(fieldName) && !"$schema".equals(fieldName)) {
+                throw new ContentValidationException("Row-per-flag sources only store flags, unsupported field: " + fieldName);
+            }
+        }
+
+        Map<String, String> flags = new TreeMap<>();
+        JsonNode flagsNode = rootNode.path("flags");
+        flagsNode.fields().forEachRemaining(field -> flags.put(field.getKey(), field.getValue().toString()));
+        return flags;
+    }
+
+    private JsonNode parseFlag(String flagDefinition) {
+        try {
+            JsonNode flagNode = objectMapper.readTree(flagDefinition);
+            if (flagNode == null || !flagNode.isObject()) {
+                throw new ContentValidationException("Invalid flag definition: expected a JSON object");
+            }
+            return flagNode;
+        } catch (JsonProcessingException e) {
+            throw new ContentValidationException("Invalid flag definition: " + e.getOriginalMessage(), e);
+        }
+    }
+
+    private String sourceKey(SourceUri sourceUri) {
+        return sourceUri.uri().trim();
+    }
+
+    private SourceUri publishUri(SourceUri sourceUri) {
+        String uri = sourceKey(sourceUri);
+        if (!uri.startsWith(SCHEME_PREFIX)) {
+            throw new SourceContentAccessException("Invalid sqlite source uri: " + uri);
+        }
+        return new SourceUri("file://" + uri.substring(SCHEME_PREFIX.length()));
+    }
+}
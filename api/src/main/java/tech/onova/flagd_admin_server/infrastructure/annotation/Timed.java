@@ -0,0 +1,15 @@
+package tech.onova.flagd_admin_server.infrastructure.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Records the method's latency like {@link Log} does, without logging its arguments or result. Meant for methods
+ * handling secrets, such as login.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Timed {
+}
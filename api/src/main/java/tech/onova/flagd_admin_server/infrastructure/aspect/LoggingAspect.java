@@ -1,18 +1,31 @@
 package tech.onova.flagd_admin_server.infrastructure.aspect;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import tech.onova.flagd_admin_server.infrastructure.annotation.Log;
 
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
 @Aspect
 @Component
 public class LoggingAspect {
     
     private static final Logger logger = LoggerFactory.getLogger(LoggingAspect.class);
+
+    private final MethodTimer methodTimer;
+
+    @Autowired
+    public LoggingAspect(MeterRegistry meterRegistry) {
+        this.methodTimer = new MethodTimer(meterRegistry);
+    }
     
     @Around("@annotation(log)")
     public Object logAround(ProceedingJoinPoint joinPoint, Log log) throws Throwable {
@@ -22,28 +35,44 @@ public class LoggingAspect {
         // Log request
         logger.info("{}.{} - Request: {}", className, methodName, getArgumentsAsString(joinPoint.getArgs()));
         
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
         
         try {
             Object result = joinPoint.proceed();
-            long endTime = System.currentTimeMillis();
-            long duration = endTime - startTime;
+            methodTimer.record(className, methodName, startTime, result, null);
             
-            // Log response
-            logger.info("{}.{} - Response: {} ({}ms)", className, methodName, getValueAsString(result), duration);
+            // Log the response of an async method once it is available, so the duration covers the work
+            if (result instanceof CompletionStage<?> stage) {
+                stage.whenComplete((value, error) -> {
+                    if (error == null) {
+                        logResponse(className, methodName, startTime, value);
+                    } else {
+                        logError(className, methodName, startTime,
+                                error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+                    }
+                });
+            } else {
+                logResponse(className, methodName, startTime, result);
+            }
             
             return result;
         } catch (Exception e) {
-            long endTime = System.currentTimeMillis();
-            long duration = endTime - startTime;
-            
-            // Log error
-            logger.error("{}.{} - Error: {} ({}ms)", className, methodName, e.getMessage(), duration, e);
-            
+            methodTimer.record(className, methodName, startTime, null, e);
+            logError(className, methodName, startTime, e);
             throw e;
         }
     }
     
+    private void logResponse(String className, String methodName, long startTime, Object result) {
+        long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        logger.info("{}.{} - Response: {} ({}ms)", className, methodName, getValueAsString(result), duration);
+    }
+    
+    private void logError(String className, String methodName, long startTime, Throwable error) {
+        long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        logger.error("{}.{} - Error: {} ({}ms)", className, methodName, error.getMessage(), duration, error);
+    }
+    
     private String getArgumentsAsString(Object[] args) {
         if (args == null || args.length == 0) {
             return "[]";
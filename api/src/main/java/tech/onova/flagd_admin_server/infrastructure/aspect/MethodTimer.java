@@ -0,0 +1,42 @@
+package tech.onova.flagd_admin_server.infrastructure.aspect;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records {@value #METHOD_TIMER} timers, tagged by class, method and outcome, with percentile histograms so
+ * latency quantiles can be computed across instances. A method returning a {@link CompletionStage} is timed
+ * until the stage completes, not until it is returned.
+ */
+final class MethodTimer {
+
+    static final String METHOD_TIMER = "flagd.method";
+
+    private final MeterRegistry meterRegistry;
+
+    MethodTimer(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    void record(String className, String methodName, long startNanos, Object result, Throwable failure) {
+        if (failure == null && result instanceof CompletionStage<?> stage) {
+            stage.whenComplete((value, error) -> record(className, methodName, startNanos, error));
+            return;
+        }
+        record(className, methodName, startNanos, failure);
+    }
+
+    private void record(String className, String methodName, long startNanos, Throwable failure) {
+        Timer.builder(METHOD_TIMER)
+                .description("Time taken by annotated methods")
+                .tag("class", className)
+                .tag("method", methodName)
+                .tag("outcome", failure == null ? "success" : "failure")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,38 @@
+package tech.onova.flagd_admin_server.infrastructure.aspect;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import tech.onova.flagd_admin_server.infrastructure.annotation.Timed;
+
+@Aspect
+@Component
+public class TimingAspect {
+
+    private final MethodTimer methodTimer;
+
+    @Autowired
+    public TimingAspect(MeterRegistry meterRegistry) {
+        this.methodTimer = new MethodTimer(meterRegistry);
+    }
+
+    // Methods that also carry @Log are already timed by the LoggingAspect
+    @Around("@annotation(timed) && !@annotation(tech.onova.flagd_admin_server.infrastructure.annotation.Log)")
+    public Object timeAround(ProceedingJoinPoint joinPoint, Timed timed) throws Throwable {
+        String className = joinPoint.getTarget().getClass().getSimpleName();
+        String methodName = joinPoint.getSignature().getName();
+        long startTime = System.nanoTime();
+
+        try {
+            Object result = joinPoint.proceed();
+            methodTimer.record(className, methodName, startTime, result, null);
+            return result;
+        } catch (Throwable t) {
+            methodTimer.record(className, methodName, startTime, null, t);
+            throw t;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package tech.onova.flagd_admin_server.infrastructure.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Turns on the {@code @Cacheable} lookups of the repositories. The caches themselves are Caffeine caches
+ * configured through {@code spring.cache.*}, with statistics recorded so hits and misses show up in metrics.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableCaching
+public class CacheConfiguration {
+}
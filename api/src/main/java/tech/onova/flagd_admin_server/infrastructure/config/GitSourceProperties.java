@@ -0,0 +1,17 @@
+package tech.onova.flagd_admin_server.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for git:// sources.
+ *
+ * @param authorName   author and committer name of commits made by the server
+ * @param authorEmail  author and committer email of commits made by the server
+ * @param maxBatchSize most pending writes folded into a single commit under load
+ */
+@ConfigurationProperties(prefix = "application.sources.git")
+public record GitSourceProperties(@DefaultValue("flagd-admin") String authorName,
+                                  @DefaultValue("flagd-admin@localhost") String authorEmail,
+                                  @DefaultValue("64") int maxBatchSize) {
+}
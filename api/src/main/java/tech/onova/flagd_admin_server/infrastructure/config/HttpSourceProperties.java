@@ -0,0 +1,33 @@
+package tech.onova.flagd_admin_server.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Settings for http(s):// sources.
+ *
+ * @param refreshInterval  how long a fetched document is served without asking the origin again
+ * @param connectTimeout   connect timeout of the shared HTTP client
+ * @param requestTimeout   timeout of a single fetch
+ * @param maxCachedSize    upper bound for the response bodies kept for revalidation, across all sources
+ * @param refreshIntervals per-source overrides of {@code refreshInterval}, keyed by the full source uri
+ */
+@ConfigurationProperties(prefix = "application.sources.http")
+public record HttpSourceProperties(@DefaultValue("PT30S") Duration refreshInterval,
+                                   @DefaultValue("PT5S") Duration connectTimeout,
+                                   @DefaultValue("PT10S") Duration requestTimeout,
+                                   @DefaultValue("64MB") DataSize maxCachedSize,
+                                   Map<String, Duration> refreshIntervals) {
+
+    public HttpSourceProperties {
+        refreshIntervals = refreshIntervals != null ? Map.copyOf(refreshIntervals) : Map.of();
+    }
+
+    public Duration refreshIntervalFor(String uri) {
+        return refreshIntervals.getOrDefault(uri, refreshInterval);
+    }
+}
@@ -0,0 +1,39 @@
+package tech.onova.flagd_admin_server.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Settings for s3:// sources. Leave {@code endpoint} empty for AWS; set it (and usually
+ * {@code pathStyleAccess}) for MinIO or other S3-compatible stores. Without static keys the default
+ * AWS credentials chain is used.
+ *
+ * @param endpoint        endpoint override, e.g. {@code http://localhost:9000}
+ * @param region          signing region
+ * @param accessKeyId     static access key id
+ * @param secretAccessKey static secret access key
+ * @param pathStyleAccess address buckets as {@code endpoint/bucket} instead of {@code bucket.endpoint}
+ * @param refreshInterval how long the last-known object is served without asking the store again
+ * @param maxCachedSize   upper bound for the object bodies kept for revalidation, across all sources
+ */
+@ConfigurationProperties(prefix = "application.sources.s3")
+public record S3SourceProperties(String endpoint,
+                                 @DefaultValue("us-east-1") String region,
+                                 String accessKeyId,
+                                 String secretAccessKey,
+                                 @DefaultValue("false") boolean pathStyleAccess,
+                                 @DefaultValue("PT30S") Duration refreshInterval,
+                                 @DefaultValue("64MB") DataSize maxCachedSize) {
+
+    public boolean hasEndpoint() {
+        return endpoint != null && !endpoint.isBlank();
+    }
+
+    public boolean hasStaticCredentials() {
+        return accessKeyId != null && !accessKeyId.isBlank()
+                && secretAccessKey != null && !secretAccessKey.isBlank();
+    }
+}
@@ -0,0 +1,44 @@
+package tech.onova.flagd_admin_server.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Settings for the read-through cache in front of remote sources.
+ *
+ * @param schemes              uri schemes whose loaders are cached; none by default, as the http(s) and s3 loaders
+ *                             already keep and revalidate their own copies
+ * @param ttl                  how long fetched content is served without going to the backend
+ * @param staleWhileRevalidate how long after {@code ttl} expired content is still served while it is refreshed in the background
+ * @param maxSize              upper bound for the cached content of all sources together
+ * @param ttls                 per-source overrides of {@code ttl}, keyed by the full source uri; zero disables caching for that source
+ */
+@ConfigurationProperties(prefix = "application.sources.cache")
+public record SourceCacheProperties(Set<String> schemes,
+                                    @DefaultValue("PT5S") Duration ttl,
+                                    @DefaultValue("PT5M") Duration staleWhileRevalidate,
+                                    @DefaultValue("64MB") DataSize maxSize,
+                                    Map<String, Duration> ttls) {
+
+    public SourceCacheProperties {
+        schemes = schemes != null
+                ? schemes.stream().map(scheme -> scheme.toLowerCase(Locale.ROOT)).collect(Collectors.toUnmodifiableSet())
+                : Set.of();
+        ttls = ttls != null ? Map.copyOf(ttls) : Map.of();
+    }
+
+    public boolean caches(String scheme) {
+        return schemes.contains(scheme.toLowerCase(Locale.ROOT));
+    }
+
+    public Duration ttlFor(String uri) {
+        return ttls.getOrDefault(uri, ttl);
+    }
+}
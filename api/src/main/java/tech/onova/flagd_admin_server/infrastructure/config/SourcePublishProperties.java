@@ -0,0 +1,17 @@
+package tech.onova.flagd_admin_server.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings for copying source content to publish targets.
+ *
+ * @param maxAttempts  writes tried per target before the publish is reported as failed
+ * @param retryBackoff wait before the second attempt, growing linearly with each further attempt
+ */
+@ConfigurationProperties(prefix = "application.sources.publish")
+public record SourcePublishProperties(@DefaultValue("3") int maxAttempts,
+                                      @DefaultValue("200ms") Duration retryBackoff) {
+}
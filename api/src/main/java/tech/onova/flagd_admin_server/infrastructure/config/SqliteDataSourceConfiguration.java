@@ -0,0 +1,65 @@
+package tech.onova.flagd_admin_server.infrastructure.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * High-throughput SQLite mode. The database runs in WAL journaling, so readers never block the writer or each
+ * other. Read-only transactions are served from a pool of query-only connections. Every other transaction
+ * waits its turn for the one writer connection instead of failing with {@code SQLITE_BUSY}. The proxy only
+ * picks a pool once the transaction's read-only flag is known.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "application.database.sqlite", name = "wal-mode", havingValue = "true")
+public class SqliteDataSourceConfiguration {
+
+    @Bean
+    public HikariDataSource sqliteWriterDataSource(@Value("${spring.datasource.url}") String url, SqliteProperties properties) {
+        HikariDataSource dataSource = newPool("sqlite-writer", url, properties);
+        dataSource.setMaximumPoolSize(1);
+        dataSource.setMinimumIdle(1);
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource sqliteReaderDataSource(@Value("${spring.datasource.url}") String url, SqliteProperties properties) {
+        HikariDataSource dataSource = newPool("sqlite-reader", url, properties);
+        dataSource.setMaximumPoolSize(properties.readerPoolSize());
+        dataSource.setMinimumIdle(1);
+        dataSource.setConnectionInitSql("PRAGMA query_only = true");
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("sqliteWriterDataSource") DataSource writer,
+                                 @Qualifier("sqliteReaderDataSource") DataSource reader) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(writer);
+        dataSource.setReadOnlyDataSource(reader);
+        return dataSource;
+    }
+
+    static String withPragmas(String url, SqliteProperties properties) {
+        String pragmas = "journal_mode=WAL"
+                + "&synchronous=NORMAL"
+                + "&busy_timeout=" + properties.busyTimeout().toMillis()
+                + "&mmap_size=" + properties.mmapSize().toBytes();
+        return url + (url.contains("?") ? "&" : "?") + pragmas;
+    }
+
+    private HikariDataSource newPool(String poolName, String url, SqliteProperties properties) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(poolName);
+        dataSource.setDriverClassName("org.sqlite.JDBC");
+        dataSource.setJdbcUrl(withPragmas(url, properties));
+        return dataSource;
+    }
+}
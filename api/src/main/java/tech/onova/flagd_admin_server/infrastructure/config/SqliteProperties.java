@@ -0,0 +1,22 @@
+package tech.onova.flagd_admin_server.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Settings for the SQLite database of the server.
+ *
+ * @param walMode        whether to run the database in WAL mode with pooled readers and a single writer connection
+ * @param readerPoolSize read-only connections serving read-only transactions in WAL mode
+ * @param mmapSize       part of the database file read through memory mapping in WAL mode
+ * @param busyTimeout    how long a connection waits for a lock before failing with {@code SQLITE_BUSY}
+ */
+@ConfigurationProperties(prefix = "application.database.sqlite")
+public record SqliteProperties(@DefaultValue("false") boolean walMode,
+                               @DefaultValue("4") int readerPoolSize,
+                               @DefaultValue("256MB") DataSize mmapSize,
+                               @DefaultValue("PT5S") Duration busyTimeout) {
+}
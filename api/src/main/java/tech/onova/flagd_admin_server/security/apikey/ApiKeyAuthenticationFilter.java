@@ -0,0 +1,66 @@
+package tech.onova.flagd_admin_server.security.apikey;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import tech.onova.flagd_admin_server.domain.entity.ApiKey;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Authenticates requests carrying an {@value #API_KEY_HEADER} header. The principal is granted one authority per
+ * scope of the key, which the authorization rules of the filter chain check against the endpoint; it is named
+ * {@code api-key:<name>} so changes made with it are attributable.
+ */
+@Component
+public class ApiKeyAuthenticationFilter extends OncePerRequestFilter {
+
+    public static final String API_KEY_HEADER = "X-API-Key";
+    static final String PRINCIPAL_PREFIX = "api-key:";
+
+    private final ApiKeyService apiKeyService;
+
+    @Autowired
+    public ApiKeyAuthenticationFilter(ApiKeyService apiKeyService) {
+        this.apiKeyService = apiKeyService;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        final String key = request.getHeader(API_KEY_HEADER);
+
+        if (key == null || SecurityContextHolder.getContext().getAuthentication() != null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Optional<ApiKey> apiKey = apiKeyService.authenticate(key);
+        if (apiKey.isEmpty()) {
+            response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Invalid API key");
+            return;
+        }
+
+        UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                PRINCIPAL_PREFIX + apiKey.get().getName(),
+                null,
+                apiKey.get().getScopes().stream()
+                        .map(scope -> new SimpleGrantedAuthority(ApiKeyScope.AUTHORITY_PREFIX + scope))
+                        .toList()
+        );
+        authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(authToken);
+
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,38 @@
+package tech.onova.flagd_admin_server.security.apikey;
+
+import java.util.Arrays;
+
+/**
+ * What an API key may do. A key is granted one {@link #authority()} per scope, and the security configuration
+ * requires them per endpoint: flag endpoints below a source need a {@code flags} scope, the other source
+ * endpoints a {@code sources} scope; reads are {@code GET} and {@code HEAD}, everything else is a write.
+ */
+public enum ApiKeyScope {
+    FLAGS_READ("flags:read"),
+    FLAGS_WRITE("flags:write"),
+    SOURCES_READ("sources:read"),
+    SOURCES_WRITE("sources:write");
+
+    public static final String AUTHORITY_PREFIX = "SCOPE_";
+
+    private final String value;
+
+    ApiKeyScope(String value) {
+        this.value = value;
+    }
+
+    public String value() {
+        return value;
+    }
+
+    public String authority() {
+        return AUTHORITY_PREFIX + value;
+    }
+
+    public static ApiKeyScope fromValue(String value) {
+        return Arrays.stream(values())
+                .filter(scope -> scope.value.equals(value))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown API key scope '" + value + "'"));
+    }
+}
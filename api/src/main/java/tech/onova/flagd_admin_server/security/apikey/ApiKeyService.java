@@ -0,0 +1,183 @@
+package tech.onova.flagd_admin_server.security.apikey;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import tech.onova.flagd_admin_server.domain.entity.ApiKey;
+import tech.onova.flagd_admin_server.domain.exception.ApiKeysDisabledException;
+import tech.onova.flagd_admin_server.domain.repository.ApiKeyRepository;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Issues API keys and authenticates requests carrying one. Keys are stored as HMAC-SHA256 digests under
+ * {@code application.auth.api-keys.secret} and held in memory by digest, so authenticating a request costs one
+ * hash and one map lookup. Usage is counted in memory and written to the database periodically.
+ *
+ * <p>The secret must stay the same across restarts, otherwise stored digests no longer match; without one,
+ * API keys are disabled.
+ */
+@Service
+public class ApiKeyService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApiKeyService.class);
+    static final String KEY_PREFIX = "fak_";
+    private static final int KEY_BYTES = 32;
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    /**
+     * A newly created key; {@code key} is the only time the plain key is available.
+     */
+    public record CreatedApiKey(ApiKey apiKey, String key) {
+    }
+
+    private static final class Usage {
+        private final AtomicLong uses = new AtomicLong();
+        private volatile Instant lastUsedAt;
+    }
+
+    private final ApiKeyRepository apiKeyRepository;
+    private final SecretKeySpec secret;
+    private final Clock clock;
+    private final SecureRandom random = new SecureRandom();
+    private final ThreadLocal<Mac> macs;
+
+    private final Map<String, ApiKey> keysByDigest = new ConcurrentHashMap<>();
+    private final Map<String, Usage> usageById = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ApiKeyService(ApiKeyRepository apiKeyRepository,
+                         @Value("${application.auth.api-keys.secret:}") String secret) {
+        this(apiKeyRepository, secret, Clock.systemDefaultZone());
+    }
+
+    ApiKeyService(ApiKeyRepository apiKeyRepository, String secret, Clock clock) {
+        this.apiKeyRepository = apiKeyRepository;
+        this.secret = secret == null || secret.isBlank()
+                ? null
+                : new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+        this.clock = clock;
+        this.macs = ThreadLocal.withInitial(this::newMac);
+    }
+
+    @PostConstruct
+    public void loadKeys() {
+        if (isEnabled()) {
+            apiKeyRepository.findAll().forEach(apiKey -> keysByDigest.put(apiKey.getKeyDigest(), apiKey));
+        }
+    }
+
+    public boolean isEnabled() {
+        return secret != null;
+    }
+
+    public CreatedApiKey create(String name, List<ApiKeyScope> scopes, ZonedDateTime expiresAt, String createdBy) {
+        if (!isEnabled()) {
+            throw new ApiKeysDisabledException("API keys are disabled; set application.auth.api-keys.secret to enable them");
+        }
+        byte[] keyBytes = new byte[KEY_BYTES];
+        random.nextBytes(keyBytes);
+        String key = KEY_PREFIX + Base64.getUrlEncoder().withoutPadding().encodeToString(keyBytes);
+
+        ApiKey apiKey = new ApiKey(
+                UUID.randomUUID().toString(),
+                name,
+                digest(key),
+                scopes.stream().map(ApiKeyScope::value).distinct().toList(),
+                createdBy,
+                expiresAt
+        );
+        apiKeyRepository.save(apiKey);
+        keysByDigest.put(apiKey.getKeyDigest(), apiKey);
+        return new CreatedApiKey(apiKey, key);
+    }
+
+    /**
+     * Every stored key. Usage is as of the last flush, which runs in the background.
+     */
+    public List<ApiKey> findAll() {
+        return apiKeyRepository.findAll();
+    }
+
+    public boolean revoke(String id) {
+        Optional<ApiKey> apiKey = apiKeyRepository.findById(id);
+        if (apiKey.isEmpty()) {
+            return false;
+        }
+        keysByDigest.remove(apiKey.get().getKeyDigest());
+        usageById.remove(id);
+        apiKeyRepository.delete(apiKey.get());
+        return true;
+    }
+
+    /**
+     * The live key matching {@code key}, counting the use. Unknown, revoked and expired keys are empty.
+     */
+    public Optional<ApiKey> authenticate(String key) {
+        if (!isEnabled() || !key.startsWith(KEY_PREFIX)) {
+            return Optional.empty();
+        }
+        ApiKey apiKey = keysByDigest.get(digest(key));
+        if (apiKey == null || apiKey.isExpired(ZonedDateTime.now(clock))) {
+            return Optional.empty();
+        }
+        Usage usage = usageById.computeIfAbsent(apiKey.getId(), id -> new Usage());
+        // Set before counting, so a flush that sees the use also sees when it happened
+        usage.lastUsedAt = clock.instant();
+        usage.uses.incrementAndGet();
+        return Optional.of(apiKey);
+    }
+
+    @Scheduled(initialDelayString = "${application.auth.api-keys.usage-flush-interval:PT1M}",
+            fixedDelayString = "${application.auth.api-keys.usage-flush-interval:PT1M}")
+    @PreDestroy
+    public void flushUsage() {
+        usageById.forEach((id, usage) -> {
+            long uses = usage.uses.getAndSet(0);
+            if (uses == 0) {
+                return;
+            }
+            try {
+                apiKeyRepository.addUsage(id, uses, ZonedDateTime.ofInstant(usage.lastUsedAt, clock.getZone()));
+            } catch (RuntimeException e) {
+                // Keep the count for the next flush and go on with the other keys
+                usage.uses.addAndGet(uses);
+                logger.warn("Failed to record usage of API key {}, retrying on the next flush: {}", id, e.getMessage());
+            }
+        });
+    }
+
+    private String digest(String key) {
+        return HexFormat.of().formatHex(macs.get().doFinal(key.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(secret);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 is not available", e);
+        }
+    }
+}
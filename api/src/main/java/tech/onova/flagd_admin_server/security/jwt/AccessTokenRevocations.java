@@ -0,0 +1,85 @@
+package tech.onova.flagd_admin_server.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.JwtException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Access tokens that were revoked before their expiry. A single token is remembered by its digest until it
+ * expires; revoking a subject rejects every token issued to it up to that moment, for as long as an access token
+ * lives. {@code iat} only has second precision, so tokens issued in the same second as the revocation are
+ * rejected too. Revocations are kept in memory and do not survive a restart.
+ */
+@Component
+public class AccessTokenRevocations {
+
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final Clock clock;
+    private final Cache<ByteBuffer, VerifiedToken> revokedTokens;
+    private final Cache<String, Instant> revokedSubjects;
+
+    @Autowired
+    public AccessTokenRevocations(VerifiedTokenCache verifiedTokenCache,
+                                  @Value("${application.auth.provider.jwt.access-token-expiration}") long accessTokenExpiration) {
+        this(verifiedTokenCache, Duration.ofMillis(accessTokenExpiration), Clock.systemUTC());
+    }
+
+    AccessTokenRevocations(VerifiedTokenCache verifiedTokenCache, Duration accessTokenLifetime, Clock clock) {
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.clock = clock;
+        this.revokedTokens = Caffeine.newBuilder()
+                .expireAfter(Expiry.creating(this::timeToLive))
+                .build();
+        this.revokedSubjects = Caffeine.newBuilder()
+                .expireAfterWrite(accessTokenLifetime)
+                .build();
+    }
+
+    /**
+     * Rejects the token from now on. Tokens that do not verify cannot authenticate anyway and are ignored.
+     */
+    public void revoke(String token) {
+        VerifiedToken verified;
+        try {
+            verified = verifiedTokenCache.verify(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            return;
+        }
+        revokedTokens.put(VerifiedTokenCache.digest(token), verified);
+    }
+
+    /**
+     * Rejects every token issued to the subject so far, for revocations that cover all of a user's sessions.
+     */
+    public void revokeSubject(String subject) {
+        revokedSubjects.put(subject, Instant.now(clock).truncatedTo(ChronoUnit.SECONDS));
+    }
+
+    public boolean isRevoked(String token, VerifiedToken verified) {
+        Instant subjectRevokedAt = verified.subject() != null ? revokedSubjects.getIfPresent(verified.subject()) : null;
+        if (subjectRevokedAt != null && (verified.issuedAt() == null || !verified.issuedAt().isAfter(subjectRevokedAt))) {
+            return true;
+        }
+        // Skip hashing the token on the usual path where nothing is revoked
+        return revokedTokens.estimatedSize() > 0 && revokedTokens.getIfPresent(VerifiedTokenCache.digest(token)) != null;
+    }
+
+    private Duration timeToLive(ByteBuffer key, VerifiedToken token) {
+        if (token.expiresAt() == null) {
+            // Never expires on its own, so neither does the revocation
+            return Duration.ofNanos(Long.MAX_VALUE);
+        }
+        Duration remaining = Duration.between(Instant.now(clock), token.expiresAt());
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+}
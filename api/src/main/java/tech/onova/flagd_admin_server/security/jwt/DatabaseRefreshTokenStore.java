@@ -0,0 +1,55 @@
+package tech.onova.flagd_admin_server.security.jwt;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import tech.onova.flagd_admin_server.domain.entity.RefreshToken;
+import tech.onova.flagd_admin_server.domain.repository.RefreshTokenRepository;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@ConditionalOnProperty(prefix = "application.auth.refresh-token-store", name = "mode", havingValue = "database", matchIfMissing = true)
+public class DatabaseRefreshTokenStore implements RefreshTokenStore {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    public DatabaseRefreshTokenStore(RefreshTokenRepository refreshTokenRepository) {
+        this.refreshTokenRepository = refreshTokenRepository;
+    }
+
+    @Override
+    public RefreshToken save(RefreshToken refreshToken) {
+        return refreshTokenRepository.save(refreshToken);
+    }
+
+    @Override
+    public Optional<RefreshToken> findById(String id) {
+        return refreshTokenRepository.findById(id);
+    }
+
+    @Override
+    public void delete(RefreshToken refreshToken) {
+        refreshTokenRepository.delete(refreshToken);
+    }
+
+    @Override
+    public boolean rotate(String currentId, RefreshToken replacement) {
+        return refreshTokenRepository.rotate(currentId, replacement);
+    }
+
+    @Override
+    public int deleteByUserId(String userId) {
+        return refreshTokenRepository.deleteByUserId(userId);
+    }
+
+    @Override
+    public int deleteExpired(ZonedDateTime now, int limit) {
+        List<String> expiredIds = refreshTokenRepository.findExpiredIds(now, Limit.of(limit));
+        return expiredIds.isEmpty() ? 0 : refreshTokenRepository.deleteByIdIn(expiredIds);
+    }
+}
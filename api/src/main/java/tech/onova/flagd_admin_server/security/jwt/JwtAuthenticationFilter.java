@@ -19,11 +19,16 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private JwtUtil jwtUtil;
+    private VerifiedTokenCache verifiedTokenCache;
+    private AccessTokenRevocations revocations;
     private UserDetailsService userDetailsService;
 
     @Autowired
-    public JwtAuthenticationFilter(JwtUtil jwtUtil, UserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, VerifiedTokenCache verifiedTokenCache,
+                                   AccessTokenRevocations revocations, UserDetailsService userDetailsService) {
         this.jwtUtil = jwtUtil;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.revocations = revocations;
         this.userDetailsService = userDetailsService;
     }
 
@@ -33,7 +38,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         final String authHeader = request.getHeader("Authorization");
         final String jwt;
-        final String username;
+        final VerifiedToken token;
 
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
             filterChain.doFilter(request, response);
@@ -41,11 +46,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         jwt = authHeader.substring(7);
-        username = jwtUtil.extractUsername(jwt);
+        // Verify and parse once, or not at all for a token seen before; every check below reads the same claims
+        token = verifiedTokenCache.verify(jwt);
 
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
-            if (jwtUtil.validateToken(jwt, userDetails)) {
+        // Checked on every request, as revoked tokens still verify and may be cached
+        if (token.subject() != null && SecurityContextHolder.getContext().getAuthentication() == null
+                && !revocations.isRevoked(jwt, token)) {
+            // The user store is only consulted when the token does not describe the principal itself
+            UserDetails userDetails = jwtUtil.principalFromClaims(token)
+                    .orElseGet(() -> this.userDetailsService.loadUserByUsername(token.subject()));
+            if (jwtUtil.validateToken(token, userDetails)) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         userDetails, null, userDetails.getAuthorities()
                 );
@@ -0,0 +1,300 @@
+package tech.onova.flagd_admin_server.security.jwt;
+
+import io.jsonwebtoken.Header;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.ProtectedHeader;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.EdECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Owns the keys tokens are signed and verified with.
+ *
+ * <p>Without a key directory every token is signed with the shared HMAC secret, as before. With
+ * {@code application.auth.provider.jwt.signing-keys-dir} set, tokens are signed with an Ed25519 or RSA private
+ * key and carry its file name as {@code kid}; the matching public keys are published as a JWK set so proxies and
+ * other services can verify tokens without the secret. Each {@code <kid>.pem} file holds a PKCS#8 private key
+ * followed by its X.509 public key, as written by {@code openssl genpkey -algorithm ed25519} plus
+ * {@code openssl pkey -pubout}. An empty directory gets a generated Ed25519 key on startup.
+ *
+ * <p>Rotation is a file drop: the directory is re-read periodically, every key in it verifies, and the
+ * greatest {@code kid} that has been published for at least the activation delay signs, so verifiers can fetch
+ * a new key before the first token using it arrives. Removing a file retires its key at the next reload: tokens
+ * it signed stop verifying right away, so delete a key only once its tokens have expired unless it was
+ * compromised. Tokens without a {@code kid} keep verifying against the HMAC secret while it is configured.
+ */
+@Component
+public class JwtKeyManager {
+
+    private static final Pattern PEM_BLOCK =
+            Pattern.compile("-----BEGIN ([A-Z ]+)-----([A-Za-z0-9+/=\\s]+)-----END \\1-----");
+    private static final DateTimeFormatter GENERATED_KID =
+            DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+
+    /**
+     * The key new tokens are signed with; {@code kid} and {@code algorithm} are {@code null} for the HMAC secret,
+     * whose algorithm follows from its length.
+     */
+    public record SigningKey(String kid, Key key, SignatureAlgorithm algorithm) {
+    }
+
+    private record KeyEntry(String kid, PrivateKey privateKey, PublicKey publicKey, Instant publishedAt) {
+    }
+
+    private final SecretKey hmacKey;
+    private final Path keysDir;
+    private final Duration activationDelay;
+    private final Clock clock;
+
+    private final List<Consumer<String>> retirementListeners = new CopyOnWriteArrayList<>();
+
+    private volatile Map<String, KeyEntry> keys = Map.of();
+
+    @Autowired
+    public JwtKeyManager(@Value("${application.auth.provider.jwt.secret:}") String jwtSecret,
+                         @Value("${application.auth.provider.jwt.signing-keys-dir:}") String keysDir,
+                         @Value("${application.auth.provider.jwt.signing-key-activation-delay:PT5M}") Duration activationDelay) {
+        this(jwtSecret, keysDir.isBlank() ? null : Path.of(keysDir), activationDelay, Clock.systemUTC());
+    }
+
+    JwtKeyManager(String jwtSecret, Path keysDir, Duration activationDelay, Clock clock) {
+        if ((jwtSecret == null || jwtSecret.isBlank()) && keysDir == null) {
+            throw new IllegalStateException(
+                    "Either application.auth.provider.jwt.secret or application.auth.provider.jwt.signing-keys-dir must be set");
+        }
+        this.hmacKey = jwtSecret == null || jwtSecret.isBlank()
+                ? null
+                : Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.keysDir = keysDir;
+        this.activationDelay = activationDelay;
+        this.clock = clock;
+        if (keysDir != null) {
+            initializeKeysDir();
+            reload();
+        }
+    }
+
+    static JwtKeyManager hmac(String jwtSecret) {
+        return new JwtKeyManager(jwtSecret, null, Duration.ZERO, Clock.systemUTC());
+    }
+
+    public SigningKey signingKey() {
+        if (keys.isEmpty()) {
+            return new SigningKey(null, hmacKey, null);
+        }
+        Instant activeBefore = Instant.now(clock).minus(activationDelay);
+        List<KeyEntry> byKid = keys.values().stream()
+                .sorted(Comparator.comparing(KeyEntry::kid))
+                .toList();
+        // The first key ever published signs immediately, there is nothing to rotate away from
+        KeyEntry active = byKid.reversed().stream()
+                .filter(entry -> !entry.publishedAt().isAfter(activeBefore))
+                .findFirst()
+                .orElse(byKid.getFirst());
+        return new SigningKey(active.kid(), active.privateKey(), algorithmFor(active.privateKey()));
+    }
+
+    /**
+     * Resolves the key a token has to be verified with from its {@code kid} header.
+     *
+     * @throws UnsupportedJwtException if the key is unknown or retired
+     */
+    public Key verificationKey(Header header) {
+        String kid = header instanceof ProtectedHeader protectedHeader ? protectedHeader.getKeyId() : null;
+        if (kid == null) {
+            if (hmacKey == null) {
+                throw new UnsupportedJwtException("Token has no key id");
+            }
+            return hmacKey;
+        }
+        KeyEntry entry = keys.get(kid);
+        if (entry == null) {
+            throw new UnsupportedJwtException("Unknown signing key id '" + kid + "'");
+        }
+        return entry.publicKey();
+    }
+
+    /**
+     * The public keys of every active {@code kid}, as JWK objects.
+     */
+    public List<Map<String, Object>> publicJwks() {
+        return keys.values().stream()
+                .sorted(Comparator.comparing(KeyEntry::kid))
+                .map(entry -> toJwk(entry.kid(), entry.publicKey()))
+                .toList();
+    }
+
+    /**
+     * Registers a callback told the {@code kid} of every key retired by a reload, e.g. to forget tokens it signed.
+     */
+    public void addRetirementListener(Consumer<String> listener) {
+        retirementListeners.add(listener);
+    }
+
+    /**
+     * Picks up added and removed key files. Keys already loaded keep their original publication time.
+     */
+    @Scheduled(initialDelayString = "${application.auth.provider.jwt.signing-key-reload-interval:PT1M}",
+            fixedDelayString = "${application.auth.provider.jwt.signing-key-reload-interval:PT1M}")
+    public void reload() {
+        if (keysDir == null) {
+            return;
+        }
+        Map<String, KeyEntry> previous = keys;
+        Map<String, KeyEntry> loaded = new LinkedHashMap<>();
+        try (Stream<Path> files = Files.list(keysDir)) {
+            for (Path file : files.filter(path -> path.getFileName().toString().endsWith(".pem")).toList()) {
+                String fileName = file.getFileName().toString();
+                String kid = fileName.substring(0, fileName.length() - ".pem".length());
+                KeyEntry known = previous.get(kid);
+                loaded.put(kid, known != null ? known : readKey(kid, file));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read signing keys from " + keysDir, e);
+        }
+        if (loaded.isEmpty() && hmacKey == null) {
+            throw new IllegalStateException("No signing keys in " + keysDir);
+        }
+        keys = Map.copyOf(loaded);
+        previous.keySet().stream()
+                .filter(kid -> !loaded.containsKey(kid))
+                .forEach(kid -> retirementListeners.forEach(listener -> listener.accept(kid)));
+    }
+
+    private void initializeKeysDir() {
+        try {
+            Files.createDirectories(keysDir);
+            try (Stream<Path> files = Files.list(keysDir)) {
+                if (files.anyMatch(path -> path.getFileName().toString().endsWith(".pem"))) {
+                    return;
+                }
+            }
+            KeyPair keyPair = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+            Path file = keysDir.resolve(GENERATED_KID.format(Instant.now(clock)) + ".pem");
+            Files.writeString(file, pem("PRIVATE KEY", keyPair.getPrivate().getEncoded())
+                    + pem("PUBLIC KEY", keyPair.getPublic().getEncoded()));
+            try {
+                Files.setPosixFilePermissions(file, PosixFilePermissions.fromString("rw-------"));
+            } catch (UnsupportedOperationException ignored) {
+                // Not a POSIX file system
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to initialize signing keys in " + keysDir, e);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to generate a signing key", e);
+        }
+    }
+
+    private KeyEntry readKey(String kid, Path file) throws IOException {
+        byte[] privateKeyBytes = null;
+        byte[] publicKeyBytes = null;
+        Matcher matcher = PEM_BLOCK.matcher(Files.readString(file));
+        while (matcher.find()) {
+            byte[] der = Base64.getMimeDecoder().decode(matcher.group(2).strip());
+            switch (matcher.group(1)) {
+                case "PRIVATE KEY" -> privateKeyBytes = der;
+                case "PUBLIC KEY" -> publicKeyBytes = der;
+                default -> {
+                    // Certificates and parameters are not needed for signing
+                }
+            }
+        }
+        if (privateKeyBytes == null || publicKeyBytes == null) {
+            throw new IllegalStateException("Signing key " + file + " must contain a PRIVATE KEY and a PUBLIC KEY block");
+        }
+        for (String algorithm : List.of("Ed25519", "RSA")) {
+            try {
+                KeyFactory keyFactory = KeyFactory.getInstance(algorithm);
+                return new KeyEntry(kid,
+                        keyFactory.generatePrivate(new PKCS8EncodedKeySpec(privateKeyBytes)),
+                        keyFactory.generatePublic(new X509EncodedKeySpec(publicKeyBytes)),
+                        Files.getLastModifiedTime(file).toInstant());
+            } catch (GeneralSecurityException e) {
+                // Try the next supported key type
+            }
+        }
+        throw new IllegalStateException("Signing key " + file + " is neither an Ed25519 nor an RSA key");
+    }
+
+    private static SignatureAlgorithm algorithmFor(PrivateKey privateKey) {
+        return "RSA".equals(privateKey.getAlgorithm()) ? Jwts.SIG.RS256 : Jwts.SIG.EdDSA;
+    }
+
+    private static Map<String, Object> toJwk(String kid, PublicKey publicKey) {
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        if (publicKey instanceof RSAPublicKey rsaKey) {
+            jwk.put("kty", "RSA");
+            jwk.put("n", base64Url(unsigned(rsaKey.getModulus())));
+            jwk.put("e", base64Url(unsigned(rsaKey.getPublicExponent())));
+            jwk.put("alg", "RS256");
+        } else if (publicKey instanceof EdECPublicKey) {
+            byte[] encoded = publicKey.getEncoded();
+            // The X.509 encoding of an Ed25519 key ends with the 32 raw key bytes
+            jwk.put("kty", "OKP");
+            jwk.put("crv", "Ed25519");
+            jwk.put("x", base64Url(Arrays.copyOfRange(encoded, encoded.length - 32, encoded.length)));
+            jwk.put("alg", "EdDSA");
+        }
+        jwk.put("use", "sig");
+        jwk.put("kid", kid);
+        return jwk;
+    }
+
+    private static byte[] unsigned(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        return bytes.length > 1 && bytes[0] == 0 ? Arrays.copyOfRange(bytes, 1, bytes.length) : bytes;
+    }
+
+    private static String base64Url(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static String pem(String type, byte[] der) {
+        List<String> lines = new ArrayList<>();
+        lines.add("-----BEGIN " + type + "-----");
+        lines.add(Base64.getMimeEncoder(64, "\n".getBytes(StandardCharsets.US_ASCII)).encodeToString(der));
+        lines.add("-----END " + type + "-----");
+        return String.join("\n", lines) + "\n";
+    }
+}
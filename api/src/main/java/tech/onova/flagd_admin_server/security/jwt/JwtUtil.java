@@ -1,33 +1,65 @@
 package tech.onova.flagd_admin_server.security.jwt;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
-import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.PrivateKey;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
 
 @Component
 public class JwtUtil {
 
-    @Value("${application.auth.provider.jwt.secret}")
-    private String jwtSecret;
+    static final String AUTHORITIES_CLAIM = "authorities";
 
-    @Value("${application.auth.provider.jwt.access-token-expiration}")
-    private long accessTokenExpiration;
+    private final JwtKeyManager keyManager;
+    // Parsers are immutable and thread-safe, so one instance serves every request; keys are resolved per kid
+    private final JwtParser parser;
+    private final long accessTokenExpiration;
+    private final boolean claimsPrincipal;
 
-    @Value("${application.auth.provider.jwt.refresh-token-expiration}")
-    private long refreshTokenExpiration;
+    JwtUtil(String jwtSecret, long accessTokenExpiration) {
+        this(jwtSecret, accessTokenExpiration, false);
+    }
+
+    JwtUtil(String jwtSecret, long accessTokenExpiration, boolean claimsPrincipal) {
+        this(JwtKeyManager.hmac(jwtSecret), accessTokenExpiration, claimsPrincipal);
+    }
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+    @Autowired
+    public JwtUtil(JwtKeyManager keyManager,
+                   @Value("${application.auth.provider.jwt.access-token-expiration}") long accessTokenExpiration,
+                   @Value("${application.auth.provider.jwt.claims-principal:false}") boolean claimsPrincipal) {
+        this.keyManager = keyManager;
+        this.parser = Jwts.parser()
+                .keyLocator(keyManager::verificationKey)
+                .build();
+        this.accessTokenExpiration = accessTokenExpiration;
+        this.claimsPrincipal = claimsPrincipal;
+    }
+
+    /**
+     * Verifies the signature and expiry of the token and parses it, once.
+     *
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, tampered with or expired
+     * @throws IllegalArgumentException if the token is null or empty
+     */
+    public VerifiedToken verify(String token) {
+        return VerifiedToken.of(parser.parseSignedClaims(token));
     }
 
     public String extractUsername(String token) {
@@ -44,46 +76,65 @@ public class JwtUtil {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    Key getSigningKey() {
+        return keyManager.signingKey().key();
     }
 
     public String generateAccessToken(UserDetails userDetails) {
-        Map<String, Object> extraClaims = new HashMap<>();
-        extraClaims.put("type", "access");
-        return generateToken(extraClaims, userDetails, accessTokenExpiration);
+        return generateAccessToken(userDetails.getUsername(), userDetails.getAuthorities());
     }
 
-    public String generateRefreshToken(UserDetails userDetails) {
+    public String generateAccessToken(String username, Collection<? extends GrantedAuthority> authorities) {
         Map<String, Object> extraClaims = new HashMap<>();
-        extraClaims.put("type", "refresh");
-        return generateToken(extraClaims, userDetails, refreshTokenExpiration);
+        extraClaims.put("type", "access");
+        extraClaims.put(AUTHORITIES_CLAIM, authorities.stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList());
+        return generateToken(extraClaims, username, accessTokenExpiration);
     }
 
-    private String generateToken(Map<String, Object> extraClaims, UserDetails userDetails, long expiration) {
-        return Jwts.builder()
+    private String generateToken(Map<String, Object> extraClaims, String subject, long expiration) {
+        JwtKeyManager.SigningKey signingKey = keyManager.signingKey();
+        JwtBuilder builder = Jwts.builder()
                 .claims(extraClaims)
-                .subject(userDetails.getUsername())
+                .subject(subject)
                 .issuedAt(new Date())
-                .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey())
-                .compact();
+                .expiration(new Date(System.currentTimeMillis() + expiration));
+        if (signingKey.kid() == null) {
+            builder.signWith(signingKey.key());
+        } else {
+            builder.header().keyId(signingKey.kid()).and()
+                    .signWith((PrivateKey) signingKey.key(), signingKey.algorithm());
+        }
+        return builder.compact();
     }
 
     public boolean validateToken(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        return validateToken(verify(token), userDetails);
+    }
+
+    public boolean validateToken(VerifiedToken token, UserDetails userDetails) {
+        return userDetails.getUsername().equals(token.subject()) && !token.isExpired(Instant.now());
+    }
+
+    /**
+     * The principal described by the token's own claims, when claims-based principals are enabled and the token
+     * carries the authorities claim. Empty means the user store has to be asked instead.
+     */
+    public Optional<UserDetails> principalFromClaims(VerifiedToken token) {
+        if (!claimsPrincipal || token.authorities() == null || token.subject() == null) {
+            return Optional.empty();
+        }
+        return Optional.of(User.withUsername(token.subject())
+                .password("")
+                .authorities(token.authorities().toArray(String[]::new))
+                .build());
     }
 
     public boolean isRefreshToken(String token) {
-        Claims claims = extractAllClaims(token);
-        return "refresh".equals(claims.get("type"));
+        return verify(token).isRefreshToken();
     }
-}
\ No newline at end of file
+}
@@ -2,52 +2,59 @@ package tech.onova.flagd_admin_server.security.jwt;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import tech.onova.flagd_admin_server.domain.entity.RefreshToken;
-import tech.onova.flagd_admin_server.domain.repository.RefreshTokenRepository;
 
 import java.time.Duration;
 import java.time.ZonedDateTime;
+import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.StreamSupport;
 
 @Service
 public class RefreshTokenService {
 
     @Autowired
-    private RefreshTokenRepository refreshTokenRepository;
+    private RefreshTokenStore refreshTokenStore;
+
+    @Autowired
+    private AccessTokenRevocations accessTokenRevocations;
 
     @Value("${application.auth.provider.jwt.refresh-token-expiration}")
     private long refreshTokenExpiration;
 
-    public RefreshToken createRefreshToken(UserDetails userDetails) {
-        String tokenId = UUID.randomUUID().toString();
-        ZonedDateTime expiresAt = ZonedDateTime.now().plus(Duration.ofMillis(refreshTokenExpiration));
-        RefreshToken refreshToken = new RefreshToken(tokenId, userDetails.getUsername(), expiresAt);
-        return refreshTokenRepository.save(refreshToken);
+    public RefreshToken createRefreshToken(String userId) {
+        return refreshTokenStore.save(newRefreshToken(userId));
     }
 
-    public RefreshToken findByToken(String token) {
-        return refreshTokenRepository.findById(token).orElse(null);
+    /**
+     * Exchanges {@code current} for a new token of the same user. Empty if {@code current} was already used or
+     * revoked, including by a concurrent rotation.
+     */
+    public Optional<RefreshToken> rotateRefreshToken(RefreshToken current) {
+        RefreshToken replacement = newRefreshToken(current.getUserId());
+        return refreshTokenStore.rotate(current.getId(), replacement) ? Optional.of(replacement) : Optional.empty();
     }
 
-    public RefreshToken verifyExpiration(RefreshToken token) {
-        if (token.getExpiresAt().isBefore(ZonedDateTime.now())) {
-            refreshTokenRepository.delete(token);
-            throw new RuntimeException("Refresh token was expired. Please make a new login request");
-        }
-        return token;
+    public RefreshToken findByToken(String token) {
+        return refreshTokenStore.findById(token).orElse(null);
     }
 
-    public void deleteByUserId(String userId) {
-        Iterable<RefreshToken> tokens = refreshTokenRepository.findAll();
-        StreamSupport.stream(tokens.spliterator(), false)
-                .filter(token -> token.getUserId().equals(userId))
-                .forEach(refreshTokenRepository::delete);
+    /**
+     * Revokes every session of the user: its refresh tokens and every access token issued to it so far.
+     */
+    public int deleteByUserId(String userId) {
+        int deleted = refreshTokenStore.deleteByUserId(userId);
+        accessTokenRevocations.revokeSubject(userId);
+        return deleted;
     }
 
     public void deleteRefreshToken(RefreshToken token) {
-        refreshTokenRepository.delete(token);
+        refreshTokenStore.delete(token);
+    }
+
+    private RefreshToken newRefreshToken(String userId) {
+        String tokenId = UUID.randomUUID().toString();
+        ZonedDateTime expiresAt = ZonedDateTime.now().plus(Duration.ofMillis(refreshTokenExpiration));
+        return new RefreshToken(tokenId, userId, expiresAt);
     }
 }
\ No newline at end of file
@@ -0,0 +1,37 @@
+package tech.onova.flagd_admin_server.security.jwt;
+
+import tech.onova.flagd_admin_server.domain.entity.RefreshToken;
+
+import java.time.ZonedDateTime;
+import java.util.Optional;
+
+/**
+ * Where issued refresh tokens live. Selected with {@code application.auth.refresh-token-store.mode}:
+ * {@code database} (default) writes through to the repository, {@code write-behind} answers from memory and
+ * persists changes in the background.
+ */
+public interface RefreshTokenStore {
+
+    RefreshToken save(RefreshToken refreshToken);
+
+    Optional<RefreshToken> findById(String id);
+
+    void delete(RefreshToken refreshToken);
+
+    /**
+     * Atomically removes {@code currentId} and stores {@code replacement}. Of two concurrent rotations of the
+     * same token, only one succeeds.
+     *
+     * @return {@code false}, with nothing changed, if {@code currentId} no longer exists
+     */
+    boolean rotate(String currentId, RefreshToken replacement);
+
+    int deleteByUserId(String userId);
+
+    /**
+     * Removes up to {@code limit} tokens that expired before {@code now}, earliest first.
+     *
+     * @return number of tokens removed
+     */
+    int deleteExpired(ZonedDateTime now, int limit);
+}
@@ -0,0 +1,49 @@
+package tech.onova.flagd_admin_server.security.jwt;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.ZonedDateTime;
+
+/**
+ * Purges expired refresh tokens in the background, so the store only holds live sessions even when expired
+ * tokens are never presented again. Each batch is deleted in its own short transaction to keep the write
+ * lock brief.
+ */
+@Component
+public class RefreshTokenSweeper {
+
+    private final RefreshTokenStore refreshTokenStore;
+    private final int batchSize;
+    private final Clock clock;
+
+    @Autowired
+    public RefreshTokenSweeper(RefreshTokenStore refreshTokenStore,
+                               @Value("${application.auth.provider.jwt.refresh-token-sweep-batch-size:500}") int batchSize) {
+        this(refreshTokenStore, batchSize, Clock.systemDefaultZone());
+    }
+
+    RefreshTokenSweeper(RefreshTokenStore refreshTokenStore, int batchSize, Clock clock) {
+        this.refreshTokenStore = refreshTokenStore;
+        this.batchSize = batchSize;
+        this.clock = clock;
+    }
+
+    @Scheduled(initialDelayString = "${application.auth.provider.jwt.refresh-token-sweep-interval:PT10M}",
+            fixedDelayString = "${application.auth.provider.jwt.refresh-token-sweep-interval:PT10M}")
+    public int sweepExpiredTokens() {
+        ZonedDateTime now = ZonedDateTime.now(clock);
+        int purged = 0;
+
+        int deleted;
+        do {
+            deleted = refreshTokenStore.deleteExpired(now, batchSize);
+            purged += deleted;
+        } while (deleted == batchSize);
+
+        return purged;
+    }
+}
@@ -0,0 +1,69 @@
+package tech.onova.flagd_admin_server.security.jwt;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Service;
+import tech.onova.flagd_admin_server.domain.entity.RefreshToken;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Issues the token pair handed out by login and refresh. Refresh tokens are opaque ids from the
+ * {@link RefreshTokenStore}, so each call signs exactly one JWT, the access token.
+ */
+@Service
+public class TokenIssuanceService {
+
+    /**
+     * An access token and the id of the refresh token that renews it.
+     */
+    public record IssuedTokens(String accessToken, String refreshToken) {
+    }
+
+    private final JwtUtil jwtUtil;
+    private final RefreshTokenService refreshTokenService;
+    private final UserDetailsService userDetailsService;
+
+    @Autowired
+    public TokenIssuanceService(JwtUtil jwtUtil,
+                                RefreshTokenService refreshTokenService,
+                                UserDetailsService userDetailsService) {
+        this.jwtUtil = jwtUtil;
+        this.refreshTokenService = refreshTokenService;
+        this.userDetailsService = userDetailsService;
+    }
+
+    public IssuedTokens issue(String username, Collection<? extends GrantedAuthority> authorities) {
+        RefreshToken refreshToken = refreshTokenService.createRefreshToken(username);
+        return new IssuedTokens(jwtUtil.generateAccessToken(username, authorities), refreshToken.getId());
+    }
+
+    /**
+     * Exchanges a refresh token for a new pair. The presented token is consumed in the same step the new one is
+     * stored, so replaying it, even concurrently, yields nothing.
+     *
+     * @return empty if the refresh token is unknown, expired or already used
+     */
+    public Optional<IssuedTokens> refresh(String refreshTokenId) {
+        RefreshToken current = refreshTokenService.findByToken(refreshTokenId);
+        if (current == null) {
+            return Optional.empty();
+        }
+        if (current.getExpiresAt().isBefore(ZonedDateTime.now())) {
+            refreshTokenService.deleteRefreshToken(current);
+            return Optional.empty();
+        }
+
+        // Reload the user so the new access token reflects current authorities
+        UserDetails userDetails = userDetailsService.loadUserByUsername(current.getUserId());
+
+        return refreshTokenService.rotateRefreshToken(current)
+                .map(replacement -> new IssuedTokens(
+                        jwtUtil.generateAccessToken(userDetails.getUsername(), userDetails.getAuthorities()),
+                        replacement.getId()));
+    }
+}
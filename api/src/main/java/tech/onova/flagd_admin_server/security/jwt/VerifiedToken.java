@@ -0,0 +1,45 @@
+package tech.onova.flagd_admin_server.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * The claims of a token whose signature has been checked, copied out of the parsed JWT so every later check
+ * reads plain fields instead of parsing the token again. {@code authorities} is {@code null} for tokens issued
+ * without the authorities claim, {@code kid} for tokens signed with the HMAC secret.
+ */
+public record VerifiedToken(String subject, String type, Instant issuedAt, Instant expiresAt, List<String> authorities,
+                            String kid) {
+
+    public VerifiedToken {
+        authorities = authorities != null ? List.copyOf(authorities) : null;
+    }
+
+    public VerifiedToken(String subject, String type, Instant issuedAt, Instant expiresAt) {
+        this(subject, type, issuedAt, expiresAt, null, null);
+    }
+
+    static VerifiedToken of(Jws<Claims> jws) {
+        Claims claims = jws.getPayload();
+        List<?> authorities = claims.get(JwtUtil.AUTHORITIES_CLAIM, List.class);
+        return new VerifiedToken(
+                claims.getSubject(),
+                claims.get("type", String.class),
+                claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null,
+                authorities != null ? authorities.stream().map(String::valueOf).toList() : null,
+                jws.getHeader().getKeyId()
+        );
+    }
+
+    public boolean isRefreshToken() {
+        return "refresh".equals(type);
+    }
+
+    public boolean isExpired(Instant now) {
+        return expiresAt != null && expiresAt.isBefore(now);
+    }
+}
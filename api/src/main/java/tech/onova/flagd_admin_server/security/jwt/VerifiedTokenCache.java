@@ -0,0 +1,84 @@
+package tech.onova.flagd_admin_server.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Remembers tokens that already passed signature verification, so a token presented again skips the HMAC check
+ * and claim parsing. Entries are keyed by a SHA-256 digest of the token rather than the token itself and live
+ * until the token's own expiry, or until the key that signed them is retired. Tokens that fail verification are
+ * never cached. Revoked tokens verify like any other; {@link AccessTokenRevocations} rejects them.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final Duration MAX_TTL_WITHOUT_EXPIRY = Duration.ofMinutes(15);
+
+    private final JwtUtil jwtUtil;
+    private final Clock clock;
+    private final Cache<ByteBuffer, VerifiedToken> cache;
+
+    @Autowired
+    public VerifiedTokenCache(JwtUtil jwtUtil, JwtKeyManager keyManager,
+                              @Value("${application.auth.provider.jwt.verified-token-cache-size:10000}") long maximumSize) {
+        this(jwtUtil, maximumSize, Clock.systemUTC());
+        keyManager.addRetirementListener(this::invalidateKey);
+    }
+
+    VerifiedTokenCache(JwtUtil jwtUtil, long maximumSize, Clock clock) {
+        this.jwtUtil = jwtUtil;
+        this.clock = clock;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(Expiry.creating(this::timeToLive))
+                .build();
+    }
+
+    /**
+     * Same contract as {@link JwtUtil#verify(String)}; only the first call for a given token does the work.
+     */
+    public VerifiedToken verify(String token) {
+        return cache.get(digest(token), key -> jwtUtil.verify(token));
+    }
+
+    /**
+     * Drops every cached token signed with the key, which no longer verifies once retired.
+     */
+    public void invalidateKey(String kid) {
+        cache.asMap().values().removeIf(token -> kid.equals(token.kid()));
+    }
+
+    long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    private Duration timeToLive(ByteBuffer key, VerifiedToken token) {
+        if (token.expiresAt() == null) {
+            return MAX_TTL_WITHOUT_EXPIRY;
+        }
+        Duration remaining = Duration.between(Instant.now(clock), token.expiresAt());
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+
+    static ByteBuffer digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
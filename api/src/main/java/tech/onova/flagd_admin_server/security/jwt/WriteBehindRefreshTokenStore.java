@@ -0,0 +1,262 @@
+package tech.onova.flagd_admin_server.security.jwt;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+import tech.onova.flagd_admin_server.domain.entity.RefreshToken;
+import tech.onova.flagd_admin_server.domain.repository.RefreshTokenRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps live refresh tokens in memory, ordered by expiry, and answers login, refresh and logout without touching
+ * SQLite. Changes are queued per token id and flushed in batches, one transaction per batch, so the database
+ * only serves as restart durability. Tokens issued within the last flush interval are lost on a crash; their
+ * holders have to log in again.
+ */
+@Component
+@ConditionalOnProperty(prefix = "application.auth.refresh-token-store", name = "mode", havingValue = "write-behind")
+public class WriteBehindRefreshTokenStore implements RefreshTokenStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(WriteBehindRefreshTokenStore.class);
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TransactionOperations transactions;
+    private final Duration flushInterval;
+    private final int batchSize;
+
+    private final Map<String, RefreshToken> tokens = new ConcurrentHashMap<>();
+    private final NavigableSet<ExpiryKey> expiries = new ConcurrentSkipListSet<>();
+    private final Map<String, PendingChange> pending = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService flusher;
+
+    @Autowired
+    public WriteBehindRefreshTokenStore(RefreshTokenRepository refreshTokenRepository,
+                                        PlatformTransactionManager transactionManager,
+                                        @Value("${application.auth.refresh-token-store.flush-interval:PT1S}") Duration flushInterval,
+                                        @Value("${application.auth.refresh-token-store.flush-batch-size:500}") int batchSize) {
+        this(refreshTokenRepository, new TransactionTemplate(transactionManager), flushInterval, batchSize);
+    }
+
+    WriteBehindRefreshTokenStore(RefreshTokenRepository refreshTokenRepository,
+                                 TransactionOperations transactions,
+                                 Duration flushInterval,
+                                 int batchSize) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.transactions = transactions;
+        this.flushInterval = flushInterval;
+        this.batchSize = batchSize;
+    }
+
+    @PostConstruct
+    public void start() {
+        refreshTokenRepository.findAll().forEach(this::index);
+
+        flusher = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("refresh-token-flush").daemon().factory());
+        long intervalMillis = flushInterval.toMillis();
+        flusher.scheduleWithFixedDelay(this::flushQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (flusher != null) {
+            flusher.shutdown();
+            flusher.awaitTermination(flushInterval.toMillis() + 5_000, TimeUnit.MILLISECONDS);
+        }
+        while (flush() > 0) {
+            // Drain everything still queued before the context closes
+        }
+    }
+
+    @Override
+    public RefreshToken save(RefreshToken refreshToken) {
+        index(refreshToken);
+        pending.put(refreshToken.getId(), new PendingChange(refreshToken));
+        return refreshToken;
+    }
+
+    @Override
+    public Optional<RefreshToken> findById(String id) {
+        return Optional.ofNullable(tokens.get(id));
+    }
+
+    @Override
+    public void delete(RefreshToken refreshToken) {
+        remove(refreshToken.getId());
+    }
+
+    @Override
+    public boolean rotate(String currentId, RefreshToken replacement) {
+        // Only one caller can remove the current token from the map, so only one replacement is ever saved
+        if (!remove(currentId)) {
+            return false;
+        }
+        save(replacement);
+        return true;
+    }
+
+    @Override
+    public int deleteByUserId(String userId) {
+        List<String> ids = tokens.values().stream()
+                .filter(token -> token.getUserId().equals(userId))
+                .map(RefreshToken::getId)
+                .toList();
+        int deleted = 0;
+        for (String id : ids) {
+            if (remove(id)) {
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    @Override
+    public int deleteExpired(ZonedDateTime now, int limit) {
+        Instant cutoff = now.toInstant();
+        int deleted = 0;
+        while (deleted < limit) {
+            ExpiryKey earliest = expiries.pollFirst();
+            if (earliest == null) {
+                break;
+            }
+            if (!earliest.expiresAt().isBefore(cutoff)) {
+                expiries.add(earliest);
+                break;
+            }
+            // Skip keys left behind by a token whose expiry was changed in place before it was saved again
+            RefreshToken token = tokens.get(earliest.id());
+            if (token != null && earliest.equals(ExpiryKey.of(token)) && remove(earliest.id())) {
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * Persists up to one batch of queued changes in a single transaction. A change is only dequeued once it is
+     * committed, and only if no newer change for the same token arrived meanwhile, so a failed flush is retried
+     * on the next run.
+     *
+     * @return number of changes persisted
+     */
+    int flush() {
+        List<Map.Entry<String, PendingChange>> batch = new ArrayList<>(Math.min(batchSize, pending.size()));
+        for (Map.Entry<String, PendingChange> entry : pending.entrySet()) {
+            if (batch.size() == batchSize) {
+                break;
+            }
+            batch.add(Map.entry(entry.getKey(), entry.getValue()));
+        }
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<RefreshToken> saves = new ArrayList<>();
+        List<String> deletes = new ArrayList<>();
+        for (Map.Entry<String, PendingChange> entry : batch) {
+            if (entry.getValue().token() != null) {
+                saves.add(entry.getValue().token());
+            } else {
+                deletes.add(entry.getKey());
+            }
+        }
+
+        transactions.executeWithoutResult(status -> {
+            if (!saves.isEmpty()) {
+                refreshTokenRepository.saveAll(saves);
+            }
+            if (!deletes.isEmpty()) {
+                refreshTokenRepository.deleteByIdIn(deletes);
+            }
+        });
+
+        batch.forEach(entry -> pending.remove(entry.getKey(), entry.getValue()));
+        return batch.size();
+    }
+
+    int pendingChanges() {
+        return pending.size();
+    }
+
+    private void flushQuietly() {
+        try {
+            while (flush() == batchSize) {
+                // Keep draining while full batches are queued
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Failed to persist refresh token changes, retrying in {}", flushInterval, e);
+        }
+    }
+
+    private void index(RefreshToken refreshToken) {
+        RefreshToken previous = tokens.put(refreshToken.getId(), refreshToken);
+        if (previous != null) {
+            expiries.remove(ExpiryKey.of(previous));
+        }
+        expiries.add(ExpiryKey.of(refreshToken));
+    }
+
+    private boolean remove(String id) {
+        RefreshToken removed = tokens.remove(id);
+        if (removed == null) {
+            return false;
+        }
+        expiries.remove(ExpiryKey.of(removed));
+        pending.put(id, new PendingChange(null));
+        return true;
+    }
+
+    private record ExpiryKey(Instant expiresAt, String id) implements Comparable<ExpiryKey> {
+
+        private static final Comparator<ExpiryKey> ORDER =
+                Comparator.comparing(ExpiryKey::expiresAt).thenComparing(ExpiryKey::id);
+
+        static ExpiryKey of(RefreshToken refreshToken) {
+            return new ExpiryKey(refreshToken.getExpiresAt().toInstant(), refreshToken.getId());
+        }
+
+        @Override
+        public int compareTo(ExpiryKey other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    /**
+     * The latest state of one token waiting to be persisted; a {@code null} token is a delete. Compared by
+     * identity, so a flush never dequeues a change newer than the one it wrote.
+     */
+    private static final class PendingChange {
+        private final RefreshToken token;
+
+        private PendingChange(RefreshToken token) {
+            this.token = token;
+        }
+
+        RefreshToken token() {
+            return token;
+        }
+    }
+}
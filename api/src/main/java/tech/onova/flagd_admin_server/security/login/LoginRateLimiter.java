@@ -0,0 +1,90 @@
+package tech.onova.flagd_admin_server.security.login;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Limits login attempts with {@link TokenBucket}s. Every attempt costs a token of the client address's bucket;
+ * a failed attempt also costs a token of the bucket for that address and username. Failures are counted per
+ * address so guessing from one client cannot lock a user out everywhere else, and successful logins never use
+ * up the username limit. A bucket left alone for a whole refill period is full again, so idle buckets are
+ * dropped after that long and memory stays bounded. A limit of {@code 0} disables that check.
+ */
+@Component
+public class LoginRateLimiter {
+
+    private static final Duration REFILL_PERIOD = Duration.ofMinutes(1);
+    private static final long MAX_BUCKETS = 100_000;
+
+    private final int perIp;
+    private final int failuresPerUsername;
+    private final Ticker ticker;
+    private final Cache<String, TokenBucket> ipBuckets;
+    private final Cache<String, TokenBucket> failureBuckets;
+
+    @Autowired
+    public LoginRateLimiter(@Value("${application.auth.login.rate-limit.per-ip:30}") int perIp,
+                            @Value("${application.auth.login.rate-limit.per-username:10}") int failuresPerUsername) {
+        this(perIp, failuresPerUsername, Ticker.systemTicker());
+    }
+
+    LoginRateLimiter(int perIp, int failuresPerUsername, Ticker ticker) {
+        this.perIp = perIp;
+        this.failuresPerUsername = failuresPerUsername;
+        this.ticker = ticker;
+        this.ipBuckets = newBuckets(ticker);
+        this.failureBuckets = newBuckets(ticker);
+    }
+
+    /**
+     * Takes a token from the client's bucket, unless the client already used up its failures for the username.
+     *
+     * @return {@code false} if the attempt is over either limit
+     */
+    public boolean tryAcquire(String clientIp, String username) {
+        long now = ticker.read();
+        return !isExhausted(failureBuckets, failuresPerUsername, failureKey(clientIp, username), now)
+                && tryAcquire(ipBuckets, perIp, clientIp, now);
+    }
+
+    /**
+     * Charges a failed attempt to the bucket of the client and username.
+     */
+    public void recordFailure(String clientIp, String username) {
+        tryAcquire(failureBuckets, failuresPerUsername, failureKey(clientIp, username), ticker.read());
+    }
+
+    private boolean isExhausted(Cache<String, TokenBucket> buckets, int limit, String key, long now) {
+        if (limit <= 0) {
+            return false;
+        }
+        TokenBucket bucket = buckets.getIfPresent(key);
+        return bucket != null && !bucket.hasToken(now);
+    }
+
+    private boolean tryAcquire(Cache<String, TokenBucket> buckets, int limit, String key, long now) {
+        if (limit <= 0) {
+            return true;
+        }
+        return buckets.get(key, k -> new TokenBucket(limit, REFILL_PERIOD, now)).tryAcquire(now);
+    }
+
+    private static String failureKey(String clientIp, String username) {
+        return clientIp + " " + username.toLowerCase(Locale.ROOT);
+    }
+
+    private static Cache<String, TokenBucket> newBuckets(Ticker ticker) {
+        return Caffeine.newBuilder()
+                .expireAfterAccess(REFILL_PERIOD)
+                .maximumSize(MAX_BUCKETS)
+                .ticker(ticker)
+                .build();
+    }
+}
@@ -0,0 +1,100 @@
+package tech.onova.flagd_admin_server.security.login;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.stereotype.Service;
+import tech.onova.flagd_admin_server.domain.exception.TooManyRequestsException;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Checks passwords on a small, bounded pool instead of the request threads. BCrypt is deliberately slow, so a
+ * burst of logins would otherwise occupy every core and every Tomcat thread. Attempts over the rate limits, and
+ * attempts arriving while the queue is full, fail straight away with a {@link TooManyRequestsException}. Work
+ * that follows a successful login runs on virtual threads, so the pool only ever hashes.
+ */
+@Service
+public class LoginService {
+
+    private final AuthenticationManager authenticationManager;
+    private final LoginRateLimiter rateLimiter;
+    private final ExecutorService hashExecutor;
+    private final ExecutorService followUpExecutor;
+
+    @Autowired
+    public LoginService(AuthenticationManager authenticationManager,
+                        LoginRateLimiter rateLimiter,
+                        @Value("${application.auth.login.hash-threads:0}") int hashThreads,
+                        @Value("${application.auth.login.queue-size:32}") int queueSize) {
+        this(authenticationManager, rateLimiter, newHashExecutor(hashThreads, queueSize),
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("login-follow-up-", 0).factory()));
+    }
+
+    LoginService(AuthenticationManager authenticationManager, LoginRateLimiter rateLimiter,
+                 ExecutorService hashExecutor, ExecutorService followUpExecutor) {
+        this.authenticationManager = authenticationManager;
+        this.rateLimiter = rateLimiter;
+        this.hashExecutor = hashExecutor;
+        this.followUpExecutor = followUpExecutor;
+    }
+
+    /**
+     * Authenticates {@code username} on the hashing pool.
+     *
+     * @throws TooManyRequestsException if the attempt is over a rate limit or the pool is saturated
+     */
+    public CompletableFuture<Authentication> authenticate(String username, String password, String clientIp) {
+        if (!rateLimiter.tryAcquire(clientIp, username)) {
+            throw new TooManyRequestsException("Too many login attempts, try again later");
+        }
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(username, password));
+                } catch (AuthenticationException e) {
+                    rateLimiter.recordFailure(clientIp, username);
+                    throw e;
+                }
+            }, hashExecutor);
+        } catch (RejectedExecutionException e) {
+            throw new TooManyRequestsException("Too many concurrent logins, try again later", e);
+        }
+    }
+
+    /**
+     * Authenticates like {@link #authenticate}, then applies {@code onSuccess}, e.g. issuing tokens, off the
+     * hashing pool.
+     */
+    public <T> CompletableFuture<T> login(String username, String password, String clientIp,
+                                         Function<? super Authentication, ? extends T> onSuccess) {
+        return authenticate(username, password, clientIp).thenApplyAsync(onSuccess, followUpExecutor);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        hashExecutor.shutdown();
+        hashExecutor.awaitTermination(5, TimeUnit.SECONDS);
+        followUpExecutor.close();
+    }
+
+    private static ExecutorService newHashExecutor(int hashThreads, int queueSize) {
+        // Leave half the cores to request handling unless told otherwise
+        int threads = hashThreads > 0 ? hashThreads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                Thread.ofPlatform().name("login-hash-", 0).daemon().factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+}
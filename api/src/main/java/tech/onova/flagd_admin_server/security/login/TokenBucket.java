@@ -0,0 +1,43 @@
+package tech.onova.flagd_admin_server.security.login;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A token bucket holding {@code capacity} tokens that refills completely over {@code refillPeriod}. The whole
+ * state is the instant the bucket will be full again, so acquiring a token is a single compare-and-set.
+ */
+final class TokenBucket {
+
+    private final long tokenNanos;
+    private final long capacityNanos;
+    private final AtomicLong fullAt;
+
+    TokenBucket(int capacity, Duration refillPeriod, long nowNanos) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Token bucket capacity must be positive: " + capacity);
+        }
+        this.tokenNanos = Math.max(1, refillPeriod.toNanos() / capacity);
+        this.capacityNanos = tokenNanos * capacity;
+        this.fullAt = new AtomicLong(nowNanos);
+    }
+
+    boolean hasToken(long nowNanos) {
+        long current = fullAt.get();
+        return (current - nowNanos > 0 ? current : nowNanos) + tokenNanos - nowNanos <= capacityNanos;
+    }
+
+    boolean tryAcquire(long nowNanos) {
+        while (true) {
+            long current = fullAt.get();
+            // A bucket that filled up in the past holds exactly its capacity, nothing more
+            long next = (current - nowNanos > 0 ? current : nowNanos) + tokenNanos;
+            if (next - nowNanos > capacityNanos) {
+                return false;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+}
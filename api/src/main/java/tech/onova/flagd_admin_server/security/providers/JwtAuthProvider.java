@@ -1,6 +1,10 @@
 package tech.onova.flagd_admin_server.security.providers;
 
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -11,6 +15,8 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+import tech.onova.flagd_admin_server.security.apikey.ApiKeyAuthenticationFilter;
+import tech.onova.flagd_admin_server.security.apikey.ApiKeyScope;
 import tech.onova.flagd_admin_server.security.jwt.JwtAuthenticationFilter;
 
 import java.util.List;
@@ -18,9 +24,20 @@ import java.util.List;
 @Component
 public class JwtAuthProvider implements AuthProvider {
 
+    private static final String ADMIN_AUTHORITY = "ROLE_ADMIN";
+    private static final String SOURCES_PATHS = "/api/v1/sources/**";
+    private static final String FLAGS_PATHS = "/api/v1/sources/*/flags/**";
+    private static final List<String> OPEN_MANAGEMENT_ENDPOINTS = List.of("/actuator/health", "/actuator/prometheus");
+
     @Autowired
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    @Autowired
+    private ApiKeyAuthenticationFilter apiKeyAuthenticationFilter;
+
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+
     @Override
     public String getName() {
         return "jwt";
@@ -32,16 +49,36 @@ public class JwtAuthProvider implements AuthProvider {
                 .csrf(AbstractHttpConfigurer::disable)
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .authorizeHttpRequests(authorize -> authorize
-                        .requestMatchers("/api/v1/auth/login", "/api/v1/auth/refresh").permitAll()
-                        .anyRequest().authenticated()
+                        // Async results and error pages are re-dispatched without the authentication filters, which
+                        // only run once per request; the original dispatch was already authorized
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
+                        .requestMatchers("/api/v1/auth/login", "/api/v1/auth/refresh", "/.well-known/jwks.json").permitAll()
+                        // Health and metrics are only open on the management port, which nginx does not proxy
+                        .requestMatchers(this::isOpenManagementEndpoint).permitAll()
+                        // Users log in as admins and reach everything; API keys only reach the source and flag
+                        // endpoints their scopes cover. Paths are matched decoded, so encoding cannot dodge a rule
+                        .requestMatchers(HttpMethod.GET, FLAGS_PATHS).hasAnyAuthority(ApiKeyScope.FLAGS_READ.authority(), ADMIN_AUTHORITY)
+                        .requestMatchers(HttpMethod.HEAD, FLAGS_PATHS).hasAnyAuthority(ApiKeyScope.FLAGS_READ.authority(), ADMIN_AUTHORITY)
+                        .requestMatchers(FLAGS_PATHS).hasAnyAuthority(ApiKeyScope.FLAGS_WRITE.authority(), ADMIN_AUTHORITY)
+                        .requestMatchers(HttpMethod.GET, SOURCES_PATHS).hasAnyAuthority(ApiKeyScope.SOURCES_READ.authority(), ADMIN_AUTHORITY)
+                        .requestMatchers(HttpMethod.HEAD, SOURCES_PATHS).hasAnyAuthority(ApiKeyScope.SOURCES_READ.authority(), ADMIN_AUTHORITY)
+                        .requestMatchers(SOURCES_PATHS).hasAnyAuthority(ApiKeyScope.SOURCES_WRITE.authority(), ADMIN_AUTHORITY)
+                        .anyRequest().hasAuthority(ADMIN_AUTHORITY)
                 )
                 .sessionManagement(session -> session.sessionCreationPolicy(org.springframework.security.config.http.SessionCreationPolicy.STATELESS))
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(apiKeyAuthenticationFilter, JwtAuthenticationFilter.class)
                 .httpBasic(AbstractHttpConfigurer::disable)
                 .formLogin(AbstractHttpConfigurer::disable)
                 .build();
     }
 
+    private boolean isOpenManagementEndpoint(HttpServletRequest request) {
+        return managementPort > 0
+                && request.getLocalPort() == managementPort
+                && OPEN_MANAGEMENT_ENDPOINTS.contains(request.getRequestURI());
+    }
+
     @Override
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
@@ -0,0 +1,51 @@
+-- Schema as previously generated by Hibernate (ddl-auto=update). IF NOT EXISTS lets this run
+-- against databases created by earlier versions, which are baselined at version 0.
+
+CREATE TABLE IF NOT EXISTS source (
+    id blob NOT NULL,
+    name varchar(255),
+    description varchar(255),
+    uri varchar(255),
+    enabled boolean NOT NULL,
+    creation_date_time timestamp,
+    last_update_date_time timestamp,
+    last_update_user_name varchar(255),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS source_shard (
+    source_id blob NOT NULL,
+    shard_index integer NOT NULL,
+    key_prefix varchar(255) NOT NULL,
+    uri varchar(255) NOT NULL,
+    PRIMARY KEY (source_id, shard_index),
+    FOREIGN KEY (source_id) REFERENCES source (id)
+);
+
+CREATE TABLE IF NOT EXISTS source_publish_target (
+    source_id blob NOT NULL,
+    target_index integer NOT NULL,
+    uri varchar(255) NOT NULL,
+    PRIMARY KEY (source_id, target_index),
+    FOREIGN KEY (source_id) REFERENCES source (id)
+);
+
+CREATE TABLE IF NOT EXISTS refresh_token (
+    id varchar(255) NOT NULL,
+    user_id varchar(255) NOT NULL,
+    expires_at timestamp NOT NULL,
+    created_at timestamp NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS flag_record (
+    source_key varchar(255) NOT NULL,
+    flag_key varchar(255) NOT NULL,
+    state varchar(255) NOT NULL,
+    definition text NOT NULL,
+    updated_at timestamp NOT NULL,
+    PRIMARY KEY (source_key, flag_key)
+);
+
+CREATE INDEX IF NOT EXISTS idx_flag_record_source_state ON flag_record (source_key, state);
+CREATE INDEX IF NOT EXISTS idx_flag_record_source_updated ON flag_record (source_key, updated_at);
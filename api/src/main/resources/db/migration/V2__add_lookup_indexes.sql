@@ -0,0 +1,4 @@
+-- Sources are listed by enabled state; refresh tokens are looked up per user and swept by expiry.
+CREATE INDEX IF NOT EXISTS idx_source_enabled ON source (enabled);
+CREATE INDEX IF NOT EXISTS idx_refresh_token_user_id ON refresh_token (user_id);
+CREATE INDEX IF NOT EXISTS idx_refresh_token_expires_at ON refresh_token (expires_at);
@@ -0,0 +1,14 @@
+-- API keys for automation clients. Keys are stored as HMAC-SHA256 digests, never in plain text.
+CREATE TABLE IF NOT EXISTS api_key (
+    id varchar(255) NOT NULL,
+    name varchar(255) NOT NULL,
+    key_digest varchar(255) NOT NULL,
+    scopes varchar(255) NOT NULL,
+    created_by varchar(255) NOT NULL,
+    created_at timestamp NOT NULL,
+    expires_at timestamp,
+    last_used_at timestamp,
+    usage_count bigint NOT NULL DEFAULT 0,
+    PRIMARY KEY (id),
+    UNIQUE (key_digest)
+);
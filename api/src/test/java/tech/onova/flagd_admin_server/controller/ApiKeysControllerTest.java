@@ -0,0 +1,116 @@
+package tech.onova.flagd_admin_server.controller;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import tech.onova.flagd_admin_server.controller.exception.GlobalExceptionHandler;
+import tech.onova.flagd_admin_server.domain.entity.ApiKey;
+import tech.onova.flagd_admin_server.domain.exception.ApiKeysDisabledException;
+import tech.onova.flagd_admin_server.security.apikey.ApiKeyScope;
+import tech.onova.flagd_admin_server.security.apikey.ApiKeyService;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class ApiKeysControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private ApiKeyService apiKeyService;
+
+    private final ApiKey testApiKey = new ApiKey("key-1", "ci", "digest", List.of("flags:read"), "admin", null);
+
+    @BeforeEach
+    void setUp() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("admin", null, List.of()));
+        mockMvc = MockMvcBuilders.standaloneSetup(new ApiKeysController(apiKeyService))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void shouldGetApiKeysWithoutSecrets() throws Exception {
+        // Given
+        when(apiKeyService.findAll()).thenReturn(List.of(testApiKey));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/api-keys"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id").value("key-1"))
+                .andExpect(jsonPath("$[0].scopes[0]").value("flags:read"))
+                .andExpect(jsonPath("$[0].keyDigest").doesNotExist());
+    }
+
+    @Test
+    void shouldCreateApiKeyAndReturnPlainKeyOnce() throws Exception {
+        // Given
+        when(apiKeyService.create(eq("ci"), eq(List.of(ApiKeyScope.FLAGS_READ)), isNull(), eq("admin")))
+                .thenReturn(new ApiKeyService.CreatedApiKey(testApiKey, "fak_plain"));
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/api-keys")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"ci\",\"scopes\":[\"flags:read\"]}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.key").value("fak_plain"))
+                .andExpect(jsonPath("$.apiKey.name").value("ci"))
+                .andExpect(jsonPath("$.apiKey.createdBy").value("admin"));
+    }
+
+    @Test
+    void shouldReturnServiceUnavailableWhenApiKeysAreDisabled() throws Exception {
+        // Given
+        when(apiKeyService.create(any(), any(), any(), any()))
+                .thenThrow(new ApiKeysDisabledException("API keys are disabled"));
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/api-keys")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"ci\",\"scopes\":[\"flags:read\"]}"))
+                .andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    void shouldRevokeApiKey() throws Exception {
+        // Given
+        when(apiKeyService.revoke("key-1")).thenReturn(true);
+
+        // When & Then
+        mockMvc.perform(delete("/api/v1/api-keys/key-1"))
+                .andExpect(status().isNoContent());
+    }
+
+    @Test
+    void shouldReturnNotFoundWhenRevokingUnknownApiKey() throws Exception {
+        // Given
+        when(apiKeyService.revoke("missing")).thenReturn(false);
+
+        // When & Then
+        mockMvc.perform(delete("/api/v1/api-keys/missing"))
+                .andExpect(status().isNotFound());
+    }
+}
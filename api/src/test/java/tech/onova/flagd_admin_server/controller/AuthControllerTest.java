@@ -0,0 +1,106 @@
+package tech.onova.flagd_admin_server.controller;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import tech.onova.flagd_admin_server.controller.exception.GlobalExceptionHandler;
+import tech.onova.flagd_admin_server.domain.entity.RefreshToken;
+import tech.onova.flagd_admin_server.security.jwt.AccessTokenRevocations;
+import tech.onova.flagd_admin_server.security.jwt.RefreshTokenService;
+import tech.onova.flagd_admin_server.security.jwt.TokenIssuanceService;
+import tech.onova.flagd_admin_server.security.login.LoginService;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuthControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private LoginService loginService;
+
+    @Mock
+    private TokenIssuanceService tokenIssuanceService;
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private AccessTokenRevocations accessTokenRevocations;
+
+    @InjectMocks
+    private AuthController authController;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(authController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void shouldRevokeRefreshAndAccessTokenOnLogout() throws Exception {
+        // Given
+        RefreshToken refreshToken = new RefreshToken("refresh-1", "admin", ZonedDateTime.now().plusDays(1));
+        when(refreshTokenService.findByToken("refresh-1")).thenReturn(refreshToken);
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/auth/logout")
+                        .header("Authorization", "Bearer a.b.c")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"refreshToken\":\"refresh-1\"}"))
+                .andExpect(status().isNoContent());
+
+        verify(refreshTokenService).deleteRefreshToken(refreshToken);
+        verify(accessTokenRevocations).revoke("a.b.c");
+    }
+
+    @Test
+    void shouldLogoutWithoutAccessToken() throws Exception {
+        // Given
+        when(refreshTokenService.findByToken("unknown")).thenReturn(null);
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/auth/logout")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"refreshToken\":\"unknown\"}"))
+                .andExpect(status().isNoContent());
+
+        verify(refreshTokenService, never()).deleteRefreshToken(any());
+        verifyNoInteractions(accessTokenRevocations);
+    }
+
+    @Test
+    void shouldRevokeEverySessionOfCurrentUser() throws Exception {
+        // Given
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("admin", null, List.of()));
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/auth/logout-all"))
+                .andExpect(status().isNoContent());
+
+        verify(refreshTokenService).deleteByUserId("admin");
+    }
+}
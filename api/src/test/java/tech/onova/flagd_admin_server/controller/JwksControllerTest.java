@@ -0,0 +1,60 @@
+package tech.onova.flagd_admin_server.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import tech.onova.flagd_admin_server.security.jwt.JwtKeyManager;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwksControllerTest {
+
+    @Mock
+    private JwtKeyManager keyManager;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new JwksController(keyManager)).build();
+    }
+
+    @Test
+    void shouldPublishActivePublicKeys() throws Exception {
+        // Given
+        when(keyManager.publicJwks()).thenReturn(List.of(
+            Map.of("kty", "OKP", "crv", "Ed25519", "x", "abc", "kid", "2026-01"),
+            Map.of("kty", "OKP", "crv", "Ed25519", "x", "def", "kid", "2026-02")
+        ));
+
+        // When & Then
+        mockMvc.perform(get("/.well-known/jwks.json"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Cache-Control", containsString("max-age=60")))
+            .andExpect(jsonPath("$.keys", hasSize(2)))
+            .andExpect(jsonPath("$.keys[1].kid").value("2026-02"));
+    }
+
+    @Test
+    void shouldPublishEmptySetForHmacSigning() throws Exception {
+        // Given
+        when(keyManager.publicJwks()).thenReturn(List.of());
+
+        // When & Then
+        mockMvc.perform(get("/.well-known/jwks.json"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.keys", hasSize(0)));
+    }
+}
@@ -7,6 +7,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import tech.onova.flagd_admin_server.controller.dto.response.*;
 import tech.onova.flagd_admin_server.controller.exception.GlobalExceptionHandler;
@@ -14,14 +15,19 @@ import tech.onova.flagd_admin_server.controller.mapper.SourceMapper;
 import tech.onova.flagd_admin_server.domain.entity.Source;
 import tech.onova.flagd_admin_server.domain.entity.SourceId;
 import tech.onova.flagd_admin_server.domain.entity.SourceUri;
+import tech.onova.flagd_admin_server.domain.exception.SourceContentNotFoundException;
 import tech.onova.flagd_admin_server.domain.repository.SourceRepository;
 import tech.onova.flagd_admin_server.domain.service.FlagService;
-import tech.onova.flagd_admin_server.domain.service.SourceContentService;
+import tech.onova.flagd_admin_server.domain.service.AsyncSourceContentService;
+import tech.onova.flagd_admin_server.domain.service.SourcePublisher;
+import tech.onova.flagd_admin_server.domain.service.SourceContentStat;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -39,10 +45,13 @@ class SourcesControllerTest {
     private FlagService flagService;
     
     @Mock
-    private SourceContentService sourceContentService;
+    private AsyncSourceContentService sourceContentService;
     
     @Mock
     private SourceMapper sourceMapper;
+
+    @Mock
+    private SourcePublisher sourcePublisher;
     
     private ObjectMapper objectMapper = new ObjectMapper();
 
@@ -58,7 +67,7 @@ class SourcesControllerTest {
 
     @BeforeEach
     void setUp() {
-        SourcesController sourcesController = new SourcesController(sourceRepository, sourceContentService, sourceMapper);
+        SourcesController sourcesController = new SourcesController(sourceRepository, sourceContentService, sourceMapper, sourcePublisher);
         mockMvc = MockMvcBuilders.standaloneSetup(sourcesController)
                 .setControllerAdvice(new GlobalExceptionHandler())
                 .build();
@@ -85,7 +94,9 @@ class SourcesControllerTest {
                         enabledSource.isEnabled(),
                         enabledSource.getCreationDateTime(),
                         enabledSource.getLastUpdateDateTime(),
-                        enabledSource.getLastUpdateUserName()
+                        enabledSource.getLastUpdateUserName(),
+                        List.of(),
+                        List.of()
                 )
         );
 
@@ -108,7 +119,9 @@ class SourcesControllerTest {
                         testSource.isEnabled(),
                         testSource.getCreationDateTime(),
                         testSource.getLastUpdateDateTime(),
-                        testSource.getLastUpdateUserName()
+                        testSource.getLastUpdateUserName(),
+                        List.of(),
+                        List.of()
                 )
         );
 
@@ -125,14 +138,101 @@ class SourcesControllerTest {
     void shouldGetSourceContents() throws Exception {
         // Given
         when(sourceRepository.findById(new SourceId(testSourceId))).thenReturn(Optional.of(testSource));
-        when(sourceContentService.loadContent(testSource.getUri())).thenReturn("file content");
+        when(sourceContentService.stat(testSource.getUri()))
+                .thenReturn(CompletableFuture.completedFuture(new SourceContentStat(true, 12, null, "v1")));
+        when(sourceContentService.loadContent(testSource.getUri()))
+                .thenReturn(CompletableFuture.completedFuture("file content"));
 
-        // When & Then
-        mockMvc.perform(get("/api/v1/sources/{sourceId}/contents", testSourceId))
+        // When
+        MvcResult result = mockMvc.perform(get("/api/v1/sources/{sourceId}/contents", testSourceId))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
             .andExpect(status().isOk())
+            .andExpect(header().string("ETag", "\"v1\""))
             .andExpect(jsonPath("$.content").value("file content"));
     }
 
+    @Test
+    void shouldReturnNotModifiedWithoutLoadingContentWhenETagMatches() throws Exception {
+        // Given
+        when(sourceRepository.findById(new SourceId(testSourceId))).thenReturn(Optional.of(testSource));
+        when(sourceContentService.stat(testSource.getUri()))
+                .thenReturn(CompletableFuture.completedFuture(new SourceContentStat(true, 12, null, "v1")));
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/v1/sources/{sourceId}/contents", testSourceId)
+                .header("If-None-Match", "W/\"v0\", \"v1\""))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isNotModified());
+        verify(sourceContentService, never()).loadContent(any());
+    }
+
+    @Test
+    void shouldGetSourceContentsWithoutETagWhenVersionIsUnknown() throws Exception {
+        // Given
+        when(sourceRepository.findById(new SourceId(testSourceId))).thenReturn(Optional.of(testSource));
+        when(sourceContentService.stat(testSource.getUri()))
+                .thenReturn(CompletableFuture.completedFuture(new SourceContentStat(true, -1, null, null)));
+        when(sourceContentService.loadContent(testSource.getUri()))
+                .thenReturn(CompletableFuture.completedFuture("file content"));
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/v1/sources/{sourceId}/contents", testSourceId))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist("ETag"))
+            .andExpect(jsonPath("$.content").value("file content"));
+    }
+
+    @Test
+    void shouldMapFailedContentLoadThroughExceptionHandler() throws Exception {
+        // Given
+        when(sourceRepository.findById(new SourceId(testSourceId))).thenReturn(Optional.of(testSource));
+        when(sourceContentService.stat(testSource.getUri()))
+                .thenReturn(CompletableFuture.failedFuture(new SourceContentNotFoundException("File not found")));
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/v1/sources/{sourceId}/contents", testSourceId))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void shouldDeleteStoredFlagsBeforeDeletingSource() throws Exception {
+        // Given
+        when(sourceRepository.findById(new SourceId(testSourceId))).thenReturn(Optional.of(testSource));
+        when(sourceContentService.deleteStoredFlags(testSource.getUri()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        // When
+        MvcResult result = mockMvc.perform(delete("/api/v1/sources/{sourceId}", testSourceId))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isNoContent());
+        var inOrder = inOrder(sourceContentService, sourceRepository);
+        inOrder.verify(sourceContentService).deleteStoredFlags(testSource.getUri());
+        inOrder.verify(sourceRepository).delete(testSource);
+        verify(sourcePublisher).forget(testSource.getUri());
+    }
+
     @Test
     void shouldReturnNotFoundForNonExistentSource() throws Exception {
         // Given
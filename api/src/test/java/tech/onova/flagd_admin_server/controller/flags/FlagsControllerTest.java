@@ -8,6 +8,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import tech.onova.flagd_admin_server.controller.FlagsController;
 import tech.onova.flagd_admin_server.controller.dto.request.FlagConfigRequestDTO;
@@ -19,6 +20,7 @@ import tech.onova.flagd_admin_server.domain.service.FlagService;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -52,10 +54,14 @@ class FlagsControllerTest {
                 new FlagDTO("test-flag", "Test Flag", "A test flag", "ENABLED", "on", Map.of("on", true, "off", false), null)
         );
         FlagsResponseDTO expectedResponse = new FlagsResponseDTO(flags);
-        when(flagService.getFlags(new tech.onova.flagd_admin_server.domain.entity.SourceId(testSourceId))).thenReturn(flags);
+        when(flagService.getFlags(new tech.onova.flagd_admin_server.domain.entity.SourceId(testSourceId))).thenReturn(CompletableFuture.completedFuture(flags));
 
         // When & Then
-        mockMvc.perform(get("/api/v1/sources/{sourceId}/flags", testSourceId))
+        MvcResult result = mockMvc.perform(get("/api/v1/sources/{sourceId}/flags", testSourceId))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
             .andExpect(status().isOk())
             .andExpect(jsonPath("$.flags", hasSize(1)))
             .andExpect(jsonPath("$.flags[0].flagId").value("test-flag"))
@@ -68,10 +74,14 @@ class FlagsControllerTest {
     void shouldGetFlag() throws Exception {
         // Given
         FlagDTO flag = new FlagDTO("test-flag", "Test Flag", "A test flag", "ENABLED", "on", Map.of("on", true, "off", false), null);
-        when(flagService.getFlag(new tech.onova.flagd_admin_server.domain.entity.SourceId(testSourceId), "test-flag")).thenReturn(flag);
+        when(flagService.getFlag(new tech.onova.flagd_admin_server.domain.entity.SourceId(testSourceId), "test-flag")).thenReturn(CompletableFuture.completedFuture(flag));
 
         // When & Then
-        mockMvc.perform(get("/api/v1/sources/{sourceId}/flags/{flagId}", testSourceId, "test-flag"))
+        MvcResult result = mockMvc.perform(get("/api/v1/sources/{sourceId}/flags/{flagId}", testSourceId, "test-flag"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
             .andExpect(status().isOk())
             .andExpect(jsonPath("$.flagId").value("test-flag"))
             .andExpect(jsonPath("$.name").value("Test Flag"))
@@ -83,10 +93,14 @@ class FlagsControllerTest {
     @Test
     void shouldReturnNotFoundForNonExistentFlag() throws Exception {
         // Given
-        when(flagService.getFlag(new tech.onova.flagd_admin_server.domain.entity.SourceId(testSourceId), "non-existent-flag")).thenReturn(null);
+        when(flagService.getFlag(new tech.onova.flagd_admin_server.domain.entity.SourceId(testSourceId), "non-existent-flag")).thenReturn(CompletableFuture.completedFuture(null));
 
         // When & Then
-        mockMvc.perform(get("/api/v1/sources/{sourceId}/flags/{flagId}", testSourceId, "non-existent-flag"))
+        MvcResult result = mockMvc.perform(get("/api/v1/sources/{sourceId}/flags/{flagId}", testSourceId, "non-existent-flag"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
             .andExpect(status().isNotFound());
     }
 
@@ -102,22 +116,32 @@ class FlagsControllerTest {
                 null
         );
         
-        doNothing().when(flagService).addOrUpdateFlag(eq(new tech.onova.flagd_admin_server.domain.entity.SourceId(testSourceId)), eq("test-flag"), any(FlagConfigRequestDTO.class));
+        when(flagService.addOrUpdateFlag(eq(new tech.onova.flagd_admin_server.domain.entity.SourceId(testSourceId)), eq("test-flag"), any(FlagConfigRequestDTO.class)))
+            .thenReturn(CompletableFuture.completedFuture(null));
 
         // When & Then
-        mockMvc.perform(post("/api/v1/sources/{sourceId}/flags/{flagId}", testSourceId, "test-flag")
+        MvcResult result = mockMvc.perform(post("/api/v1/sources/{sourceId}/flags/{flagId}", testSourceId, "test-flag")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(request)))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isNoContent());
     }
 
     @Test
     void shouldDeleteFlag() throws Exception {
         // Given
-        doNothing().when(flagService).deleteFlag(eq(new tech.onova.flagd_admin_server.domain.entity.SourceId(testSourceId)), eq("test-flag"));
+        when(flagService.deleteFlag(eq(new tech.onova.flagd_admin_server.domain.entity.SourceId(testSourceId)), eq("test-flag")))
+            .thenReturn(CompletableFuture.completedFuture(null));
 
         // When & Then
-        mockMvc.perform(delete("/api/v1/sources/{sourceId}/flags/{flagId}", testSourceId, "test-flag"))
+        MvcResult result = mockMvc.perform(delete("/api/v1/sources/{sourceId}/flags/{flagId}", testSourceId, "test-flag"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isNoContent());
     }
 }
\ No newline at end of file
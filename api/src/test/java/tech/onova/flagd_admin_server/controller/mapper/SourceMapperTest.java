@@ -34,5 +34,7 @@ class SourceMapperTest {
         assertThat(result.lastUpdateUserName()).isEqualTo("test-user");
         assertThat(result.creationDateTime()).isNotNull();
         assertThat(result.lastUpdateDateTime()).isNotNull();
+        assertThat(result.shards()).isEmpty();
+        assertThat(result.publishTargets()).isEmpty();
     }
 }
\ No newline at end of file
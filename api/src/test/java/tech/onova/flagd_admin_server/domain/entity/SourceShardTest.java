@@ -0,0 +1,33 @@
+package tech.onova.flagd_admin_server.domain.entity;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SourceShardTest {
+
+    @Test
+    void shouldOwnKeysStartingWithPrefix() {
+        // Given
+        SourceShard shard = new SourceShard("payments.", "file://flags/payments.json");
+
+        // Then
+        assertThat(shard.owns("payments.checkout")).isTrue();
+        assertThat(shard.owns("search.payments.")).isFalse();
+        assertThat(shard.sourceUri()).isEqualTo(new SourceUri("file://flags/payments.json"));
+    }
+
+    @Test
+    void shouldRejectBlankPrefix() {
+        // When & Then
+        assertThatThrownBy(() -> new SourceShard(" ", "file://flags/payments.json"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldRejectUnsupportedUri() {
+        // When & Then
+        assertThatThrownBy(() -> new SourceShard("payments.", "ftp://flags/payments.json"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -6,6 +6,7 @@ import tech.onova.flagd_admin_server.testutil.TestDataBuilder;
 import java.time.LocalDateTime;
 import java.time.Duration;
 import java.time.ZonedDateTime;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -123,6 +124,27 @@ class SourceTest {
         assertThat(updatedSource.getLastUpdateDateTime()).isBeforeOrEqualTo(ZonedDateTime.now().plusSeconds(1));
     }
 
+    @Test
+    void shouldLeaveOriginalSourceUntouchedOnUpdate() {
+        // Given
+        Source originalSource = TestDataBuilder.aSource()
+            .withName("Original Name")
+            .withDescription("Original Description")
+            .withEnabled(true)
+            .build();
+        var originalUpdateDateTime = originalSource.getLastUpdateDateTime();
+
+        // When
+        Source updatedSource = originalSource.updateWithoutUri("Updated Name", "Updated Description", false, "update-user");
+
+        // Then
+        assertThat(updatedSource).isNotSameAs(originalSource);
+        assertThat(originalSource.getName()).isEqualTo("Original Name");
+        assertThat(originalSource.getDescription()).isEqualTo("Original Description");
+        assertThat(originalSource.isEnabled()).isTrue();
+        assertThat(originalSource.getLastUpdateDateTime()).isEqualTo(originalUpdateDateTime);
+    }
+
     @Test
     void shouldHaveCorrectEquals() {
         // Given
@@ -159,4 +181,84 @@ class SourceTest {
         // Then
         assertThat(source.toString()).contains("Test Source");
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldRouteFlagKeysToLongestMatchingShardPrefix() {
+        // Given
+        SourceUri mainUri = new SourceUri("file://flags/main.json");
+        SourceUri paymentsUri = new SourceUri("file://flags/payments.json");
+        SourceUri checkoutUri = new SourceUri("file://flags/checkout.json");
+        Source source = new Source("Test Source", "Test Description", mainUri, "test-user", true, List.of(
+            new SourceShard("payments.", paymentsUri),
+            new SourceShard("payments.checkout.", checkoutUri)
+        ));
+
+        // Then
+        assertThat(source.isSharded()).isTrue();
+        assertThat(source.contentUriFor("payments.refunds")).isEqualTo(paymentsUri);
+        assertThat(source.contentUriFor("payments.checkout.v2")).isEqualTo(checkoutUri);
+        assertThat(source.contentUriFor("search.ranking")).isEqualTo(mainUri);
+        assertThat(source.getContentUris()).containsExactly(mainUri, paymentsUri, checkoutUri);
+    }
+
+    @Test
+    void shouldUseSourceUriForEveryKeyWhenNotSharded() {
+        // Given
+        Source source = TestDataBuilder.aSource().build();
+
+        // Then
+        assertThat(source.isSharded()).isFalse();
+        assertThat(source.getShards()).isEmpty();
+        assertThat(source.contentUriFor("any-flag")).isEqualTo(source.getUri());
+        assertThat(source.getContentUris()).containsExactly(source.getUri());
+    }
+
+    @Test
+    void shouldRejectDuplicateShardPrefixesAndUris() {
+        // Given
+        SourceUri mainUri = new SourceUri("file://flags/main.json");
+
+        // When & Then
+        assertThatThrownBy(() -> new Source("Test Source", "Test Description", mainUri, "test-user", true, List.of(
+            new SourceShard("payments.", "file://flags/a.json"),
+            new SourceShard("payments.", "file://flags/b.json"))))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("prefixes must be unique");
+        assertThatThrownBy(() -> new Source("Test Source", "Test Description", mainUri, "test-user", true, List.of(
+            new SourceShard("payments.", mainUri))))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("uris must be unique");
+    }
+
+    @Test
+    void shouldKeepPublishTargetsSeparateFromContentUris() {
+        // Given
+        SourceUri mainUri = new SourceUri("file://flags/main.json");
+        SourceUri podUri = new SourceUri("file://pods/a/flags.json");
+
+        // When
+        Source source = new Source("Test Source", "Test Description", mainUri, "test-user", true, List.of(), List.of(podUri));
+
+        // Then
+        assertThat(source.hasPublishTargets()).isTrue();
+        assertThat(source.getPublishTargets()).containsExactly(podUri);
+        assertThat(source.getContentUris()).containsExactly(mainUri);
+    }
+
+    @Test
+    void shouldRejectPublishTargetsOnShardedSourceOrPointingAtSourceUri() {
+        // Given
+        SourceUri mainUri = new SourceUri("file://flags/main.json");
+
+        // When & Then
+        assertThatThrownBy(() -> new Source("Test Source", "Test Description", mainUri, "test-user", true,
+            List.of(new SourceShard("payments.", "file://flags/payments.json")),
+            List.of(new SourceUri("file://pods/a/flags.json"))))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("sharded source");
+        assertThatThrownBy(() -> new Source("Test Source", "Test Description", mainUri, "test-user", true,
+            List.of(), List.of(mainUri)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("publish targets must be unique");
+    }
+}
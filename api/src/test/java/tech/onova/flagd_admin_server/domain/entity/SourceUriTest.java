@@ -45,7 +45,6 @@ class SourceUriTest {
         "",
         "   ",
         "invalid-uri",
-        "http://not-file-protocol",
         "ftp://file-protocol",
         "://missing-protocol",
         "file:",
@@ -65,6 +64,30 @@ class SourceUriTest {
         }
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "http://flags.example.com/flags.json",
+        "https://flags.example.com/team/flags.json"
+    })
+    void shouldAcceptValidHttpUris(String uri) {
+        // When
+        SourceUri sourceUri = new SourceUri(uri);
+
+        // Then
+        assertThat(sourceUri.uri()).isEqualTo(uri);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "http://",
+        "https://"
+    })
+    void shouldRejectHttpUrisWithoutLocation(String uri) {
+        // When & Then
+        assertThatThrownBy(() -> new SourceUri(uri))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     void shouldHaveCorrectEquals() {
         // Given
@@ -0,0 +1,23 @@
+package tech.onova.flagd_admin_server.domain.exception;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ApiKeysDisabledExceptionTest {
+
+    @Test
+    void shouldCreateExceptionWithMessage() {
+        // Given
+        String message = "API keys are disabled";
+
+        // When
+        ApiKeysDisabledException exception = new ApiKeysDisabledException(message);
+
+        // Then
+        assertThat(exception.getErrorCode()).isEqualTo(ApiKeysDisabledException.ERROR_CODE);
+        assertThat(exception.getMessage()).isEqualTo(message);
+        assertThat(exception.getHttpStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+    }
+}
@@ -0,0 +1,38 @@
+package tech.onova.flagd_admin_server.domain.exception;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SourceContentConflictExceptionTest {
+
+    @Test
+    void shouldCreateExceptionWithMessage() {
+        // Given
+        String message = "Source content changed concurrently";
+
+        // When
+        SourceContentConflictException exception = new SourceContentConflictException(message);
+
+        // Then
+        assertThat(exception.getErrorCode()).isEqualTo(SourceContentConflictException.ERROR_CODE);
+        assertThat(exception.getMessage()).isEqualTo(message);
+        assertThat(exception.getHttpStatus()).isEqualTo(HttpStatus.CONFLICT);
+    }
+
+    @Test
+    void shouldCreateExceptionWithMessageAndCause() {
+        // Given
+        String message = "Precondition failed";
+        RuntimeException cause = new RuntimeException("412");
+
+        // When
+        SourceContentConflictException exception = new SourceContentConflictException(message, cause);
+
+        // Then
+        assertThat(exception.getMessage()).isEqualTo(message);
+        assertThat(exception.getCause()).isEqualTo(cause);
+        assertThat(exception.getHttpStatus()).isEqualTo(HttpStatus.CONFLICT);
+    }
+}
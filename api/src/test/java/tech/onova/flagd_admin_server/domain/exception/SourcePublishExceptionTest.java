@@ -0,0 +1,38 @@
+package tech.onova.flagd_admin_server.domain.exception;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SourcePublishExceptionTest {
+
+    @Test
+    void shouldCreateExceptionWithMessage() {
+        // Given
+        String message = "Revision was not published to: file://pod-a/flags.json";
+
+        // When
+        SourcePublishException exception = new SourcePublishException(message);
+
+        // Then
+        assertThat(exception.getErrorCode()).isEqualTo(SourcePublishException.ERROR_CODE);
+        assertThat(exception.getMessage()).isEqualTo(message);
+        assertThat(exception.getHttpStatus()).isEqualTo(HttpStatus.BAD_GATEWAY);
+    }
+
+    @Test
+    void shouldCreateExceptionWithMessageAndCause() {
+        // Given
+        String message = "Publish failed";
+        RuntimeException cause = new RuntimeException("disk full");
+
+        // When
+        SourcePublishException exception = new SourcePublishException(message, cause);
+
+        // Then
+        assertThat(exception.getMessage()).isEqualTo(message);
+        assertThat(exception.getCause()).isEqualTo(cause);
+        assertThat(exception.getHttpStatus()).isEqualTo(HttpStatus.BAD_GATEWAY);
+    }
+}
@@ -0,0 +1,38 @@
+package tech.onova.flagd_admin_server.domain.exception;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TooManyRequestsExceptionTest {
+
+    @Test
+    void shouldCreateExceptionWithMessage() {
+        // Given
+        String message = "Too many login attempts";
+
+        // When
+        TooManyRequestsException exception = new TooManyRequestsException(message);
+
+        // Then
+        assertThat(exception.getErrorCode()).isEqualTo(TooManyRequestsException.ERROR_CODE);
+        assertThat(exception.getMessage()).isEqualTo(message);
+        assertThat(exception.getHttpStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    @Test
+    void shouldCreateExceptionWithMessageAndCause() {
+        // Given
+        String message = "Too many concurrent logins";
+        RuntimeException cause = new RuntimeException("queue full");
+
+        // When
+        TooManyRequestsException exception = new TooManyRequestsException(message, cause);
+
+        // Then
+        assertThat(exception.getMessage()).isEqualTo(message);
+        assertThat(exception.getCause()).isEqualTo(cause);
+        assertThat(exception.getHttpStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+    }
+}
@@ -0,0 +1,177 @@
+package tech.onova.flagd_admin_server.domain.repository;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import tech.onova.flagd_admin_server.domain.entity.ApiKey;
+import tech.onova.flagd_admin_server.domain.entity.FlagRecord;
+import tech.onova.flagd_admin_server.domain.entity.FlagRecordId;
+import tech.onova.flagd_admin_server.domain.entity.RefreshToken;
+import tech.onova.flagd_admin_server.domain.entity.Source;
+import tech.onova.flagd_admin_server.domain.entity.SourceShard;
+import tech.onova.flagd_admin_server.domain.entity.SourceUri;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Builds a fresh SQLite database from the Flyway migrations alone, as production does, and checks every
+ * entity can be written and read back through it. The other integration tests let Hibernate create the schema.
+ */
+@SpringBootTest(properties = {
+        "spring.profiles.active=test",
+        "spring.datasource.driver-class-name=org.sqlite.JDBC",
+        "spring.jpa.database-platform=org.hibernate.community.dialect.SQLiteDialect",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.flyway.enabled=true"
+})
+class MigrationRoundTripTest {
+
+    private static final Path DATABASE = tempDatabase();
+
+    @DynamicPropertySource
+    static void databaseProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> "jdbc:sqlite:" + DATABASE);
+    }
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private SourceRepository sourceRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private FlagRecordRepository flagRecordRepository;
+
+    @Autowired
+    private ApiKeyRepository apiKeyRepository;
+
+    @Test
+    void shouldApplyEveryMigration() {
+        // When
+        MigrationInfo[] applied = flyway.info().applied();
+
+        // Then
+        assertThat(Arrays.stream(applied).map(info -> info.getVersion().getVersion()))
+                .containsExactly("1", "2", "3");
+        assertThat(applied).allSatisfy(info -> assertThat(info.getState().isApplied()).isTrue());
+    }
+
+    @Test
+    void shouldRoundTripSource() {
+        // Given
+        Source source = new Source(
+                "Sharded Source",
+                "Source with shards and publish targets",
+                new SourceUri("file:///tmp/flags.json"),
+                "system",
+                true,
+                List.of(new SourceShard("team-a-", new SourceUri("file:///tmp/team-a.json"))),
+                List.of(new SourceUri("file:///tmp/published.json")));
+
+        // When
+        sourceRepository.save(source);
+        var loaded = sourceRepository.findById(source.getId());
+
+        // Then
+        assertThat(loaded).hasValueSatisfying(found -> {
+            assertThat(found.getName()).isEqualTo("Sharded Source");
+            assertThat(found.getDescription()).isEqualTo("Source with shards and publish targets");
+            assertThat(found.getUri()).isEqualTo(new SourceUri("file:///tmp/flags.json"));
+            assertThat(found.isEnabled()).isTrue();
+            assertThat(found.getLastUpdateUserName()).isEqualTo("system");
+            assertThat(found.getCreationDateTime().toInstant())
+                    .isCloseTo(source.getCreationDateTime().toInstant(), within(1, ChronoUnit.SECONDS));
+            assertThat(found.getShards()).containsExactly(new SourceShard("team-a-", new SourceUri("file:///tmp/team-a.json")));
+            assertThat(found.getPublishTargets()).containsExactly(new SourceUri("file:///tmp/published.json"));
+        });
+        assertThat(sourceRepository.findByEnabled(true)).extracting(Source::getId).contains(source.getId());
+    }
+
+    @Test
+    void shouldRoundTripRefreshToken() {
+        // Given
+        String id = UUID.randomUUID().toString();
+        ZonedDateTime expiresAt = ZonedDateTime.now().plusDays(7);
+
+        // When
+        refreshTokenRepository.save(new RefreshToken(id, "admin", expiresAt));
+        var loaded = refreshTokenRepository.findById(id);
+
+        // Then
+        assertThat(loaded).hasValueSatisfying(found -> {
+            assertThat(found.getUserId()).isEqualTo("admin");
+            assertThat(found.getExpiresAt().toInstant()).isCloseTo(expiresAt.toInstant(), within(1, ChronoUnit.SECONDS));
+            assertThat(found.getCreatedAt()).isNotNull();
+        });
+    }
+
+    @Test
+    void shouldRoundTripFlagRecord() {
+        // Given
+        FlagRecordId id = new FlagRecordId("sqlite:///tmp/flags.json", "my-flag");
+        String definition = "{\"state\":\"ENABLED\",\"defaultVariant\":\"on\",\"variants\":{\"on\":true}}";
+
+        // When
+        flagRecordRepository.save(new FlagRecord(id, "ENABLED", definition));
+        var loaded = flagRecordRepository.findByIdSourceKeyOrderByIdFlagKey("sqlite:///tmp/flags.json");
+
+        // Then
+        assertThat(loaded).singleElement().satisfies(found -> {
+            assertThat(found.getId()).isEqualTo(id);
+            assertThat(found.getState()).isEqualTo("ENABLED");
+            assertThat(found.getDefinition()).isEqualTo(definition);
+            assertThat(found.getUpdatedAt()).isNotNull();
+        });
+    }
+
+    @Test
+    void shouldRoundTripApiKeyAndUsage() {
+        // Given
+        String id = UUID.randomUUID().toString();
+        ZonedDateTime usedAt = ZonedDateTime.now();
+        apiKeyRepository.save(new ApiKey(id, "ci", "digest-" + id, List.of("flags:read", "flags:write"), "admin", null));
+
+        // When
+        int updated = apiKeyRepository.addUsage(id, 3, usedAt);
+        var loaded = apiKeyRepository.findById(id);
+
+        // Then
+        assertThat(updated).isEqualTo(1);
+        assertThat(loaded).hasValueSatisfying(found -> {
+            assertThat(found.getName()).isEqualTo("ci");
+            assertThat(found.getKeyDigest()).isEqualTo("digest-" + id);
+            assertThat(found.getScopes()).containsExactly("flags:read", "flags:write");
+            assertThat(found.getCreatedBy()).isEqualTo("admin");
+            assertThat(found.getExpiresAt()).isNull();
+            assertThat(found.getUsageCount()).isEqualTo(3);
+            assertThat(found.getLastUsedAt().toInstant()).isCloseTo(usedAt.toInstant(), within(1, ChronoUnit.SECONDS));
+        });
+    }
+
+    private static Path tempDatabase() {
+        try {
+            Path directory = Files.createTempDirectory("flagd-admin-migrations");
+            directory.toFile().deleteOnExit();
+            return directory.resolve("app.db");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
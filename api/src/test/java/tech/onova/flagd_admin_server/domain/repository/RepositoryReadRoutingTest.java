@@ -0,0 +1,87 @@
+package tech.onova.flagd_admin_server.domain.repository;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import tech.onova.flagd_admin_server.domain.entity.FlagRecord;
+import tech.onova.flagd_admin_server.domain.entity.FlagRecordId;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs the repositories against SQLite in WAL mode to check which pool their transactions are routed to.
+ */
+@SpringBootTest(properties = {
+        "spring.profiles.active=test",
+        "spring.datasource.driver-class-name=org.sqlite.JDBC",
+        "spring.jpa.database-platform=org.hibernate.community.dialect.SQLiteDialect",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.flyway.enabled=true",
+        "application.database.sqlite.wal-mode=true"
+})
+class RepositoryReadRoutingTest {
+
+    private static final Path DATABASE = tempDatabase();
+
+    @DynamicPropertySource
+    static void databaseProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> "jdbc:sqlite:" + DATABASE);
+    }
+
+    @MockitoSpyBean(name = "sqliteReaderDataSource")
+    private HikariDataSource reader;
+
+    @MockitoSpyBean(name = "sqliteWriterDataSource")
+    private HikariDataSource writer;
+
+    @Autowired
+    private FlagRecordRepository flagRecordRepository;
+
+    @BeforeEach
+    void setUp() {
+        clearInvocations(reader, writer);
+    }
+
+    @Test
+    void shouldServeDerivedQueriesFromReaderPool() throws Exception {
+        // When
+        var records = flagRecordRepository.findByIdSourceKeyOrderByIdFlagKey("sqlite:///tmp/read-routing.json");
+
+        // Then
+        assertThat(records).isEmpty();
+        verify(reader, atLeastOnce()).getConnection();
+        verify(writer, never()).getConnection();
+    }
+
+    @Test
+    void shouldServeWritesFromWriterConnection() throws Exception {
+        // When
+        flagRecordRepository.save(new FlagRecord(
+                new FlagRecordId("sqlite:///tmp/write-routing.json", "my-flag"), "ENABLED", "{\"state\":\"ENABLED\"}"));
+
+        // Then
+        verify(writer, atLeastOnce()).getConnection();
+        verify(reader, never()).getConnection();
+    }
+
+    private static Path tempDatabase() {
+        try {
+            Path directory = Files.createTempDirectory("flagd-admin-routing");
+            directory.toFile().deleteOnExit();
+            return directory.resolve("app.db");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package tech.onova.flagd_admin_server.domain.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+import tech.onova.flagd_admin_server.domain.entity.SourceUri;
+import tech.onova.flagd_admin_server.domain.exception.SourceContentAccessException;
+import tech.onova.flagd_admin_server.domain.exception.SourcePublishException;
+import tech.onova.flagd_admin_server.domain.service.impl.FanOutSourcePublisher;
+import tech.onova.flagd_admin_server.domain.service.impl.FileSourceContentLoader;
+import tech.onova.flagd_admin_server.domain.service.impl.SourceContentLoaderRegistry;
+import tech.onova.flagd_admin_server.infrastructure.config.SourceCacheProperties;
+import tech.onova.flagd_admin_server.infrastructure.config.SourcePublishProperties;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class FanOutSourcePublisherTest {
+
+    private static final String CONTENT = "{\"$schema\": \"https://flagd.dev/schema/v0/flags.json\",\"flags\": {}}";
+
+    @TempDir
+    Path tempDir;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final FlakyLoader flakyLoader = new FlakyLoader();
+    private FanOutSourcePublisher publisher;
+    private SourceUri sourceUri;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        SourceCacheProperties noCache = new SourceCacheProperties(
+                Set.of(), Duration.ZERO, Duration.ZERO, DataSize.ofBytes(0), Map.of());
+        SourceContentLoaderRegistry registry = new SourceContentLoaderRegistry(
+                List.of(new FileSourceContentLoader(), flakyLoader), noCache);
+        publisher = new FanOutSourcePublisher(registry, new SourcePublishProperties(3, Duration.ZERO), meterRegistry);
+
+        Path source = tempDir.resolve("source.json");
+        Files.writeString(source, CONTENT);
+        sourceUri = new SourceUri("file://" + source);
+    }
+
+    @AfterEach
+    void tearDown() {
+        publisher.shutdown();
+    }
+
+    @Test
+    void shouldPublishSameRevisionToEveryTarget() throws Exception {
+        // Given
+        Path podA = tempDir.resolve("pod-a").resolve("flags.json");
+        Path podB = tempDir.resolve("pod-b").resolve("flags.json");
+        List<SourceUri> targets = List.of(new SourceUri("file://" + podA), new SourceUri("file://" + podB));
+
+        // When
+        PublishResult result = publisher.publish(sourceUri, targets);
+
+        // Then
+        assertThat(Files.readString(podA)).isEqualTo(CONTENT);
+        assertThat(Files.readString(podB)).isEqualTo(CONTENT);
+        assertThat(result.targets()).isEqualTo(targets);
+        assertThat(result.revisionId()).hasSize(64);
+        assertThat(publisher.publish(sourceUri, targets).revisionId()).isEqualTo(result.revisionId());
+        assertThat(meterRegistry.get("flagd.source.publish").tag("scheme", "file").tag("outcome", "success")
+                .timer().count()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldRetryTargetUntilWriteSucceeds() {
+        // Given
+        flakyLoader.failuresLeft.set(2);
+        SourceUri target = new SourceUri("s3://bucket/flags.json");
+
+        // When
+        publisher.publish(sourceUri, List.of(target));
+
+        // Then
+        assertThat(flakyLoader.written).isEqualTo(CONTENT);
+        assertThat(meterRegistry.get("flagd.source.publish").tag("outcome", "failure").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("flagd.source.publish").tag("outcome", "success").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReportTargetsStillFailingAfterLastAttempt() throws Exception {
+        // Given
+        flakyLoader.failuresLeft.set(3);
+        Path podA = tempDir.resolve("pod-a.json");
+        SourceUri healthyTarget = new SourceUri("file://" + podA);
+        SourceUri failingTarget = new SourceUri("s3://bucket/flags.json");
+
+        // When & Then
+        assertThatThrownBy(() -> publisher.publish(sourceUri, List.of(healthyTarget, failingTarget)))
+                .isInstanceOf(SourcePublishException.class)
+                .hasMessageContaining("s3://bucket/flags.json")
+                .hasMessageNotContaining(healthyTarget.uri())
+                .hasCauseInstanceOf(SourceContentAccessException.class);
+        assertThat(Files.readString(podA)).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void shouldPublishGivenBytesWithoutReadingSource() throws Exception {
+        // Given
+        Path podA = tempDir.resolve("pod-a.json");
+        SourceUri missingSource = new SourceUri("file://" + tempDir.resolve("missing.json"));
+        byte[] written = CONTENT.getBytes(StandardCharsets.UTF_8);
+
+        // When
+        publisher.publish(missingSource, written, List.of(new SourceUri("file://" + podA)));
+
+        // Then
+        assertThat(Files.readString(podA)).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void shouldBringMissedTargetUpToDateInBackground() {
+        // Given
+        flakyLoader.failuresLeft.set(3);
+        SourceUri target = new SourceUri("s3://bucket/flags.json");
+        assertThatThrownBy(() -> publisher.publish(sourceUri, List.of(target)))
+                .isInstanceOf(SourcePublishException.class);
+
+        // When
+        publisher.retryMissedTargets();
+
+        // Then
+        assertThat(flakyLoader.written).isEqualTo(CONTENT);
+        assertThat(publisher.missedTargets(sourceUri)).isEmpty();
+    }
+
+    @Test
+    void shouldForgetMissedTargetOnceLaterPublishReachesIt() {
+        // Given
+        flakyLoader.failuresLeft.set(3);
+        SourceUri target = new SourceUri("s3://bucket/flags.json");
+        assertThatThrownBy(() -> publisher.publish(sourceUri, List.of(target)))
+                .isInstanceOf(SourcePublishException.class);
+        assertThat(publisher.missedTargets(sourceUri)).containsExactly(target);
+
+        // When
+        publisher.publish(sourceUri, CONTENT.getBytes(StandardCharsets.UTF_8), List.of(target));
+
+        // Then
+        assertThat(publisher.missedTargets(sourceUri)).isEmpty();
+    }
+
+    @Test
+    void shouldStopRetryingMissedTargetsOfForgottenSource() {
+        // Given
+        flakyLoader.failuresLeft.set(3);
+        SourceUri target = new SourceUri("s3://bucket/flags.json");
+        assertThatThrownBy(() -> publisher.publish(sourceUri, List.of(target)))
+                .isInstanceOf(SourcePublishException.class);
+
+        // When
+        publisher.forget(sourceUri);
+        publisher.retryMissedTargets();
+
+        // Then
+        assertThat(publisher.missedTargets(sourceUri)).isEmpty();
+        assertThat(flakyLoader.written).isNull();
+    }
+
+    private static class FlakyLoader implements SourceContentLoader {
+        private final AtomicInteger failuresLeft = new AtomicInteger();
+        private volatile String written;
+
+        @Override
+        public boolean supports(String uriScheme) {
+            return "s3".equalsIgnoreCase(uriScheme);
+        }
+
+        @Override
+        public String loadContent(SourceUri sourceUri) {
+            return written;
+        }
+
+        @Override
+        public void initializeContent(SourceUri sourceUri, String content) {
+            written = content;
+        }
+
+        @Override
+        public void writeContent(SourceUri sourceUri, InputStream content) {
+            if (failuresLeft.getAndDecrement() > 0) {
+                throw new SourceContentAccessException("Temporarily unavailable: " + sourceUri.uri());
+            }
+            try {
+                written = new String(content.readAllBytes(), StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new SourceContentAccessException("Error reading content", e);
+            }
+        }
+    }
+}
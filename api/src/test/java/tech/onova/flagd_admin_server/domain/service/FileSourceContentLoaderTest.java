@@ -7,9 +7,15 @@ import org.junit.jupiter.api.io.TempDir;
 import org.mockito.junit.jupiter.MockitoExtension;
 import tech.onova.flagd_admin_server.domain.entity.SourceUri;
 import tech.onova.flagd_admin_server.domain.exception.SourceContentAccessException;
+import tech.onova.flagd_admin_server.domain.exception.SourceContentConflictException;
+import tech.onova.flagd_admin_server.domain.exception.SourceContentNotFoundException;
 import tech.onova.flagd_admin_server.domain.service.impl.FileSourceContentLoader;
+import tech.onova.flagd_admin_server.infrastructure.io.ByteBufferInputStream;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 
@@ -178,4 +184,185 @@ class FileSourceContentLoaderTest {
         assertThat(Files.exists(testFile)).isTrue();
         assertThat(Files.readString(testFile)).isEqualTo(content);
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldOpenContentOfSmallFile() throws Exception {
+        // Given
+        String content = "small content with special chars: ñáéíóú";
+        Path testFile = tempDir.resolve("small.json");
+        Files.writeString(testFile, content);
+        SourceUri sourceUri = new SourceUri("file://" + testFile.toString());
+
+        // When
+        byte[] bytes;
+        try (InputStream stream = loader.openContent(sourceUri)) {
+            bytes = stream.readAllBytes();
+        }
+
+        // Then
+        assertThat(new String(bytes, StandardCharsets.UTF_8)).isEqualTo(content);
+    }
+
+    @Test
+    void shouldOpenContentOfLargeFileThroughMapping() throws Exception {
+        // Given
+        StringBuilder largeContent = new StringBuilder();
+        while (largeContent.length() <= FileSourceContentLoader.MAPPING_THRESHOLD_BYTES) {
+            largeContent.append("This is a line of the mapped content.\n");
+        }
+        String content = largeContent.toString();
+        Path testFile = tempDir.resolve("mapped.json");
+        Files.writeString(testFile, content);
+        SourceUri sourceUri = new SourceUri("file://" + testFile.toString());
+
+        // When
+        byte[] bytes;
+        try (InputStream stream = loader.openContent(sourceUri)) {
+            assertThat(stream).isInstanceOf(ByteBufferInputStream.class);
+            bytes = stream.readAllBytes();
+        }
+
+        // Then
+        assertThat(new String(bytes, StandardCharsets.UTF_8)).isEqualTo(content);
+    }
+
+    @Test
+    void shouldThrowExceptionWhenOpeningNonExistentFile() {
+        // Given
+        SourceUri sourceUri = new SourceUri("file://non/existent/path.txt");
+
+        // When & Then
+        assertThatThrownBy(() -> loader.openContent(sourceUri))
+            .isInstanceOf(SourceContentNotFoundException.class)
+            .hasMessageContaining("File not found");
+    }
+
+    @Test
+    void shouldKeepMappedContentReadableWhenFileIsReplaced() throws Exception {
+        // Given
+        String original = "x".repeat((int) FileSourceContentLoader.MAPPING_THRESHOLD_BYTES + 1);
+        Path testFile = tempDir.resolve("replaced.json");
+        Files.writeString(testFile, original);
+        SourceUri sourceUri = new SourceUri("file://" + testFile.toString());
+
+        // When
+        try (InputStream stream = loader.openContent(sourceUri)) {
+            loader.initializeContent(sourceUri, "new content");
+
+            // Then
+            assertThat(new String(stream.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(original);
+        }
+        assertThat(Files.readString(testFile)).isEqualTo("new content");
+        try (var files = Files.list(tempDir)) {
+            assertThat(files).containsExactly(testFile);
+        }
+    }
+
+    @Test
+    void shouldWriteContentFromStream() throws Exception {
+        // Given
+        String content = "{\"flags\": {}}";
+        Path testFile = tempDir.resolve("nested").resolve("streamed.json");
+        SourceUri sourceUri = new SourceUri("file://" + testFile.toString());
+
+        // When
+        loader.writeContent(sourceUri, new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+
+        // Then
+        assertThat(Files.readString(testFile)).isEqualTo(content);
+    }
+
+    @Test
+    void shouldStatExistingFileWithoutReadingIt() throws Exception {
+        // Given
+        Path testFile = tempDir.resolve("stat.json");
+        Files.writeString(testFile, "{\"flags\": {}}");
+        SourceUri sourceUri = new SourceUri("file://" + testFile.toString());
+
+        // When
+        SourceContentStat stat = loader.stat(sourceUri);
+
+        // Then
+        assertThat(stat.exists()).isTrue();
+        assertThat(stat.size()).isEqualTo(Files.size(testFile));
+        assertThat(stat.lastModified()).isEqualTo(Files.getLastModifiedTime(testFile).toInstant());
+        assertThat(stat.versionToken()).isNotBlank();
+    }
+
+    @Test
+    void shouldChangeVersionTokenWhenContentIsReplaced() throws Exception {
+        // Given
+        Path testFile = tempDir.resolve("versioned.json");
+        SourceUri sourceUri = new SourceUri("file://" + testFile.toString());
+        loader.initializeContent(sourceUri, "first");
+        String firstToken = loader.stat(sourceUri).versionToken();
+
+        // When
+        loader.initializeContent(sourceUri, "second");
+
+        // Then
+        assertThat(loader.stat(sourceUri).versionToken()).isNotEqualTo(firstToken);
+    }
+
+    @Test
+    void shouldStatMissingFile() {
+        // Given
+        SourceUri sourceUri = new SourceUri("file://" + tempDir.resolve("missing.json"));
+
+        // When
+        SourceContentStat stat = loader.stat(sourceUri);
+
+        // Then
+        assertThat(stat.exists()).isFalse();
+        assertThat(stat.versionToken()).isNull();
+    }
+
+    @Test
+    void shouldVersionContentByStatToken() throws Exception {
+        // Given
+        Path testFile = tempDir.resolve("versioned-read.json");
+        Files.writeString(testFile, "{\"flags\": {}}");
+        SourceUri sourceUri = new SourceUri("file://" + testFile.toString());
+
+        // When
+        VersionedContent versioned = loader.loadVersionedContent(sourceUri);
+
+        // Then
+        assertThat(new String(versioned.content(), StandardCharsets.UTF_8)).isEqualTo("{\"flags\": {}}");
+        assertThat(versioned.versionToken()).isEqualTo(loader.stat(sourceUri).versionToken());
+    }
+
+    @Test
+    void shouldWriteWhenVersionIsUnchanged() throws Exception {
+        // Given
+        Path testFile = tempDir.resolve("conditional.json");
+        SourceUri sourceUri = new SourceUri("file://" + testFile.toString());
+        loader.initializeContent(sourceUri, "first");
+        String version = loader.loadVersionedContent(sourceUri).versionToken();
+
+        // When
+        loader.writeContent(sourceUri, new ByteArrayInputStream("second".getBytes(StandardCharsets.UTF_8)), version);
+
+        // Then
+        assertThat(Files.readString(testFile)).isEqualTo("second");
+    }
+
+    @Test
+    void shouldRejectWriteWhenFileWasReplacedSinceRead() throws Exception {
+        // Given
+        Path testFile = tempDir.resolve("conflict.json");
+        SourceUri sourceUri = new SourceUri("file://" + testFile.toString());
+        loader.initializeContent(sourceUri, "first");
+        String version = loader.loadVersionedContent(sourceUri).versionToken();
+        loader.initializeContent(sourceUri, "concurrent");
+
+        // When & Then
+        assertThatThrownBy(() -> loader.writeContent(sourceUri,
+                new ByteArrayInputStream("second".getBytes(StandardCharsets.UTF_8)), version))
+                .isInstanceOf(SourceContentConflictException.class);
+        assertThat(Files.readString(testFile)).isEqualTo("concurrent");
+        try (var files = Files.list(tempDir)) {
+            assertThat(files).containsExactly(testFile);
+        }
+    }
+}
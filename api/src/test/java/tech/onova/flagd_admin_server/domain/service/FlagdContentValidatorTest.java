@@ -6,6 +6,7 @@ import org.junit.jupiter.api.io.TempDir;
 import tech.onova.flagd_admin_server.domain.exception.ContentValidationException;
 import tech.onova.flagd_admin_server.domain.service.impl.FlagdContentValidator;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import static org.assertj.core.api.Assertions.*;
@@ -172,4 +173,27 @@ class FlagdContentValidatorTest {
             validator.validateContent(content);
         });
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldValidateContentFileInPlace() throws Exception {
+        // Given
+        Path contentFile = tempDir.resolve("flags.json");
+        Files.writeString(contentFile, "{\"flags\": {}}");
+
+        // When & Then
+        assertThatNoException().isThrownBy(() -> validator.validateContentFile(contentFile));
+        assertThat(contentFile).exists();
+    }
+
+    @Test
+    void shouldRejectInvalidContentFile() throws Exception {
+        // Given
+        Path contentFile = tempDir.resolve("invalid.json");
+        Files.writeString(contentFile, "{ invalid json content }");
+
+        // When & Then
+        assertThatThrownBy(() -> validator.validateContentFile(contentFile))
+            .isInstanceOf(ContentValidationException.class)
+            .hasMessageContaining("Content validation failed");
+    }
+}
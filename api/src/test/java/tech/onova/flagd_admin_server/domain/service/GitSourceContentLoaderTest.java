@@ -0,0 +1,219 @@
+package tech.onova.flagd_admin_server.domain.service;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.storage.file.FileRepositoryBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tech.onova.flagd_admin_server.domain.entity.SourceUri;
+import tech.onova.flagd_admin_server.domain.exception.SourceContentAccessException;
+import tech.onova.flagd_admin_server.domain.exception.SourceContentNotFoundException;
+import tech.onova.flagd_admin_server.domain.service.impl.GitSourceContentLoader;
+import tech.onova.flagd_admin_server.infrastructure.config.GitSourceProperties;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.*;
+
+class GitSourceContentLoaderTest {
+
+    private GitSourceContentLoader loader;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        loader = newLoader();
+    }
+
+    @AfterEach
+    void tearDown() {
+        loader.shutdown();
+    }
+
+    private GitSourceContentLoader newLoader() {
+        return new GitSourceContentLoader(new GitSourceProperties("flagd-admin", "flagd-admin@localhost", 64));
+    }
+
+    private SourceUri sourceUri(String path) {
+        return new SourceUri("git://" + tempDir.resolve("repo") + "!/" + path);
+    }
+
+    @Test
+    void shouldSupportGitUriScheme() {
+        // When & Then
+        assertThat(loader.supports("git")).isTrue();
+        assertThat(loader.supports("GIT")).isTrue();
+        assertThat(loader.supports("file")).isFalse();
+    }
+
+    @Test
+    void shouldCommitInitialContentIntoNewBareRepository() throws Exception {
+        // Given
+        SourceUri sourceUri = sourceUri("flags/flags.json");
+
+        // When
+        loader.initializeContent(sourceUri, null);
+
+        // Then
+        assertThat(loader.loadContent(sourceUri)).contains("\"flags\": {}");
+        try (Repository repository = new FileRepositoryBuilder().setGitDir(tempDir.resolve("repo").toFile()).build()) {
+            assertThat(repository.isBare()).isTrue();
+            assertThat(repository.resolve(Constants.HEAD)).isNotNull();
+        }
+    }
+
+    @Test
+    void shouldRecordEveryWriteAsRevision() {
+        // Given
+        SourceUri sourceUri = sourceUri("flags.json");
+        loader.initializeContent(sourceUri, "{\"flags\": {}}\n");
+
+        // When
+        loader.writeContent(sourceUri, new ByteArrayInputStream("{\"flags\": {\"a\": {}}}\n".getBytes(StandardCharsets.UTF_8)));
+
+        // Then
+        List<SourceRevision> revisions = loader.listRevisions(sourceUri, 10);
+        assertThat(revisions).hasSize(2);
+        assertThat(revisions.get(0).author()).isEqualTo("flagd-admin");
+        assertThat(revisions.get(0).message()).isEqualTo("Update flags.json");
+        assertThat(loader.loadContent(sourceUri, revisions.get(1).id())).isEqualTo("{\"flags\": {}}\n");
+        assertThat(loader.loadContent(sourceUri)).isEqualTo("{\"flags\": {\"a\": {}}}\n");
+        assertThat(loader.diff(sourceUri, revisions.get(1).id(), revisions.get(0).id()))
+            .contains("-{\"flags\": {}}")
+            .contains("+{\"flags\": {\"a\": {}}}");
+    }
+
+    @Test
+    void shouldOnlyListRevisionsTouchingThePath() {
+        // Given
+        SourceUri flags = sourceUri("flags.json");
+        SourceUri other = sourceUri("other.json");
+        loader.initializeContent(flags, "first");
+        loader.initializeContent(other, "other");
+        loader.initializeContent(flags, "second");
+
+        // When
+        List<SourceRevision> revisions = loader.listRevisions(flags, 10);
+
+        // Then
+        assertThat(revisions).hasSize(2);
+        assertThat(loader.listRevisions(flags, 1)).hasSize(1);
+        assertThat(loader.loadContent(other)).isEqualTo("other");
+    }
+
+    @Test
+    void shouldPickUpCommitsMadeOutsideTheLoader() throws Exception {
+        // Given
+        SourceUri sourceUri = sourceUri("flags.json");
+        loader.initializeContent(sourceUri, "first");
+        assertThat(loader.loadContent(sourceUri)).isEqualTo("first");
+        GitSourceContentLoader otherWriter = newLoader();
+
+        // When
+        otherWriter.initializeContent(sourceUri, "second");
+        otherWriter.shutdown();
+
+        // Then
+        assertThat(loader.loadContent(sourceUri)).isEqualTo("second");
+        try (InputStream content = loader.openContent(sourceUri)) {
+            assertThat(new String(content.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("second");
+        }
+    }
+
+    @Test
+    void shouldCommitIntoExistingWorkingTreeRepository() throws Exception {
+        // Given
+        Git.init().setDirectory(tempDir.resolve("repo").toFile()).call().close();
+        SourceUri sourceUri = sourceUri("flags.json");
+
+        // When
+        loader.initializeContent(sourceUri, "content");
+
+        // Then
+        assertThat(loader.loadContent(sourceUri)).isEqualTo("content");
+        assertThat(tempDir.resolve("repo").resolve(".git").resolve("objects")).isDirectory();
+    }
+
+    @Test
+    void shouldKeepEveryConcurrentWrite() throws Exception {
+        // Given
+        int writers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        List<CompletableFuture<Void>> writes = new ArrayList<>();
+
+        // When
+        try {
+            for (int i = 0; i < writers; i++) {
+                SourceUri sourceUri = sourceUri("flags-" + i + ".json");
+                String content = "content " + i;
+                writes.add(CompletableFuture.runAsync(() -> loader.initializeContent(sourceUri, content), executor));
+            }
+            CompletableFuture.allOf(writes.toArray(CompletableFuture[]::new)).join();
+        } finally {
+            executor.shutdown();
+        }
+
+        // Then
+        for (int i = 0; i < writers; i++) {
+            assertThat(loader.loadContent(sourceUri("flags-" + i + ".json"))).isEqualTo("content " + i);
+        }
+    }
+
+    @Test
+    void shouldStatHeadBlob() {
+        // Given
+        SourceUri sourceUri = sourceUri("flags.json");
+        loader.initializeContent(sourceUri, "first");
+        String firstToken = loader.stat(sourceUri).versionToken();
+
+        // When
+        loader.initializeContent(sourceUri, "second");
+        SourceContentStat stat = loader.stat(sourceUri);
+
+        // Then
+        assertThat(stat.exists()).isTrue();
+        assertThat(stat.size()).isEqualTo("second".length());
+        assertThat(stat.lastModified()).isNotNull();
+        assertThat(stat.versionToken()).isNotEqualTo(firstToken);
+    }
+
+    @Test
+    void shouldReportMissingContent() {
+        // Given
+        SourceUri missingRepository = sourceUri("flags.json");
+
+        // When & Then
+        assertThatThrownBy(() -> loader.loadContent(missingRepository))
+            .isInstanceOf(SourceContentNotFoundException.class);
+        assertThat(loader.stat(missingRepository).exists()).isFalse();
+
+        loader.initializeContent(sourceUri("other.json"), "other");
+        assertThatThrownBy(() -> loader.loadContent(missingRepository))
+            .isInstanceOf(SourceContentNotFoundException.class)
+            .hasMessageContaining("File not found");
+    }
+
+    @Test
+    void shouldRejectUriWithoutPathInRepository() {
+        // Given
+        SourceUri sourceUri = new SourceUri("git://" + tempDir.resolve("repo"));
+
+        // When & Then
+        assertThatThrownBy(() -> loader.loadContent(sourceUri))
+            .isInstanceOf(SourceContentAccessException.class)
+            .hasMessageContaining("git:///path/to/repo!/path/in/repo");
+    }
+}
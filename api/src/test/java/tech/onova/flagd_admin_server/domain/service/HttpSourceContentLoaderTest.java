@@ -0,0 +1,171 @@
+package tech.onova.flagd_admin_server.domain.service;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+import tech.onova.flagd_admin_server.domain.entity.SourceUri;
+import tech.onova.flagd_admin_server.domain.exception.SourceContentAccessException;
+import tech.onova.flagd_admin_server.domain.exception.SourceContentNotFoundException;
+import tech.onova.flagd_admin_server.domain.service.impl.HttpSourceContentLoader;
+import tech.onova.flagd_admin_server.infrastructure.config.HttpSourceProperties;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.*;
+
+class HttpSourceContentLoaderTest {
+
+    private static final String CONTENT = "{\"flags\": {}}";
+    private static final String ETAG = "\"rev-1\"";
+
+    private HttpServer server;
+    private final List<String> conditionalHeaders = new CopyOnWriteArrayList<>();
+    private String baseUri;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/flags.json", this::serveFlags);
+        server.createContext("/missing.json", exchange -> respond(exchange, 404, new byte[0]));
+        server.start();
+        baseUri = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    private void serveFlags(HttpExchange exchange) throws IOException {
+        String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+        conditionalHeaders.add(ifNoneMatch == null ? "" : ifNoneMatch);
+        exchange.getResponseHeaders().add("ETag", ETAG);
+        if (ETAG.equals(ifNoneMatch)) {
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+            return;
+        }
+        respond(exchange, 200, CONTENT.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private HttpSourceContentLoader loader(Duration refreshInterval) {
+        return new HttpSourceContentLoader(new HttpSourceProperties(
+                refreshInterval, Duration.ofSeconds(2), Duration.ofSeconds(5), DataSize.ofMegabytes(1), Map.of()));
+    }
+
+    @Test
+    void shouldSupportHttpSchemes() {
+        // Given
+        HttpSourceContentLoader loader = loader(Duration.ofMinutes(1));
+
+        // When & Then
+        assertThat(loader.supports("http")).isTrue();
+        assertThat(loader.supports("HTTPS")).isTrue();
+        assertThat(loader.supports("file")).isFalse();
+    }
+
+    @Test
+    void shouldServeCachedBodyWithinRefreshInterval() {
+        // Given
+        HttpSourceContentLoader loader = loader(Duration.ofMinutes(1));
+        SourceUri sourceUri = new SourceUri(baseUri + "/flags.json");
+
+        // When
+        String first = loader.loadContent(sourceUri);
+        String second = loader.loadContent(sourceUri);
+
+        // Then
+        assertThat(first).isEqualTo(CONTENT);
+        assertThat(second).isEqualTo(CONTENT);
+        assertThat(conditionalHeaders).containsExactly("");
+    }
+
+    @Test
+    void shouldRevalidateWithETagAndReuseBodyOnNotModified() throws Exception {
+        // Given
+        HttpSourceContentLoader loader = loader(Duration.ZERO);
+        SourceUri sourceUri = new SourceUri(baseUri + "/flags.json");
+        loader.loadContent(sourceUri);
+
+        // When
+        byte[] revalidated;
+        try (InputStream content = loader.openContent(sourceUri)) {
+            revalidated = content.readAllBytes();
+        }
+
+        // Then
+        assertThat(new String(revalidated, StandardCharsets.UTF_8)).isEqualTo(CONTENT);
+        assertThat(conditionalHeaders).containsExactly("", ETAG);
+    }
+
+    @Test
+    void shouldHonourPerSourceRefreshInterval() {
+        // Given
+        String uri = baseUri + "/flags.json";
+        HttpSourceContentLoader loader = new HttpSourceContentLoader(new HttpSourceProperties(
+                Duration.ZERO, Duration.ofSeconds(2), Duration.ofSeconds(5), DataSize.ofMegabytes(1), Map.of(uri, Duration.ofMinutes(5))));
+
+        // When
+        loader.loadContent(new SourceUri(uri));
+        loader.loadContent(new SourceUri(uri));
+
+        // Then
+        assertThat(conditionalHeaders).hasSize(1);
+    }
+
+    @Test
+    void shouldStatUsingETagAsVersionToken() {
+        // Given
+        HttpSourceContentLoader loader = loader(Duration.ofMinutes(1));
+
+        // When
+        SourceContentStat stat = loader.stat(new SourceUri(baseUri + "/flags.json"));
+
+        // Then
+        assertThat(stat.exists()).isTrue();
+        assertThat(stat.size()).isEqualTo(CONTENT.length());
+        assertThat(stat.versionToken()).isEqualTo("rev-1");
+    }
+
+    @Test
+    void shouldReportMissingRemoteSource() {
+        // Given
+        HttpSourceContentLoader loader = loader(Duration.ofMinutes(1));
+        SourceUri sourceUri = new SourceUri(baseUri + "/missing.json");
+
+        // When & Then
+        assertThatThrownBy(() -> loader.loadContent(sourceUri))
+            .isInstanceOf(SourceContentNotFoundException.class);
+        assertThat(loader.stat(sourceUri).exists()).isFalse();
+    }
+
+    @Test
+    void shouldRejectWrites() {
+        // Given
+        HttpSourceContentLoader loader = loader(Duration.ofMinutes(1));
+        SourceUri sourceUri = new SourceUri(baseUri + "/flags.json");
+
+        // When & Then
+        assertThatThrownBy(() -> loader.initializeContent(sourceUri, CONTENT))
+            .isInstanceOf(SourceContentAccessException.class)
+            .hasMessageContaining("read-only");
+    }
+}
@@ -0,0 +1,131 @@
+package tech.onova.flagd_admin_server.domain.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+import tech.onova.flagd_admin_server.domain.entity.SourceUri;
+import tech.onova.flagd_admin_server.domain.exception.UnsupportedSourceUriException;
+import tech.onova.flagd_admin_server.domain.service.impl.SourceContentLoaderRegistry;
+import tech.onova.flagd_admin_server.infrastructure.config.SourceCacheProperties;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SourceContentLoaderRegistryTest {
+
+    @Mock
+    private SourceContentLoader fileLoader;
+
+    @Mock
+    private FlagLevelSourceContentLoader sqliteLoader;
+
+    @Mock
+    private SourceContentLoader httpLoader;
+
+    private final SourceCacheProperties cacheProperties = new SourceCacheProperties(
+        Set.of("http", "sqlite"), Duration.ofMinutes(1), Duration.ofMinutes(5), DataSize.ofMegabytes(1), Map.of());
+
+    private final SourceCacheProperties noCache = new SourceCacheProperties(
+        Set.of(), Duration.ZERO, Duration.ZERO, DataSize.ofBytes(0), Map.of());
+
+    @Test
+    void shouldResolveLoaderOncePerScheme() {
+        // Given
+        SourceContentLoaderRegistry registry = new SourceContentLoaderRegistry(List.of(fileLoader), noCache);
+        when(fileLoader.supports("file")).thenReturn(true);
+
+        // When
+        var first = registry.resolve(new SourceUri("file://one.json"));
+        var second = registry.resolve(new SourceUri("file://one.json"));
+        var other = registry.resolve(new SourceUri("FILE://two.json"));
+
+        // Then
+        assertThat(first.loader()).isSameAs(fileLoader);
+        assertThat(second).isSameAs(first);
+        assertThat(other).isSameAs(first);
+        assertThat(first.capabilities()).isEmpty();
+        verify(fileLoader, times(1)).supports("file");
+    }
+
+    @Test
+    void shouldDeriveCapabilitiesFromLoaderType() {
+        // Given
+        SourceContentLoaderRegistry registry = new SourceContentLoaderRegistry(List.of(fileLoader, sqliteLoader), noCache);
+        when(fileLoader.supports("sqlite")).thenReturn(false);
+        when(sqliteLoader.supports("sqlite")).thenReturn(true);
+
+        // When
+        var binding = registry.resolve(new SourceUri("sqlite://flags.json"));
+
+        // Then
+        assertThat(binding.loader()).isSameAs(sqliteLoader);
+        assertThat(binding.capabilities()).containsExactly(SourceContentCapability.FLAG_LEVEL);
+    }
+
+    @Test
+    void shouldNotCacheUnsupportedSchemes() {
+        // Given
+        SourceContentLoaderRegistry registry = new SourceContentLoaderRegistry(List.of(fileLoader), noCache);
+        SourceUri sourceUri = new SourceUri("http://flags.example.com/flags.json");
+        when(fileLoader.supports("http")).thenReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> registry.resolve(sourceUri))
+            .isInstanceOf(UnsupportedSourceUriException.class)
+            .hasMessageContaining("Unsupported URI scheme: http");
+        assertThatThrownBy(() -> registry.resolve(sourceUri))
+            .isInstanceOf(UnsupportedSourceUriException.class);
+        verify(fileLoader, times(2)).supports("http");
+    }
+
+    @Test
+    void shouldPutCachedSchemesBehindReadThroughCache() {
+        // Given
+        SourceContentLoaderRegistry registry = new SourceContentLoaderRegistry(List.of(httpLoader), cacheProperties);
+        SourceUri sourceUri = new SourceUri("http://flags.example.com/flags.json");
+        when(httpLoader.supports("http")).thenReturn(true);
+        when(httpLoader.openContent(sourceUri))
+            .thenReturn(new ByteArrayInputStream("{\"flags\": {}}".getBytes(StandardCharsets.UTF_8)));
+
+        try {
+            // When
+            var binding = registry.resolve(sourceUri);
+            String first = binding.loader().loadContent(sourceUri);
+            String second = binding.loader().loadContent(sourceUri);
+
+            // Then
+            assertThat(binding.loader()).isNotSameAs(httpLoader);
+            assertThat(second).isEqualTo(first);
+            verify(httpLoader, times(1)).openContent(sourceUri);
+        } finally {
+            registry.shutdown();
+        }
+    }
+
+    @Test
+    void shouldNotWrapFlagLevelLoadersInCache() {
+        // Given
+        SourceContentLoaderRegistry registry = new SourceContentLoaderRegistry(List.of(sqliteLoader), cacheProperties);
+        when(sqliteLoader.supports("sqlite")).thenReturn(true);
+
+        try {
+            // When
+            var binding = registry.resolve(new SourceUri("sqlite://flags.json"));
+
+            // Then
+            assertThat(binding.loader()).isSameAs(sqliteLoader);
+        } finally {
+            registry.shutdown();
+        }
+    }
+}
@@ -4,20 +4,32 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
 import tech.onova.flagd_admin_server.domain.entity.SourceUri;
 import tech.onova.flagd_admin_server.domain.exception.ContentValidationException;
 import tech.onova.flagd_admin_server.domain.exception.SourceContentAccessException;
 import tech.onova.flagd_admin_server.domain.exception.SourceContentNotFoundException;
 import tech.onova.flagd_admin_server.domain.exception.UnsupportedSourceUriException;
+import tech.onova.flagd_admin_server.domain.service.impl.SourceContentLoaderRegistry;
 import tech.onova.flagd_admin_server.domain.service.impl.SourceContentServiceImpl;
+import tech.onova.flagd_admin_server.infrastructure.config.SourceCacheProperties;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,8 +51,13 @@ class SourceContentServiceImplTest {
 
     @BeforeEach
     void setUp() {
-        List<SourceContentLoader> loaders = List.of(fileLoader, httpLoader);
-        service = new SourceContentServiceImpl(loaders, contentValidator);
+        service = service(List.of(fileLoader, httpLoader));
+    }
+
+    private SourceContentServiceImpl service(List<SourceContentLoader> loaders) {
+        SourceCacheProperties noCache = new SourceCacheProperties(
+            Set.of(), Duration.ZERO, Duration.ZERO, DataSize.ofBytes(0), Map.of());
+        return new SourceContentServiceImpl(new SourceContentLoaderRegistry(loaders, noCache), contentValidator);
     }
 
     @Test
@@ -76,6 +93,23 @@ class SourceContentServiceImplTest {
             .isSameAs(notFoundException);
     }
 
+    @Test
+    void shouldOpenContentWithFileUri() throws Exception {
+        // Given
+        SourceUri sourceUri = new SourceUri("file://test/path");
+        InputStream expectedStream = new ByteArrayInputStream("test content".getBytes(StandardCharsets.UTF_8));
+
+        when(fileLoader.supports("file")).thenReturn(true);
+        when(fileLoader.openContent(sourceUri)).thenReturn(expectedStream);
+
+        // When
+        InputStream actualStream = service.openContent(sourceUri);
+
+        // Then
+        assertThat(actualStream).isSameAs(expectedStream);
+        verify(httpLoader, never()).openContent(any());
+    }
+
     @Test
     void shouldInitializeContentAfterValidation() throws Exception {
         // Given
@@ -146,19 +180,58 @@ class SourceContentServiceImplTest {
             .hasMessageContaining("Unsupported URI scheme: file");
     }
 
+    @Test
+    void shouldValidateStagedContentBeforeWritingStream() throws Exception {
+        // Given
+        SourceUri sourceUri = new SourceUri("file://test/path");
+        byte[] content = "{\"flags\": {}}".getBytes(StandardCharsets.UTF_8);
+        ArgumentCaptor<Path> stagedCaptor = ArgumentCaptor.forClass(Path.class);
+        ByteArrayOutputStream written = new ByteArrayOutputStream();
+
+        when(fileLoader.supports("file")).thenReturn(true);
+        doAnswer(invocation -> {
+            ((InputStream) invocation.getArgument(1)).transferTo(written);
+            return null;
+        }).when(fileLoader).writeContent(eq(sourceUri), any(InputStream.class));
+
+        // When
+        service.writeContent(sourceUri, out -> out.write(content));
+
+        // Then
+        verify(contentValidator).validateContentFile(stagedCaptor.capture());
+        assertThat(written.toByteArray()).isEqualTo(content);
+        assertThat(stagedCaptor.getValue()).doesNotExist();
+    }
+
+    @Test
+    void shouldNotWriteStreamWhenValidationFails() throws Exception {
+        // Given
+        SourceUri sourceUri = new SourceUri("file://test/path");
+        ContentValidationException validationException = new ContentValidationException("Invalid content");
+
+        when(fileLoader.supports("file")).thenReturn(true);
+        doThrow(validationException).when(contentValidator).validateContentFile(any(Path.class));
+
+        // When & Then
+        assertThatThrownBy(() -> service.writeContent(sourceUri, out -> out.write(new byte[]{'x'})))
+            .isSameAs(validationException);
+        verify(fileLoader, never()).writeContent(any(), any(InputStream.class));
+    }
+
     @Test
     void shouldReturnTrueWhenContentExists() throws Exception {
         // Given
         SourceUri sourceUri = new SourceUri("file://test/path");
         
         when(fileLoader.supports("file")).thenReturn(true);
-        when(fileLoader.loadContent(sourceUri)).thenReturn("existing content");
+        when(fileLoader.stat(sourceUri)).thenReturn(new SourceContentStat(true, 16, null, "v1"));
 
         // When
         boolean result = service.contentExists(sourceUri);
 
         // Then
         assertThat(result).isTrue();
+        verify(fileLoader, never()).loadContent(any());
     }
 
     @Test
@@ -167,7 +240,7 @@ class SourceContentServiceImplTest {
         SourceUri sourceUri = new SourceUri("file://test/path");
         
         when(fileLoader.supports("file")).thenReturn(true);
-        when(fileLoader.loadContent(sourceUri)).thenThrow(new SourceContentNotFoundException("File not found"));
+        when(fileLoader.stat(sourceUri)).thenReturn(SourceContentStat.missing());
 
         // When
         boolean result = service.contentExists(sourceUri);
@@ -191,6 +264,35 @@ class SourceContentServiceImplTest {
         assertThat(result).isFalse();
     }
 
+    @Test
+    void shouldReturnFalseWhenStatFails() throws Exception {
+        // Given
+        SourceUri sourceUri = new SourceUri("file://test/path");
+
+        when(fileLoader.supports("file")).thenReturn(true);
+        when(fileLoader.stat(sourceUri)).thenThrow(new SourceContentAccessException("Access denied"));
+
+        // When
+        boolean result = service.contentExists(sourceUri);
+
+        // Then
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    void shouldDelegateStatToSupportingLoader() throws Exception {
+        // Given
+        SourceUri sourceUri = new SourceUri("file://test/path");
+        SourceContentStat stat = new SourceContentStat(true, 16, null, "v1");
+
+        when(fileLoader.supports("file")).thenReturn(true);
+        when(fileLoader.stat(sourceUri)).thenReturn(stat);
+
+        // When & Then
+        assertThat(service.stat(sourceUri)).isSameAs(stat);
+        verify(httpLoader, never()).stat(any());
+    }
+
     @Test
     void shouldInitializeContentWithConfigAfterValidation() throws Exception {
         // Given
@@ -221,4 +323,93 @@ class SourceContentServiceImplTest {
             .isInstanceOf(SourceContentAccessException.class)
             .isSameAs(accessException);
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldReportFlagLevelAccessOnlyForFlagLevelLoaders() {
+        // Given
+        FlagLevelSourceContentLoader sqliteLoader = mock(FlagLevelSourceContentLoader.class);
+        service = service(List.of(fileLoader, sqliteLoader));
+        when(fileLoader.supports("file")).thenReturn(true);
+        when(fileLoader.supports("sqlite")).thenReturn(false);
+        when(sqliteLoader.supports("sqlite")).thenReturn(true);
+
+        // When & Then
+        assertThat(service.supportsFlagLevelAccess(new SourceUri("file://test/path"))).isFalse();
+        assertThat(service.supportsFlagLevelAccess(new SourceUri("sqlite://test/path"))).isTrue();
+    }
+
+    @Test
+    void shouldValidateSingleFlagBeforeWritingIt() {
+        // Given
+        FlagLevelSourceContentLoader sqliteLoader = mock(FlagLevelSourceContentLoader.class);
+        service = service(List.of(sqliteLoader));
+        SourceUri sourceUri = new SourceUri("sqlite://test/path");
+        String definition = "{\"state\":\"ENABLED\",\"defaultVariant\":\"on\",\"variants\":{\"on\":true}}";
+        when(sqliteLoader.supports("sqlite")).thenReturn(true);
+
+        // When
+        service.writeFlag(sourceUri, "my-flag", definition);
+
+        // Then
+        verify(contentValidator).validateContent("{\"flags\": {\"my-flag\": " + definition + "}}");
+        verify(sqliteLoader).writeFlag(sourceUri, "my-flag", definition);
+    }
+
+    @Test
+    void shouldNotWriteInvalidFlag() {
+        // Given
+        FlagLevelSourceContentLoader sqliteLoader = mock(FlagLevelSourceContentLoader.class);
+        service = service(List.of(sqliteLoader));
+        SourceUri sourceUri = new SourceUri("sqlite://test/path");
+        when(sqliteLoader.supports("sqlite")).thenReturn(true);
+        doThrow(new ContentValidationException("invalid")).when(contentValidator).validateContent(any());
+
+        // When & Then
+        assertThatThrownBy(() -> service.writeFlag(sourceUri, "my-flag", "{}"))
+            .isInstanceOf(ContentValidationException.class);
+        verify(sqliteLoader, never()).writeFlag(any(), any(), any());
+    }
+
+    @Test
+    void shouldRejectFlagLevelAccessForDocumentLoaders() {
+        // Given
+        SourceUri sourceUri = new SourceUri("file://test/path");
+        when(fileLoader.supports("file")).thenReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> service.loadFlags(sourceUri))
+            .isInstanceOf(UnsupportedSourceUriException.class)
+            .hasMessageContaining("does not store flags individually");
+    }
+
+    @Test
+    void shouldExposeLoaderCapabilities() {
+        // Given
+        VersionedSourceContentLoader gitLoader = mock(VersionedSourceContentLoader.class);
+        service = service(List.of(gitLoader));
+        SourceUri sourceUri = new SourceUri("git://repo.git!/flags.json");
+        when(gitLoader.supports("git")).thenReturn(true);
+
+        // When
+        Set<SourceContentCapability> capabilities = service.capabilities(sourceUri);
+
+        // Then
+        assertThat(capabilities).containsExactly(SourceContentCapability.HISTORY);
+    }
+
+    @Test
+    void shouldResolveLoaderOnlyOncePerScheme() throws Exception {
+        // Given
+        SourceUri sourceUri = new SourceUri("file://test/path");
+        when(fileLoader.supports("file")).thenReturn(true);
+        when(fileLoader.loadContent(sourceUri)).thenReturn("content");
+
+        // When
+        service.loadContent(sourceUri);
+        service.loadContent(sourceUri);
+
+        // Then
+        verify(fileLoader, times(1)).supports("file");
+        verify(fileLoader, times(2)).loadContent(sourceUri);
+    }
+}
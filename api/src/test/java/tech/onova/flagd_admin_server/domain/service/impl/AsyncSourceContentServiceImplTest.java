@@ -0,0 +1,107 @@
+package tech.onova.flagd_admin_server.domain.service.impl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tech.onova.flagd_admin_server.domain.entity.SourceUri;
+import tech.onova.flagd_admin_server.domain.exception.ContentValidationException;
+import tech.onova.flagd_admin_server.domain.exception.SourceContentNotFoundException;
+import tech.onova.flagd_admin_server.domain.service.SourceContentService;
+import tech.onova.flagd_admin_server.domain.service.SourceContentStat;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncSourceContentServiceImplTest {
+
+    @Mock
+    private SourceContentService sourceContentService;
+
+    private ExecutorService ioExecutor;
+    private AsyncSourceContentServiceImpl service;
+
+    private final SourceUri sourceUri = new SourceUri("file://test/path");
+
+    @BeforeEach
+    void setUp() {
+        ioExecutor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "test-io"));
+        service = new AsyncSourceContentServiceImpl(sourceContentService, ioExecutor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void shouldLoadContentOnIoExecutor() {
+        // Given
+        AtomicReference<String> loadingThread = new AtomicReference<>();
+        when(sourceContentService.loadContent(sourceUri)).thenAnswer(invocation -> {
+            loadingThread.set(Thread.currentThread().getName());
+            return "content";
+        });
+
+        // When
+        String content = service.loadContent(sourceUri).join();
+
+        // Then
+        assertThat(content).isEqualTo("content");
+        assertThat(loadingThread.get()).isEqualTo("test-io");
+    }
+
+    @Test
+    void shouldCompleteExceptionallyWithDomainException() {
+        // Given
+        SourceContentNotFoundException notFound = new SourceContentNotFoundException("File not found");
+        when(sourceContentService.loadContent(sourceUri)).thenThrow(notFound);
+
+        // When & Then
+        assertThatThrownBy(() -> service.loadContent(sourceUri).join())
+            .isInstanceOf(CompletionException.class)
+            .hasCause(notFound);
+    }
+
+    @Test
+    void shouldDelegateStatAndExistence() {
+        // Given
+        SourceContentStat stat = new SourceContentStat(true, 10, null, "v1");
+        when(sourceContentService.stat(sourceUri)).thenReturn(stat);
+        when(sourceContentService.contentExists(sourceUri)).thenReturn(true);
+
+        // When & Then
+        assertThat(service.stat(sourceUri).join()).isSameAs(stat);
+        assertThat(service.contentExists(sourceUri).join()).isTrue();
+    }
+
+    @Test
+    void shouldDelegateWrites() {
+        // When
+        service.initializeContent(sourceUri, "content").join();
+        service.initializeContentWithConfig(sourceUri).join();
+
+        // Then
+        verify(sourceContentService).initializeContent(sourceUri, "content");
+        verify(sourceContentService).initializeContentWithConfig(sourceUri);
+    }
+
+    @Test
+    void shouldPropagateValidationFailureFromWriteContent() {
+        // Given
+        ContentValidationException invalid = new ContentValidationException("Invalid content");
+        doThrow(invalid).when(sourceContentService).writeContent(eq(sourceUri), any());
+
+        // When & Then
+        assertThatThrownBy(() -> service.writeContent(sourceUri, out -> out.write('x')).join())
+            .hasCause(invalid);
+    }
+}
@@ -0,0 +1,111 @@
+package tech.onova.flagd_admin_server.domain.service.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+import tech.onova.flagd_admin_server.domain.entity.SourceUri;
+import tech.onova.flagd_admin_server.domain.exception.SourceContentNotFoundException;
+import tech.onova.flagd_admin_server.domain.service.SourceContentLoader;
+import tech.onova.flagd_admin_server.domain.service.SourceContentStat;
+import tech.onova.flagd_admin_server.domain.service.VersionedContent;
+import tech.onova.flagd_admin_server.infrastructure.config.SourceCacheProperties;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingSourceContentLoaderTest {
+
+    private static final SourceUri URI = new SourceUri("s3://bucket/flags.json");
+
+    @Mock
+    private SourceContentLoader delegate;
+
+    private CachingSourceContentLoader loader;
+
+    @BeforeEach
+    void setUp() {
+        SourceCacheProperties properties = new SourceCacheProperties(
+                Set.of("s3"), Duration.ofMinutes(1), Duration.ofMinutes(5), DataSize.ofMegabytes(1), Map.of());
+        loader = new CachingSourceContentLoader(delegate, new SourceContentCache(properties, Clock.systemUTC(), Runnable::run));
+    }
+
+    private InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void shouldServeLoadOpenAndStatFromOneFetch() throws Exception {
+        // Given
+        when(delegate.openContent(URI)).thenReturn(stream("{\"flags\": {}}"));
+
+        // When
+        String loaded = loader.loadContent(URI);
+        byte[] opened;
+        try (InputStream in = loader.openContent(URI)) {
+            opened = in.readAllBytes();
+        }
+        SourceContentStat stat = loader.stat(URI);
+
+        // Then
+        assertThat(loaded).isEqualTo("{\"flags\": {}}");
+        assertThat(new String(opened, StandardCharsets.UTF_8)).isEqualTo(loaded);
+        assertThat(stat.exists()).isTrue();
+        assertThat(stat.size()).isEqualTo(loaded.length());
+        assertThat(stat.versionToken()).hasSize(64);
+        verify(delegate, times(1)).openContent(URI);
+    }
+
+    @Test
+    void shouldReadBackendAgainAfterWrite() {
+        // Given
+        when(delegate.openContent(URI)).thenReturn(stream("before"), stream("after"));
+        loader.loadContent(URI);
+
+        // When
+        loader.writeContent(URI, stream("after"));
+
+        // Then
+        verify(delegate).writeContent(eq(URI), any());
+        assertThat(loader.loadContent(URI)).isEqualTo("after");
+    }
+
+    @Test
+    void shouldReportMissingContentInStat() {
+        // Given
+        when(delegate.openContent(URI)).thenThrow(new SourceContentNotFoundException("Object not found"));
+
+        // When & Then
+        assertThat(loader.stat(URI).exists()).isFalse();
+        assertThatThrownBy(() -> loader.loadContent(URI)).isInstanceOf(SourceContentNotFoundException.class);
+    }
+
+    @Test
+    void shouldReadForWriteFromBackendAndForwardVersion() {
+        // Given
+        when(delegate.openContent(URI)).thenReturn(stream("cached"));
+        when(delegate.loadVersionedContent(URI))
+                .thenReturn(new VersionedContent("current".getBytes(StandardCharsets.UTF_8), "e2"));
+        loader.loadContent(URI);
+
+        // When
+        VersionedContent read = loader.loadVersionedContent(URI);
+        loader.writeContent(URI, stream("updated"), read.versionToken());
+
+        // Then
+        assertThat(new String(read.content(), StandardCharsets.UTF_8)).isEqualTo("current");
+        verify(delegate).writeContent(eq(URI), any(), eq("e2"));
+    }
+}
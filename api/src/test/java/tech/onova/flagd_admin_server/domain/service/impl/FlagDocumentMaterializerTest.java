@@ -0,0 +1,63 @@
+package tech.onova.flagd_admin_server.domain.service.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+class FlagDocumentMaterializerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void shouldRenderFlagsInKeyOrder() throws Exception {
+        // Given
+        FlagDocumentMaterializer materializer = new FlagDocumentMaterializer();
+        materializer.load(Map.of("b", "{\"state\":\"DISABLED\"}", "a", "{\"state\":\"ENABLED\"}"));
+
+        // When
+        JsonNode document = objectMapper.readTree(materializer.render());
+
+        // Then
+        assertThat(document.get("flags").fieldNames()).toIterable().containsExactly("a", "b");
+    }
+
+    @Test
+    void shouldEscapeFlagKeys() throws Exception {
+        // Given
+        FlagDocumentMaterializer materializer = new FlagDocumentMaterializer();
+        materializer.load(Map.of());
+        materializer.put("quote\"key", "{\"state\":\"ENABLED\"}");
+
+        // When
+        JsonNode document = objectMapper.readTree(materializer.render());
+
+        // Then
+        assertThat(document.get("flags").has("quote\"key")).isTrue();
+    }
+
+    @Test
+    void shouldOnlyHandOutDocumentAfterChange() {
+        // Given
+        FlagDocumentMaterializer materializer = new FlagDocumentMaterializer();
+        materializer.load(Map.of("a", "{\"state\":\"ENABLED\"}"));
+
+        // When & Then
+        assertThat(materializer.takeChangedDocument()).isEmpty();
+
+        materializer.put("a", "{\"state\":\"ENABLED\"}");
+        assertThat(materializer.takeChangedDocument()).isEmpty();
+
+        materializer.put("a", "{\"state\":\"DISABLED\"}");
+        assertThat(materializer.takeChangedDocument()).isPresent();
+        assertThat(materializer.takeChangedDocument()).isEmpty();
+
+        materializer.remove("missing");
+        assertThat(materializer.isDirty()).isFalse();
+        materializer.remove("a");
+        assertThat(materializer.isDirty()).isTrue();
+    }
+}
@@ -1,23 +1,37 @@
 package tech.onova.flagd_admin_server.domain.service.impl;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import tech.onova.flagd_admin_server.controller.dto.request.FlagConfigRequestDTO;
 import tech.onova.flagd_admin_server.controller.dto.response.FlagDTO;
 import tech.onova.flagd_admin_server.domain.entity.Source;
 import tech.onova.flagd_admin_server.domain.entity.SourceId;
+import tech.onova.flagd_admin_server.domain.entity.SourceShard;
 import tech.onova.flagd_admin_server.domain.entity.SourceUri;
 import tech.onova.flagd_admin_server.domain.exception.SourceContentNotFoundException;
 import tech.onova.flagd_admin_server.domain.repository.SourceRepository;
+import tech.onova.flagd_admin_server.domain.service.ContentWriter;
 import tech.onova.flagd_admin_server.domain.service.SourceContentService;
-
+import tech.onova.flagd_admin_server.domain.service.SourcePublisher;
+import tech.onova.flagd_admin_server.domain.service.VersionedContent;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.concurrent.CompletionException;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -33,6 +47,9 @@ class FlagServiceImplTest {
     @Mock
     private SourceContentService sourceContentService;
 
+    @Mock
+    private SourcePublisher sourcePublisher;
+
     private FlagServiceImpl flagService;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
@@ -69,7 +86,15 @@ class FlagServiceImplTest {
 
     @BeforeEach
     void setUp() {
-        flagService = new FlagServiceImpl(sourceRepository, sourceContentService);
+        flagService = new FlagServiceImpl(sourceRepository, sourceContentService, sourcePublisher, Runnable::run);
+    }
+
+    private InputStream contentStream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private VersionedContent versionedContent(String content) {
+        return new VersionedContent(content.getBytes(StandardCharsets.UTF_8), "v1");
     }
 
     @Test
@@ -78,10 +103,10 @@ class FlagServiceImplTest {
         SourceId sourceId = new SourceId(UUID.randomUUID());
         Source source = new Source("Test Source", "Description", new SourceUri("file://test/path"), "user", true);
         when(sourceRepository.findById(sourceId)).thenReturn(Optional.of(source));
-        when(sourceContentService.loadContent(any())).thenReturn(validFlagdContent);
+        when(sourceContentService.openContent(any())).thenReturn(contentStream(validFlagdContent));
 
         // When
-        var flags = flagService.getFlags(sourceId);
+        var flags = flagService.getFlags(sourceId).join();
 
         // Then
         assertThat(flags).hasSize(2);
@@ -106,8 +131,9 @@ class FlagServiceImplTest {
         when(sourceRepository.findById(sourceId)).thenReturn(Optional.empty());
 
         // When & Then
-        assertThatThrownBy(() -> flagService.getFlags(sourceId))
-            .isInstanceOf(SourceContentNotFoundException.class)
+        assertThatThrownBy(() -> flagService.getFlags(sourceId).join())
+            .isInstanceOf(CompletionException.class)
+            .hasCauseInstanceOf(SourceContentNotFoundException.class)
             .hasMessageContaining("Source not found");
     }
 
@@ -118,10 +144,10 @@ class FlagServiceImplTest {
         Source source = new Source("Test Source", "Description", new SourceUri("file://test/path"), "user", true);
         String emptyContent = "{\"flags\": {}}";
         when(sourceRepository.findById(sourceId)).thenReturn(Optional.of(source));
-        when(sourceContentService.loadContent(any())).thenReturn(emptyContent);
+        when(sourceContentService.openContent(any())).thenReturn(contentStream(emptyContent));
 
         // When
-        var flags = flagService.getFlags(sourceId);
+        var flags = flagService.getFlags(sourceId).join();
 
         // Then
         assertThat(flags).isEmpty();
@@ -143,10 +169,10 @@ class FlagServiceImplTest {
             }
             """;
         when(sourceRepository.findById(sourceId)).thenReturn(Optional.of(source));
-        when(sourceContentService.loadContent(any())).thenReturn(content);
+        when(sourceContentService.openContent(any())).thenReturn(contentStream(content));
 
         // When
-        var flags = flagService.getFlags(sourceId);
+        var flags = flagService.getFlags(sourceId).join();
 
         // Then
         assertThat(flags).hasSize(1);
@@ -166,10 +192,10 @@ class FlagServiceImplTest {
         SourceId sourceId = new SourceId(UUID.randomUUID());
         Source source = new Source("Test Source", "Description", new SourceUri("file://test/path"), "user", true);
         when(sourceRepository.findById(sourceId)).thenReturn(Optional.of(source));
-        when(sourceContentService.loadContent(any())).thenReturn(validFlagdContent);
+        when(sourceContentService.openContent(any())).thenReturn(contentStream(validFlagdContent));
 
         // When
-        FlagDTO flag = flagService.getFlag(sourceId, "my-flag");
+        FlagDTO flag = flagService.getFlag(sourceId, "my-flag").join();
 
         // Then
         assertThat(flag).isNotNull();
@@ -186,10 +212,10 @@ class FlagServiceImplTest {
         SourceId sourceId = new SourceId(UUID.randomUUID());
         Source source = new Source("Test Source", "Description", new SourceUri("file://test/path"), "user", true);
         when(sourceRepository.findById(sourceId)).thenReturn(Optional.of(source));
-        when(sourceContentService.loadContent(any())).thenReturn(validFlagdContent);
+        when(sourceContentService.openContent(any())).thenReturn(contentStream(validFlagdContent));
 
         // When
-        FlagDTO flag = flagService.getFlag(sourceId, "non-existent-flag");
+        FlagDTO flag = flagService.getFlag(sourceId, "non-existent-flag").join();
 
         // Then
         assertThat(flag).isNull();
@@ -202,8 +228,9 @@ class FlagServiceImplTest {
         when(sourceRepository.findById(sourceId)).thenReturn(Optional.empty());
 
         // When & Then
-        assertThatThrownBy(() -> flagService.getFlag(sourceId, "my-flag"))
-            .isInstanceOf(SourceContentNotFoundException.class)
+        assertThatThrownBy(() -> flagService.getFlag(sourceId, "my-flag").join())
+            .isInstanceOf(CompletionException.class)
+            .hasCauseInstanceOf(SourceContentNotFoundException.class)
             .hasMessageContaining("Source not found");
     }
 
@@ -223,13 +250,13 @@ class FlagServiceImplTest {
         );
         
         when(sourceRepository.findById(sourceId)).thenReturn(Optional.of(source));
-        when(sourceContentService.loadContent(any())).thenReturn(content);
+        when(sourceContentService.loadVersionedContent(any())).thenReturn(versionedContent(content));
         
         // When
-        flagService.addOrUpdateFlag(sourceId, "new-flag", request);
+        flagService.addOrUpdateFlag(sourceId, "new-flag", request).join();
         
         // Then
-        verify(sourceContentService).initializeContent(any(), anyString());
+        verify(sourceContentService).writeContent(any(), any(), any());
     }
 
     @Test
@@ -247,13 +274,13 @@ class FlagServiceImplTest {
         );
         
         when(sourceRepository.findById(sourceId)).thenReturn(Optional.of(source));
-        when(sourceContentService.loadContent(any())).thenReturn(validFlagdContent);
+        when(sourceContentService.loadVersionedContent(any())).thenReturn(versionedContent(validFlagdContent));
         
         // When
-        flagService.addOrUpdateFlag(sourceId, "my-flag", request);
+        flagService.addOrUpdateFlag(sourceId, "my-flag", request).join();
         
         // Then
-        verify(sourceContentService).initializeContent(any(), anyString());
+        verify(sourceContentService).writeContent(any(), any(), any());
     }
 
     @Test
@@ -272,8 +299,9 @@ class FlagServiceImplTest {
         when(sourceRepository.findById(sourceId)).thenReturn(Optional.empty());
         
         // When & Then
-        assertThatThrownBy(() -> flagService.addOrUpdateFlag(sourceId, "new-flag", request))
-            .isInstanceOf(SourceContentNotFoundException.class)
+        assertThatThrownBy(() -> flagService.addOrUpdateFlag(sourceId, "new-flag", request).join())
+            .isInstanceOf(CompletionException.class)
+            .hasCauseInstanceOf(SourceContentNotFoundException.class)
             .hasMessageContaining("Source not found");
     }
 
@@ -293,13 +321,13 @@ class FlagServiceImplTest {
         );
         
         when(sourceRepository.findById(sourceId)).thenReturn(Optional.of(source));
-        when(sourceContentService.loadContent(any())).thenReturn(emptyContent);
+        when(sourceContentService.loadVersionedContent(any())).thenReturn(versionedContent(emptyContent));
         
         // When
-        flagService.addOrUpdateFlag(sourceId, "new-flag", request);
+        flagService.addOrUpdateFlag(sourceId, "new-flag", request).join();
         
         // Then
-        verify(sourceContentService).initializeContent(any(), anyString());
+        verify(sourceContentService).writeContent(any(), any(), any());
     }
 
     @Test
@@ -308,13 +336,13 @@ class FlagServiceImplTest {
         SourceId sourceId = new SourceId(UUID.randomUUID());
         Source source = new Source("Test Source", "Description", new SourceUri("file://test/path"), "user", true);
         when(sourceRepository.findById(sourceId)).thenReturn(Optional.of(source));
-        when(sourceContentService.loadContent(any())).thenReturn(validFlagdContent);
+        when(sourceContentService.loadVersionedContent(any())).thenReturn(versionedContent(validFlagdContent));
         
         // When
-        flagService.deleteFlag(sourceId, "my-flag");
+        flagService.deleteFlag(sourceId, "my-flag").join();
         
         // Then
-        verify(sourceContentService).initializeContent(any(), anyString());
+        verify(sourceContentService).writeContent(any(), any(), any());
     }
 
     @Test
@@ -323,13 +351,13 @@ class FlagServiceImplTest {
         SourceId sourceId = new SourceId(UUID.randomUUID());
         Source source = new Source("Test Source", "Description", new SourceUri("file://test/path"), "user", true);
         when(sourceRepository.findById(sourceId)).thenReturn(Optional.of(source));
-        when(sourceContentService.loadContent(any())).thenReturn(validFlagdContent);
+        when(sourceContentService.loadVersionedContent(any())).thenReturn(versionedContent(validFlagdContent));
         
         // When
-        flagService.deleteFlag(sourceId, "non-existent-flag");
+        flagService.deleteFlag(sourceId, "non-existent-flag").join();
         
-        // Then - initializeContent should not be called when flag doesn't exist
-        verify(sourceContentService, never()).initializeContent(any(), anyString());
+        // Then - writeContent should not be called when flag doesn't exist
+        verify(sourceContentService, never()).writeContent(any(), any(), any());
     }
 
     @Test
@@ -339,8 +367,9 @@ class FlagServiceImplTest {
         when(sourceRepository.findById(sourceId)).thenReturn(Optional.empty());
         
         // When & Then
-        assertThatThrownBy(() -> flagService.deleteFlag(sourceId, "my-flag"))
-            .isInstanceOf(SourceContentNotFoundException.class)
+        assertThatThrownBy(() -> flagService.deleteFlag(sourceId, "my-flag").join())
+            .isInstanceOf(CompletionException.class)
+            .hasCauseInstanceOf(SourceContentNotFoundException.class)
             .hasMessageContaining("Source not found");
     }
 
@@ -360,13 +389,13 @@ class FlagServiceImplTest {
         );
         
         when(sourceRepository.findById(sourceId)).thenReturn(Optional.of(source));
-        when(sourceContentService.loadContent(any())).thenReturn(content);
+        when(sourceContentService.loadVersionedContent(any())).thenReturn(versionedContent(content));
         
         // When
-        flagService.addOrUpdateFlag(sourceId, "minimal-flag", request);
+        flagService.addOrUpdateFlag(sourceId, "minimal-flag", request).join();
         
         // Then
-        verify(sourceContentService).initializeContent(any(), anyString());
+        verify(sourceContentService).writeContent(any(), any(), any());
     }
 
     @Test
@@ -384,12 +413,292 @@ class FlagServiceImplTest {
             }
             """;
         when(sourceRepository.findById(sourceId)).thenReturn(Optional.of(source));
-        when(sourceContentService.loadContent(any())).thenReturn(content);
+        when(sourceContentService.openContent(any())).thenReturn(contentStream(content));
 
         // When
-        FlagDTO flag = flagService.getFlag(sourceId, "invalid-flag");
+        FlagDTO flag = flagService.getFlag(sourceId, "invalid-flag").join();
 
         // Then
         assertThat(flag).isNull();
     }
+
+    @Test
+    void addOrUpdateFlag_ShouldStreamUpdatedDocumentToContentService() throws Exception {
+        // Given
+        SourceId sourceId = new SourceId(UUID.randomUUID());
+        Source source = new Source("Test Source", "Description", new SourceUri("file://test/path"), "user", true);
+        FlagConfigRequestDTO request = new FlagConfigRequestDTO(
+            "New Flag",
+            null,
+            "ENABLED",
+            "on",
+            Map.of("on", true, "off", false),
+            null
+        );
+        ArgumentCaptor<ContentWriter> writerCaptor = ArgumentCaptor.forClass(ContentWriter.class);
+
+        when(sourceRepository.findById(sourceId)).thenReturn(Optional.of(source));
+        when(sourceContentService.loadVersionedContent(any())).thenReturn(versionedContent(validFlagdContent));
+
+        // When
+        flagService.addOrUpdateFlag(sourceId, "new-flag", request).join();
+
+        // Then
+        verify(sourceContentService).writeContent(eq(source.getUri()), writerCaptor.capture(), eq("v1"));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writerCaptor.getValue().writeTo(out);
+        JsonNode written = objectMapper.readTree(out.toByteArray());
+        assertThat(written.get("flags").has("my-flag")).isTrue();
+        assertThat(written.get("flags").get("new-flag").get("state").asText()).isEqualTo("ENABLED");
+    }
+
+    @Test
+    void getFlags_ShouldReadRows_WhenSourceSupportsFlagLevelAccess() {
+        // Given
+        SourceId sourceId = new SourceId(UUID.randomUUID());
+        Source source = new Source("Test Source", "Description", new SourceUri("sqlite://test/flags.json"), "user", true);
+        SortedMap<String, String> rows = new TreeMap<>(Map.of(
+            "a-flag", "{\"key\":\"a-flag\",\"state\":\"ENABLED\",\"defaultVariant\":\"on\"}",
+            "b-flag", "{\"key\":\"b-flag\",\"state\":\"DISABLED\",\"defaultVariant\":\"off\"}"
+        ));
+
+        when(sourceRepository.findById(sourceId)).thenReturn(Optional.of(source));
+        when(sourceContentService.supportsFlagLevelAccess(source.getUri())).thenReturn(true);
+        when(sourceContentService.loadFlags(source.getUri())).thenReturn(rows);
+
+        // When
+        var result = flagService.getFlags(sourceId).join();
+
+        // Then
+        assertThat(result).extracting(FlagDTO::key).containsExactly("a-flag", "b-flag");
+        verify(sourceContentService, never()).openContent(any());
+    }
+
+    @Test
+    void getFlag_ShouldReadSingleRow_WhenSourceSupportsFlagLevelAccess() {
+        // Given
+        SourceId sourceId = new SourceId(UUID.randomUUID());
+        Source source = new Source("Test Source", "Description", new SourceUri("sqlite://test/flags.json"), "user", true);
+
+        when(sourceRepository.findById(sourceId)).thenReturn(Optional.of(source));
+        when(sourceContentService.supportsFlagLevelAccess(source.getUri())).thenReturn(true);
+        when(sourceContentService.loadFlag(source.getUri(), "a-flag"))
+            .thenReturn(Optional.of("{\"key\":\"a-flag\",\"state\":\"ENABLED\"}"));
+        when(sourceContentService.loadFlag(source.getUri(), "missing")).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThat(flagService.getFlag(sourceId, "a-flag").join().state()).isEqualTo("ENABLED");
+        assertThat(flagService.getFlag(sourceId, "missing").join()).isNull();
+    }
+
+    @Test
+    void addOrUpdateFlag_ShouldWriteSingleRow_WhenSourceSupportsFlagLevelAccess() throws Exception {
+        // Given
+        SourceId sourceId = new SourceId(UUID.randomUUID());
+        Source source = new Source("Test Source", "Description", new SourceUri("sqlite://test/flags.json"), "user", true);
+        FlagConfigRequestDTO request = new FlagConfigRequestDTO(
+            "New Flag",
+            null,
+            "ENABLED",
+            "on",
+            Map.of("on", true, "off", false),
+            null
+        );
+        ArgumentCaptor<String> definitionCaptor = ArgumentCaptor.forClass(String.class);
+
+        when(sourceRepository.findById(sourceId)).thenReturn(Optional.of(source));
+        when(sourceContentService.supportsFlagLevelAccess(source.getUri())).thenReturn(true);
+
+        // When
+        flagService.addOrUpdateFlag(sourceId, "new-flag", request).join();
+
+        // Then
+        verify(sourceContentService).writeFlag(eq(source.getUri()), eq("new-flag"), definitionCaptor.capture());
+        JsonNode written = objectMapper.readTree(definitionCaptor.getValue());
+        assertThat(written.get("key").asText()).isEqualTo("new-flag");
+        assertThat(written.get("variants").get("on").asBoolean()).isTrue();
+        verify(sourceContentService, never()).loadVersionedContent(any());
+        verify(sourceContentService, never()).writeContent(any(), any(), any());
+    }
+
+    @Test
+    void deleteFlag_ShouldDeleteSingleRow_WhenSourceSupportsFlagLevelAccess() {
+        // Given
+        SourceId sourceId = new SourceId(UUID.randomUUID());
+        Source source = new Source("Test Source", "Description", new SourceUri("sqlite://test/flags.json"), "user", true);
+
+        when(sourceRepository.findById(sourceId)).thenReturn(Optional.of(source));
+        when(sourceContentService.supportsFlagLevelAccess(source.getUri())).thenReturn(true);
+
+        // When
+        flagService.deleteFlag(sourceId, "my-flag").join();
+
+        // Then
+        verify(sourceContentService).deleteFlag(source.getUri(), "my-flag");
+        verify(sourceContentService, never()).writeContent(any(), any(), any());
+    }
+
+    @Test
+    void getFlags_ShouldMergeShardsAndListMisplacedKeysLast_WhenSourceIsSharded() {
+        // Given
+        SourceId sourceId = new SourceId(UUID.randomUUID());
+        SourceUri mainUri = new SourceUri("file://test/main.json");
+        SourceUri paymentsUri = new SourceUri("file://test/payments.json");
+        Source source = new Source("Test Source", "Description", mainUri, "user", true,
+            List.of(new SourceShard("payments.", paymentsUri)));
+        String mainContent = """
+            {"flags": {"main-flag": {"key": "main-flag"}, "payments.stray": {"key": "payments.stray"}}}
+            """;
+        String paymentsContent = """
+            {"flags": {"payments.checkout": {"key": "payments.checkout"}, "other-flag": {"key": "other-flag"}}}
+            """;
+        when(sourceRepository.findById(sourceId)).thenReturn(Optional.of(source));
+        when(sourceContentService.openContent(mainUri)).thenReturn(contentStream(mainContent));
+        when(sourceContentService.openContent(paymentsUri)).thenReturn(contentStream(paymentsContent));
+
+        // When
+        var flags = flagService.getFlags(sourceId).join();
+
+        // Then
+        assertThat(flags).extracting(FlagDTO::flagId)
+            .containsExactly("main-flag", "payments.checkout", "payments.stray", "other-flag");
+    }
+
+    @Test
+    void getFlags_ShouldPreferOwningShard_WhenKeyIsAlsoMisplaced() {
+        // Given
+        SourceId sourceId = new SourceId(UUID.randomUUID());
+        SourceUri mainUri = new SourceUri("file://test/main.json");
+        SourceUri paymentsUri = new SourceUri("file://test/payments.json");
+        Source source = new Source("Test Source", "Description", mainUri, "user", true,
+            List.of(new SourceShard("payments.", paymentsUri)));
+        when(sourceRepository.findById(sourceId)).thenReturn(Optional.of(source));
+        when(sourceContentService.openContent(mainUri)).thenReturn(contentStream("""
+            {"flags": {"payments.checkout": {"key": "payments.checkout", "state": "DISABLED"}}}
+            """));
+        when(sourceContentService.openContent(paymentsUri)).thenReturn(contentStream("""
+            {"flags": {"payments.checkout": {"key": "payments.checkout", "state": "ENABLED"}}}
+            """));
+
+        // When
+        var flags = flagService.getFlags(sourceId).join();
+
+        // Then
+        assertThat(flags).singleElement().extracting(FlagDTO::state).isEqualTo("ENABLED");
+    }
+
+    @Test
+    void getFlag_ShouldFallBackToMisplacedCopy_WhenOwningShardLacksIt() {
+        // Given
+        SourceId sourceId = new SourceId(UUID.randomUUID());
+        SourceUri mainUri = new SourceUri("file://test/main.json");
+        SourceUri paymentsUri = new SourceUri("file://test/payments.json");
+        Source source = new Source("Test Source", "Description", mainUri, "user", true,
+            List.of(new SourceShard("payments.", paymentsUri)));
+        when(sourceRepository.findById(sourceId)).thenReturn(Optional.of(source));
+        when(sourceContentService.openContent(paymentsUri)).thenReturn(contentStream("{\"flags\": {}}"));
+        when(sourceContentService.openContent(mainUri)).thenReturn(contentStream("""
+            {"flags": {"payments.stray": {"key": "payments.stray", "state": "ENABLED"}}}
+            """));
+
+        // When
+        FlagDTO flag = flagService.getFlag(sourceId, "payments.stray").join();
+
+        // Then
+        assertThat(flag.state()).isEqualTo("ENABLED");
+    }
+
+    @Test
+    void deleteFlag_ShouldRemoveMisplacedCopies_WhenSourceIsSharded() {
+        // Given
+        SourceId sourceId = new SourceId(UUID.randomUUID());
+        SourceUri mainUri = new SourceUri("file://test/main.json");
+        SourceUri paymentsUri = new SourceUri("file://test/payments.json");
+        Source source = new Source("Test Source", "Description", mainUri, "user", true,
+            List.of(new SourceShard("payments.", paymentsUri)));
+        when(sourceRepository.findById(sourceId)).thenReturn(Optional.of(source));
+        when(sourceContentService.loadVersionedContent(mainUri)).thenReturn(versionedContent("""
+            {"flags": {"payments.stray": {"key": "payments.stray"}}}
+            """));
+        when(sourceContentService.loadVersionedContent(paymentsUri)).thenReturn(versionedContent("{\"flags\": {}}"));
+
+        // When
+        flagService.deleteFlag(sourceId, "payments.stray").join();
+
+        // Then
+        verify(sourceContentService).writeContent(eq(mainUri), any(), eq("v1"));
+        verify(sourceContentService, never()).writeContent(eq(paymentsUri), any(), any());
+    }
+
+    @Test
+    void addOrUpdateFlag_ShouldOnlyWriteOwningShard_WhenSourceIsSharded() throws Exception {
+        // Given
+        SourceId sourceId = new SourceId(UUID.randomUUID());
+        SourceUri mainUri = new SourceUri("file://test/main.json");
+        SourceUri paymentsUri = new SourceUri("file://test/payments.json");
+        Source source = new Source("Test Source", "Description", mainUri, "user", true,
+            List.of(new SourceShard("payments.", paymentsUri)));
+        FlagConfigRequestDTO request = new FlagConfigRequestDTO(null, null, "ENABLED", null, null, null);
+        ArgumentCaptor<ContentWriter> writerCaptor = ArgumentCaptor.forClass(ContentWriter.class);
+
+        when(sourceRepository.findById(sourceId)).thenReturn(Optional.of(source));
+        when(sourceContentService.loadVersionedContent(paymentsUri)).thenReturn(versionedContent("{\"flags\": {}}"));
+
+        // When
+        flagService.addOrUpdateFlag(sourceId, "payments.checkout", request).join();
+
+        // Then
+        verify(sourceContentService).writeContent(eq(paymentsUri), writerCaptor.capture(), eq("v1"));
+        verify(sourceContentService, never()).loadVersionedContent(mainUri);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writerCaptor.getValue().writeTo(out);
+        JsonNode written = objectMapper.readTree(out.toByteArray());
+        assertThat(written.get("flags").has("payments.checkout")).isTrue();
+    }
+
+    @Test
+    void addOrUpdateFlag_ShouldPublishWrittenBytesToTargets_WhenSourceHasPublishTargets() throws Exception {
+        // Given
+        SourceId sourceId = new SourceId(UUID.randomUUID());
+        SourceUri sourceUri = new SourceUri("file://test/flags.json");
+        List<SourceUri> targets = List.of(new SourceUri("file://pod-a/flags.json"), new SourceUri("file://pod-b/flags.json"));
+        Source source = new Source("Test Source", "Description", sourceUri, "user", true, List.of(), targets);
+        FlagConfigRequestDTO request = new FlagConfigRequestDTO(null, null, "ENABLED", null, null, null);
+
+        when(sourceRepository.findById(sourceId)).thenReturn(Optional.of(source));
+        when(sourceContentService.loadVersionedContent(sourceUri)).thenReturn(versionedContent("{\"flags\": {}}"));
+
+        // When
+        flagService.addOrUpdateFlag(sourceId, "new-flag", request).join();
+
+        // Then
+        ArgumentCaptor<ContentWriter> writerCaptor = ArgumentCaptor.forClass(ContentWriter.class);
+        ArgumentCaptor<byte[]> publishedCaptor = ArgumentCaptor.forClass(byte[].class);
+        var inOrder = inOrder(sourceContentService, sourcePublisher);
+        inOrder.verify(sourceContentService).writeContent(eq(sourceUri), writerCaptor.capture(), eq("v1"));
+        inOrder.verify(sourcePublisher).publish(eq(sourceUri), publishedCaptor.capture(), eq(targets));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writerCaptor.getValue().writeTo(out);
+        assertThat(publishedCaptor.getValue()).isEqualTo(out.toByteArray());
+        verify(sourcePublisher, never()).publish(any(), any());
+    }
+
+    @Test
+    void deleteFlag_ShouldNotPublish_WhenFlagDoesNotExist() {
+        // Given
+        SourceId sourceId = new SourceId(UUID.randomUUID());
+        SourceUri sourceUri = new SourceUri("file://test/flags.json");
+        Source source = new Source("Test Source", "Description", sourceUri, "user", true, List.of(),
+            List.of(new SourceUri("file://pod-a/flags.json")));
+
+        when(sourceRepository.findById(sourceId)).thenReturn(Optional.of(source));
+        when(sourceContentService.loadVersionedContent(sourceUri)).thenReturn(versionedContent("{\"flags\": {}}"));
+
+        // When
+        flagService.deleteFlag(sourceId, "missing-flag").join();
+
+        // Then
+        verify(sourceContentService, never()).writeContent(any(), any(), any());
+        verifyNoInteractions(sourcePublisher);
+    }
 }
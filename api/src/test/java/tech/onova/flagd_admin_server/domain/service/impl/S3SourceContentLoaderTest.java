@@ -0,0 +1,247 @@
+package tech.onova.flagd_admin_server.domain.service.impl;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import tech.onova.flagd_admin_server.domain.entity.SourceUri;
+import tech.onova.flagd_admin_server.domain.exception.SourceContentAccessException;
+import tech.onova.flagd_admin_server.domain.exception.SourceContentConflictException;
+import tech.onova.flagd_admin_server.domain.exception.SourceContentNotFoundException;
+import tech.onova.flagd_admin_server.domain.service.SourceContentStat;
+import tech.onova.flagd_admin_server.domain.service.VersionedContent;
+import tech.onova.flagd_admin_server.infrastructure.config.S3SourceProperties;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class S3SourceContentLoaderTest {
+
+    private static final String CONTENT = "{\"flags\": {}}";
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+    private static final SourceUri SOURCE_URI = new SourceUri("s3://flags/team/flags.json");
+
+    @Mock
+    private S3Client s3Client;
+
+    private S3SourceContentLoader loader(Duration refreshInterval) {
+        S3SourceProperties properties = new S3SourceProperties(
+                "http://localhost:9000", "us-east-1", "key", "secret", true, refreshInterval, DataSize.ofMegabytes(1));
+        return new S3SourceContentLoader(s3Client, properties, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    private ResponseBytes<GetObjectResponse> object(String content, String eTag) {
+        return ResponseBytes.fromByteArray(
+                GetObjectResponse.builder().eTag(eTag).lastModified(NOW).build(),
+                content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private S3Exception s3Exception(int statusCode) {
+        return (S3Exception) S3Exception.builder().statusCode(statusCode).message("status " + statusCode).build();
+    }
+
+    @Test
+    void shouldSupportS3Scheme() {
+        // When & Then
+        assertThat(loader(Duration.ZERO).supports("s3")).isTrue();
+        assertThat(loader(Duration.ZERO).supports("S3")).isTrue();
+        assertThat(loader(Duration.ZERO).supports("file")).isFalse();
+    }
+
+    @Test
+    void shouldServeLastKnownBytesWithinRefreshInterval() {
+        // Given
+        S3SourceContentLoader loader = loader(Duration.ofMinutes(1));
+        when(s3Client.getObjectAsBytes(any(GetObjectRequest.class))).thenReturn(object(CONTENT, "\"e1\""));
+
+        // When
+        String first = loader.loadContent(SOURCE_URI);
+        String second = loader.loadContent(SOURCE_URI);
+
+        // Then
+        assertThat(first).isEqualTo(CONTENT);
+        assertThat(second).isEqualTo(CONTENT);
+        ArgumentCaptor<GetObjectRequest> request = ArgumentCaptor.forClass(GetObjectRequest.class);
+        verify(s3Client, times(1)).getObjectAsBytes(request.capture());
+        assertThat(request.getValue().bucket()).isEqualTo("flags");
+        assertThat(request.getValue().key()).isEqualTo("team/flags.json");
+        assertThat(request.getValue().ifNoneMatch()).isNull();
+    }
+
+    @Test
+    void shouldRevalidateWithETagAndReuseBytesOnNotModified() {
+        // Given
+        S3SourceContentLoader loader = loader(Duration.ZERO);
+        when(s3Client.getObjectAsBytes(any(GetObjectRequest.class)))
+                .thenReturn(object(CONTENT, "\"e1\""))
+                .thenThrow(s3Exception(304));
+        loader.loadContent(SOURCE_URI);
+
+        // When
+        String revalidated = loader.loadContent(SOURCE_URI);
+
+        // Then
+        assertThat(revalidated).isEqualTo(CONTENT);
+        ArgumentCaptor<GetObjectRequest> request = ArgumentCaptor.forClass(GetObjectRequest.class);
+        verify(s3Client, times(2)).getObjectAsBytes(request.capture());
+        assertThat(request.getAllValues().get(1).ifNoneMatch()).isEqualTo("\"e1\"");
+    }
+
+    @Test
+    void shouldReportMissingObject() {
+        // Given
+        S3SourceContentLoader loader = loader(Duration.ZERO);
+        when(s3Client.getObjectAsBytes(any(GetObjectRequest.class)))
+                .thenThrow(NoSuchKeyException.builder().statusCode(404).message("missing").build());
+
+        // When & Then
+        assertThatThrownBy(() -> loader.loadContent(SOURCE_URI))
+            .isInstanceOf(SourceContentNotFoundException.class);
+        assertThat(loader.stat(SOURCE_URI).exists()).isFalse();
+    }
+
+    @Test
+    void shouldStatUsingETagAsVersionToken() {
+        // Given
+        S3SourceContentLoader loader = loader(Duration.ofMinutes(1));
+        when(s3Client.getObjectAsBytes(any(GetObjectRequest.class))).thenReturn(object(CONTENT, "\"e1\""));
+
+        // When
+        SourceContentStat stat = loader.stat(SOURCE_URI);
+
+        // Then
+        assertThat(stat.exists()).isTrue();
+        assertThat(stat.size()).isEqualTo(CONTENT.length());
+        assertThat(stat.lastModified()).isEqualTo(NOW);
+        assertThat(stat.versionToken()).isEqualTo("e1");
+    }
+
+    @Test
+    void shouldRevalidateVersionedReadWithinRefreshInterval() {
+        // Given
+        S3SourceContentLoader loader = loader(Duration.ofMinutes(1));
+        when(s3Client.getObjectAsBytes(any(GetObjectRequest.class)))
+                .thenReturn(object(CONTENT, "\"e1\""))
+                .thenReturn(object(CONTENT, "\"e2\""));
+        loader.loadContent(SOURCE_URI);
+
+        // When
+        VersionedContent versioned = loader.loadVersionedContent(SOURCE_URI);
+
+        // Then
+        ArgumentCaptor<GetObjectRequest> request = ArgumentCaptor.forClass(GetObjectRequest.class);
+        verify(s3Client, times(2)).getObjectAsBytes(request.capture());
+        assertThat(request.getAllValues().get(1).ifNoneMatch()).isEqualTo("\"e1\"");
+        assertThat(versioned.versionToken()).isEqualTo("e2");
+    }
+
+    @Test
+    void shouldWriteWithIfMatchAgainstVersionTheCallerRead() {
+        // Given
+        S3SourceContentLoader loader = loader(Duration.ofMinutes(1));
+        when(s3Client.getObjectAsBytes(any(GetObjectRequest.class))).thenReturn(object(CONTENT, "\"e1\""));
+        when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class)))
+                .thenReturn(PutObjectResponse.builder().eTag("\"e2\"").build());
+        VersionedContent read = loader.loadVersionedContent(SOURCE_URI);
+        String updated = "{\"flags\": {\"a\": {}}}";
+
+        // When
+        loader.writeContent(SOURCE_URI, new ByteArrayInputStream(updated.getBytes(StandardCharsets.UTF_8)), read.versionToken());
+
+        // Then
+        ArgumentCaptor<PutObjectRequest> request = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(s3Client).putObject(request.capture(), any(RequestBody.class));
+        assertThat(request.getValue().ifMatch()).isEqualTo("\"e1\"");
+        assertThat(request.getValue().ifNoneMatch()).isNull();
+        assertThat(loader.loadContent(SOURCE_URI)).isEqualTo(updated);
+        assertThat(loader.stat(SOURCE_URI).versionToken()).isEqualTo("e2");
+        verify(s3Client, times(1)).getObjectAsBytes(any(GetObjectRequest.class));
+    }
+
+    @Test
+    void shouldWriteUnconditionallyWithoutVersion() {
+        // Given - nothing has been read, e.g. right after a restart
+        S3SourceContentLoader loader = loader(Duration.ofMinutes(1));
+        when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class)))
+                .thenReturn(PutObjectResponse.builder().eTag("\"e1\"").build());
+
+        // When
+        loader.writeContent(SOURCE_URI, new ByteArrayInputStream(CONTENT.getBytes(StandardCharsets.UTF_8)));
+
+        // Then
+        ArgumentCaptor<PutObjectRequest> request = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(s3Client).putObject(request.capture(), any(RequestBody.class));
+        assertThat(request.getValue().ifMatch()).isNull();
+        assertThat(request.getValue().ifNoneMatch()).isNull();
+    }
+
+    @Test
+    void shouldCreateUnseenObjectOnlyIfAbsent() {
+        // Given
+        S3SourceContentLoader loader = loader(Duration.ofMinutes(1));
+        when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class)))
+                .thenReturn(PutObjectResponse.builder().eTag("\"e1\"").build());
+
+        // When
+        loader.initializeContent(SOURCE_URI, null);
+
+        // Then
+        ArgumentCaptor<PutObjectRequest> request = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(s3Client).putObject(request.capture(), any(RequestBody.class));
+        assertThat(request.getValue().ifNoneMatch()).isEqualTo("*");
+        assertThat(loader.loadContent(SOURCE_URI)).contains("\"flags\": {}");
+    }
+
+    @Test
+    void shouldKeepExistingObjectWhenDefaultContentLosesTheRace() {
+        // Given
+        S3SourceContentLoader loader = loader(Duration.ofMinutes(1));
+        when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class))).thenThrow(s3Exception(412));
+
+        // When & Then
+        assertThatCode(() -> loader.initializeContent(SOURCE_URI, null)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void shouldRaiseConflictWhenConditionalPutFails() {
+        // Given
+        S3SourceContentLoader loader = loader(Duration.ofMinutes(1));
+        when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class))).thenThrow(s3Exception(412));
+
+        // When & Then
+        assertThatThrownBy(() -> loader.writeContent(SOURCE_URI,
+                new ByteArrayInputStream(CONTENT.getBytes(StandardCharsets.UTF_8)), "e1"))
+            .isInstanceOf(SourceContentConflictException.class);
+    }
+
+    @Test
+    void shouldRejectUriWithoutKey() {
+        // Given
+        S3SourceContentLoader loader = loader(Duration.ZERO);
+
+        // When & Then
+        assertThatThrownBy(() -> loader.loadContent(new SourceUri("s3://bucket-only")))
+            .isInstanceOf(SourceContentAccessException.class)
+            .hasMessageContaining("s3://bucket/key");
+    }
+}
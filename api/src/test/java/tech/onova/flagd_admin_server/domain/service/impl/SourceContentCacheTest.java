@@ -0,0 +1,236 @@
+package tech.onova.flagd_admin_server.domain.service.impl;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+import tech.onova.flagd_admin_server.domain.entity.SourceUri;
+import tech.onova.flagd_admin_server.domain.exception.SourceContentAccessException;
+import tech.onova.flagd_admin_server.infrastructure.config.SourceCacheProperties;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SourceContentCacheTest {
+
+    private static final SourceUri URI = new SourceUri("https://flags.example.com/flags.json");
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+    private final List<Runnable> backgroundRefreshes = new ArrayList<>();
+    private final AtomicInteger fetches = new AtomicInteger();
+
+    private SourceContentCache cache(Duration ttl, Duration staleWhileRevalidate, DataSize maxSize, Map<String, Duration> ttls) {
+        SourceCacheProperties properties = new SourceCacheProperties(Set.of("https"), ttl, staleWhileRevalidate, maxSize, ttls);
+        return new SourceContentCache(properties, clock, backgroundRefreshes::add);
+    }
+
+    private SourceContentCache cache() {
+        return cache(Duration.ofSeconds(5), Duration.ofMinutes(5), DataSize.ofMegabytes(1), Map.of());
+    }
+
+    private byte[] fetch(SourceUri sourceUri) {
+        return ("revision-" + fetches.incrementAndGet()).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private String read(SourceContentCache cache, SourceUri sourceUri) {
+        return new String(cache.get(sourceUri, this::fetch).content(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void shouldServeFreshContentWithoutFetchingAgain() {
+        // Given
+        SourceContentCache cache = cache();
+        read(cache, URI);
+
+        // When
+        clock.advance(Duration.ofSeconds(4));
+        String content = read(cache, URI);
+
+        // Then
+        assertThat(content).isEqualTo("revision-1");
+        assertThat(fetches).hasValue(1);
+    }
+
+    @Test
+    void shouldServeStaleContentWhileRefreshingInBackground() {
+        // Given
+        SourceContentCache cache = cache();
+        read(cache, URI);
+        clock.advance(Duration.ofSeconds(6));
+
+        // When
+        String stale = read(cache, URI);
+        String staleAgain = read(cache, URI);
+
+        // Then
+        assertThat(stale).isEqualTo("revision-1");
+        assertThat(staleAgain).isEqualTo("revision-1");
+        assertThat(backgroundRefreshes).hasSize(1);
+
+        // When
+        backgroundRefreshes.getFirst().run();
+
+        // Then
+        assertThat(read(cache, URI)).isEqualTo("revision-2");
+        assertThat(fetches).hasValue(2);
+    }
+
+    @Test
+    void shouldFetchInlineOnceStaleWindowHasPassed() {
+        // Given
+        SourceContentCache cache = cache();
+        read(cache, URI);
+        clock.advance(Duration.ofMinutes(6));
+
+        // When
+        String content = read(cache, URI);
+
+        // Then
+        assertThat(content).isEqualTo("revision-2");
+        assertThat(backgroundRefreshes).isEmpty();
+    }
+
+    @Test
+    void shouldKeepStaleContentWhenBackgroundRefreshFails() {
+        // Given
+        SourceContentCache cache = cache();
+        read(cache, URI);
+        clock.advance(Duration.ofSeconds(6));
+        cache.get(URI, sourceUri -> {
+            throw new SourceContentAccessException("backend down");
+        });
+
+        // When
+        backgroundRefreshes.getFirst().run();
+
+        // Then
+        assertThat(read(cache, URI)).isEqualTo("revision-1");
+        assertThat(backgroundRefreshes).hasSize(2);
+    }
+
+    @Test
+    void shouldCoalesceConcurrentMisses() throws Exception {
+        // Given
+        SourceContentCache cache = cache();
+        CountDownLatch fetchStarted = new CountDownLatch(1);
+        CountDownLatch releaseFetch = new CountDownLatch(1);
+        SourceContentCache.Fetcher slowFetcher = sourceUri -> {
+            fetchStarted.countDown();
+            try {
+                releaseFetch.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return fetch(sourceUri);
+        };
+
+        try (ExecutorService readers = Executors.newFixedThreadPool(4)) {
+            // When
+            Future<?> first = readers.submit(() -> cache.get(URI, slowFetcher));
+            assertThat(fetchStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            List<Future<SourceContentCache.CachedContent>> others = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                others.add(readers.submit(() -> cache.get(URI, slowFetcher)));
+            }
+            Thread.sleep(50);
+            releaseFetch.countDown();
+
+            // Then
+            first.get(5, TimeUnit.SECONDS);
+            for (Future<SourceContentCache.CachedContent> other : others) {
+                assertThat(new String(other.get(5, TimeUnit.SECONDS).content(), StandardCharsets.UTF_8)).isEqualTo("revision-1");
+            }
+        }
+        assertThat(fetches).hasValue(1);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyReadEntriesBeyondByteBound() {
+        // Given
+        SourceContentCache cache = cache(Duration.ofSeconds(5), Duration.ofMinutes(5), DataSize.ofBytes(25), Map.of());
+        SourceUri first = new SourceUri("https://flags.example.com/first.json");
+        SourceUri second = new SourceUri("https://flags.example.com/second.json");
+        SourceUri third = new SourceUri("https://flags.example.com/third.json");
+        read(cache, first);
+        read(cache, second);
+        read(cache, first);
+
+        // When
+        read(cache, third);
+
+        // Then
+        assertThat(cache.cachedBytes()).isLessThanOrEqualTo(25);
+        assertThat(read(cache, first)).isEqualTo("revision-1");
+        assertThat(read(cache, second)).isEqualTo("revision-4");
+    }
+
+    @Test
+    void shouldFetchAgainAfterInvalidation() {
+        // Given
+        SourceContentCache cache = cache();
+        read(cache, URI);
+
+        // When
+        cache.invalidate(URI);
+
+        // Then
+        assertThat(read(cache, URI)).isEqualTo("revision-2");
+        assertThat(cache.cachedBytes()).isEqualTo("revision-2".length());
+    }
+
+    @Test
+    void shouldBypassCacheForSourcesWithZeroTtl() {
+        // Given
+        SourceContentCache cache = cache(Duration.ofSeconds(5), Duration.ofMinutes(5), DataSize.ofMegabytes(1),
+                Map.of(URI.uri(), Duration.ZERO));
+
+        // When
+        read(cache, URI);
+        read(cache, URI);
+
+        // Then
+        assertThat(fetches).hasValue(2);
+        assertThat(cache.cachedBytes()).isZero();
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
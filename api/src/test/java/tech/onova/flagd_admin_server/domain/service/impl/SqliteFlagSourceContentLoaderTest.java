@@ -0,0 +1,250 @@
+package tech.onova.flagd_admin_server.domain.service.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+import tech.onova.flagd_admin_server.domain.entity.FlagRecord;
+import tech.onova.flagd_admin_server.domain.entity.FlagRecordId;
+import tech.onova.flagd_admin_server.domain.entity.SourceUri;
+import tech.onova.flagd_admin_server.domain.exception.ContentValidationException;
+import tech.onova.flagd_admin_server.domain.exception.SourceContentNotFoundException;
+import tech.onova.flagd_admin_server.domain.repository.FlagRecordRepository;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SqliteFlagSourceContentLoaderTest {
+
+    private static final String ENABLED_FLAG = "{\"state\":\"ENABLED\",\"defaultVariant\":\"on\",\"variants\":{\"on\":true}}";
+    private static final String DISABLED_FLAG = "{\"state\":\"DISABLED\",\"defaultVariant\":\"off\",\"variants\":{\"off\":false}}";
+
+    @Mock
+    private FlagRecordRepository flagRecordRepository;
+
+    @TempDir
+    Path tempDir;
+
+    private SqliteFlagSourceContentLoader loader;
+    private SourceUri sourceUri;
+    private Path publishedFile;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeEach
+    void setUp() {
+        loader = new SqliteFlagSourceContentLoader(
+                flagRecordRepository, new FileSourceContentLoader(), TransactionOperations.withoutTransaction());
+        publishedFile = tempDir.resolve("flags.json");
+        sourceUri = new SourceUri("sqlite://" + publishedFile);
+    }
+
+    private FlagRecord record(String flagKey, String state, String definition) {
+        return new FlagRecord(new FlagRecordId(sourceUri.uri(), flagKey), state, definition);
+    }
+
+    @Test
+    void shouldSupportSqliteScheme() {
+        // When & Then
+        assertThat(loader.supports("sqlite")).isTrue();
+        assertThat(loader.supports("SQLITE")).isTrue();
+        assertThat(loader.supports("file")).isFalse();
+    }
+
+    @Test
+    void shouldStoreFlagAsRowAndPublishDocument() throws Exception {
+        // Given
+        FlagRecordId id = new FlagRecordId(sourceUri.uri(), "my-flag");
+        when(flagRecordRepository.findByIdSourceKeyOrderByIdFlagKey(sourceUri.uri())).thenReturn(List.of());
+        when(flagRecordRepository.findById(id)).thenReturn(Optional.empty());
+        ArgumentCaptor<FlagRecord> saved = ArgumentCaptor.forClass(FlagRecord.class);
+
+        // When
+        loader.writeFlag(sourceUri, "my-flag", ENABLED_FLAG);
+
+        // Then
+        verify(flagRecordRepository).save(saved.capture());
+        assertThat(saved.getValue().getId()).isEqualTo(id);
+        assertThat(saved.getValue().getState()).isEqualTo("ENABLED");
+        JsonNode published = objectMapper.readTree(Files.readString(publishedFile));
+        assertThat(published.get("$schema").asText()).isEqualTo("https://flagd.dev/schema/v0/flags.json");
+        assertThat(published.get("flags").get("my-flag").get("state").asText()).isEqualTo("ENABLED");
+    }
+
+    @Test
+    void shouldLoadRowsOnceAndServeReadsFromMemory() throws Exception {
+        // Given
+        when(flagRecordRepository.findByIdSourceKeyOrderByIdFlagKey(sourceUri.uri())).thenReturn(List.of(
+                record("a-flag", "ENABLED", ENABLED_FLAG),
+                record("b-flag", "DISABLED", DISABLED_FLAG)));
+        Files.writeString(publishedFile, "{}");
+
+        // When
+        var flags = loader.loadFlags(sourceUri);
+        Optional<String> flag = loader.loadFlag(sourceUri, "b-flag");
+        JsonNode document = objectMapper.readTree(loader.loadContent(sourceUri));
+
+        // Then
+        assertThat(flags).containsOnlyKeys("a-flag", "b-flag");
+        assertThat(flag).contains(DISABLED_FLAG);
+        assertThat(document.get("flags").get("a-flag").get("state").asText()).isEqualTo("ENABLED");
+        verify(flagRecordRepository, times(1)).findByIdSourceKeyOrderByIdFlagKey(sourceUri.uri());
+    }
+
+    @Test
+    void shouldNotRepublishWhenNothingChanged() throws Exception {
+        // Given
+        FlagRecordId id = new FlagRecordId(sourceUri.uri(), "my-flag");
+        when(flagRecordRepository.findByIdSourceKeyOrderByIdFlagKey(sourceUri.uri())).thenReturn(List.of());
+        when(flagRecordRepository.findById(id))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(record("my-flag", "ENABLED", ENABLED_FLAG)));
+        loader.writeFlag(sourceUri, "my-flag", ENABLED_FLAG);
+        Files.delete(publishedFile);
+
+        // When
+        loader.writeFlag(sourceUri, "my-flag", ENABLED_FLAG);
+
+        // Then
+        assertThat(publishedFile).doesNotExist();
+    }
+
+    @Test
+    void shouldDeleteRowAndRepublish() throws Exception {
+        // Given
+        FlagRecordId id = new FlagRecordId(sourceUri.uri(), "a-flag");
+        when(flagRecordRepository.findByIdSourceKeyOrderByIdFlagKey(sourceUri.uri())).thenReturn(List.of(
+                record("a-flag", "ENABLED", ENABLED_FLAG),
+                record("b-flag", "DISABLED", DISABLED_FLAG)));
+        when(flagRecordRepository.existsById(id)).thenReturn(true);
+
+        // When
+        boolean deleted = loader.deleteFlag(sourceUri, "a-flag");
+
+        // Then
+        assertThat(deleted).isTrue();
+        verify(flagRecordRepository).deleteById(id);
+        JsonNode published = objectMapper.readTree(Files.readString(publishedFile));
+        assertThat(published.get("flags").has("a-flag")).isFalse();
+        assertThat(published.get("flags").has("b-flag")).isTrue();
+    }
+
+    @Test
+    void shouldReportMissingFlagOnDelete() {
+        // Given
+        when(flagRecordRepository.findByIdSourceKeyOrderByIdFlagKey(sourceUri.uri())).thenReturn(List.of());
+        when(flagRecordRepository.existsById(any())).thenReturn(false);
+
+        // When
+        boolean deleted = loader.deleteFlag(sourceUri, "missing");
+
+        // Then
+        assertThat(deleted).isFalse();
+        verify(flagRecordRepository, never()).deleteById(any());
+        assertThat(publishedFile).doesNotExist();
+    }
+
+    @Test
+    void shouldDropRowsAndMaterializedFlagsWhenSourceIsDeleted() {
+        // Given
+        when(flagRecordRepository.findByIdSourceKeyOrderByIdFlagKey(sourceUri.uri()))
+                .thenReturn(List.of(record("a-flag", "ENABLED", ENABLED_FLAG)))
+                .thenReturn(List.of());
+        assertThat(loader.loadFlags(sourceUri)).containsOnlyKeys("a-flag");
+
+        // When
+        loader.deleteFlags(sourceUri);
+
+        // Then
+        verify(flagRecordRepository).deleteByIdSourceKey(sourceUri.uri());
+        assertThat(loader.loadFlags(sourceUri)).isEmpty();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldReplaceRowsFromWholeDocument() throws Exception {
+        // Given
+        FlagRecord stale = record("stale-flag", "ENABLED", ENABLED_FLAG);
+        FlagRecord unchanged = record("kept-flag", "ENABLED", ENABLED_FLAG);
+        when(flagRecordRepository.findByIdSourceKeyOrderByIdFlagKey(sourceUri.uri())).thenReturn(List.of(stale, unchanged));
+        String content = "{\"$schema\": \"https://flagd.dev/schema/v0/flags.json\", \"flags\": {"
+                + "\"kept-flag\": " + ENABLED_FLAG + ", \"new-flag\": " + DISABLED_FLAG + "}}";
+        ArgumentCaptor<Iterable<FlagRecord>> saved = ArgumentCaptor.forClass(Iterable.class);
+        ArgumentCaptor<Iterable<FlagRecord>> deleted = ArgumentCaptor.forClass(Iterable.class);
+
+        // When
+        loader.initializeContent(sourceUri, content);
+
+        // Then
+        verify(flagRecordRepository).saveAll(saved.capture());
+        verify(flagRecordRepository).deleteAll(deleted.capture());
+        assertThat(saved.getValue()).extracting(record -> record.getId().flagKey()).containsExactly("new-flag");
+        assertThat(deleted.getValue()).containsExactly(stale);
+        assertThat(loader.loadFlags(sourceUri)).containsOnlyKeys("kept-flag", "new-flag");
+        assertThat(objectMapper.readTree(Files.readString(publishedFile)).get("flags").size()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldPublishEmptyDocumentOnInitialization() throws Exception {
+        // Given
+        when(flagRecordRepository.findByIdSourceKeyOrderByIdFlagKey(sourceUri.uri())).thenReturn(List.of());
+
+        // When
+        loader.initializeContent(sourceUri, null);
+
+        // Then
+        JsonNode document = objectMapper.readTree(loader.loadContent(sourceUri));
+        assertThat(document.get("flags").isEmpty()).isTrue();
+        assertThat(loader.stat(sourceUri).exists()).isTrue();
+    }
+
+    @Test
+    void shouldNotRepublishWhenReplacedDocumentIsUnchanged() throws Exception {
+        // Given
+        String content = "{\"flags\": {\"my-flag\": " + ENABLED_FLAG + "}}";
+        when(flagRecordRepository.findByIdSourceKeyOrderByIdFlagKey(sourceUri.uri()))
+                .thenReturn(List.of(record("my-flag", "ENABLED", ENABLED_FLAG)));
+        loader.initializeContent(sourceUri, content);
+        Files.writeString(publishedFile, "published");
+
+        // When
+        loader.initializeContent(sourceUri, content);
+
+        // Then
+        assertThat(Files.readString(publishedFile)).isEqualTo("published");
+    }
+
+    @Test
+    void shouldReportMissingContentWithoutRowsOrPublishedFile() {
+        // Given
+        when(flagRecordRepository.findByIdSourceKeyOrderByIdFlagKey(sourceUri.uri())).thenReturn(List.of());
+
+        // When & Then
+        assertThatThrownBy(() -> loader.loadContent(sourceUri))
+            .isInstanceOf(SourceContentNotFoundException.class);
+        assertThat(loader.stat(sourceUri).exists()).isFalse();
+    }
+
+    @Test
+    void shouldRejectDocumentsWithFieldsOtherThanFlags() {
+        // Given
+        String content = "{\"flags\": {}, \"$evaluators\": {}}";
+
+        // When & Then
+        assertThatThrownBy(() -> loader.initializeContent(sourceUri, content))
+            .isInstanceOf(ContentValidationException.class)
+            .hasMessageContaining("$evaluators");
+    }
+}
@@ -1,5 +1,7 @@
 package tech.onova.flagd_admin_server.infrastructure.aspect;
 
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -8,6 +10,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import tech.onova.flagd_admin_server.infrastructure.annotation.Log;
 
+import java.util.concurrent.CompletableFuture;
+
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -15,13 +19,15 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class LoggingAspectTest {
 
+    private SimpleMeterRegistry meterRegistry;
     private LoggingAspect loggingAspect;
     private ProceedingJoinPoint joinPoint;
     private Log logAnnotation;
 
     @BeforeEach
     void setUp() {
-        loggingAspect = new LoggingAspect();
+        meterRegistry = new SimpleMeterRegistry();
+        loggingAspect = new LoggingAspect(meterRegistry);
         joinPoint = mock(ProceedingJoinPoint.class);
         logAnnotation = mock(Log.class);
     }
@@ -161,6 +167,52 @@ class LoggingAspectTest {
         verify(joinPoint).proceed();
     }
 
+    @Test
+    void shouldRecordTimerTaggedWithMethodAndOutcome() throws Throwable {
+        // Given
+        when(joinPoint.getTarget()).thenReturn(new TestClass());
+        when(joinPoint.getSignature()).thenReturn(mock(org.aspectj.lang.Signature.class));
+        when(joinPoint.getSignature().getName()).thenReturn("timedMethod");
+        when(joinPoint.getArgs()).thenReturn(new Object[0]);
+        when(joinPoint.proceed()).thenReturn("result").thenThrow(new RuntimeException("Test exception"));
+
+        // When
+        loggingAspect.logAround(joinPoint, logAnnotation);
+        assertThatThrownBy(() -> loggingAspect.logAround(joinPoint, logAnnotation))
+            .isInstanceOf(RuntimeException.class);
+
+        // Then
+        assertThat(timer("timedMethod", "success").count()).isEqualTo(1);
+        assertThat(timer("timedMethod", "failure").count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRecordAsyncResultWhenItCompletes() throws Throwable {
+        // Given
+        CompletableFuture<String> pending = new CompletableFuture<>();
+        when(joinPoint.getTarget()).thenReturn(new TestClass());
+        when(joinPoint.getSignature()).thenReturn(mock(org.aspectj.lang.Signature.class));
+        when(joinPoint.getSignature().getName()).thenReturn("asyncMethod");
+        when(joinPoint.getArgs()).thenReturn(new Object[0]);
+        when(joinPoint.proceed()).thenReturn(pending);
+
+        // When
+        loggingAspect.logAround(joinPoint, logAnnotation);
+
+        // Then
+        assertThat(meterRegistry.find("flagd.method").timers()).isEmpty();
+        pending.completeExceptionally(new RuntimeException("Test exception"));
+        assertThat(timer("asyncMethod", "failure").count()).isEqualTo(1);
+    }
+
+    private Timer timer(String methodName, String outcome) {
+        return meterRegistry.get("flagd.method")
+            .tag("class", "TestClass")
+            .tag("method", methodName)
+            .tag("outcome", outcome)
+            .timer();
+    }
+
     // Test class for signature testing
     private static class TestClass {
         // Empty class for testing
@@ -0,0 +1,73 @@
+package tech.onova.flagd_admin_server.infrastructure.aspect;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tech.onova.flagd_admin_server.infrastructure.annotation.Timed;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TimingAspectTest {
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+
+    @Mock
+    private Signature signature;
+
+    @Mock
+    private Timed timedAnnotation;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TimingAspect timingAspect;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        timingAspect = new TimingAspect(meterRegistry);
+        when(joinPoint.getTarget()).thenReturn(new TestClass());
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(signature.getName()).thenReturn("login");
+    }
+
+    @Test
+    void shouldRecordSuccessfulCall() throws Throwable {
+        // Given
+        when(joinPoint.proceed()).thenReturn("result");
+
+        // When
+        Object result = timingAspect.timeAround(joinPoint, timedAnnotation);
+
+        // Then
+        assertThat(result).isEqualTo("result");
+        assertThat(meterRegistry.get(MethodTimer.METHOD_TIMER)
+                .tag("class", "TestClass")
+                .tag("method", "login")
+                .tag("outcome", "success")
+                .timer().count()).isEqualTo(1);
+        verify(joinPoint, never()).getArgs();
+    }
+
+    @Test
+    void shouldRecordFailedCallAndRethrow() throws Throwable {
+        // Given
+        IllegalStateException failure = new IllegalStateException("Bad credentials");
+        when(joinPoint.proceed()).thenThrow(failure);
+
+        // When & Then
+        assertThatThrownBy(() -> timingAspect.timeAround(joinPoint, timedAnnotation)).isSameAs(failure);
+        assertThat(meterRegistry.get(MethodTimer.METHOD_TIMER)
+                .tag("outcome", "failure")
+                .timer().count()).isEqualTo(1);
+    }
+
+    private static class TestClass {
+    }
+}
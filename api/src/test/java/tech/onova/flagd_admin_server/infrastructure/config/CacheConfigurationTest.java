@@ -0,0 +1,82 @@
+package tech.onova.flagd_admin_server.infrastructure.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import tech.onova.flagd_admin_server.domain.entity.Source;
+import tech.onova.flagd_admin_server.domain.repository.SourceRepository;
+import tech.onova.flagd_admin_server.testutil.TestDataBuilder;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CacheConfigurationTest {
+
+    private final SourceRepository backingRepository = mock(SourceRepository.class);
+    private AnnotationConfigApplicationContext context;
+    private SourceRepository sourceRepository;
+
+    @BeforeEach
+    void setUp() {
+        context = new AnnotationConfigApplicationContext();
+        context.register(CacheConfiguration.class);
+        context.registerBean(CacheManager.class, () -> new CaffeineCacheManager(
+                SourceRepository.SOURCES_CACHE, SourceRepository.SOURCES_BY_ENABLED_CACHE));
+        context.registerBean(SourceRepository.class, () -> backingRepository);
+        context.refresh();
+        sourceRepository = context.getBean(SourceRepository.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    void shouldServeRepeatedLookupsFromCache() {
+        // Given
+        Source source = TestDataBuilder.aSource().build();
+        when(backingRepository.findById(source.getId())).thenReturn(Optional.of(source));
+        when(backingRepository.findByEnabled(true)).thenReturn(List.of(source));
+
+        // When
+        sourceRepository.findById(source.getId());
+        Optional<Source> cached = sourceRepository.findById(source.getId());
+        sourceRepository.findByEnabled(true);
+        List<Source> cachedList = sourceRepository.findByEnabled(true);
+
+        // Then
+        assertThat(cached).contains(source);
+        assertThat(cachedList).containsExactly(source);
+        verify(backingRepository, times(1)).findById(source.getId());
+        verify(backingRepository, times(1)).findByEnabled(true);
+    }
+
+    @Test
+    void shouldEvictLookupsWhenSourceIsSavedOrDeleted() {
+        // Given
+        Source source = TestDataBuilder.aSource().build();
+        when(backingRepository.findById(source.getId())).thenReturn(Optional.of(source));
+        when(backingRepository.findByEnabled(true)).thenReturn(List.of(source));
+        sourceRepository.findById(source.getId());
+        sourceRepository.findByEnabled(true);
+
+        // When
+        sourceRepository.save(source);
+        sourceRepository.findById(source.getId());
+        sourceRepository.findByEnabled(true);
+        sourceRepository.delete(source);
+        sourceRepository.findById(source.getId());
+        sourceRepository.findByEnabled(true);
+
+        // Then
+        verify(backingRepository, times(3)).findById(source.getId());
+        verify(backingRepository, times(3)).findByEnabled(true);
+    }
+}
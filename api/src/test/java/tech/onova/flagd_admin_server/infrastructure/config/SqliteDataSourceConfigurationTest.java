@@ -0,0 +1,97 @@
+package tech.onova.flagd_admin_server.infrastructure.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SqliteDataSourceConfigurationTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final SqliteProperties properties = new SqliteProperties(true, 2, DataSize.ofMegabytes(16), Duration.ofSeconds(2));
+    private final SqliteDataSourceConfiguration configuration = new SqliteDataSourceConfiguration();
+    private HikariDataSource writer;
+    private HikariDataSource reader;
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        String url = "jdbc:sqlite:" + tempDir.resolve("app.db");
+        writer = configuration.sqliteWriterDataSource(url, properties);
+        reader = configuration.sqliteReaderDataSource(url, properties);
+        dataSource = configuration.dataSource(writer, reader);
+    }
+
+    @AfterEach
+    void tearDown() {
+        reader.close();
+        writer.close();
+    }
+
+    @Test
+    void shouldAppendPragmasToUrl() {
+        // When & Then
+        assertThat(SqliteDataSourceConfiguration.withPragmas("jdbc:sqlite:app.db", properties))
+            .isEqualTo("jdbc:sqlite:app.db?journal_mode=WAL&synchronous=NORMAL&busy_timeout=2000&mmap_size=16777216");
+        assertThat(SqliteDataSourceConfiguration.withPragmas("jdbc:sqlite:app.db?foreign_keys=true", properties))
+            .startsWith("jdbc:sqlite:app.db?foreign_keys=true&journal_mode=WAL");
+    }
+
+    @Test
+    void shouldUseSingleWriterConnectionInWalMode() throws Exception {
+        // Given
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE item (id INTEGER PRIMARY KEY)");
+            statement.execute("INSERT INTO item (id) VALUES (1)");
+
+            // When
+            String journalMode = queryString(statement, "PRAGMA journal_mode");
+
+            // Then
+            assertThat(journalMode).isEqualToIgnoringCase("wal");
+        }
+        assertThat(writer.getMaximumPoolSize()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldServeReadOnlyConnectionsFromQueryOnlyPool() throws Exception {
+        // Given
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE item (id INTEGER PRIMARY KEY)");
+            statement.execute("INSERT INTO item (id) VALUES (1)");
+        }
+
+        // When
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setReadOnly(true);
+            try (Statement statement = connection.createStatement()) {
+
+                // Then
+                assertThat(queryString(statement, "SELECT count(*) FROM item")).isEqualTo("1");
+                assertThatThrownBy(() -> statement.execute("INSERT INTO item (id) VALUES (2)"))
+                    .isInstanceOf(SQLException.class);
+            }
+        }
+    }
+
+    private String queryString(Statement statement, String sql) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getString(1);
+        }
+    }
+}
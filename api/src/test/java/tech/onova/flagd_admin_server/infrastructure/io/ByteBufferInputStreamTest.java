@@ -0,0 +1,61 @@
+package tech.onova.flagd_admin_server.infrastructure.io;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ByteBufferInputStreamTest {
+
+    @Test
+    void shouldReadAllBytesFromBuffer() throws Exception {
+        // Given
+        ByteBuffer buffer = ByteBuffer.wrap("flag content".getBytes(StandardCharsets.UTF_8));
+
+        // When
+        ByteBufferInputStream stream = new ByteBufferInputStream(buffer);
+
+        // Then
+        assertThat(new String(stream.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("flag content");
+        assertThat(stream.read()).isEqualTo(-1);
+    }
+
+    @Test
+    void shouldNotMoveSourceBufferPosition() throws Exception {
+        // Given
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[]{1, 2, 3});
+
+        // When
+        new ByteBufferInputStream(buffer).readAllBytes();
+
+        // Then
+        assertThat(buffer.position()).isZero();
+    }
+
+    @Test
+    void shouldReturnUnsignedSingleBytes() {
+        // Given
+        ByteBufferInputStream stream = new ByteBufferInputStream(ByteBuffer.wrap(new byte[]{(byte) 0xFF}));
+
+        // When & Then
+        assertThat(stream.read()).isEqualTo(255);
+        assertThat(stream.available()).isZero();
+    }
+
+    @Test
+    void shouldSkipAndReportAvailableBytes() {
+        // Given
+        ByteBufferInputStream stream = new ByteBufferInputStream(ByteBuffer.wrap(new byte[]{1, 2, 3, 4}));
+
+        // When
+        long skipped = stream.skip(3);
+
+        // Then
+        assertThat(skipped).isEqualTo(3);
+        assertThat(stream.available()).isEqualTo(1);
+        assertThat(stream.skip(10)).isEqualTo(1);
+        assertThat(stream.read(new byte[4], 0, 4)).isEqualTo(-1);
+    }
+}
@@ -0,0 +1,104 @@
+package tech.onova.flagd_admin_server.security.apikey;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import tech.onova.flagd_admin_server.domain.entity.ApiKey;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ApiKeyAuthenticationFilterTest {
+
+    private static final String KEY = "fak_test";
+
+    @Mock
+    private ApiKeyService apiKeyService;
+
+    @Mock
+    private FilterChain filterChain;
+
+    private ApiKeyAuthenticationFilter filter;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        SecurityContextHolder.clearContext();
+        filter = new ApiKeyAuthenticationFilter(apiKeyService);
+        response = new MockHttpServletResponse();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void shouldPassThroughRequestsWithoutApiKey() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/sources");
+
+        // When
+        filter.doFilterInternal(request, response, filterChain);
+
+        // Then
+        verify(filterChain).doFilter(request, response);
+        verify(apiKeyService, never()).authenticate(anyString());
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    void shouldAuthenticateScopedKey() throws Exception {
+        // Given
+        MockHttpServletRequest request = request("POST", "/api/v1/sources/123/flags/my-flag");
+        when(apiKeyService.authenticate(KEY)).thenReturn(Optional.of(apiKey("flags:read", "flags:write")));
+
+        // When
+        filter.doFilterInternal(request, response, filterChain);
+
+        // Then
+        verify(filterChain).doFilter(request, response);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication.getName()).isEqualTo("api-key:ci");
+        assertThat(authentication.getAuthorities()).extracting("authority")
+            .containsExactly("SCOPE_flags:read", "SCOPE_flags:write");
+    }
+
+    @Test
+    void shouldRejectUnknownKey() throws Exception {
+        // Given
+        MockHttpServletRequest request = request("GET", "/api/v1/sources");
+        when(apiKeyService.authenticate(KEY)).thenReturn(Optional.empty());
+
+        // When
+        filter.doFilterInternal(request, response, filterChain);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_UNAUTHORIZED);
+        verifyNoInteractions(filterChain);
+    }
+
+    private static MockHttpServletRequest request(String method, String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.addHeader(ApiKeyAuthenticationFilter.API_KEY_HEADER, KEY);
+        return request;
+    }
+
+    private static ApiKey apiKey(String... scopes) {
+        return new ApiKey("id", "ci", "digest", List.of(scopes), "admin", null);
+    }
+}
@@ -0,0 +1,24 @@
+package tech.onova.flagd_admin_server.security.apikey;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ApiKeyScopeTest {
+
+    @Test
+    void shouldPrefixAuthorityWithScope() {
+        // When & Then
+        assertThat(ApiKeyScope.FLAGS_WRITE.authority()).isEqualTo("SCOPE_flags:write");
+        assertThat(ApiKeyScope.SOURCES_READ.authority()).isEqualTo("SCOPE_sources:read");
+    }
+
+    @Test
+    void shouldParseScopeValues() {
+        // When & Then
+        assertThat(ApiKeyScope.fromValue("sources:write")).isEqualTo(ApiKeyScope.SOURCES_WRITE);
+        assertThatThrownBy(() -> ApiKeyScope.fromValue("admin"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("admin");
+    }
+}
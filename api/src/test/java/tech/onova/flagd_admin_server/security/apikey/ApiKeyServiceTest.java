@@ -0,0 +1,180 @@
+package tech.onova.flagd_admin_server.security.apikey;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tech.onova.flagd_admin_server.domain.entity.ApiKey;
+import tech.onova.flagd_admin_server.domain.exception.ApiKeysDisabledException;
+import tech.onova.flagd_admin_server.domain.repository.ApiKeyRepository;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ApiKeyServiceTest {
+
+    private static final String SECRET = "api-key-secret";
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Mock
+    private ApiKeyRepository apiKeyRepository;
+
+    private ApiKeyService apiKeyService;
+
+    @BeforeEach
+    void setUp() {
+        apiKeyService = new ApiKeyService(apiKeyRepository, SECRET, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void shouldCreateKeyAndStoreOnlyItsDigest() {
+        // When
+        ApiKeyService.CreatedApiKey created = apiKeyService.create(
+            "ci", List.of(ApiKeyScope.FLAGS_READ, ApiKeyScope.FLAGS_WRITE), null, "admin");
+
+        // Then
+        assertThat(created.key()).startsWith(ApiKeyService.KEY_PREFIX);
+        assertThat(created.apiKey().getKeyDigest()).hasSize(64).doesNotContain(created.key());
+        assertThat(created.apiKey().getScopes()).containsExactly("flags:read", "flags:write");
+        verify(apiKeyRepository).save(created.apiKey());
+    }
+
+    @Test
+    void shouldAuthenticateCreatedKeyFromMemory() {
+        // Given
+        ApiKeyService.CreatedApiKey created = apiKeyService.create("ci", List.of(ApiKeyScope.FLAGS_READ), null, "admin");
+
+        // When
+        Optional<ApiKey> authenticated = apiKeyService.authenticate(created.key());
+
+        // Then
+        assertThat(authenticated).contains(created.apiKey());
+        verify(apiKeyRepository, never()).findById(anyString());
+    }
+
+    @Test
+    void shouldAuthenticateKeysLoadedOnStartup() {
+        // Given
+        ApiKeyService.CreatedApiKey created = apiKeyService.create("ci", List.of(ApiKeyScope.FLAGS_READ), null, "admin");
+        when(apiKeyRepository.findAll()).thenReturn(List.of(created.apiKey()));
+        ApiKeyService restarted = new ApiKeyService(apiKeyRepository, SECRET, Clock.fixed(NOW, ZoneOffset.UTC));
+
+        // When
+        restarted.loadKeys();
+
+        // Then
+        assertThat(restarted.authenticate(created.key())).contains(created.apiKey());
+    }
+
+    @Test
+    void shouldRejectUnknownExpiredAndRevokedKeys() {
+        // Given
+        ApiKeyService.CreatedApiKey expired = apiKeyService.create("old", List.of(ApiKeyScope.FLAGS_READ),
+            ZonedDateTime.ofInstant(NOW.minusSeconds(1), ZoneOffset.UTC), "admin");
+        ApiKeyService.CreatedApiKey revoked = apiKeyService.create("gone", List.of(ApiKeyScope.FLAGS_READ), null, "admin");
+        when(apiKeyRepository.findById(revoked.apiKey().getId())).thenReturn(Optional.of(revoked.apiKey()));
+        apiKeyService.revoke(revoked.apiKey().getId());
+
+        // When & Then
+        assertThat(apiKeyService.authenticate(ApiKeyService.KEY_PREFIX + "unknown")).isEmpty();
+        assertThat(apiKeyService.authenticate("not-an-api-key")).isEmpty();
+        assertThat(apiKeyService.authenticate(expired.key())).isEmpty();
+        assertThat(apiKeyService.authenticate(revoked.key())).isEmpty();
+        verify(apiKeyRepository).delete(revoked.apiKey());
+    }
+
+    @Test
+    void shouldFlushAccumulatedUsageOnce() {
+        // Given
+        ApiKeyService.CreatedApiKey created = apiKeyService.create("ci", List.of(ApiKeyScope.FLAGS_READ), null, "admin");
+        apiKeyService.authenticate(created.key());
+        apiKeyService.authenticate(created.key());
+        apiKeyService.authenticate(created.key());
+
+        // When
+        apiKeyService.flushUsage();
+        apiKeyService.flushUsage();
+
+        // Then
+        verify(apiKeyRepository, times(1))
+            .addUsage(created.apiKey().getId(), 3, ZonedDateTime.ofInstant(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void shouldListKeysWithoutFlushingUsage() {
+        // Given
+        ApiKeyService.CreatedApiKey created = apiKeyService.create("ci", List.of(ApiKeyScope.FLAGS_READ), null, "admin");
+        apiKeyService.authenticate(created.key());
+        when(apiKeyRepository.findAll()).thenReturn(List.of(created.apiKey()));
+
+        // When
+        var keys = apiKeyService.findAll();
+
+        // Then
+        assertThat(keys).containsExactly(created.apiKey());
+        verify(apiKeyRepository, never()).addUsage(anyString(), anyLong(), any());
+    }
+
+    @Test
+    void shouldKeepUsageWhenFlushFails() {
+        // Given
+        ApiKeyService.CreatedApiKey created = apiKeyService.create("ci", List.of(ApiKeyScope.FLAGS_READ), null, "admin");
+        apiKeyService.authenticate(created.key());
+        when(apiKeyRepository.addUsage(anyString(), anyLong(), any()))
+            .thenThrow(new IllegalStateException("database is locked"))
+            .thenReturn(1);
+
+        // When
+        apiKeyService.flushUsage();
+        apiKeyService.flushUsage();
+
+        // Then
+        verify(apiKeyRepository, times(2)).addUsage(eq(created.apiKey().getId()), eq(1L), any());
+    }
+
+    @Test
+    void shouldFlushOtherKeysWhenOneFails() {
+        // Given
+        ApiKeyService.CreatedApiKey failing = apiKeyService.create("ci", List.of(ApiKeyScope.FLAGS_READ), null, "admin");
+        ApiKeyService.CreatedApiKey other = apiKeyService.create("cd", List.of(ApiKeyScope.FLAGS_READ), null, "admin");
+        apiKeyService.authenticate(failing.key());
+        apiKeyService.authenticate(other.key());
+        when(apiKeyRepository.addUsage(anyString(), anyLong(), any())).thenAnswer(invocation -> {
+            if (failing.apiKey().getId().equals(invocation.getArgument(0))) {
+                throw new IllegalStateException("database is locked");
+            }
+            return 1;
+        });
+
+        // When
+        apiKeyService.flushUsage();
+
+        // Then
+        verify(apiKeyRepository).addUsage(eq(other.apiKey().getId()), eq(1L), any());
+    }
+
+    @Test
+    void shouldRefuseToCreateKeysWithoutSecret() {
+        // Given
+        ApiKeyService disabled = new ApiKeyService(apiKeyRepository, "", Clock.fixed(NOW, ZoneOffset.UTC));
+
+        // When & Then
+        assertThat(disabled.isEnabled()).isFalse();
+        assertThatThrownBy(() -> disabled.create("ci", List.of(ApiKeyScope.FLAGS_READ), null, "admin"))
+            .isInstanceOf(ApiKeysDisabledException.class);
+        assertThat(disabled.authenticate(ApiKeyService.KEY_PREFIX + "anything")).isEmpty();
+    }
+}
@@ -0,0 +1,71 @@
+package tech.onova.flagd_admin_server.security.jwt;
+
+import io.jsonwebtoken.MalformedJwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccessTokenRevocationsTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Mock
+    private VerifiedTokenCache verifiedTokenCache;
+
+    private AccessTokenRevocations revocations;
+
+    @BeforeEach
+    void setUp() {
+        revocations = new AccessTokenRevocations(verifiedTokenCache, Duration.ofMinutes(15), Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void shouldRejectRevokedTokenEvenThoughItStillVerifies() {
+        // Given
+        VerifiedToken token = token("alice", NOW.minusSeconds(60));
+        when(verifiedTokenCache.verify("a.b.c")).thenReturn(token);
+
+        // When
+        revocations.revoke("a.b.c");
+
+        // Then
+        assertThat(revocations.isRevoked("a.b.c", token)).isTrue();
+        assertThat(revocations.isRevoked("d.e.f", token("alice", NOW.minusSeconds(60)))).isFalse();
+    }
+
+    @Test
+    void shouldIgnoreRevocationOfTokenThatDoesNotVerify() {
+        // Given
+        when(verifiedTokenCache.verify("bad")).thenThrow(new MalformedJwtException("malformed"));
+
+        // When & Then
+        assertThatCode(() -> revocations.revoke("bad")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void shouldRejectTokensIssuedToSubjectBeforeRevocation() {
+        // When
+        revocations.revokeSubject("alice");
+
+        // Then
+        assertThat(revocations.isRevoked("alice-old", token("alice", NOW.minusSeconds(60)))).isTrue();
+        assertThat(revocations.isRevoked("alice-same-second", token("alice", NOW))).isTrue();
+        assertThat(revocations.isRevoked("alice-new", token("alice", NOW.plusSeconds(1)))).isFalse();
+        assertThat(revocations.isRevoked("bob", token("bob", NOW.minusSeconds(60)))).isFalse();
+    }
+
+    private static VerifiedToken token(String subject, Instant issuedAt) {
+        return new VerifiedToken(subject, "access", issuedAt, issuedAt.plusSeconds(900));
+    }
+}
@@ -0,0 +1,73 @@
+package tech.onova.flagd_admin_server.security.jwt;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import tech.onova.flagd_admin_server.domain.entity.RefreshToken;
+import tech.onova.flagd_admin_server.domain.repository.RefreshTokenRepository;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DatabaseRefreshTokenStoreTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private DatabaseRefreshTokenStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new DatabaseRefreshTokenStore(refreshTokenRepository);
+    }
+
+    @Test
+    void shouldDeleteOneBatchOfExpiredTokens() {
+        // Given
+        ZonedDateTime now = ZonedDateTime.now();
+        when(refreshTokenRepository.findExpiredIds(now, Limit.of(2))).thenReturn(List.of("a", "b"));
+        when(refreshTokenRepository.deleteByIdIn(List.of("a", "b"))).thenReturn(2);
+
+        // When
+        int deleted = store.deleteExpired(now, 2);
+
+        // Then
+        assertThat(deleted).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotDeleteWhenNothingExpired() {
+        // Given
+        when(refreshTokenRepository.findExpiredIds(any(), any())).thenReturn(List.of());
+
+        // When
+        int deleted = store.deleteExpired(ZonedDateTime.now(), 2);
+
+        // Then
+        assertThat(deleted).isZero();
+        verify(refreshTokenRepository, never()).deleteByIdIn(any());
+    }
+
+    @Test
+    void shouldRotateInOneRepositoryCall() {
+        // Given
+        RefreshToken replacement = new RefreshToken("b", "alice", ZonedDateTime.now().plusDays(1));
+        when(refreshTokenRepository.rotate("a", replacement)).thenReturn(true);
+
+        // When
+        boolean rotated = store.rotate("a", replacement);
+
+        // Then
+        assertThat(rotated).isTrue();
+        verify(refreshTokenRepository).rotate("a", replacement);
+        verifyNoMoreInteractions(refreshTokenRepository);
+    }
+}
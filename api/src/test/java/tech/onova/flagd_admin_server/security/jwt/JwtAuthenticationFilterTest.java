@@ -21,7 +21,9 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 
 import java.io.IOException;
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -35,6 +37,12 @@ class JwtAuthenticationFilterTest {
     @Mock
     private JwtUtil jwtUtil;
 
+    @Mock
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @Mock
+    private AccessTokenRevocations revocations;
+
     @Mock
     private UserDetailsService userDetailsService;
 
@@ -79,7 +87,7 @@ class JwtAuthenticationFilterTest {
 
         // Then
         verify(filterChain).doFilter(request, response);
-        verify(jwtUtil, never()).extractUsername(anyString());
+        verify(verifiedTokenCache, never()).verify(anyString());
         assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
     }
 
@@ -93,7 +101,7 @@ class JwtAuthenticationFilterTest {
 
         // Then
         verify(filterChain).doFilter(request, response);
-        verify(jwtUtil, never()).extractUsername(anyString());
+        verify(verifiedTokenCache, never()).verify(anyString());
         assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
     }
 
@@ -101,14 +109,14 @@ class JwtAuthenticationFilterTest {
     void doFilterInternal_shouldSkipFilterWhenUsernameIsNull() throws ServletException, IOException {
         // Given
         when(request.getHeader("Authorization")).thenReturn(BEARER_TOKEN);
-        when(jwtUtil.extractUsername(VALID_TOKEN)).thenReturn(null);
+        when(verifiedTokenCache.verify(VALID_TOKEN)).thenReturn(verifiedToken(null));
 
         // When
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
         // Then
         verify(filterChain).doFilter(request, response);
-        verify(jwtUtil).extractUsername(VALID_TOKEN);
+        verify(verifiedTokenCache).verify(VALID_TOKEN);
         verify(userDetailsService, never()).loadUserByUsername(anyString());
         assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
     }
@@ -121,14 +129,14 @@ class JwtAuthenticationFilterTest {
         SecurityContextHolder.getContext().setAuthentication(existingAuth);
 
         when(request.getHeader("Authorization")).thenReturn(BEARER_TOKEN);
-        when(jwtUtil.extractUsername(VALID_TOKEN)).thenReturn(TEST_USERNAME);
+        when(verifiedTokenCache.verify(VALID_TOKEN)).thenReturn(verifiedToken(TEST_USERNAME));
 
         // When
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
         // Then
         verify(filterChain).doFilter(request, response);
-        verify(jwtUtil).extractUsername(VALID_TOKEN);
+        verify(verifiedTokenCache).verify(VALID_TOKEN);
         verify(userDetailsService, never()).loadUserByUsername(anyString());
         
         // Existing authentication should remain
@@ -139,9 +147,9 @@ class JwtAuthenticationFilterTest {
     void doFilterInternal_shouldAuthenticateWhenValidToken() throws ServletException, IOException {
         // Given
         when(request.getHeader("Authorization")).thenReturn(BEARER_TOKEN);
-        when(jwtUtil.extractUsername(VALID_TOKEN)).thenReturn(TEST_USERNAME);
+        when(verifiedTokenCache.verify(VALID_TOKEN)).thenReturn(verifiedToken(TEST_USERNAME));
         when(userDetailsService.loadUserByUsername(TEST_USERNAME)).thenReturn(userDetails);
-        when(jwtUtil.validateToken(VALID_TOKEN, userDetails)).thenReturn(true);
+        when(jwtUtil.validateToken(verifiedToken(TEST_USERNAME), userDetails)).thenReturn(true);
         when(request.getRemoteAddr()).thenReturn("127.0.0.1");
 
         // When
@@ -149,9 +157,10 @@ class JwtAuthenticationFilterTest {
 
         // Then
         verify(filterChain).doFilter(request, response);
-        verify(jwtUtil).extractUsername(VALID_TOKEN);
+        verify(verifiedTokenCache).verify(VALID_TOKEN);
         verify(userDetailsService).loadUserByUsername(TEST_USERNAME);
-        verify(jwtUtil).validateToken(VALID_TOKEN, userDetails);
+        verify(jwtUtil).validateToken(verifiedToken(TEST_USERNAME), userDetails);
+        verify(jwtUtil, never()).validateToken(anyString(), any());
 
         UsernamePasswordAuthenticationToken authentication = 
             (UsernamePasswordAuthenticationToken) SecurityContextHolder.getContext().getAuthentication();
@@ -167,18 +176,18 @@ class JwtAuthenticationFilterTest {
     void doFilterInternal_shouldNotAuthenticateWhenInvalidToken() throws ServletException, IOException {
         // Given
         when(request.getHeader("Authorization")).thenReturn("Bearer " + INVALID_TOKEN);
-        when(jwtUtil.extractUsername(INVALID_TOKEN)).thenReturn(TEST_USERNAME);
+        when(verifiedTokenCache.verify(INVALID_TOKEN)).thenReturn(verifiedToken(TEST_USERNAME));
         when(userDetailsService.loadUserByUsername(TEST_USERNAME)).thenReturn(userDetails);
-        when(jwtUtil.validateToken(INVALID_TOKEN, userDetails)).thenReturn(false);
+        when(jwtUtil.validateToken(verifiedToken(TEST_USERNAME), userDetails)).thenReturn(false);
 
         // When
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
         // Then
         verify(filterChain).doFilter(request, response);
-        verify(jwtUtil).extractUsername(INVALID_TOKEN);
+        verify(verifiedTokenCache).verify(INVALID_TOKEN);
         verify(userDetailsService).loadUserByUsername(TEST_USERNAME);
-        verify(jwtUtil).validateToken(INVALID_TOKEN, userDetails);
+        verify(jwtUtil).validateToken(verifiedToken(TEST_USERNAME), userDetails);
 
         assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
     }
@@ -187,7 +196,7 @@ class JwtAuthenticationFilterTest {
     void doFilterInternal_shouldHandleUserDetailsServiceException() throws ServletException, IOException {
         // Given
         when(request.getHeader("Authorization")).thenReturn(BEARER_TOKEN);
-        when(jwtUtil.extractUsername(VALID_TOKEN)).thenReturn(TEST_USERNAME);
+        when(verifiedTokenCache.verify(VALID_TOKEN)).thenReturn(verifiedToken(TEST_USERNAME));
         when(userDetailsService.loadUserByUsername(TEST_USERNAME))
             .thenThrow(new RuntimeException("User not found"));
 
@@ -198,9 +207,9 @@ class JwtAuthenticationFilterTest {
             .isInstanceOf(RuntimeException.class)
             .hasMessage("User not found");
         
-        verify(jwtUtil).extractUsername(VALID_TOKEN);
+        verify(verifiedTokenCache).verify(VALID_TOKEN);
         verify(userDetailsService).loadUserByUsername(TEST_USERNAME);
-        verify(jwtUtil, never()).validateToken(anyString(), any());
+        verify(jwtUtil, never()).validateToken(any(VerifiedToken.class), any());
         verify(filterChain, never()).doFilter(request, response);
 
         assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
@@ -210,19 +219,19 @@ class JwtAuthenticationFilterTest {
     void doFilterInternal_shouldHandleJwtUtilException() throws ServletException, IOException {
         // Given
         when(request.getHeader("Authorization")).thenReturn(BEARER_TOKEN);
-        when(jwtUtil.extractUsername(VALID_TOKEN))
+        when(verifiedTokenCache.verify(VALID_TOKEN))
             .thenThrow(new RuntimeException("Invalid JWT token"));
 
         // When & Then
-        // The current implementation doesn't handle exceptions from jwtUtil.extractUsername
+        // The current implementation doesn't handle exceptions from verifiedTokenCache.verify
         // so the exception should propagate. This test documents the current behavior.
         assertThatThrownBy(() -> jwtAuthenticationFilter.doFilterInternal(request, response, filterChain))
             .isInstanceOf(RuntimeException.class)
             .hasMessage("Invalid JWT token");
         
-        verify(jwtUtil).extractUsername(VALID_TOKEN);
+        verify(verifiedTokenCache).verify(VALID_TOKEN);
         verify(userDetailsService, never()).loadUserByUsername(anyString());
-        verify(jwtUtil, never()).validateToken(anyString(), any());
+        verify(jwtUtil, never()).validateToken(any(VerifiedToken.class), any());
         verify(filterChain, never()).doFilter(request, response);
 
         assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
@@ -239,7 +248,7 @@ class JwtAuthenticationFilterTest {
 
         // Then
         verify(filterChain).doFilter(request, response);
-        verify(jwtUtil, never()).extractUsername(anyString());
+        verify(verifiedTokenCache, never()).verify(anyString());
         assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
     }
 
@@ -248,14 +257,15 @@ class JwtAuthenticationFilterTest {
         // Given
         String emptyToken = "Bearer ";
         when(request.getHeader("Authorization")).thenReturn(emptyToken);
+        when(verifiedTokenCache.verify("")).thenReturn(verifiedToken(null));
 
         // When
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
         // Then
         verify(filterChain).doFilter(request, response);
-        // The filter will call extractUsername with empty string
-        verify(jwtUtil).extractUsername("");
+        // The filter will call verify with empty string
+        verify(verifiedTokenCache).verify("");
         assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
     }
 
@@ -263,9 +273,9 @@ class JwtAuthenticationFilterTest {
     void doFilterInternal_shouldSetAuthenticationDetails() throws ServletException, IOException {
         // Given
         when(request.getHeader("Authorization")).thenReturn(BEARER_TOKEN);
-        when(jwtUtil.extractUsername(VALID_TOKEN)).thenReturn(TEST_USERNAME);
+        when(verifiedTokenCache.verify(VALID_TOKEN)).thenReturn(verifiedToken(TEST_USERNAME));
         when(userDetailsService.loadUserByUsername(TEST_USERNAME)).thenReturn(userDetails);
-        when(jwtUtil.validateToken(VALID_TOKEN, userDetails)).thenReturn(true);
+        when(jwtUtil.validateToken(verifiedToken(TEST_USERNAME), userDetails)).thenReturn(true);
 
         // When
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -286,14 +296,14 @@ class JwtAuthenticationFilterTest {
         SecurityContextHolder.getContext().setAuthentication(existingAuth);
 
         when(request.getHeader("Authorization")).thenReturn(BEARER_TOKEN);
-        when(jwtUtil.extractUsername(VALID_TOKEN)).thenReturn(TEST_USERNAME);
+        when(verifiedTokenCache.verify(VALID_TOKEN)).thenReturn(verifiedToken(TEST_USERNAME));
 
         // When
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
         // Then
         verify(filterChain).doFilter(request, response);
-        verify(jwtUtil).extractUsername(VALID_TOKEN);
+        verify(verifiedTokenCache).verify(VALID_TOKEN);
         verify(userDetailsService, never()).loadUserByUsername(anyString());
         
         // Existing authentication should remain unchanged
@@ -305,13 +315,51 @@ class JwtAuthenticationFilterTest {
         // Given
         String fullHeader = "Bearer " + VALID_TOKEN;
         when(request.getHeader("Authorization")).thenReturn(fullHeader);
-        when(jwtUtil.extractUsername(VALID_TOKEN)).thenReturn(TEST_USERNAME);
+        when(verifiedTokenCache.verify(VALID_TOKEN)).thenReturn(verifiedToken(TEST_USERNAME));
+
+        // When
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        // Then
+        verify(verifiedTokenCache).verify(VALID_TOKEN); // Should be called with token without "Bearer "
+        verify(verifiedTokenCache, never()).verify(fullHeader); // Should not be called with full header
+    }
+
+    @Test
+    void doFilterInternal_shouldNotAuthenticateRevokedToken() throws ServletException, IOException {
+        // Given
+        when(request.getHeader("Authorization")).thenReturn(BEARER_TOKEN);
+        when(verifiedTokenCache.verify(VALID_TOKEN)).thenReturn(verifiedToken(TEST_USERNAME));
+        when(revocations.isRevoked(VALID_TOKEN, verifiedToken(TEST_USERNAME))).thenReturn(true);
 
         // When
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
         // Then
-        verify(jwtUtil).extractUsername(VALID_TOKEN); // Should be called with token without "Bearer "
-        verify(jwtUtil, never()).extractUsername(fullHeader); // Should not be called with full header
+        verify(filterChain).doFilter(request, response);
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    void doFilterInternal_shouldUseClaimsPrincipalWithoutUserStoreLookup() throws ServletException, IOException {
+        // Given
+        when(request.getHeader("Authorization")).thenReturn(BEARER_TOKEN);
+        when(verifiedTokenCache.verify(VALID_TOKEN)).thenReturn(verifiedToken(TEST_USERNAME));
+        when(jwtUtil.principalFromClaims(verifiedToken(TEST_USERNAME))).thenReturn(Optional.of(userDetails));
+        when(jwtUtil.validateToken(verifiedToken(TEST_USERNAME), userDetails)).thenReturn(true);
+
+        // When
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        // Then
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getPrincipal()).isEqualTo(userDetails);
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getAuthorities())
+            .containsExactlyElementsOf(userDetails.getAuthorities());
+    }
+
+    private static VerifiedToken verifiedToken(String username) {
+        return new VerifiedToken(username, "access", Instant.EPOCH, Instant.MAX);
     }
-}
\ No newline at end of file
+}
@@ -12,7 +12,9 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import javax.crypto.SecretKey;
+import java.security.Key;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -29,15 +31,11 @@ class JwtUtilTest {
     
     private static final String TEST_SECRET = "test-secret-key-that-is-long-enough-for-hmac-sha-256-algorithm";
     private static final long ACCESS_TOKEN_EXPIRATION = 900000L; // 15 minutes
-    private static final long REFRESH_TOKEN_EXPIRATION = 604800000L; // 7 days
     private static final String TEST_USERNAME = "testuser";
 
     @BeforeEach
     void setUp() {
-        jwtUtil = new JwtUtil();
-        ReflectionTestUtils.setField(jwtUtil, "jwtSecret", TEST_SECRET);
-        ReflectionTestUtils.setField(jwtUtil, "accessTokenExpiration", ACCESS_TOKEN_EXPIRATION);
-        ReflectionTestUtils.setField(jwtUtil, "refreshTokenExpiration", REFRESH_TOKEN_EXPIRATION);
+        jwtUtil = new JwtUtil(TEST_SECRET, ACCESS_TOKEN_EXPIRATION);
         
         userDetails = User.builder()
             .username(TEST_USERNAME)
@@ -65,28 +63,6 @@ class JwtUtilTest {
         assertThat(isValid).isTrue();
     }
 
-    @Test
-    void generateRefreshToken_shouldCreateValidToken() {
-        // When
-        String token = jwtUtil.generateRefreshToken(userDetails);
-
-        // Then
-        assertThat(token).isNotNull();
-        assertThat(token).isNotEmpty();
-        
-        String extractedUsername = jwtUtil.extractUsername(token);
-        assertThat(extractedUsername).isEqualTo(TEST_USERNAME);
-        
-        Date expiration = jwtUtil.extractExpiration(token);
-        assertThat(expiration).isAfter(new Date());
-        
-        boolean isValid = jwtUtil.validateToken(token, userDetails);
-        assertThat(isValid).isTrue();
-        
-        boolean isRefreshToken = jwtUtil.isRefreshToken(token);
-        assertThat(isRefreshToken).isTrue();
-    }
-
     @Test
     void extractUsername_shouldReturnCorrectUsername() {
         // Given
@@ -145,7 +121,7 @@ class JwtUtilTest {
     @Test
     void validateToken_shouldReturnFalseForExpiredToken() {
         // Given
-        ReflectionTestUtils.setField(jwtUtil, "accessTokenExpiration", -1000L); // Expired token
+        jwtUtil = new JwtUtil(TEST_SECRET, -1000L); // Expired token
         String token = jwtUtil.generateAccessToken(userDetails);
 
         // When
@@ -200,7 +176,7 @@ class JwtUtilTest {
     @Test
     void isRefreshToken_shouldReturnTrueForRefreshToken() {
         // Given
-        String token = jwtUtil.generateRefreshToken(userDetails);
+        String token = refreshTypedToken();
 
         // When
         boolean isRefreshToken = jwtUtil.isRefreshToken(token);
@@ -227,7 +203,7 @@ class JwtUtilTest {
         SecretKey expectedKey = Keys.hmacShaKeyFor(TEST_SECRET.getBytes(StandardCharsets.UTF_8));
 
         // When
-        SecretKey signingKey = (SecretKey) ReflectionTestUtils.invokeMethod(jwtUtil, "getSigningKey");
+        Key signingKey = jwtUtil.getSigningKey();
 
         // Then
         assertThat(signingKey).isNotNull();
@@ -306,34 +282,116 @@ class JwtUtilTest {
     }
 
     @Test
-    void generateTokens_shouldCreateDifferentTokenTypes() {
+    void extractAllClaims_shouldWorkWithDifferentSecretKeys() {
+        // Given
+        String token = jwtUtil.generateAccessToken(userDetails);
+        String differentSecret = "different-secret-key-that-is-long-enough";
+        JwtUtil otherJwtUtil = new JwtUtil(differentSecret, ACCESS_TOKEN_EXPIRATION);
+
+        // When & Then
+        assertThatThrownBy(() -> otherJwtUtil.extractClaim(token, claims -> claims))
+            .isInstanceOf(Exception.class);
+    }
+
+    @Test
+    void getSigningKey_shouldReturnSameKeyForEveryCall() {
+        // When & Then
+        assertThat(jwtUtil.getSigningKey()).isSameAs(jwtUtil.getSigningKey());
+    }
+
+    @Test
+    void verify_shouldParseAllClaimsOnce() {
+        // Given
+        String token = jwtUtil.generateAccessToken(userDetails);
+
         // When
-        String accessToken = jwtUtil.generateAccessToken(userDetails);
-        String refreshToken = jwtUtil.generateRefreshToken(userDetails);
+        VerifiedToken verified = jwtUtil.verify(token);
 
         // Then
-        assertThat(accessToken).isNotEqualTo(refreshToken);
-        
-        boolean isAccessRefresh = jwtUtil.isRefreshToken(accessToken);
-        boolean isRefreshRefresh = jwtUtil.isRefreshToken(refreshToken);
-        
-        assertThat(isAccessRefresh).isFalse();
-        assertThat(isRefreshRefresh).isTrue();
-        
-        // Both should be valid for the same user
-        assertThat(jwtUtil.validateToken(accessToken, userDetails)).isTrue();
-        assertThat(jwtUtil.validateToken(refreshToken, userDetails)).isTrue();
+        assertThat(verified.subject()).isEqualTo(TEST_USERNAME);
+        assertThat(verified.type()).isEqualTo("access");
+        assertThat(verified.isRefreshToken()).isFalse();
+        assertThat(verified.issuedAt()).isNotNull();
+        assertThat(verified.expiresAt()).isAfter(verified.issuedAt());
+        assertThat(jwtUtil.validateToken(verified, userDetails)).isTrue();
     }
 
     @Test
-    void extractAllClaims_shouldWorkWithDifferentSecretKeys() {
+    void verify_shouldRejectTamperedToken() {
+        // Given
+        String validToken = jwtUtil.generateAccessToken(userDetails);
+        String tamperedToken = validToken.substring(0, validToken.length() - 5) + "wrong";
+
+        // When & Then
+        assertThatThrownBy(() -> jwtUtil.verify(tamperedToken))
+            .isInstanceOf(io.jsonwebtoken.JwtException.class);
+    }
+
+    @Test
+    void validateToken_shouldRejectVerifiedTokenPastItsExpiry() {
+        // Given
+        VerifiedToken expired = new VerifiedToken(TEST_USERNAME, "access",
+            Instant.now().minusSeconds(120), Instant.now().minusSeconds(60));
+
+        // When & Then
+        assertThat(jwtUtil.validateToken(expired, userDetails)).isFalse();
+    }
+
+    @Test
+    void generateAccessToken_shouldEmbedAuthorities() {
         // Given
         String token = jwtUtil.generateAccessToken(userDetails);
-        String differentSecret = "different-secret-key-that-is-long-enough";
-        ReflectionTestUtils.setField(jwtUtil, "jwtSecret", differentSecret);
+
+        // When
+        VerifiedToken verified = jwtUtil.verify(token);
+
+        // Then
+        assertThat(verified.authorities()).containsExactly("ROLE_USER");
+    }
+
+    @Test
+    void principalFromClaims_shouldBuildPrincipalWhenEnabled() {
+        // Given
+        JwtUtil claimsJwtUtil = new JwtUtil(TEST_SECRET, ACCESS_TOKEN_EXPIRATION, true);
+        VerifiedToken verified = claimsJwtUtil.verify(claimsJwtUtil.generateAccessToken(userDetails));
+
+        // When
+        UserDetails principal = claimsJwtUtil.principalFromClaims(verified).orElseThrow();
+
+        // Then
+        assertThat(principal.getUsername()).isEqualTo(TEST_USERNAME);
+        assertThat(principal.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+        assertThat(claimsJwtUtil.validateToken(verified, principal)).isTrue();
+    }
+
+    @Test
+    void principalFromClaims_shouldBeEmptyWhenDisabled() {
+        // Given
+        VerifiedToken verified = jwtUtil.verify(jwtUtil.generateAccessToken(userDetails));
 
         // When & Then
-        assertThatThrownBy(() -> jwtUtil.extractClaim(token, claims -> claims))
-            .isInstanceOf(Exception.class);
+        assertThat(jwtUtil.principalFromClaims(verified)).isEmpty();
+    }
+
+    @Test
+    void principalFromClaims_shouldBeEmptyForTokensWithoutAuthorities() {
+        // Given
+        JwtUtil claimsJwtUtil = new JwtUtil(TEST_SECRET, ACCESS_TOKEN_EXPIRATION, true);
+        VerifiedToken verified = claimsJwtUtil.verify(refreshTypedToken());
+
+        // When & Then
+        assertThat(verified.authorities()).isNull();
+        assertThat(claimsJwtUtil.principalFromClaims(verified)).isEmpty();
+    }
+
+    // Refresh tokens are opaque ids now, but JWTs typed "refresh" signed by older versions may still be around
+    private static String refreshTypedToken() {
+        return Jwts.builder()
+            .claim("type", "refresh")
+            .subject(TEST_USERNAME)
+            .issuedAt(new Date())
+            .expiration(new Date(System.currentTimeMillis() + ACCESS_TOKEN_EXPIRATION))
+            .signWith(Keys.hmacShaKeyFor(TEST_SECRET.getBytes(StandardCharsets.UTF_8)))
+            .compact();
     }
-}
\ No newline at end of file
+}
@@ -8,20 +8,16 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.test.util.ReflectionTestUtils;
 import tech.onova.flagd_admin_server.domain.entity.RefreshToken;
-import tech.onova.flagd_admin_server.domain.repository.RefreshTokenRepository;
 
 import java.time.ZonedDateTime;
-import java.util.Arrays;
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.StreamSupport;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,10 +25,10 @@ import static org.mockito.Mockito.*;
 class RefreshTokenServiceTest {
 
     @Mock
-    private RefreshTokenRepository refreshTokenRepository;
+    private RefreshTokenStore refreshTokenStore;
 
     @Mock
-    private UserDetails userDetails;
+    private AccessTokenRevocations accessTokenRevocations;
 
     @InjectMocks
     private RefreshTokenService refreshTokenService;
@@ -44,7 +40,6 @@ class RefreshTokenServiceTest {
     @BeforeEach
     void setUp() {
         ReflectionTestUtils.setField(refreshTokenService, "refreshTokenExpiration", REFRESH_TOKEN_EXPIRATION);
-        when(userDetails.getUsername()).thenReturn(TEST_USERNAME);
     }
 
     @Test
@@ -52,17 +47,17 @@ class RefreshTokenServiceTest {
         // Given
         RefreshToken expectedToken = new RefreshToken(TEST_TOKEN_ID, TEST_USERNAME, 
             ZonedDateTime.now().plusDays(7));
-        when(refreshTokenRepository.save(any(RefreshToken.class))).thenReturn(expectedToken);
+        when(refreshTokenStore.save(any(RefreshToken.class))).thenReturn(expectedToken);
 
         // When
-        RefreshToken result = refreshTokenService.createRefreshToken(userDetails);
+        RefreshToken result = refreshTokenService.createRefreshToken(TEST_USERNAME);
 
         // Then
         assertThat(result).isNotNull();
         assertThat(result.getUserId()).isEqualTo(TEST_USERNAME);
         assertThat(result.getExpiresAt()).isAfter(ZonedDateTime.now());
         assertThat(result.getExpiresAt()).isBefore(ZonedDateTime.now().plusDays(8));
-        verify(refreshTokenRepository).save(any(RefreshToken.class));
+        verify(refreshTokenStore).save(any(RefreshToken.class));
     }
 
     @Test
@@ -70,7 +65,7 @@ class RefreshTokenServiceTest {
         // Given
         RefreshToken expectedToken = new RefreshToken(TEST_TOKEN_ID, TEST_USERNAME, 
             ZonedDateTime.now().plusDays(7));
-        when(refreshTokenRepository.findById(TEST_TOKEN_ID)).thenReturn(Optional.of(expectedToken));
+        when(refreshTokenStore.findById(TEST_TOKEN_ID)).thenReturn(Optional.of(expectedToken));
 
         // When
         RefreshToken result = refreshTokenService.findByToken(TEST_TOKEN_ID);
@@ -79,94 +74,58 @@ class RefreshTokenServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getId()).isEqualTo(TEST_TOKEN_ID);
         assertThat(result.getUserId()).isEqualTo(TEST_USERNAME);
-        verify(refreshTokenRepository).findById(TEST_TOKEN_ID);
+        verify(refreshTokenStore).findById(TEST_TOKEN_ID);
     }
 
     @Test
     void findByToken_shouldReturnNullWhenNotExists() {
         // Given
-        when(refreshTokenRepository.findById(TEST_TOKEN_ID)).thenReturn(Optional.empty());
+        when(refreshTokenStore.findById(TEST_TOKEN_ID)).thenReturn(Optional.empty());
 
         // When
         RefreshToken result = refreshTokenService.findByToken(TEST_TOKEN_ID);
 
         // Then
         assertThat(result).isNull();
-        verify(refreshTokenRepository).findById(TEST_TOKEN_ID);
+        verify(refreshTokenStore).findById(TEST_TOKEN_ID);
     }
 
     @Test
-    void verifyExpiration_shouldReturnTokenWhenValid() {
+    void deleteByUserId_shouldDeleteUserTokensInOneStatement() {
         // Given
-        RefreshToken validToken = new RefreshToken(TEST_TOKEN_ID, TEST_USERNAME, 
-            ZonedDateTime.now().plusDays(1));
-
-        // When
-        RefreshToken result = refreshTokenService.verifyExpiration(validToken);
-
-        // Then
-        assertThat(result).isNotNull();
-        assertThat(result.getId()).isEqualTo(TEST_TOKEN_ID);
-        verify(refreshTokenRepository, never()).delete(any());
-    }
-
-    @Test
-    void verifyExpiration_shouldThrowExceptionAndDeleteTokenWhenExpired() {
-        // Given
-        RefreshToken expiredToken = new RefreshToken(TEST_TOKEN_ID, TEST_USERNAME, 
-            ZonedDateTime.now().minusDays(1));
-
-        // When & Then
-        assertThatThrownBy(() -> refreshTokenService.verifyExpiration(expiredToken))
-            .isInstanceOf(RuntimeException.class)
-            .hasMessage("Refresh token was expired. Please make a new login request");
-        
-        verify(refreshTokenRepository).delete(expiredToken);
-    }
-
-    @Test
-    void deleteByUserId_shouldDeleteOnlyUserTokens() {
-        // Given
-        RefreshToken userToken1 = new RefreshToken("token1", TEST_USERNAME, ZonedDateTime.now().plusDays(1));
-        RefreshToken userToken2 = new RefreshToken("token2", TEST_USERNAME, ZonedDateTime.now().plusDays(1));
-        RefreshToken otherUserToken = new RefreshToken("token3", "otheruser", ZonedDateTime.now().plusDays(1));
-        
-        List<RefreshToken> allTokens = Arrays.asList(userToken1, userToken2, otherUserToken);
-        when(refreshTokenRepository.findAll()).thenReturn(allTokens);
+        when(refreshTokenStore.deleteByUserId(TEST_USERNAME)).thenReturn(2);
 
         // When
-        refreshTokenService.deleteByUserId(TEST_USERNAME);
+        int deleted = refreshTokenService.deleteByUserId(TEST_USERNAME);
 
         // Then
-        verify(refreshTokenRepository).delete(userToken1);
-        verify(refreshTokenRepository).delete(userToken2);
-        verify(refreshTokenRepository, never()).delete(otherUserToken);
+        assertThat(deleted).isEqualTo(2);
+        verify(refreshTokenStore).deleteByUserId(TEST_USERNAME);
+        verify(refreshTokenStore, never()).delete(any());
     }
 
     @Test
-    void deleteByUserId_shouldDoNothingWhenUserHasNoTokens() {
+    void deleteByUserId_shouldRevokeAccessTokensOfUser() {
         // Given
-        RefreshToken otherUserToken = new RefreshToken("token3", "otheruser", ZonedDateTime.now().plusDays(1));
-        List<RefreshToken> allTokens = Arrays.asList(otherUserToken);
-        when(refreshTokenRepository.findAll()).thenReturn(allTokens);
+        when(refreshTokenStore.deleteByUserId(TEST_USERNAME)).thenReturn(1);
 
         // When
         refreshTokenService.deleteByUserId(TEST_USERNAME);
 
         // Then
-        verify(refreshTokenRepository, never()).delete(any());
+        verify(accessTokenRevocations).revokeSubject(TEST_USERNAME);
     }
 
     @Test
-    void deleteByUserId_shouldHandleEmptyTokenList() {
+    void deleteByUserId_shouldReturnZeroWhenUserHasNoTokens() {
         // Given
-        when(refreshTokenRepository.findAll()).thenReturn(Arrays.asList());
+        when(refreshTokenStore.deleteByUserId(TEST_USERNAME)).thenReturn(0);
 
         // When
-        refreshTokenService.deleteByUserId(TEST_USERNAME);
+        int deleted = refreshTokenService.deleteByUserId(TEST_USERNAME);
 
         // Then
-        verify(refreshTokenRepository, never()).delete(any());
+        assertThat(deleted).isZero();
     }
 
     @Test
@@ -179,7 +138,7 @@ class RefreshTokenServiceTest {
         refreshTokenService.deleteRefreshToken(tokenToDelete);
 
         // Then
-        verify(refreshTokenRepository).delete(tokenToDelete);
+        verify(refreshTokenStore).delete(tokenToDelete);
     }
 
     @Test
@@ -190,31 +149,60 @@ class RefreshTokenServiceTest {
         
         RefreshToken expectedToken = new RefreshToken(TEST_TOKEN_ID, TEST_USERNAME, 
             ZonedDateTime.now().plusSeconds(customExpiration / 1000));
-        when(refreshTokenRepository.save(any(RefreshToken.class))).thenReturn(expectedToken);
+        when(refreshTokenStore.save(any(RefreshToken.class))).thenReturn(expectedToken);
 
         // When
         ZonedDateTime beforeCreation = ZonedDateTime.now();
-        RefreshToken result = refreshTokenService.createRefreshToken(userDetails);
+        RefreshToken result = refreshTokenService.createRefreshToken(TEST_USERNAME);
         ZonedDateTime afterCreation = ZonedDateTime.now();
 
         // Then
         assertThat(result.getExpiresAt()).isAfter(beforeCreation.plusSeconds(customExpiration / 1000 - 1)); // Allow 1 second tolerance
         assertThat(result.getExpiresAt()).isBefore(afterCreation.plusSeconds(customExpiration / 1000 + 1));
-        verify(refreshTokenRepository).save(any(RefreshToken.class));
+        verify(refreshTokenStore).save(any(RefreshToken.class));
     }
 
     @Test
     void createRefreshToken_shouldGenerateUniqueTokenIds() {
         // Given
-        when(refreshTokenRepository.save(any(RefreshToken.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(refreshTokenStore.save(any(RefreshToken.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // When
-        RefreshToken token1 = refreshTokenService.createRefreshToken(userDetails);
-        RefreshToken token2 = refreshTokenService.createRefreshToken(userDetails);
+        RefreshToken token1 = refreshTokenService.createRefreshToken(TEST_USERNAME);
+        RefreshToken token2 = refreshTokenService.createRefreshToken(TEST_USERNAME);
 
         // Then
         assertThat(token1.getId()).isNotEqualTo(token2.getId());
         assertThat(token1.getUserId()).isEqualTo(token2.getUserId()).isEqualTo(TEST_USERNAME);
-        verify(refreshTokenRepository, times(2)).save(any(RefreshToken.class));
+        verify(refreshTokenStore, times(2)).save(any(RefreshToken.class));
+    }
+
+    @Test
+    void rotateRefreshToken_shouldReplaceTokenForSameUser() {
+        // Given
+        RefreshToken current = new RefreshToken(TEST_TOKEN_ID, TEST_USERNAME, ZonedDateTime.now().plusDays(1));
+        when(refreshTokenStore.rotate(eq(TEST_TOKEN_ID), any(RefreshToken.class))).thenReturn(true);
+
+        // When
+        Optional<RefreshToken> result = refreshTokenService.rotateRefreshToken(current);
+
+        // Then
+        assertThat(result).isPresent();
+        assertThat(result.get().getId()).isNotEqualTo(TEST_TOKEN_ID);
+        assertThat(result.get().getUserId()).isEqualTo(TEST_USERNAME);
+        verify(refreshTokenStore).rotate(TEST_TOKEN_ID, result.get());
+    }
+
+    @Test
+    void rotateRefreshToken_shouldReturnEmptyWhenTokenAlreadyUsed() {
+        // Given
+        RefreshToken current = new RefreshToken(TEST_TOKEN_ID, TEST_USERNAME, ZonedDateTime.now().plusDays(1));
+        when(refreshTokenStore.rotate(eq(TEST_TOKEN_ID), any(RefreshToken.class))).thenReturn(false);
+
+        // When
+        Optional<RefreshToken> result = refreshTokenService.rotateRefreshToken(current);
+
+        // Then
+        assertThat(result).isEmpty();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,59 @@
+package tech.onova.flagd_admin_server.security.jwt;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenSweeperTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Mock
+    private RefreshTokenStore refreshTokenStore;
+
+    private RefreshTokenSweeper sweeper;
+
+    @BeforeEach
+    void setUp() {
+        sweeper = new RefreshTokenSweeper(refreshTokenStore, 2, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void shouldPurgeExpiredTokensInBoundedBatches() {
+        // Given
+        ZonedDateTime now = ZonedDateTime.ofInstant(NOW, ZoneOffset.UTC);
+        when(refreshTokenStore.deleteExpired(now, 2)).thenReturn(2, 1);
+
+        // When
+        int purged = sweeper.sweepExpiredTokens();
+
+        // Then
+        assertThat(purged).isEqualTo(3);
+        verify(refreshTokenStore, times(2)).deleteExpired(now, 2);
+    }
+
+    @Test
+    void shouldStopAfterOneBatchWhenNothingExpired() {
+        // Given
+        ZonedDateTime now = ZonedDateTime.ofInstant(NOW, ZoneOffset.UTC);
+        when(refreshTokenStore.deleteExpired(now, 2)).thenReturn(0);
+
+        // When
+        int purged = sweeper.sweepExpiredTokens();
+
+        // Then
+        assertThat(purged).isZero();
+        verify(refreshTokenStore, times(1)).deleteExpired(now, 2);
+    }
+}
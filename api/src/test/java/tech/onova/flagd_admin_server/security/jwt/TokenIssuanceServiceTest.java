@@ -0,0 +1,127 @@
+package tech.onova.flagd_admin_server.security.jwt;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import tech.onova.flagd_admin_server.domain.entity.RefreshToken;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenIssuanceServiceTest {
+
+    private static final String TEST_USERNAME = "testuser";
+    private static final List<GrantedAuthority> AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+
+    @Mock
+    private JwtUtil jwtUtil;
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    private TokenIssuanceService tokenIssuanceService;
+
+    @BeforeEach
+    void setUp() {
+        tokenIssuanceService = new TokenIssuanceService(jwtUtil, refreshTokenService, userDetailsService);
+    }
+
+    @Test
+    void issue_shouldSignOnlyTheAccessToken() {
+        // Given
+        RefreshToken refreshToken = new RefreshToken("refresh-id", TEST_USERNAME, ZonedDateTime.now().plusDays(7));
+        when(refreshTokenService.createRefreshToken(TEST_USERNAME)).thenReturn(refreshToken);
+        when(jwtUtil.generateAccessToken(TEST_USERNAME, AUTHORITIES)).thenReturn("access-jwt");
+
+        // When
+        TokenIssuanceService.IssuedTokens tokens = tokenIssuanceService.issue(TEST_USERNAME, AUTHORITIES);
+
+        // Then
+        assertThat(tokens.accessToken()).isEqualTo("access-jwt");
+        assertThat(tokens.refreshToken()).isEqualTo("refresh-id");
+        verify(jwtUtil).generateAccessToken(TEST_USERNAME, AUTHORITIES);
+        verifyNoMoreInteractions(jwtUtil);
+    }
+
+    @Test
+    void refresh_shouldRotateAndSignWithCurrentAuthorities() {
+        // Given
+        RefreshToken current = new RefreshToken("old-id", TEST_USERNAME, ZonedDateTime.now().plusDays(1));
+        RefreshToken replacement = new RefreshToken("new-id", TEST_USERNAME, ZonedDateTime.now().plusDays(7));
+        UserDetails userDetails = User.withUsername(TEST_USERNAME).password("").authorities(AUTHORITIES).build();
+        when(refreshTokenService.findByToken("old-id")).thenReturn(current);
+        when(userDetailsService.loadUserByUsername(TEST_USERNAME)).thenReturn(userDetails);
+        when(refreshTokenService.rotateRefreshToken(current)).thenReturn(Optional.of(replacement));
+        when(jwtUtil.generateAccessToken(TEST_USERNAME, userDetails.getAuthorities())).thenReturn("access-jwt");
+
+        // When
+        Optional<TokenIssuanceService.IssuedTokens> tokens = tokenIssuanceService.refresh("old-id");
+
+        // Then
+        assertThat(tokens).contains(new TokenIssuanceService.IssuedTokens("access-jwt", "new-id"));
+        verify(refreshTokenService, never()).deleteRefreshToken(any());
+    }
+
+    @Test
+    void refresh_shouldReturnEmptyForUnknownToken() {
+        // Given
+        when(refreshTokenService.findByToken("unknown")).thenReturn(null);
+
+        // When
+        Optional<TokenIssuanceService.IssuedTokens> tokens = tokenIssuanceService.refresh("unknown");
+
+        // Then
+        assertThat(tokens).isEmpty();
+        verifyNoInteractions(jwtUtil, userDetailsService);
+    }
+
+    @Test
+    void refresh_shouldDeleteExpiredToken() {
+        // Given
+        RefreshToken expired = new RefreshToken("old-id", TEST_USERNAME, ZonedDateTime.now().minusMinutes(1));
+        when(refreshTokenService.findByToken("old-id")).thenReturn(expired);
+
+        // When
+        Optional<TokenIssuanceService.IssuedTokens> tokens = tokenIssuanceService.refresh("old-id");
+
+        // Then
+        assertThat(tokens).isEmpty();
+        verify(refreshTokenService).deleteRefreshToken(expired);
+        verify(refreshTokenService, never()).rotateRefreshToken(any());
+        verifyNoInteractions(jwtUtil);
+    }
+
+    @Test
+    void refresh_shouldNotSignWhenTokenWasAlreadyRotated() {
+        // Given
+        RefreshToken current = new RefreshToken("old-id", TEST_USERNAME, ZonedDateTime.now().plusDays(1));
+        when(refreshTokenService.findByToken("old-id")).thenReturn(current);
+        when(userDetailsService.loadUserByUsername(TEST_USERNAME))
+                .thenReturn(User.withUsername(TEST_USERNAME).password("").authorities(AUTHORITIES).build());
+        when(refreshTokenService.rotateRefreshToken(current)).thenReturn(Optional.empty());
+
+        // When
+        Optional<TokenIssuanceService.IssuedTokens> tokens = tokenIssuanceService.refresh("old-id");
+
+        // Then
+        assertThat(tokens).isEmpty();
+        verify(jwtUtil, never()).generateAccessToken(anyString(), any());
+    }
+}
@@ -0,0 +1,96 @@
+package tech.onova.flagd_admin_server.security.jwt;
+
+import io.jsonwebtoken.MalformedJwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VerifiedTokenCacheTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Mock
+    private JwtUtil jwtUtil;
+
+    private VerifiedTokenCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new VerifiedTokenCache(jwtUtil, 100, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void shouldVerifyRepeatedTokenOnlyOnce() {
+        // Given
+        VerifiedToken verified = token("alice", NOW.plusSeconds(900));
+        when(jwtUtil.verify("a.b.c")).thenReturn(verified);
+
+        // When
+        VerifiedToken first = cache.verify("a.b.c");
+        VerifiedToken second = cache.verify("a.b.c");
+
+        // Then
+        assertThat(first).isSameAs(verified);
+        assertThat(second).isSameAs(verified);
+        verify(jwtUtil, times(1)).verify("a.b.c");
+    }
+
+    @Test
+    void shouldNotCacheRejectedTokens() {
+        // Given
+        when(jwtUtil.verify("bad")).thenThrow(new MalformedJwtException("malformed"));
+
+        // When & Then
+        assertThatThrownBy(() -> cache.verify("bad")).isInstanceOf(MalformedJwtException.class);
+        assertThatThrownBy(() -> cache.verify("bad")).isInstanceOf(MalformedJwtException.class);
+        verify(jwtUtil, times(2)).verify("bad");
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void shouldNotKeepTokensPastTheirExpiry() {
+        // Given
+        when(jwtUtil.verify("expired")).thenReturn(token("alice", NOW.minusSeconds(1)));
+
+        // When
+        cache.verify("expired");
+
+        // Then
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void shouldInvalidateAllTokensOfKey() {
+        // Given
+        when(jwtUtil.verify("old-key")).thenReturn(token("alice", NOW.plusSeconds(900), "2026-old"));
+        when(jwtUtil.verify("new-key")).thenReturn(token("alice", NOW.plusSeconds(900), "2026-new"));
+        cache.verify("old-key");
+        cache.verify("new-key");
+
+        // When
+        cache.invalidateKey("2026-old");
+
+        // Then
+        assertThat(cache.size()).isEqualTo(1);
+        cache.verify("new-key");
+        verify(jwtUtil, times(1)).verify("new-key");
+    }
+
+    private static VerifiedToken token(String subject, Instant expiresAt, String kid) {
+        return new VerifiedToken(subject, "access", NOW.minusSeconds(60), expiresAt, null, kid);
+    }
+
+    private static VerifiedToken token(String subject, Instant expiresAt) {
+        return new VerifiedToken(subject, "access", NOW.minusSeconds(60), expiresAt);
+    }
+}
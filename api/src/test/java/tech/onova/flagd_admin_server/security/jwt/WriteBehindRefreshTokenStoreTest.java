@@ -0,0 +1,165 @@
+package tech.onova.flagd_admin_server.security.jwt;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+import tech.onova.flagd_admin_server.domain.entity.RefreshToken;
+import tech.onova.flagd_admin_server.domain.repository.RefreshTokenRepository;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WriteBehindRefreshTokenStoreTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private WriteBehindRefreshTokenStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new WriteBehindRefreshTokenStore(refreshTokenRepository, TransactionOperations.withoutTransaction(),
+                Duration.ofHours(1), 2);
+    }
+
+    @Test
+    void shouldAnswerFromMemoryBeforeFlushing() {
+        // Given
+        RefreshToken token = new RefreshToken("a", "alice", ZonedDateTime.now().plusDays(1));
+
+        // When
+        store.save(token);
+
+        // Then
+        assertThat(store.findById("a")).contains(token);
+        assertThat(store.pendingChanges()).isEqualTo(1);
+        verifyNoInteractions(refreshTokenRepository);
+    }
+
+    @Test
+    void shouldLoadPersistedTokensOnStart() throws Exception {
+        // Given
+        RefreshToken token = new RefreshToken("a", "alice", ZonedDateTime.now().plusDays(1));
+        when(refreshTokenRepository.findAll()).thenReturn(List.of(token));
+
+        // When
+        store.start();
+
+        // Then
+        assertThat(store.findById("a")).contains(token);
+        assertThat(store.pendingChanges()).isZero();
+        store.stop();
+    }
+
+    @Test
+    void shouldFlushLatestChangePerTokenInBatches() {
+        // Given
+        RefreshToken kept = new RefreshToken("a", "alice", ZonedDateTime.now().plusDays(1));
+        RefreshToken rotated = new RefreshToken("b", "alice", ZonedDateTime.now().plusDays(1));
+        store.save(kept);
+        store.save(rotated);
+        store.delete(rotated);
+
+        // When
+        int flushed = store.flush();
+
+        // Then
+        assertThat(flushed).isEqualTo(2);
+        assertThat(store.pendingChanges()).isZero();
+        verify(refreshTokenRepository).saveAll(List.of(kept));
+        verify(refreshTokenRepository).deleteByIdIn(List.of("b"));
+    }
+
+    @Test
+    void shouldKeepChangesQueuedWhenFlushFails() {
+        // Given
+        store.save(new RefreshToken("a", "alice", ZonedDateTime.now().plusDays(1)));
+        when(refreshTokenRepository.saveAll(any())).thenThrow(new IllegalStateException("database is locked"));
+
+        // When & Then
+        assertThatThrownBy(() -> store.flush()).isInstanceOf(IllegalStateException.class);
+        assertThat(store.pendingChanges()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldDeleteAllTokensOfUser() {
+        // Given
+        store.save(new RefreshToken("a", "alice", ZonedDateTime.now().plusDays(1)));
+        store.save(new RefreshToken("b", "alice", ZonedDateTime.now().plusDays(2)));
+        store.save(new RefreshToken("c", "bob", ZonedDateTime.now().plusDays(1)));
+
+        // When
+        int deleted = store.deleteByUserId("alice");
+
+        // Then
+        assertThat(deleted).isEqualTo(2);
+        assertThat(store.findById("a")).isEmpty();
+        assertThat(store.findById("b")).isEmpty();
+        assertThat(store.findById("c")).isPresent();
+    }
+
+    @Test
+    void shouldDeleteExpiredTokensEarliestFirst() {
+        // Given
+        ZonedDateTime now = ZonedDateTime.now();
+        store.save(new RefreshToken("late", "alice", now.minusMinutes(1)));
+        store.save(new RefreshToken("early", "alice", now.minusHours(1)));
+        store.save(new RefreshToken("middle", "alice", now.minusMinutes(30)));
+        store.save(new RefreshToken("live", "alice", now.plusDays(1)));
+
+        // When
+        int firstBatch = store.deleteExpired(now, 2);
+        int secondBatch = store.deleteExpired(now, 2);
+
+        // Then
+        assertThat(firstBatch).isEqualTo(2);
+        assertThat(secondBatch).isEqualTo(1);
+        assertThat(store.findById("late")).isEmpty();
+        assertThat(store.findById("live")).isPresent();
+    }
+
+    @Test
+    void shouldReindexExpiryWhenTokenIsSavedAgain() {
+        // Given
+        ZonedDateTime now = ZonedDateTime.now();
+        RefreshToken token = new RefreshToken("a", "alice", now.minusMinutes(1));
+        store.save(token);
+        token.setExpiresAt(now.plusDays(1));
+
+        // When
+        store.save(token);
+
+        // Then
+        assertThat(store.deleteExpired(now, 10)).isZero();
+        assertThat(store.findById("a")).isPresent();
+    }
+
+    @Test
+    void shouldRotateTokenOnlyOnce() {
+        // Given
+        RefreshToken current = new RefreshToken("a", "alice", ZonedDateTime.now().plusDays(1));
+        RefreshToken first = new RefreshToken("b", "alice", ZonedDateTime.now().plusDays(1));
+        RefreshToken second = new RefreshToken("c", "alice", ZonedDateTime.now().plusDays(1));
+        store.save(current);
+
+        // When
+        boolean firstRotated = store.rotate("a", first);
+        boolean secondRotated = store.rotate("a", second);
+
+        // Then
+        assertThat(firstRotated).isTrue();
+        assertThat(secondRotated).isFalse();
+        assertThat(store.findById("a")).isEmpty();
+        assertThat(store.findById("b")).contains(first);
+        assertThat(store.findById("c")).isEmpty();
+    }
+}
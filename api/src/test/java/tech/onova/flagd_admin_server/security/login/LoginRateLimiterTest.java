@@ -0,0 +1,77 @@
+package tech.onova.flagd_admin_server.security.login;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LoginRateLimiterTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    @Test
+    void shouldLimitAttemptsPerClientAcrossUsernames() {
+        // Given
+        LoginRateLimiter limiter = new LoginRateLimiter(2, 0, nanos::get);
+
+        // When & Then
+        assertThat(limiter.tryAcquire("10.0.0.1", "alice")).isTrue();
+        assertThat(limiter.tryAcquire("10.0.0.1", "bob")).isTrue();
+        assertThat(limiter.tryAcquire("10.0.0.1", "carol")).isFalse();
+        assertThat(limiter.tryAcquire("10.0.0.2", "carol")).isTrue();
+    }
+
+    @Test
+    void shouldLimitFailuresPerUsernameFromOneClient() {
+        // Given
+        LoginRateLimiter limiter = new LoginRateLimiter(0, 2, nanos::get);
+
+        // When
+        limiter.recordFailure("10.0.0.1", "admin");
+        limiter.recordFailure("10.0.0.1", "Admin");
+
+        // Then
+        assertThat(limiter.tryAcquire("10.0.0.1", "ADMIN")).isFalse();
+        assertThat(limiter.tryAcquire("10.0.0.1", "alice")).isTrue();
+        assertThat(limiter.tryAcquire("10.0.0.2", "admin")).isTrue();
+    }
+
+    @Test
+    void shouldNotChargeUsernameLimitForSuccessfulAttempts() {
+        // Given
+        LoginRateLimiter limiter = new LoginRateLimiter(0, 1, nanos::get);
+
+        // When & Then
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.tryAcquire("10.0.0.1", "admin")).isTrue();
+        }
+    }
+
+    @Test
+    void shouldAllowAttemptsAgainAfterRefill() {
+        // Given
+        LoginRateLimiter limiter = new LoginRateLimiter(1, 1, nanos::get);
+        limiter.tryAcquire("10.0.0.1", "admin");
+        limiter.recordFailure("10.0.0.1", "admin");
+
+        // When
+        nanos.addAndGet(Duration.ofMinutes(1).toNanos());
+
+        // Then
+        assertThat(limiter.tryAcquire("10.0.0.1", "admin")).isTrue();
+        assertThat(limiter.tryAcquire("10.0.0.1", "admin")).isFalse();
+    }
+
+    @Test
+    void shouldAllowEverythingWhenDisabled() {
+        // Given
+        LoginRateLimiter limiter = new LoginRateLimiter(0, 0, nanos::get);
+
+        // When & Then
+        for (int i = 0; i < 1000; i++) {
+            assertThat(limiter.tryAcquire("10.0.0.1", "admin")).isTrue();
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package tech.onova.flagd_admin_server.security.login;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import tech.onova.flagd_admin_server.domain.exception.TooManyRequestsException;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LoginServiceTest {
+
+    @Mock
+    private AuthenticationManager authenticationManager;
+
+    @Mock
+    private LoginRateLimiter rateLimiter;
+
+    private ExecutorService hashExecutor;
+    private ExecutorService followUpExecutor;
+    private LoginService loginService;
+
+    @BeforeEach
+    void setUp() {
+        // One thread and one queue slot, so a third concurrent login is rejected
+        hashExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1));
+        followUpExecutor = Executors.newSingleThreadExecutor();
+        loginService = new LoginService(authenticationManager, rateLimiter, hashExecutor, followUpExecutor);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        loginService.shutdown();
+    }
+
+    @Test
+    void shouldAuthenticateOnHashExecutor() throws Exception {
+        // Given
+        Authentication authenticated = new UsernamePasswordAuthenticationToken("admin", null, List.of());
+        Thread caller = Thread.currentThread();
+        when(rateLimiter.tryAcquire("10.0.0.1", "admin")).thenReturn(true);
+        when(authenticationManager.authenticate(any())).thenAnswer(invocation -> {
+            assertThat(Thread.currentThread()).isNotSameAs(caller);
+            return authenticated;
+        });
+
+        // When
+        Authentication result = loginService.authenticate("admin", "pass", "10.0.0.1").get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(result).isSameAs(authenticated);
+    }
+
+    @Test
+    void shouldPropagateBadCredentials() {
+        // Given
+        when(rateLimiter.tryAcquire(anyString(), anyString())).thenReturn(true);
+        when(authenticationManager.authenticate(any())).thenThrow(new BadCredentialsException("Bad credentials"));
+
+        // When
+        CompletableFuture<Authentication> result = loginService.authenticate("admin", "wrong", "10.0.0.1");
+
+        // Then
+        assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(BadCredentialsException.class);
+        verify(rateLimiter).recordFailure("10.0.0.1", "admin");
+    }
+
+    @Test
+    void shouldNotRecordFailureForSuccessfulLogin() throws Exception {
+        // Given
+        when(rateLimiter.tryAcquire("10.0.0.1", "admin")).thenReturn(true);
+        when(authenticationManager.authenticate(any()))
+                .thenReturn(new UsernamePasswordAuthenticationToken("admin", null, List.of()));
+
+        // When
+        loginService.authenticate("admin", "pass", "10.0.0.1").get(5, TimeUnit.SECONDS);
+
+        // Then
+        verify(rateLimiter, never()).recordFailure(anyString(), anyString());
+    }
+
+    @Test
+    void shouldRunFollowUpOffHashExecutor() throws Exception {
+        // Given
+        when(rateLimiter.tryAcquire("10.0.0.1", "admin")).thenReturn(true);
+        when(authenticationManager.authenticate(any()))
+                .thenReturn(new UsernamePasswordAuthenticationToken("admin", null, List.of()));
+        Thread followUpThread = followUpExecutor.submit(Thread::currentThread).get(5, TimeUnit.SECONDS);
+
+        // When
+        Thread result = loginService.login("admin", "pass", "10.0.0.1", authentication -> Thread.currentThread())
+                .get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(result).isSameAs(followUpThread);
+    }
+
+    @Test
+    void shouldRejectRateLimitedAttemptWithoutHashing() {
+        // Given
+        when(rateLimiter.tryAcquire("10.0.0.1", "admin")).thenReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> loginService.authenticate("admin", "pass", "10.0.0.1"))
+                .isInstanceOf(TooManyRequestsException.class);
+        verifyNoInteractions(authenticationManager);
+    }
+
+    @Test
+    void shouldRejectAttemptWhenExecutorIsSaturated() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        when(rateLimiter.tryAcquire(anyString(), anyString())).thenReturn(true);
+        when(authenticationManager.authenticate(any())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return new UsernamePasswordAuthenticationToken("admin", null, List.of());
+        });
+        CompletableFuture<Authentication> running = loginService.authenticate("admin", "pass", "10.0.0.1");
+        CompletableFuture<Authentication> queued = loginService.authenticate("admin", "pass", "10.0.0.2");
+
+        // When & Then
+        assertThatThrownBy(() -> loginService.authenticate("admin", "pass", "10.0.0.3"))
+                .isInstanceOf(TooManyRequestsException.class);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isNotNull();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isNotNull();
+    }
+}
@@ -0,0 +1,90 @@
+package tech.onova.flagd_admin_server.security.login;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TokenBucketTest {
+
+    private static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+    @Test
+    void shouldAllowBurstUpToCapacity() {
+        // Given
+        TokenBucket bucket = new TokenBucket(3, Duration.ofSeconds(3), 0);
+
+        // When & Then
+        assertThat(bucket.tryAcquire(0)).isTrue();
+        assertThat(bucket.tryAcquire(0)).isTrue();
+        assertThat(bucket.tryAcquire(0)).isTrue();
+        assertThat(bucket.tryAcquire(0)).isFalse();
+    }
+
+    @Test
+    void shouldRefillOneTokenPerInterval() {
+        // Given
+        TokenBucket bucket = new TokenBucket(3, Duration.ofSeconds(3), 0);
+        for (int i = 0; i < 3; i++) {
+            bucket.tryAcquire(0);
+        }
+
+        // When & Then
+        assertThat(bucket.tryAcquire(SECOND / 2)).isFalse();
+        assertThat(bucket.tryAcquire(SECOND)).isTrue();
+        assertThat(bucket.tryAcquire(SECOND)).isFalse();
+    }
+
+    @Test
+    void shouldNotAccumulateBeyondCapacity() {
+        // Given
+        TokenBucket bucket = new TokenBucket(2, Duration.ofSeconds(2), 0);
+        long later = 100 * SECOND;
+
+        // When & Then
+        assertThat(bucket.tryAcquire(later)).isTrue();
+        assertThat(bucket.tryAcquire(later)).isTrue();
+        assertThat(bucket.tryAcquire(later)).isFalse();
+    }
+
+    @Test
+    void shouldHandOutExactlyCapacityUnderContention() throws Exception {
+        // Given
+        TokenBucket bucket = new TokenBucket(100, Duration.ofHours(1), 0);
+        AtomicInteger acquired = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        // When
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 50; j++) {
+                        if (bucket.tryAcquire(0)) {
+                            acquired.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        // Then
+        assertThat(acquired.get()).isEqualTo(100);
+    }
+
+    @Test
+    void shouldRejectNonPositiveCapacity() {
+        // When & Then
+        assertThatThrownBy(() -> new TokenBucket(0, Duration.ofMinutes(1), 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,183 @@
+package tech.onova.flagd_admin_server.security.providers;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import tech.onova.flagd_admin_server.domain.entity.Source;
+import tech.onova.flagd_admin_server.domain.entity.SourceUri;
+import tech.onova.flagd_admin_server.domain.repository.SourceRepository;
+import tech.onova.flagd_admin_server.domain.service.AsyncSourceContentService;
+import tech.onova.flagd_admin_server.domain.service.SourceContentStat;
+import tech.onova.flagd_admin_server.security.apikey.ApiKeyAuthenticationFilter;
+import tech.onova.flagd_admin_server.security.apikey.ApiKeyScope;
+import tech.onova.flagd_admin_server.security.apikey.ApiKeyService;
+import tech.onova.flagd_admin_server.security.jwt.JwtUtil;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Runs requests through the real security filter chain, which the standalone controller tests leave out.
+ */
+@SpringBootTest(properties = {
+        "spring.profiles.active=test",
+        "application.auth.api-keys.secret=test-api-key-secret",
+        "management.server.port=9091"
+})
+class JwtAuthProviderSecurityTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private SourceRepository sourceRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private ApiKeyService apiKeyService;
+
+    @MockitoBean
+    private AsyncSourceContentService sourceContentService;
+
+    private MockMvc mockMvc;
+    private Source source;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context)
+                .apply(springSecurity())
+                .build();
+        source = sourceRepository.save(new Source(
+                "Test Source",
+                "Test Description",
+                new SourceUri("file://test-source"),
+                "system",
+                true
+        ));
+    }
+
+    @Test
+    void shouldKeepAuthenticatedCallerAuthorizedOnAsyncDispatch() throws Exception {
+        // Given
+        when(sourceContentService.stat(source.getUri()))
+                .thenReturn(CompletableFuture.completedFuture(new SourceContentStat(true, 12, null, "v1")));
+        when(sourceContentService.loadContent(source.getUri()))
+                .thenReturn(CompletableFuture.completedFuture("{\"flags\":{}}"));
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/v1/sources/{sourceId}/contents", source.getId().id())
+                        .header("Authorization", "Bearer " + accessToken()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content").value("{\"flags\":{}}"));
+    }
+
+    @Test
+    void shouldRejectUnauthenticatedCallerBeforeStartingAsyncWork() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/v1/sources/{sourceId}/contents", source.getId().id()))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().is4xxClientError());
+
+        verifyNoInteractions(sourceContentService);
+    }
+
+    @Test
+    void shouldLetApiKeyCallEndpointsItsScopesCover() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/v1/sources")
+                        .header(ApiKeyAuthenticationFilter.API_KEY_HEADER, apiKey(ApiKeyScope.SOURCES_READ)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void shouldRejectApiKeyLackingRequiredScope() throws Exception {
+        // When & Then
+        mockMvc.perform(delete("/api/v1/sources/{sourceId}/flags/{flagId}", source.getId().id(), "my-flag")
+                        .header(ApiKeyAuthenticationFilter.API_KEY_HEADER, apiKey(ApiKeyScope.FLAGS_READ)))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void shouldMatchScopeRulesAgainstDecodedPath() throws Exception {
+        // Given
+        String key = apiKey(ApiKeyScope.FLAGS_READ, ApiKeyScope.SOURCES_WRITE);
+
+        // When & Then
+        mockMvc.perform(delete(URI.create("/api/v1/sources/" + source.getId().id() + "/%66lags/my-flag"))
+                        .header(ApiKeyAuthenticationFilter.API_KEY_HEADER, key))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void shouldRejectApiKeyOnKeyManagementEndpoints() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/api/v1/api-keys")
+                        .header(ApiKeyAuthenticationFilter.API_KEY_HEADER, apiKey(ApiKeyScope.SOURCES_WRITE))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"nested\", \"scopes\": [\"flags:read\"]}"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void shouldRequireAdminForMetricsOnApiPort() throws Exception {
+        // When
+        MvcResult result = mockMvc.perform(get("/actuator/prometheus")).andReturn();
+
+        // Then
+        assertThat(result.getResponse().getStatus()).isIn(401, 403);
+    }
+
+    @Test
+    void shouldLetScraperReachMetricsOnManagementPort() throws Exception {
+        // When
+        MvcResult result = mockMvc.perform(get("/actuator/prometheus").with(request -> {
+            request.setLocalPort(9091);
+            return request;
+        })).andReturn();
+
+        // Then
+        assertThat(result.getResponse().getStatus()).isNotIn(401, 403);
+    }
+
+    @Test
+    void shouldRequireAdminForOtherEndpointsOnManagementPort() throws Exception {
+        // When
+        MvcResult result = mockMvc.perform(get("/actuator/env").with(request -> {
+            request.setLocalPort(9091);
+            return request;
+        })).andReturn();
+
+        // Then
+        assertThat(result.getResponse().getStatus()).isIn(401, 403);
+    }
+
+    private String apiKey(ApiKeyScope... scopes) {
+        return apiKeyService.create("ci", List.of(scopes), null, "test-admin").key();
+    }
+
+    private String accessToken() {
+        return jwtUtil.generateAccessToken("test-admin", List.of(new SimpleGrantedAuthority("ROLE_ADMIN")));
+    }
+}
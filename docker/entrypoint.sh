@@ -80,6 +80,7 @@ show_configuration() {
     echo "   • Access Token Expiration: ${FLAGD_ACCESS_TOKEN_EXPIRATION}ms"
     echo "   • Refresh Token Expiration: ${FLAGD_REFRESH_TOKEN_EXPIRATION}ms"
     echo "   • API Port: 9090 (internal)"
+    echo "   • Management Port: ${FLAGD_MANAGEMENT_PORT:-9091} (health and metrics)"
     echo "   • Nginx Port: 8080 (external)"
     echo ""
 }